@@ -24,10 +24,12 @@ import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticNode;
 import io.ballerina.architecturemodelgenerator.core.generators.entity.EntityModelGenerator;
 import io.ballerina.architecturemodelgenerator.core.generators.entrypoint.FunctionEntryPointModelGenerator;
 import io.ballerina.architecturemodelgenerator.core.generators.service.ServiceModelGenerator;
+import io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors.PackageFunctionIndex;
 import io.ballerina.architecturemodelgenerator.core.model.entity.Entity;
 import io.ballerina.architecturemodelgenerator.core.model.functionentrypoint.FunctionEntryPoint;
 import io.ballerina.architecturemodelgenerator.core.model.service.Connection;
 import io.ballerina.architecturemodelgenerator.core.model.service.Service;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 
@@ -35,16 +37,56 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Construct component model fpr project with multiple service.
+ * <p>
+ * The service, entity and function entry point models of each module only read the package compilation, so they can
+ * be generated in parallel on a pool owned by the builder. The models are always merged in the order of the modules,
+ * which keeps the result identical to the sequential generation. The pool is separate from the request scheduler of
+ * the language server, as the builder may itself be running on one of its threads.
  *
  * @since 2201.2.2
  */
 public class ArchitectureModelBuilder {
 
+    private static final String PARALLELISM_PROPERTY = "ballerina.architecturemodelgenerator.parallelism";
+    private static final String THREAD_NAME_PREFIX = "architecture-model-generator-";
+
+    private final int parallelism;
+
+    public ArchitectureModelBuilder() {
+        this(1);
+    }
+
+    /**
+     * Creates a builder that generates the models of the modules on the given number of threads. A parallelism of one
+     * generates the models sequentially on the calling thread.
+     *
+     * @param parallelism the maximum number of threads used to generate the models
+     */
+    public ArchitectureModelBuilder(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the parallelism configured with the {@code ballerina.architecturemodelgenerator.parallelism} system
+     * property, which defaults to the number of available processors.
+     *
+     * @return the default parallelism
+     */
+    public static int getDefaultParallelism() {
+        return Math.max(1, Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+    }
+
     public ArchitectureModel constructComponentModel(Package currentPackage) {
         return constructComponentModel(currentPackage, null);
     }
@@ -55,56 +97,147 @@ public class ArchitectureModelBuilder {
         Map<String, Entity> entities = new HashMap<>();
         List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
         List<Connection> allDependencies = new ArrayList<>();
-        AtomicReference<FunctionEntryPoint> functionEntryPoint = new AtomicReference<>();
-        AtomicBoolean hasDiagnosticErrors = new AtomicBoolean(false);
+        FunctionEntryPoint functionEntryPoint = null;
         String packageOrg = currentPackage.packageOrg().value();
         String packageName = currentPackage.packageName().value();
         String packageVersion = currentPackage.packageVersion().value().toString();
+        PackageCompilation currentPackageCompilation = packageCompilation == null ?
+                currentPackage.getCompilation() : packageCompilation;
+        boolean hasDiagnosticErrors = currentPackageCompilation.diagnosticResult().hasErrors();
+        // The functions of the package are indexed once and shared by the generators of all the modules
+        PackageFunctionIndex functionIndex = new PackageFunctionIndex(currentPackageCompilation, currentPackage);
 
-        currentPackage.modules().forEach(module -> {
-            PackageCompilation currentPackageCompilation = packageCompilation == null ?
-                    currentPackage.getCompilation() : packageCompilation;
-            if (currentPackageCompilation.diagnosticResult().hasErrors() && !hasDiagnosticErrors.get()) {
-                hasDiagnosticErrors.set(true);
+        List<ModuleModel> moduleModels = new ArrayList<>();
+        currentPackage.modules().forEach(module ->
+                moduleModels.add(new ModuleModel(currentPackageCompilation, module, functionIndex)));
+        generate(moduleModels);
+
+        for (ModuleModel moduleModel : moduleModels) {
+            if (moduleModel.serviceDiagnostic == null) {
+                services.putAll(moduleModel.services);
+                allDependencies.addAll(moduleModel.serviceDependencies);
+            } else {
+                diagnostics.add(moduleModel.serviceDiagnostic);
+            }
+
+            if (moduleModel.entityDiagnostic == null) {
+                entities.putAll(moduleModel.entities);
+            } else {
+                diagnostics.add(moduleModel.entityDiagnostic);
+            }
+
+            if (moduleModel.functionEntryPoint != null) {
+                functionEntryPoint = moduleModel.functionEntryPoint;
+                allDependencies.addAll(moduleModel.functionEntryPointDependencies);
             }
+        }
+
+        return new ArchitectureModel(Constants.MODEL_VERSION, packageName, packageOrg, packageVersion, diagnostics,
+                services, entities, functionEntryPoint, hasDiagnosticErrors, allDependencies);
+    }
 
-            ServiceModelGenerator serviceModelGenerator = new ServiceModelGenerator(currentPackageCompilation, module);
+    private void generate(List<ModuleModel> moduleModels) {
+        List<Runnable> tasks = new ArrayList<>();
+        for (ModuleModel moduleModel : moduleModels) {
+            tasks.add(moduleModel::generateServices);
+            tasks.add(moduleModel::generateEntities);
+            tasks.add(moduleModel::generateFunctionEntryPoint);
+        }
+
+        int threads = Math.min(parallelism, tasks.size());
+        if (threads <= 1) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+
+        // The tasks do not wait for each other, so a bounded pool cannot deadlock
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(CompletableFuture.runAsync(task, executor));
+            }
+            // Wait in the order of the tasks, so that a failure is reported as in the sequential generation
+            for (CompletableFuture<Void> future : futures) {
+                future.join();
+            }
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The models generated for a module. Each kind of model is written by a single task, and is read only after all
+     * the tasks are completed.
+     *
+     * @since 2.0.0
+     */
+    private static class ModuleModel {
+
+        private final PackageCompilation packageCompilation;
+        private final Module module;
+        private final PackageFunctionIndex functionIndex;
+
+        private Map<String, Service> services;
+        private List<Connection> serviceDependencies;
+        private ArchitectureModelDiagnostic serviceDiagnostic;
+        private Map<String, Entity> entities;
+        private ArchitectureModelDiagnostic entityDiagnostic;
+        private FunctionEntryPoint functionEntryPoint;
+        private List<Connection> functionEntryPointDependencies;
+
+        ModuleModel(PackageCompilation packageCompilation, Module module, PackageFunctionIndex functionIndex) {
+            this.packageCompilation = packageCompilation;
+            this.module = module;
+            this.functionIndex = functionIndex;
+        }
+
+        void generateServices() {
+            ServiceModelGenerator serviceModelGenerator = new ServiceModelGenerator(packageCompilation, module,
+                    functionIndex);
             try {
                 serviceModelGenerator.generate();
-                services.putAll(serviceModelGenerator.getServices());
-                allDependencies.addAll(serviceModelGenerator.getDependencies());
+                services = serviceModelGenerator.getServices();
+                serviceDependencies = serviceModelGenerator.getDependencies();
             } catch (Exception e) {
-                DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.SERVICES,
-                        e.getMessage());
-                ArchitectureModelDiagnostic diagnostic = new ArchitectureModelDiagnostic(
-                        message.getCode(), message.getDescription(), message.getSeverity(), null, null
-                );
-                diagnostics.add(diagnostic);
+                serviceDiagnostic = createDiagnostic(DiagnosticNode.SERVICES, e);
             }
+        }
 
-            EntityModelGenerator entityModelGenerator = new EntityModelGenerator(currentPackageCompilation, module);
+        void generateEntities() {
+            EntityModelGenerator entityModelGenerator = new EntityModelGenerator(packageCompilation, module);
             try {
-                entities.putAll(entityModelGenerator.generate());
+                entities = entityModelGenerator.generate();
             } catch (Exception e) {
-                DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.ENTITIES,
-                        e.getMessage());
-                ArchitectureModelDiagnostic diagnostic = new ArchitectureModelDiagnostic(
-                        message.getCode(), message.getDescription(), message.getSeverity(), null, null
-                );
-                diagnostics.add(diagnostic);
+                entityDiagnostic = createDiagnostic(DiagnosticNode.ENTITIES, e);
             }
+        }
 
+        void generateFunctionEntryPoint() {
             FunctionEntryPointModelGenerator functionEntryPointModelGenerator =
-                    new FunctionEntryPointModelGenerator(currentPackageCompilation, module);
+                    new FunctionEntryPointModelGenerator(packageCompilation, module, functionIndex);
             functionEntryPointModelGenerator.generate();
-            FunctionEntryPoint generatedFunctionEntryPoint = functionEntryPointModelGenerator.getFunctionEntryPoint();
-            if (generatedFunctionEntryPoint != null) {
-                functionEntryPoint.set(generatedFunctionEntryPoint);
-                allDependencies.addAll(functionEntryPointModelGenerator.getDependencies());
-            }
-        });
+            functionEntryPoint = functionEntryPointModelGenerator.getFunctionEntryPoint();
+            functionEntryPointDependencies = functionEntryPointModelGenerator.getDependencies();
+        }
 
-        return new ArchitectureModel(Constants.MODEL_VERSION, packageName, packageOrg, packageVersion, diagnostics,
-                services, entities, functionEntryPoint.get(), hasDiagnosticErrors.get(), allDependencies);
+        private static ArchitectureModelDiagnostic createDiagnostic(DiagnosticNode node, Exception e) {
+            DiagnosticMessage message = DiagnosticMessage.failedToGenerate(node, e.getMessage());
+            return new ArchitectureModelDiagnostic(message.getCode(), message.getDescription(), message.getSeverity(),
+                    null, null);
+        }
     }
 }
@@ -20,6 +20,7 @@ package io.ballerina.architecturemodelgenerator.core.generators.entrypoint;
 
 import io.ballerina.architecturemodelgenerator.core.generators.ModelGenerator;
 import io.ballerina.architecturemodelgenerator.core.generators.entrypoint.nodevisitors.FunctionEntryPointVisitor;
+import io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors.PackageFunctionIndex;
 import io.ballerina.architecturemodelgenerator.core.model.functionentrypoint.FunctionEntryPoint;
 import io.ballerina.architecturemodelgenerator.core.model.service.Connection;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
@@ -41,6 +42,7 @@ public class FunctionEntryPointModelGenerator extends ModelGenerator {
     private FunctionEntryPoint functionEntryPoint = null;
 
     private final List<Connection> dependencies = new LinkedList<>();
+    private final PackageFunctionIndex functionIndex;
 
     public FunctionEntryPoint getFunctionEntryPoint() {
         return functionEntryPoint;
@@ -51,7 +53,13 @@ public class FunctionEntryPointModelGenerator extends ModelGenerator {
     }
 
     public FunctionEntryPointModelGenerator(PackageCompilation packageCompilation, Module module) {
+        this(packageCompilation, module, new PackageFunctionIndex(packageCompilation, module.packageInstance()));
+    }
+
+    public FunctionEntryPointModelGenerator(PackageCompilation packageCompilation, Module module,
+                                            PackageFunctionIndex functionIndex) {
         super(packageCompilation, module);
+        this.functionIndex = functionIndex;
     }
 
     public void generate() {
@@ -59,7 +67,7 @@ public class FunctionEntryPointModelGenerator extends ModelGenerator {
             SyntaxTree syntaxTree = getModule().document(documentId).syntaxTree();
             Path filePath = getModuleRootPath().resolve(syntaxTree.filePath());
             FunctionEntryPointVisitor functionEntryPointVisitor = new FunctionEntryPointVisitor(
-                    getPackageCompilation(), getSemanticModel(), syntaxTree, getModule().packageInstance(), filePath);
+                    functionIndex, getSemanticModel(), syntaxTree, getModule().packageInstance(), filePath);
             syntaxTree.rootNode().accept(functionEntryPointVisitor);
             FunctionEntryPoint entryPointVisited = functionEntryPointVisitor.getFunctionEntryPoint();
             if (entryPointVisited != null) {
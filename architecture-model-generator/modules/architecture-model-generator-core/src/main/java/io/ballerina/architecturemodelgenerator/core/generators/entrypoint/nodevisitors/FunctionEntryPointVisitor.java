@@ -22,6 +22,7 @@ import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureMode
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessage;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticNode;
 import io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors.ActionNodeVisitor;
+import io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors.PackageFunctionIndex;
 import io.ballerina.architecturemodelgenerator.core.model.SourceLocation;
 import io.ballerina.architecturemodelgenerator.core.model.common.DisplayAnnotation;
 import io.ballerina.architecturemodelgenerator.core.model.common.FunctionParameter;
@@ -44,7 +45,6 @@ import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.Package;
-import io.ballerina.projects.PackageCompilation;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -65,7 +65,7 @@ import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorU
  */
 public class FunctionEntryPointVisitor extends NodeVisitor {
 
-    private final PackageCompilation packageCompilation;
+    private final PackageFunctionIndex functionIndex;
     private final SemanticModel semanticModel;
     private final SyntaxTree syntaxTree;
     private final Package currentPackage;
@@ -74,10 +74,10 @@ public class FunctionEntryPointVisitor extends NodeVisitor {
     private final List<Connection> dependencies = new LinkedList<>();
     private final Path filePath;
 
-    public FunctionEntryPointVisitor(PackageCompilation packageCompilation, SemanticModel semanticModel,
+    public FunctionEntryPointVisitor(PackageFunctionIndex functionIndex, SemanticModel semanticModel,
                                      SyntaxTree syntaxTree, Package currentPackage, Path filePath) {
 
-        this.packageCompilation = packageCompilation;
+        this.functionIndex = functionIndex;
         this.semanticModel = semanticModel;
         this.syntaxTree = syntaxTree;
         this.currentPackage = currentPackage;
@@ -110,7 +110,7 @@ public class FunctionEntryPointVisitor extends NodeVisitor {
             List<String> returnTypes = getMainReturnTypes(functionDefinitionNode);
 
             ActionNodeVisitor actionNodeVisitor =
-                    new ActionNodeVisitor(packageCompilation, semanticModel, currentPackage, filePath.toString());
+                    new ActionNodeVisitor(functionIndex, semanticModel, filePath.toString());
             FunctionEntryPointMemberNodeVisitor functionEntryPointMemberNodeVisitor =
                     new FunctionEntryPointMemberNodeVisitor(semanticModel, syntaxTree, filePath);
             List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
@@ -19,6 +19,7 @@
 package io.ballerina.architecturemodelgenerator.core.generators.service;
 
 import io.ballerina.architecturemodelgenerator.core.generators.ModelGenerator;
+import io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors.PackageFunctionIndex;
 import io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors.ServiceDeclarationNodeVisitor;
 import io.ballerina.architecturemodelgenerator.core.model.service.Connection;
 import io.ballerina.architecturemodelgenerator.core.model.service.Service;
@@ -42,9 +43,16 @@ public class ServiceModelGenerator extends ModelGenerator {
 
     private final Map<String, Service> services = new HashMap<>();
     private final List<Connection> dependencies = new LinkedList<>();
+    private final PackageFunctionIndex functionIndex;
 
     public ServiceModelGenerator(PackageCompilation packageCompilation, Module module) {
+        this(packageCompilation, module, new PackageFunctionIndex(packageCompilation, module.packageInstance()));
+    }
+
+    public ServiceModelGenerator(PackageCompilation packageCompilation, Module module,
+                                 PackageFunctionIndex functionIndex) {
         super(packageCompilation, module);
+        this.functionIndex = functionIndex;
     }
 
     public Map<String, Service> getServices() {
@@ -60,7 +68,7 @@ public class ServiceModelGenerator extends ModelGenerator {
             SyntaxTree syntaxTree = getModule().document(documentId).syntaxTree();
             Path filePath = getModuleRootPath().resolve(syntaxTree.filePath());
             ServiceDeclarationNodeVisitor serviceNodeVisitor = new ServiceDeclarationNodeVisitor(
-                    getPackageCompilation(), getSemanticModel(), syntaxTree, getModule().packageInstance(), filePath);
+                    functionIndex, getSemanticModel(), syntaxTree, getModule().packageInstance(), filePath);
             syntaxTree.rootNode().accept(serviceNodeVisitor);
             serviceNodeVisitor.getServices().forEach(service -> {
                 services.put(service.getId(), service);
@@ -21,12 +21,11 @@ package io.ballerina.architecturemodelgenerator.core.generators.service.nodevisi
 import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureModelDiagnostic;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessage;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticNode;
+import io.ballerina.architecturemodelgenerator.core.model.SourceLocation;
 import io.ballerina.architecturemodelgenerator.core.model.common.DisplayAnnotation;
 import io.ballerina.architecturemodelgenerator.core.model.common.Interaction;
-import io.ballerina.compiler.api.ModuleID;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Annotatable;
-import io.ballerina.compiler.api.symbols.ModuleSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
 import io.ballerina.compiler.syntax.tree.ClientResourceAccessActionNode;
@@ -34,30 +33,22 @@ import io.ballerina.compiler.syntax.tree.ComputedResourceAccessSegmentNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.FieldAccessExpressionNode;
 import io.ballerina.compiler.syntax.tree.FunctionCallExpressionNode;
-import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
-import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
-import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NameReferenceNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeVisitor;
-import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
-import io.ballerina.compiler.syntax.tree.SyntaxTree;
-import io.ballerina.compiler.syntax.tree.Token;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
-import io.ballerina.tools.diagnostics.Location;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -78,36 +69,36 @@ import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorU
  * @since 2201.2.2
  */
 public class ActionNodeVisitor extends NodeVisitor {
-    private final PackageCompilation packageCompilation;
+    private final PackageFunctionIndex functionIndex;
     private final SemanticModel semanticModel;
-    private final Package currentPackage;
     private final List<Interaction> interactionList = new LinkedList<>();
     private final String filePath;
-    private final Set<NameReferenceNode> visitedFunctionNames = new HashSet<>();
-    private final String modulePrefix;
+    private final Set<String> visitedFunctions = new HashSet<>();
+    private final List<InteractionSummary.Entry> summaryEntries;
 
     public ActionNodeVisitor(PackageCompilation packageCompilation, SemanticModel semanticModel,
                              Package currentPackage, String filePath) {
-        this(packageCompilation, semanticModel, currentPackage, filePath, new HashSet<>(), null);
+        this(new PackageFunctionIndex(packageCompilation, currentPackage), semanticModel, filePath);
     }
 
-    public ActionNodeVisitor(PackageCompilation packageCompilation, SemanticModel semanticModel,
-                             Package currentPackage, String filePath, Set<NameReferenceNode> visitedFunctionNames,
-                             String modulePrefix) {
-        this.packageCompilation = packageCompilation;
+    public ActionNodeVisitor(PackageFunctionIndex functionIndex, SemanticModel semanticModel, String filePath) {
+        this(functionIndex, semanticModel, filePath, null);
+    }
+
+    private ActionNodeVisitor(PackageFunctionIndex functionIndex, SemanticModel semanticModel, String filePath,
+                              List<InteractionSummary.Entry> summaryEntries) {
+        this.functionIndex = functionIndex;
         this.semanticModel = semanticModel;
-        this.currentPackage = currentPackage;
         this.filePath = filePath;
-        this.visitedFunctionNames.addAll(visitedFunctionNames);
-        this.modulePrefix = modulePrefix;
+        this.summaryEntries = summaryEntries;
     }
 
     public List<Interaction> getInteractionList() {
         return interactionList;
     }
 
-    public Set<NameReferenceNode> getVisitedFunctionNames() {
-        return visitedFunctionNames;
+    public Set<String> getVisitedFunctions() {
+        return visitedFunctions;
     }
 
     @Override
@@ -156,7 +147,7 @@ public class ActionNodeVisitor extends NodeVisitor {
         Interaction interaction = new Interaction(resourceFunctionId,
                 getClientModuleName(clientNode, semanticModel), getSourceLocation(filePath,
                 clientResourceAccessActionNode.lineRange()), serviceId, diagnostics);
-        interactionList.add(interaction);
+        addInteraction(interaction);
     }
 
     @Override
@@ -204,92 +195,100 @@ public class ActionNodeVisitor extends NodeVisitor {
         if (clientNode != null) {
             Interaction interaction = new Interaction(remoteFunctionId, getClientModuleName(clientNode, semanticModel),
                     getSourceLocation(filePath, remoteMethodCallActionNode.lineRange()), serviceId, diagnostics);
-            interactionList.add(interaction);
+            addInteraction(interaction);
         }
     }
 
     @Override
     public void visit(FunctionCallExpressionNode functionCallExpressionNode) {
-        if ((functionCallExpressionNode.functionName() instanceof SimpleNameReferenceNode ||
-                functionCallExpressionNode.functionName() instanceof QualifiedNameReferenceNode) &&
-                isNodeAlreadyVisited(functionCallExpressionNode.functionName())) {
-
-            visitedFunctionNames.add(functionCallExpressionNode.functionName());
-            Optional<Symbol> symbol = semanticModel.symbol(functionCallExpressionNode.functionName());
-            symbol.ifPresent(value -> findInteractions(functionCallExpressionNode.functionName(), value));
-            if (!functionCallExpressionNode.arguments().isEmpty()) {
-                functionCallExpressionNode.arguments().forEach(arg -> {
-                    arg.accept(this);
-                });
-            }
+        NameReferenceNode functionName = functionCallExpressionNode.functionName();
+        if ((functionName instanceof SimpleNameReferenceNode || functionName instanceof QualifiedNameReferenceNode) &&
+                visitFunction(functionName)) {
+            functionCallExpressionNode.arguments().forEach(arg -> arg.accept(this));
         }
         // todo : Other combinations
     }
 
     @Override
     public void visit(MethodCallExpressionNode methodCallExpressionNode) {
-        if (methodCallExpressionNode.methodName() instanceof SimpleNameReferenceNode &&
-                isNodeAlreadyVisited(methodCallExpressionNode.methodName())) {
-
-            visitedFunctionNames.add(methodCallExpressionNode.methodName());
-            Optional<Symbol> symbol = semanticModel.symbol(methodCallExpressionNode.methodName());
-            symbol.ifPresent(value -> findInteractions(methodCallExpressionNode.methodName(), value));
-            if (!methodCallExpressionNode.arguments().isEmpty()) {
-                methodCallExpressionNode.arguments().forEach(arg -> {
-                    arg.accept(this);
-                });
-            }
+        NameReferenceNode methodName = methodCallExpressionNode.methodName();
+        if (methodName instanceof SimpleNameReferenceNode && visitFunction(methodName)) {
+            methodCallExpressionNode.arguments().forEach(arg -> arg.accept(this));
         }
         // todo : Other combinations
     }
 
-    private void findInteractions(NameReferenceNode nameNode, Symbol methodSymbol) {
-
-        Optional<Location> location = methodSymbol.getLocation();
-        Optional<ModuleSymbol> optionalModuleSymbol = methodSymbol.getModule();
-        if (optionalModuleSymbol.isPresent()) {
-            ModuleID moduleID = optionalModuleSymbol.get().id();
-            currentPackage.modules().forEach(module -> {
-                if (Objects.equals(moduleID.moduleName(), module.moduleName().toString())) {
-                    Collection<DocumentId> documentIds = module.documentIds();
-                    for (DocumentId documentId : documentIds) {
-                        SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
-                        // todo : Improve the logic
-                        NonTerminalNode node = ((ModulePartNode) syntaxTree.rootNode())
-                                .findNode(location.get().textRange());
-                        if (!node.isMissing()) {
-                            SemanticModel nextSemanticModel = packageCompilation.getSemanticModel(module.moduleId());
-                            boolean isReferredNodeFromSameModule = isReferredNodeFromSameModule(nameNode, module);
-                            String modulePrefix = isReferredNodeFromSameModule ?
-                                    null : module.moduleName().moduleNamePart();
-                            if (node instanceof FunctionDefinitionNode) {
-                                FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) node;
-                                String referencedFunctionName = functionDefinitionNode.functionName().text();
-                                if (isReferredFunction(nameNode, referencedFunctionName)) {
-                                    ActionNodeVisitor actionNodeVisitor = new ActionNodeVisitor(packageCompilation,
-                                            nextSemanticModel, currentPackage, this.filePath, visitedFunctionNames,
-                                            modulePrefix);
-                                    functionDefinitionNode.accept(actionNodeVisitor);
-                                    interactionList.addAll(actionNodeVisitor.getInteractionList());
-                                    visitedFunctionNames.addAll(actionNodeVisitor.getVisitedFunctionNames());
-                                }
-                            } else if (node instanceof MethodDeclarationNode) {
-                                MethodDeclarationNode methodDeclarationNode = (MethodDeclarationNode) node;
-                                String referencedFunctionName = methodDeclarationNode.methodName().text();
-                                if (isReferredFunction(nameNode, referencedFunctionName)) {
-                                    ActionNodeVisitor actionNodeVisitor = new ActionNodeVisitor(packageCompilation,
-                                            nextSemanticModel, currentPackage, this.filePath, visitedFunctionNames,
-                                            modulePrefix);
-                                    methodDeclarationNode.accept(actionNodeVisitor);
-                                    interactionList.addAll(actionNodeVisitor.getInteractionList());
-                                    visitedFunctionNames.addAll(actionNodeVisitor.getVisitedFunctionNames());
-                                }
-                            }
-                        }
-                    }
+    /**
+     * Visits a called function once per analysis, identifying it by the key of its definition in the package, or by
+     * its module and name otherwise.
+     *
+     * @param nameNode the name reference of the called function
+     * @return true if the function was not visited before
+     */
+    private boolean visitFunction(NameReferenceNode nameNode) {
+        Optional<Symbol> symbol = semanticModel.symbol(nameNode);
+        Optional<PackageFunctionIndex.FunctionDefinition> definition = symbol.flatMap(functionIndex::findDefinition)
+                .filter(functionDefinition -> isReferredFunction(nameNode, functionDefinition.name()));
+        String functionKey = definition.map(PackageFunctionIndex.FunctionDefinition::key)
+                .or(() -> symbol.map(PackageFunctionIndex::getFunctionKey))
+                .orElseGet(() -> nameNode.toSourceCode().trim());
+        if (!visitedFunctions.add(functionKey)) {
+            return false;
+        }
+        if (definition.isEmpty()) {
+            return true;
+        }
+
+        if (summaryEntries != null) {
+            summaryEntries.add(InteractionSummary.Entry.of(definition.get()));
+        } else {
+            addInteractions(definition.get());
+        }
+        return true;
+    }
+
+    private void addInteraction(Interaction interaction) {
+        if (summaryEntries != null) {
+            summaryEntries.add(InteractionSummary.Entry.of(interaction));
+        } else {
+            interactionList.add(interaction);
+        }
+    }
+
+    private void addInteractions(PackageFunctionIndex.FunctionDefinition definition) {
+        RequestScheduler.checkCancelled();
+        InteractionSummary summary = functionIndex.getSummary(definition, this::summarize);
+        for (InteractionSummary.Entry entry : summary.entries()) {
+            if (entry.callee() != null) {
+                if (visitedFunctions.add(entry.callee().key())) {
+                    addInteractions(entry.callee());
                 }
-            });
+            } else {
+                interactionList.add(withFilePath(entry.interaction()));
+            }
+        }
+    }
+
+    private InteractionSummary summarize(PackageFunctionIndex.FunctionDefinition definition) {
+        List<InteractionSummary.Entry> entries = new ArrayList<>();
+        ActionNodeVisitor actionNodeVisitor =
+                new ActionNodeVisitor(functionIndex, definition.semanticModel(), filePath, entries);
+        definition.node().accept(actionNodeVisitor);
+        return new InteractionSummary(Collections.unmodifiableList(entries));
+    }
+
+    /**
+     * Returns the interaction of a called function located in the file being analyzed, as the summary of the function
+     * is shared by callers from other files.
+     */
+    private Interaction withFilePath(Interaction interaction) {
+        SourceLocation sourceLocation = interaction.getSourceLocation();
+        if (sourceLocation == null || Objects.equals(sourceLocation.getFilePath(), filePath)) {
+            return interaction;
         }
+        return new Interaction(interaction.getId(), interaction.getType(), SourceLocation.from(filePath,
+                sourceLocation.getStartPosition(), sourceLocation.getEndPosition()), interaction.getServiceId(),
+                interaction.getDiagnostics());
     }
 
     private String getResourcePath(SeparatedNodeList<Node> accessPathNodes) {
@@ -329,34 +328,6 @@ public class ActionNodeVisitor extends NodeVisitor {
         return resourcePathBuilder.toString();
     }
 
-    private boolean isNodeAlreadyVisited(NameReferenceNode functionName) {
-        if (functionName instanceof SimpleNameReferenceNode) {
-            return visitedFunctionNames.stream().noneMatch(nameNode -> {
-                if (nameNode instanceof SimpleNameReferenceNode) {
-                    return ((SimpleNameReferenceNode) nameNode).name().text()
-                            .equals(((SimpleNameReferenceNode) functionName).name().text());
-                } else if (nameNode instanceof QualifiedNameReferenceNode && modulePrefix != null) {
-                    return getQualifiedNameRefNodeFuncNameText((QualifiedNameReferenceNode) nameNode)
-                            .equals(modulePrefix + ":" + ((SimpleNameReferenceNode) functionName).name().text());
-                }
-                return false;
-            });
-        } else if (functionName instanceof QualifiedNameReferenceNode) {
-            return visitedFunctionNames.stream().noneMatch(nameNode -> {
-                if (nameNode instanceof QualifiedNameReferenceNode) {
-                    return getQualifiedNameRefNodeFuncNameText((QualifiedNameReferenceNode) nameNode)
-                            .equals(getQualifiedNameRefNodeFuncNameText((QualifiedNameReferenceNode) functionName));
-                }
-                return false;
-            });
-        }
-        return false;
-    }
-
-    private String getQualifiedNameRefNodeFuncNameText(QualifiedNameReferenceNode nameNode) {
-        return nameNode.modulePrefix().text() + ((Token) nameNode.colon()).text() + nameNode.identifier().text();
-    }
-
     private boolean isReferredFunction(NameReferenceNode nameNode, String referredFunctionName) {
         if (nameNode instanceof SimpleNameReferenceNode) {
             return ((SimpleNameReferenceNode) nameNode).name().text().equals(referredFunctionName);
@@ -365,23 +336,4 @@ public class ActionNodeVisitor extends NodeVisitor {
         }
         return false;
     }
-
-    private boolean isReferredNodeFromSameModule(Node currentNode, Module referredNodeModule) {
-        String currentFilePath = currentNode.syntaxTree().filePath();
-        Module currentNodeModule = null;
-
-        List<Module> modules = new ArrayList<>();
-        currentPackage.modules().forEach(modules::add);
-
-        for (Module module : modules) {
-            if (module.documentIds().stream().anyMatch(docId ->
-                    module.document(docId).syntaxTree().filePath().equals(currentFilePath))) {
-                currentNodeModule = module;
-                break;
-            }
-        }
-
-        return currentNodeModule != null &&
-                currentNodeModule.moduleId().moduleName().equals(referredNodeModule.moduleId().moduleName());
-    }
 }
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors;
+
+import io.ballerina.architecturemodelgenerator.core.model.common.Interaction;
+
+import java.util.List;
+
+/**
+ * The interactions of a function in the order they appear in its body. A call to another function of the package is
+ * kept as a reference to that function, so that the summary does not depend on its callers and recursive calls are
+ * resolved when the summary is expanded.
+ *
+ * @param entries the interactions and the called functions
+ * @since 2.0.0
+ */
+record InteractionSummary(List<Entry> entries) {
+
+    /**
+     * An interaction of the function, or a call to another function of the package.
+     *
+     * @param interaction the interaction, or null if the entry is a call
+     * @param callee      the called function, or null if the entry is an interaction
+     * @since 2.0.0
+     */
+    record Entry(Interaction interaction, PackageFunctionIndex.FunctionDefinition callee) {
+
+        static Entry of(Interaction interaction) {
+            return new Entry(interaction, null);
+        }
+
+        static Entry of(PackageFunctionIndex.FunctionDefinition callee) {
+            return new Entry(null, callee);
+        }
+    }
+}
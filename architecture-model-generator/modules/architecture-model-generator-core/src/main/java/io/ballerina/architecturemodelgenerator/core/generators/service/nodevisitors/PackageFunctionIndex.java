@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core.generators.service.nodevisitors;
+
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Index of the functions of a package, shared by the action node visitors of a package traversal. A function symbol
+ * is resolved to its definition through the document that declares it, and the interactions of each function are
+ * summarized once and reused by all of its callers.
+ *
+ * @since 2.0.0
+ */
+public class PackageFunctionIndex {
+
+    private final PackageCompilation packageCompilation;
+    private final Package currentPackage;
+    private final Map<String, Map<String, Document>> documents;
+    private final Map<String, Optional<FunctionDefinition>> definitions;
+    private final Map<String, InteractionSummary> summaries;
+
+    public PackageFunctionIndex(PackageCompilation packageCompilation, Package currentPackage) {
+        this.packageCompilation = packageCompilation;
+        this.currentPackage = currentPackage;
+        this.documents = new HashMap<>();
+        this.definitions = new ConcurrentHashMap<>();
+        this.summaries = new ConcurrentHashMap<>();
+        for (Module module : currentPackage.modules()) {
+            Map<String, Document> moduleDocuments = new HashMap<>();
+            for (DocumentId documentId : module.documentIds()) {
+                Document document = module.document(documentId);
+                moduleDocuments.put(getDocumentName(document.name()), document);
+            }
+            documents.put(module.moduleName().toString(), moduleDocuments);
+        }
+    }
+
+    public PackageCompilation getPackageCompilation() {
+        return packageCompilation;
+    }
+
+    public Package getCurrentPackage() {
+        return currentPackage;
+    }
+
+    /**
+     * Finds the definition of a function or a method of the package from its symbol.
+     *
+     * @param symbol the symbol of the function or the method
+     * @return the definition, or empty if the symbol is not defined in the package
+     */
+    public Optional<FunctionDefinition> findDefinition(Symbol symbol) {
+        Optional<Location> location = symbol.getLocation();
+        Optional<ModuleSymbol> moduleSymbol = symbol.getModule();
+        if (location.isEmpty() || moduleSymbol.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // A dependency may have a module and a document of the same names as the ones of the package
+        ModuleID moduleID = moduleSymbol.get().id();
+        if (!moduleID.orgName().equals(currentPackage.packageOrg().value()) ||
+                !moduleID.packageName().equals(currentPackage.packageName().value())) {
+            return Optional.empty();
+        }
+        String moduleName = moduleID.moduleName();
+        String documentName = getDocumentName(location.get().lineRange().fileName());
+        TextRange textRange = location.get().textRange();
+        String key = String.format("%s/%s:%s/%s:%d-%d", moduleID.orgName(), moduleID.packageName(), moduleName,
+                documentName, textRange.startOffset(), textRange.endOffset());
+        return definitions.computeIfAbsent(key, k -> resolveDefinition(k, moduleName, documentName, textRange));
+    }
+
+    /**
+     * Returns the canonical key of a function that is not defined in the package, derived from its module and name.
+     *
+     * @param symbol the symbol of the function or the method
+     * @return the key of the function
+     */
+    public static String getFunctionKey(Symbol symbol) {
+        String moduleName = symbol.getModule()
+                .map(moduleSymbol -> {
+                    ModuleID moduleID = moduleSymbol.id();
+                    return moduleID.orgName() + "/" + moduleID.moduleName();
+                })
+                .orElse("");
+        return moduleName + ":" + symbol.getName().orElse("");
+    }
+
+    InteractionSummary getSummary(FunctionDefinition definition,
+                                  Function<FunctionDefinition, InteractionSummary> analyzer) {
+        return summaries.computeIfAbsent(definition.key(), key -> analyzer.apply(definition));
+    }
+
+    private Optional<FunctionDefinition> resolveDefinition(String key, String moduleName, String documentName,
+                                                           TextRange textRange) {
+        Map<String, Document> moduleDocuments = documents.get(moduleName);
+        Document document = moduleDocuments == null ? null : moduleDocuments.get(documentName);
+        if (document == null) {
+            return Optional.empty();
+        }
+
+        NonTerminalNode node = ((ModulePartNode) document.syntaxTree().rootNode()).findNode(textRange);
+        String name;
+        if (node.isMissing()) {
+            return Optional.empty();
+        } else if (node instanceof FunctionDefinitionNode functionDefinitionNode) {
+            name = functionDefinitionNode.functionName().text();
+        } else if (node instanceof MethodDeclarationNode methodDeclarationNode) {
+            name = methodDeclarationNode.methodName().text();
+        } else {
+            return Optional.empty();
+        }
+        SemanticModel semanticModel = packageCompilation.getSemanticModel(document.module().moduleId());
+        return Optional.of(new FunctionDefinition(key, name, node, semanticModel));
+    }
+
+    private static String getDocumentName(String fileName) {
+        int separatorIndex = Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\'));
+        return fileName.substring(separatorIndex + 1);
+    }
+
+    /**
+     * Represents the definition of a function or a method of the package.
+     *
+     * @param key           the key of the definition, derived from the module and the location of its symbol
+     * @param name          the name of the function or the method
+     * @param node          the function definition or the method declaration node
+     * @param semanticModel the semantic model of the module that defines the function
+     * @since 2.0.0
+     */
+    public record FunctionDefinition(String key, String name, NonTerminalNode node, SemanticModel semanticModel) {
+    }
+}
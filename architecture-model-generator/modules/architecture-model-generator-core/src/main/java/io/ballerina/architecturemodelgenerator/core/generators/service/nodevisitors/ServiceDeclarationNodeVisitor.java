@@ -50,7 +50,6 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.projects.Package;
-import io.ballerina.projects.PackageCompilation;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -70,7 +69,7 @@ import static io.ballerina.architecturemodelgenerator.core.Constants.LISTENER;
  * @since 2201.2.2
  */
 public class ServiceDeclarationNodeVisitor extends NodeVisitor {
-    private final PackageCompilation packageCompilation;
+    private final PackageFunctionIndex functionIndex;
     private final SemanticModel semanticModel;
     private final SyntaxTree syntaxTree;
     private final Package currentPackage;
@@ -79,9 +78,9 @@ public class ServiceDeclarationNodeVisitor extends NodeVisitor {
     private final Path filePath;
     private List<String> servicePaths = new ArrayList<>();
 
-    public ServiceDeclarationNodeVisitor(PackageCompilation packageCompilation, SemanticModel semanticModel,
+    public ServiceDeclarationNodeVisitor(PackageFunctionIndex functionIndex, SemanticModel semanticModel,
                                          SyntaxTree syntaxTree, Package currentPackage, Path filePath) {
-        this.packageCompilation = packageCompilation;
+        this.functionIndex = functionIndex;
         this.semanticModel = semanticModel;
         this.syntaxTree = syntaxTree;
         this.currentPackage = currentPackage;
@@ -111,7 +110,7 @@ public class ServiceDeclarationNodeVisitor extends NodeVisitor {
         String serviceLabel = generateServiceLabel(serviceAnnotation, serviceNameNodes);
 
         ServiceMemberFunctionNodeVisitor serviceMemberFunctionNodeVisitor =
-                new ServiceMemberFunctionNodeVisitor(serviceId, packageCompilation, semanticModel,
+                new ServiceMemberFunctionNodeVisitor(serviceId, functionIndex, semanticModel,
                         syntaxTree, currentPackage, filePath.toString());
         List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
         try {
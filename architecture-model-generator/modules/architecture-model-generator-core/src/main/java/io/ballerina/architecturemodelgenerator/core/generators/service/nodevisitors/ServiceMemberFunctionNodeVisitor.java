@@ -55,7 +55,6 @@ import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.Package;
-import io.ballerina.projects.PackageCompilation;
 import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.LineRange;
 
@@ -81,7 +80,7 @@ import static io.ballerina.architecturemodelgenerator.core.generators.GeneratorU
  */
 public class ServiceMemberFunctionNodeVisitor extends NodeVisitor {
     private final String serviceId;
-    private final PackageCompilation packageCompilation;
+    private final PackageFunctionIndex functionIndex;
     private final SemanticModel semanticModel;
     private final SyntaxTree syntaxTree;
     private final Package currentPackage;
@@ -90,11 +89,11 @@ public class ServiceMemberFunctionNodeVisitor extends NodeVisitor {
     private final List<Connection> dependencies = new LinkedList<>();
     private final String filePath;
 
-    public ServiceMemberFunctionNodeVisitor(String serviceId, PackageCompilation packageCompilation,
+    public ServiceMemberFunctionNodeVisitor(String serviceId, PackageFunctionIndex functionIndex,
                                             SemanticModel semanticModel, SyntaxTree syntaxTree,
                                             Package currentPackage, String filePath) {
         this.serviceId = serviceId;
-        this.packageCompilation = packageCompilation;
+        this.functionIndex = functionIndex;
         this.semanticModel = semanticModel;
         this.syntaxTree = syntaxTree;
         this.currentPackage = currentPackage;
@@ -140,7 +139,7 @@ public class ServiceMemberFunctionNodeVisitor extends NodeVisitor {
                 List<String> returnTypes = getReturnTypes(functionDefinitionNode);
 
                 ActionNodeVisitor actionNodeVisitor =
-                        new ActionNodeVisitor(packageCompilation, semanticModel, currentPackage, filePath);
+                        new ActionNodeVisitor(functionIndex, semanticModel, filePath);
                 List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
                 try {
                     functionDefinitionNode.accept(actionNodeVisitor);
@@ -170,7 +169,7 @@ public class ServiceMemberFunctionNodeVisitor extends NodeVisitor {
                     List<String> returnTypes = getReturnTypes(functionDefinitionNode);
 
                     ActionNodeVisitor actionNodeVisitor = new ActionNodeVisitor(
-                            packageCompilation, semanticModel, currentPackage, filePath);
+                            functionIndex, semanticModel, filePath);
                     List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
                     try {
                         functionDefinitionNode.accept(actionNodeVisitor);
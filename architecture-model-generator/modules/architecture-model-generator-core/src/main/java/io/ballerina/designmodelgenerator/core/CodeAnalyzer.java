@@ -134,10 +134,12 @@ public class CodeAnalyzer extends NodeVisitor {
                 .stream().map(Node::toSourceCode).toList());
         LineRange lineRange = serviceDeclarationNode.lineRange();
         String sortText = lineRange.fileName() + lineRange.startLine().line();
+        String serviceId = intermediateModel.idGenerator.generate(NodeIdGenerator.Kind.SERVICE,
+                displayName != null ? absoluteResourcePath + ":" + displayName : absoluteResourcePath, lineRange);
         IntermediateModel.ServiceModel serviceModel = new IntermediateModel.ServiceModel(
-                displayName, absoluteResourcePath, sortText, getLocation(lineRange));
+                serviceId, displayName, absoluteResourcePath, sortText, getLocation(lineRange));
         this.currentServiceModel = serviceModel;
-        intermediateModel.serviceModelMap.put(String.valueOf(lineRange.hashCode()), serviceModel);
+        intermediateModel.serviceModelMap.put(CommonUtils.getLocationKey(lineRange), serviceModel);
 
         for (ExpressionNode expressionNode : serviceDeclarationNode.expressions()) {
             if (expressionNode instanceof ExplicitNewExpressionNode explicitNewExpressionNode) {
@@ -152,10 +154,11 @@ public class CodeAnalyzer extends NodeVisitor {
                 }
                 String icon = symbol.flatMap(Symbol::getModule)
                         .map(module -> CommonUtils.generateIcon(module.id())).orElse("");
-                Listener listener = new Listener("ANON", sortText,
-                        getLocation(serviceDeclarationNode.lineRange()),
-                        explicitNewExpressionNode.typeDescriptor().toSourceCode(), icon,
-                        Listener.Kind.ANON, arguments);
+                String type = explicitNewExpressionNode.typeDescriptor().toSourceCode();
+                String listenerId = intermediateModel.idGenerator.generate(NodeIdGenerator.Kind.LISTENER,
+                        type.strip(), explicitNewExpressionNode.lineRange());
+                Listener listener = new Listener(listenerId, "ANON", sortText,
+                        getLocation(serviceDeclarationNode.lineRange()), type, icon, Listener.Kind.ANON, arguments);
                 serviceModel.anonListeners.add(listener);
                 intermediateModel.listeners.put(listener.getUuid(), listener);
             } else if (expressionNode instanceof SimpleNameReferenceNode simpleNameReferenceNode) {
@@ -171,7 +174,9 @@ public class CodeAnalyzer extends NodeVisitor {
                                 CommonUtils.ModuleInfo.from(typeSymbol.getModule().get().id()));
                         String icon = typeSymbol.getModule()
                                 .map(module -> CommonUtils.generateIcon(module.id())).orElse("");
-                        Listener listener = new Listener(fullQualifiedName, sortText,
+                        String listenerId = intermediateModel.idGenerator.generate(NodeIdGenerator.Kind.LISTENER,
+                                fullQualifiedName);
+                        Listener listener = new Listener(listenerId, fullQualifiedName, sortText,
                                 getLocation(serviceDeclarationNode.lineRange()),
                                 typeSignature, icon,
                                 Listener.Kind.IMPORTED, new ArrayList<>());
@@ -266,24 +271,23 @@ public class CodeAnalyzer extends NodeVisitor {
                 Optional<Symbol> fieldNameSymbol = semanticModel.symbol(fieldName);
                 if (fieldNameSymbol.isPresent()) {
                     connectionFinder.findConnection(fieldNameSymbol.get(), new ArrayList<>());
-                    String hashCode = String.valueOf(fieldNameSymbol.get().getLocation().get().hashCode());
-                    if (intermediateModel.connectionMap.containsKey(hashCode)) {
-                        Connection connection = intermediateModel.connectionMap.get(hashCode);
+                    String locationKey = CommonUtils.getLocationKey(fieldNameSymbol.get().getLocation().get());
+                    if (intermediateModel.connectionMap.containsKey(locationKey)) {
+                        Connection connection = intermediateModel.connectionMap.get(locationKey);
                         this.currentFunctionModel.connections.add(connection.getUuid());
                     }
                 }
             } else {
                 Optional<Symbol> symbol = this.semanticModel.symbol(expressionNode);
                 if (symbol.isPresent()) {
-                    String symbolHash = String.valueOf(symbol.get().getLocation().hashCode());
-                    if (intermediateModel.connectionMap.containsKey(symbolHash)) {
-                        Connection connection = intermediateModel.connectionMap.get(symbolHash);
+                    String locationKey = CommonUtils.getLocationKey(symbol.get().getLocation().get());
+                    if (intermediateModel.connectionMap.containsKey(locationKey)) {
+                        Connection connection = intermediateModel.connectionMap.get(locationKey);
                         this.currentFunctionModel.connections.add(connection.getUuid());
                     } else {
                         connectionFinder.findConnection(symbol.get(), new ArrayList<>());
-                        String hashCode = String.valueOf(symbol.get().getLocation().get().hashCode());
-                        if (intermediateModel.connectionMap.containsKey(hashCode)) {
-                            Connection connection = intermediateModel.connectionMap.get(hashCode);
+                        if (intermediateModel.connectionMap.containsKey(locationKey)) {
+                            Connection connection = intermediateModel.connectionMap.get(locationKey);
                             this.currentFunctionModel.connections.add(connection.getUuid());
                         }
                     }
@@ -344,8 +348,10 @@ public class CodeAnalyzer extends NodeVisitor {
                 .map(module -> CommonUtils.generateIcon(module.id())).orElse("");
         LineRange lineRange = listenerDeclarationNode.lineRange();
         String sortText = lineRange.fileName() + lineRange.startLine().line();
-        this.intermediateModel.listeners.put(listenerDeclarationNode.variableName().text(),
-                new Listener(listenerDeclarationNode.variableName().text(), sortText,
+        String name = listenerDeclarationNode.variableName().text();
+        String listenerId = intermediateModel.idGenerator.generate(NodeIdGenerator.Kind.LISTENER, name, lineRange);
+        this.intermediateModel.listeners.put(name,
+                new Listener(listenerId, name, sortText,
                         getLocation(listenerDeclarationNode.lineRange()),
                         listenerDeclarationNode.typeDescriptor().get().toSourceCode().strip(),
                         icon, Listener.Kind.NAMED, arguments, true));
@@ -357,9 +363,9 @@ public class CodeAnalyzer extends NodeVisitor {
         Optional<Symbol> symbol = this.semanticModel.symbol(moduleVariableDeclarationNode);
         if (symbol.isPresent()) {
             io.ballerina.tools.diagnostics.Location location = symbol.get().getLocation().get();
-            String hashCode = String.valueOf(location.hashCode());
-            if (this.intermediateModel.connectionMap.containsKey(hashCode)) {
-                Connection connection = this.intermediateModel.connectionMap.get(hashCode);
+            String locationKey = CommonUtils.getLocationKey(location);
+            if (this.intermediateModel.connectionMap.containsKey(locationKey)) {
+                Connection connection = this.intermediateModel.connectionMap.get(locationKey);
                 connection.setLocation(getLocation(moduleVariableDeclarationNode.lineRange()));
             }
         }
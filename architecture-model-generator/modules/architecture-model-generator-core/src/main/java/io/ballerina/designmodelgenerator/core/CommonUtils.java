@@ -23,9 +23,9 @@ import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeDescKind;
 import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
 
-import java.util.Random;
-import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,7 +39,6 @@ public class CommonUtils {
     private static final String CENTRAL_ICON_URL = "https://bcentral-packageicons.azureedge.net/images/%s_%s_%s.png";
     private static final Pattern FULLY_QUALIFIED_MODULE_ID_PATTERN =
             Pattern.compile("(\\w+)/([\\w.]+):([^:]+):(\\w+)[|]?");
-    private static final Random random = new Random();
 
     /**
      * Get the raw type of the type descriptor. If the type descriptor is a type reference then return the associated
@@ -75,8 +74,26 @@ public class CommonUtils {
         return String.format(CENTRAL_ICON_URL, moduleID.orgName(), moduleID.moduleName(), moduleID.version());
     }
 
-    public static String generateUUID() {
-        return new UUID(random.nextLong(), random.nextLong()).toString();
+    /**
+     * Returns a key that identifies the given line range in the package. Unlike the hash code of the line range, the
+     * key cannot collide for distinct line ranges.
+     *
+     * @param lineRange the line range
+     * @return the key of the line range
+     */
+    public static String getLocationKey(LineRange lineRange) {
+        return String.format("%s:%d:%d-%d:%d", lineRange.fileName(), lineRange.startLine().line(),
+                lineRange.startLine().offset(), lineRange.endLine().line(), lineRange.endLine().offset());
+    }
+
+    /**
+     * Returns a key that identifies the given location in the package.
+     *
+     * @param location the location
+     * @return the key of the location
+     */
+    public static String getLocationKey(Location location) {
+        return getLocationKey(location.lineRange());
     }
 
     /**
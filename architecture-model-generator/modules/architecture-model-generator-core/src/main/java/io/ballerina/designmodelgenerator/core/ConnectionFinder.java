@@ -63,10 +63,10 @@ public class ConnectionFinder {
     }
 
     public void findConnection(Symbol symbol, List<String> referenceLocations) {
-        String hashKey = String.valueOf(symbol.getLocation().get().hashCode());
-        referenceLocations.add(hashKey);
-        if (this.intermediateModel.connectionMap.containsKey(hashKey)) {
-            Connection connection = this.intermediateModel.connectionMap.get(hashKey);
+        String locationKey = CommonUtils.getLocationKey(symbol.getLocation().get());
+        referenceLocations.add(locationKey);
+        if (this.intermediateModel.connectionMap.containsKey(locationKey)) {
+            Connection connection = this.intermediateModel.connectionMap.get(locationKey);
             for (String refLocation : referenceLocations) {
                 intermediateModel.connectionMap.put(refLocation, connection);
             }
@@ -82,10 +82,11 @@ public class ConnectionFinder {
                         String sortText = lineRange.fileName() + lineRange.startLine().line();
                         String icon =  CommonUtils.generateIcon(
                                 classFieldSymbol.typeDescriptor().getModule().get().id());
-                        Connection connection = new Connection(objectFieldNode.fieldName().text(),
-                                sortText, getLocation(lineRange), Connection.Scope.LOCAL, icon);
+                        String name = objectFieldNode.fieldName().text();
+                        Connection connection = new Connection(generateId(name, lineRange), name, sortText,
+                                getLocation(lineRange), Connection.Scope.LOCAL, icon);
                         for (String refLocation : referenceLocations) {
-                            intermediateModel.connectionMap.put(String.valueOf(refLocation), connection);
+                            intermediateModel.connectionMap.put(refLocation, connection);
                         }
                     } else {
                         Optional<Symbol> valueSymbol = semanticModel.symbol(objectFieldNode.expression().get());
@@ -105,10 +106,11 @@ public class ConnectionFinder {
                             String sortText = lineRange.fileName() + lineRange.startLine().line();
                             String icon =  CommonUtils.generateIcon(
                                     classFieldSymbol.typeDescriptor().getModule().get().id());
-                            Connection connection = new Connection(symbol.getName().get(), sortText,
+                            String name = symbol.getName().get();
+                            Connection connection = new Connection(generateId(name, lineRange), name, sortText,
                                     getLocation(lineRange), Connection.Scope.LOCAL, icon);
                             for (String refLocation : referenceLocations) {
-                                intermediateModel.connectionMap.put(String.valueOf(refLocation), connection);
+                                intermediateModel.connectionMap.put(refLocation, connection);
                             }
                         } else {
                             Optional<Symbol> valueSymbol = semanticModel.symbol(assignmentStatementNode.expression());
@@ -120,8 +122,8 @@ public class ConnectionFinder {
                 }
             }
         } else if (symbol instanceof VariableSymbol variableSymbol) {
-            if (this.intermediateModel.connectionMap.containsKey(hashKey)) {
-                Connection connection = this.intermediateModel.connectionMap.get(hashKey);
+            if (this.intermediateModel.connectionMap.containsKey(locationKey)) {
+                Connection connection = this.intermediateModel.connectionMap.get(locationKey);
                 for (String refLocation : referenceLocations) {
                     intermediateModel.connectionMap.put(refLocation, connection);
                 }
@@ -136,10 +138,11 @@ public class ConnectionFinder {
                             String sortText = lineRange.fileName() + lineRange.startLine().line();
                             String icon =  CommonUtils.generateIcon(
                                     variableSymbol.typeDescriptor().getModule().get().id());
-                            Connection connection = new Connection(symbol.getName().get(), sortText,
+                            String name = symbol.getName().get();
+                            Connection connection = new Connection(generateId(name, lineRange), name, sortText,
                                     getLocation(lineRange), Connection.Scope.LOCAL, icon, true);
                             for (String refLocation : referenceLocations) {
-                                intermediateModel.connectionMap.put(String.valueOf(refLocation), connection);
+                                intermediateModel.connectionMap.put(refLocation, connection);
                             }
                         } else {
                             if (variableDeclarationNode.initializer().isPresent()) {
@@ -154,10 +157,11 @@ public class ConnectionFinder {
                         if (isNewConnection(assignmentStatementNode.expression())) {
                             LineRange lineRange = node.lineRange();
                             String sortText = lineRange.fileName() + lineRange.startLine().line();
-                            Connection connection = new Connection(symbol.getName().get(), sortText,
+                            String name = symbol.getName().get();
+                            Connection connection = new Connection(generateId(name, lineRange), name, sortText,
                                     getLocation(lineRange), Connection.Scope.LOCAL, "");
                             for (String refLocation : referenceLocations) {
-                                intermediateModel.connectionMap.put(String.valueOf(refLocation), connection);
+                                intermediateModel.connectionMap.put(refLocation, connection);
                             }
                         } else {
                             Optional<Symbol> valueSymbol = semanticModel.symbol(assignmentStatementNode.expression());
@@ -180,6 +184,10 @@ public class ConnectionFinder {
         };
     }
 
+    private String generateId(String name, LineRange lineRange) {
+        return intermediateModel.idGenerator.generate(NodeIdGenerator.Kind.CONNECTION, name, lineRange);
+    }
+
     public io.ballerina.designmodelgenerator.core.model.Location getLocation(LineRange lineRange) {
         Path filePath = rootPath.resolve(lineRange.fileName());
         return new io.ballerina.designmodelgenerator.core.model.Location(
@@ -36,6 +36,7 @@ import io.ballerina.designmodelgenerator.core.model.ResourceFunction;
 import io.ballerina.designmodelgenerator.core.model.Service;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleDescriptor;
 import io.ballerina.projects.Package;
 import io.ballerina.tools.text.LineRange;
 
@@ -74,22 +75,27 @@ public class DesignModelGenerator {
     }
 
     public DesignModel generate() {
-        IntermediateModel intermediateModel = new IntermediateModel();
+        ModuleDescriptor descriptor = this.defaultModule.descriptor();
+        IntermediateModel intermediateModel = new IntermediateModel(
+                new NodeIdGenerator(descriptor.org().value() + "/" + descriptor.name()));
         this.populateModuleLevelConnections(intermediateModel);
         ConnectionFinder connectionFinder = new ConnectionFinder(semanticModel, rootPath, documentMap,
                 intermediateModel);
-        this.defaultModule.documentIds().forEach(d -> {
-            ModulePartNode rootNode =  this.defaultModule.document(d).syntaxTree().rootNode();
+        // Visit the documents in the order of their names, so that nodes sharing a name are numbered consistently
+        this.documentMap.keySet().stream().sorted().forEach(documentName -> {
+            ModulePartNode rootNode = this.documentMap.get(documentName);
             CodeAnalyzer codeAnalyzer = new CodeAnalyzer(semanticModel, intermediateModel, rootPath, connectionFinder);
             codeAnalyzer.visit(rootNode);
         });
 
         DesignModel.DesignModelBuilder builder = new DesignModel.DesignModelBuilder();
+        Map<String, Set<String>> reachableConnections = getReachableConnections(intermediateModel);
 
         if (intermediateModel.functionModelMap.containsKey(MAIN_FUNCTION_NAME)) {
             IntermediateModel.FunctionModel main = intermediateModel.functionModelMap.get(MAIN_FUNCTION_NAME);
-            buildConnectionGraph(intermediateModel, main);
-            builder.setAutomation(new Automation(AUTOMATION, main.displayName, "Z", main.location,
+            buildConnectionGraph(reachableConnections, main);
+            String uuid = intermediateModel.idGenerator.generate(NodeIdGenerator.Kind.AUTOMATION, MAIN_FUNCTION_NAME);
+            builder.setAutomation(new Automation(uuid, AUTOMATION, main.displayName, "Z", main.location,
                     main.allDependentConnections.stream().toList()));
         }
 
@@ -99,21 +105,21 @@ public class DesignModelGenerator {
             Set<String> connections = new HashSet<>();
             List<Function> functions = new ArrayList<>();
             serviceModel.otherFunctions.forEach(otherFunction -> {
-                buildConnectionGraph(intermediateModel, otherFunction);
+                buildConnectionGraph(reachableConnections, otherFunction);
                 functions.add(new Function(otherFunction.name, otherFunction.location));
                 connections.addAll(otherFunction.allDependentConnections);
             });
 
             List<Function> remoteFunctions = new ArrayList<>();
             serviceModel.remoteFunctions.forEach(remoteFunction -> {
-                buildConnectionGraph(intermediateModel, remoteFunction);
+                buildConnectionGraph(reachableConnections, remoteFunction);
                 remoteFunctions.add(new Function(remoteFunction.name, remoteFunction.location));
                 connections.addAll(remoteFunction.allDependentConnections);
             });
 
             List<ResourceFunction> resourceFunctions = new ArrayList<>();
             serviceModel.resourceFunctions.forEach(resourceFunction -> {
-                buildConnectionGraph(intermediateModel, resourceFunction);
+                buildConnectionGraph(reachableConnections, resourceFunction);
                 resourceFunctions.add(new ResourceFunction(resourceFunction.name, resourceFunction.path,
                         resourceFunction.location));
                 connections.addAll(resourceFunction.allDependentConnections);
@@ -123,8 +129,8 @@ public class DesignModelGenerator {
                 allAttachedListeners.add(intermediateModel.listeners.get(listener));
             }
 
-            Service service = new Service(serviceModel.displayName, serviceModel.absolutePath, serviceModel.location,
-                    serviceModel.sortText,
+            Service service = new Service(serviceModel.uuid, serviceModel.displayName, serviceModel.absolutePath,
+                    serviceModel.location, serviceModel.sortText,
                     connections.stream().toList(), functions, remoteFunctions, resourceFunctions);
             int size = allAttachedListeners.size();
             if (size > 0) {
@@ -155,34 +161,36 @@ public class DesignModelGenerator {
                         String sortText = lineRange.fileName() + lineRange.startLine().line();
                         String icon =  CommonUtils.generateIcon(
                                 variableSymbol.typeDescriptor().getModule().get().id());
-                        Connection connection = new Connection(variableSymbol.getName().get(), sortText,
-                                getLocation(lineRange), Connection.Scope.GLOBAL, icon, true);
-                        intermediateModel.connectionMap.put(
-                                String.valueOf(variableSymbol.getLocation().get().hashCode()), connection);
+                        String name = variableSymbol.getName().get();
+                        String uuid = intermediateModel.idGenerator.generate(NodeIdGenerator.Kind.CONNECTION, name,
+                                lineRange);
+                        Connection connection = new Connection(uuid, name, sortText, getLocation(lineRange),
+                                Connection.Scope.GLOBAL, icon, true);
+                        intermediateModel.connectionMap.put(CommonUtils.getLocationKey(lineRange), connection);
                     }
                 }
             }
         }
     }
 
-    private void buildConnectionGraph(IntermediateModel intermediateModel,
+    private Map<String, Set<String>> getReachableConnections(IntermediateModel intermediateModel) {
+        FunctionCallGraph callGraph = new FunctionCallGraph();
+        intermediateModel.functionModelMap.forEach((name, functionModel) -> {
+            callGraph.addFunction(name);
+            functionModel.dependentFuncs.forEach(dependentFunc -> callGraph.addCall(name, dependentFunc));
+        });
+        return callGraph.collectReachableValues(name -> {
+            IntermediateModel.FunctionModel functionModel = intermediateModel.functionModelMap.get(name);
+            return functionModel == null ? Set.of() : functionModel.connections;
+        });
+    }
+
+    private void buildConnectionGraph(Map<String, Set<String>> reachableConnections,
                                       IntermediateModel.FunctionModel functionModel) {
-        Set<String> connections = new HashSet<>();
-        if (!functionModel.visited && !functionModel.analyzed) {
-            functionModel.visited = true;
-            functionModel.dependentFuncs.forEach(dependentFunc -> {
-                IntermediateModel.FunctionModel dependentFunctionModel = intermediateModel.functionModelMap
-                        .get(dependentFunc);
-                if (!dependentFunctionModel.analyzed) {
-                    buildConnectionGraph(intermediateModel, dependentFunctionModel);
-                }
-                connections.addAll(dependentFunctionModel.allDependentConnections);
-            });
-        }
-        functionModel.visited = true;
         functionModel.allDependentConnections.addAll(functionModel.connections);
-        functionModel.allDependentConnections.addAll(connections);
-        functionModel.analyzed = true;
+        for (String dependentFunc : functionModel.dependentFuncs) {
+            functionModel.allDependentConnections.addAll(reachableConnections.getOrDefault(dependentFunc, Set.of()));
+        }
     }
 
     public Location getLocation(LineRange lineRange) {
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.designmodelgenerator.core;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Call graph of the functions of a module, where each function is identified by its name. The graph is built once all
+ * the functions are analyzed, and then collects the values, such as the connections, reachable from each function.
+ *
+ * @since 2.0.0
+ */
+public class FunctionCallGraph {
+
+    private final Map<String, Set<String>> callees = new HashMap<>();
+
+    public void addFunction(String function) {
+        callees.computeIfAbsent(function, key -> new LinkedHashSet<>());
+    }
+
+    public void addCall(String caller, String callee) {
+        callees.computeIfAbsent(caller, key -> new LinkedHashSet<>()).add(callee);
+    }
+
+    /**
+     * Collects the values of the functions reachable from each function, including the values of the function itself.
+     *
+     * <p>
+     * The functions that call each other form a strongly connected component, and share the same reachable values.
+     * Tarjan's algorithm completes a component only after all the components it calls, so the values of each
+     * component are the union of its own values and those of the components it calls, which are already collected.
+     * Each function and each call is visited once, instead of walking the calls again from every function.
+     * </p>
+     *
+     * @param values the values of a function, which may be called without being added to the graph
+     * @param <T>    the type of the values
+     * @return the reachable values of each function of the graph and of each function it calls, where the functions of
+     * a component share the same set
+     */
+    public <T> Map<String, Set<T>> collectReachableValues(Function<String, Collection<T>> values) {
+        Map<String, Integer> indices = new HashMap<>();
+        Map<String, Integer> lowLinks = new HashMap<>();
+        Deque<String> componentStack = new ArrayDeque<>();
+        Set<String> onComponentStack = new HashSet<>();
+        Map<String, Set<T>> reachableValues = new HashMap<>();
+
+        // The depth-first search is iterative, so that a long chain of calls does not overflow the stack
+        Deque<Frame> callStack = new ArrayDeque<>();
+        for (String root : callees.keySet()) {
+            if (indices.containsKey(root)) {
+                continue;
+            }
+            callStack.push(visit(root, indices, lowLinks, componentStack, onComponentStack));
+            while (!callStack.isEmpty()) {
+                Frame frame = callStack.peek();
+                if (frame.callees().hasNext()) {
+                    String callee = frame.callees().next();
+                    if (!indices.containsKey(callee)) {
+                        callStack.push(visit(callee, indices, lowLinks, componentStack, onComponentStack));
+                    } else if (onComponentStack.contains(callee)) {
+                        lowLinks.merge(frame.function(), indices.get(callee), Math::min);
+                    }
+                    continue;
+                }
+
+                callStack.pop();
+                String function = frame.function();
+                if (!callStack.isEmpty()) {
+                    lowLinks.merge(callStack.peek().function(), lowLinks.get(function), Math::min);
+                }
+                if (!lowLinks.get(function).equals(indices.get(function))) {
+                    continue;
+                }
+
+                // The function is the root of a component, whose functions are on top of the stack
+                Set<String> component = new HashSet<>();
+                String member;
+                do {
+                    member = componentStack.pop();
+                    onComponentStack.remove(member);
+                    component.add(member);
+                } while (!member.equals(function));
+
+                Set<T> componentValues = new HashSet<>();
+                for (String componentFunction : component) {
+                    componentValues.addAll(values.apply(componentFunction));
+                    for (String callee : getCallees(componentFunction)) {
+                        if (!component.contains(callee)) {
+                            componentValues.addAll(reachableValues.get(callee));
+                        }
+                    }
+                }
+                Set<T> unmodifiableValues = Collections.unmodifiableSet(componentValues);
+                component.forEach(componentFunction -> reachableValues.put(componentFunction, unmodifiableValues));
+            }
+        }
+        return reachableValues;
+    }
+
+    private Frame visit(String function, Map<String, Integer> indices, Map<String, Integer> lowLinks,
+                        Deque<String> componentStack, Set<String> onComponentStack) {
+        int index = indices.size();
+        indices.put(function, index);
+        lowLinks.put(function, index);
+        componentStack.push(function);
+        onComponentStack.add(function);
+        return new Frame(function, getCallees(function).iterator());
+    }
+
+    private Set<String> getCallees(String function) {
+        return callees.getOrDefault(function, Collections.emptySet());
+    }
+
+    private record Frame(String function, Iterator<String> callees) {
+    }
+}
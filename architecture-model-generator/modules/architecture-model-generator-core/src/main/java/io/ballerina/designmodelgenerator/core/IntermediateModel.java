@@ -40,8 +40,10 @@ public class IntermediateModel {
     protected final Map<String, ServiceModel> serviceModelMap;
     protected final Map<String, Listener> listeners;
     protected final Map<String, Connection> connectionMap;
+    protected final NodeIdGenerator idGenerator;
 
-    public IntermediateModel() {
+    public IntermediateModel(NodeIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
         this.functionModelMap = new HashMap<>();
         this.serviceModelMap = new HashMap<>();
         this.listeners = new HashMap<>();
@@ -49,6 +51,7 @@ public class IntermediateModel {
     }
 
     public static class ServiceModel {
+        protected final String uuid;
         protected List<FunctionModel> remoteFunctions;
         protected List<FunctionModel> resourceFunctions;
         protected List<FunctionModel> otherFunctions;
@@ -59,7 +62,9 @@ public class IntermediateModel {
         protected final List<String> namedListeners = new ArrayList<>();
         protected final List<Listener> anonListeners = new ArrayList<>();
 
-        public ServiceModel(String displayName, String absolutePath, String sortText, Location location) {
+        public ServiceModel(String uuid, String displayName, String absolutePath, String sortText,
+                            Location location) {
+            this.uuid = uuid;
             this.displayName = displayName;
             this.absolutePath = absolutePath;
             this.sortText = sortText;
@@ -73,8 +78,6 @@ public class IntermediateModel {
     public static class FunctionModel {
         protected final String name;
         protected final Set<String> dependentFuncs;
-        protected boolean analyzed;
-        protected boolean visited;
         protected final Set<String> allDependentConnections;
         protected Location location;
         protected String path;
@@ -84,8 +87,6 @@ public class IntermediateModel {
         public FunctionModel(String name) {
             this.name = name;
             this.dependentFuncs = new HashSet<>();
-            this.analyzed = false;
-            this.visited = false;
             this.allDependentConnections = new HashSet<>();
         }
     }
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.designmodelgenerator.core;
+
+import io.ballerina.tools.text.LineRange;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Generates the identifiers of the nodes in the design model. An identifier is a name-based UUID derived from the
+ * module, the kind and the name of the node, so that a node retains its identifier across the generations of the
+ * model. Nodes of the same kind and name are distinguished by the order in which their declarations are encountered,
+ * and a declaration that is encountered again is given the identifier it was first given.
+ *
+ * @since 2.0.0
+ */
+public class NodeIdGenerator {
+
+    private final String moduleId;
+    private final Map<String, List<String>> declarations;
+
+    public NodeIdGenerator(String moduleId) {
+        this.moduleId = moduleId;
+        this.declarations = new HashMap<>();
+    }
+
+    /**
+     * Returns the identifier of a node that is unique to the module, such as the automation of the main function.
+     *
+     * @param kind the kind of the node
+     * @param name the name of the node
+     * @return the identifier of the node
+     */
+    public String generate(Kind kind, String name) {
+        return toUUID(getContent(kind, name));
+    }
+
+    /**
+     * Returns the identifier of the node declared at the given line range.
+     *
+     * @param kind      the kind of the node
+     * @param name      the name of the node
+     * @param lineRange the line range of the declaration of the node
+     * @return the identifier of the node
+     */
+    public String generate(Kind kind, String name, LineRange lineRange) {
+        String content = getContent(kind, name);
+        List<String> locationKeys = declarations.computeIfAbsent(content, key -> new ArrayList<>());
+        String locationKey = CommonUtils.getLocationKey(lineRange);
+        int ordinal = locationKeys.indexOf(locationKey);
+        if (ordinal == -1) {
+            ordinal = locationKeys.size();
+            locationKeys.add(locationKey);
+        }
+        if (ordinal > 0) {
+            content = content + "#" + ordinal;
+        }
+        return toUUID(content);
+    }
+
+    private String getContent(Kind kind, String name) {
+        return moduleId + "/" + kind.name().toLowerCase(Locale.ROOT) + "/" + name;
+    }
+
+    private static String toUUID(String content) {
+        return UUID.nameUUIDFromBytes(content.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * Represents the kinds of the nodes in the design model.
+     *
+     * @since 2.0.0
+     */
+    public enum Kind {
+        AUTOMATION,
+        CONNECTION,
+        LISTENER,
+        SERVICE
+    }
+}
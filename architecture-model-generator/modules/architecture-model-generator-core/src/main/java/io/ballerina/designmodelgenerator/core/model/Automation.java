@@ -33,8 +33,9 @@ public final class Automation extends DesignGraphNode {
     private final List<String> connections;
     private final String type;
 
-    public Automation(String name, String displayName, String sortText, Location location, List<String> connections) {
-        super(true, sortText);
+    public Automation(String uuid, String name, String displayName, String sortText, Location location,
+                      List<String> connections) {
+        super(uuid, true, sortText);
         this.name = name;
         this.displayName = displayName;
         this.location = location;
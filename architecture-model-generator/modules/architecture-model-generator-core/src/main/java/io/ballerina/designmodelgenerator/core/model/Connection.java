@@ -32,17 +32,17 @@ public class Connection extends DesignGraphNode {
     private final Scope scope;
     private final String icon;
 
-    public Connection(String symbol, String sortText, Location location, Scope scope, String icon) {
-        super(sortText);
+    public Connection(String uuid, String symbol, String sortText, Location location, Scope scope, String icon) {
+        super(uuid, sortText);
         this.symbol = symbol;
         this.location = location;
         this.scope = scope;
         this.icon = icon;
     }
 
-    public Connection(String symbol, String sortText, Location location, Scope scope, String icon,
+    public Connection(String uuid, String symbol, String sortText, Location location, Scope scope, String icon,
                       boolean enableFlow) {
-        super(enableFlow, sortText);
+        super(uuid, enableFlow, sortText);
         this.symbol = symbol;
         this.location = location;
         this.scope = scope;
@@ -18,8 +18,6 @@
 
 package io.ballerina.designmodelgenerator.core.model;
 
-import io.ballerina.designmodelgenerator.core.CommonUtils;
-
 /**
  * Represents the design graph of a Ballerina package.
  *
@@ -31,14 +29,14 @@ public abstract class DesignGraphNode {
     private boolean enableFlowModel = false;
     private final String sortText;
 
-    public DesignGraphNode(boolean enableFlowModel, String sortText) {
-        this.uuid = CommonUtils.generateUUID();
+    public DesignGraphNode(String uuid, boolean enableFlowModel, String sortText) {
+        this.uuid = uuid;
         this.enableFlowModel = enableFlowModel;
         this.sortText = sortText;
     }
 
-    public DesignGraphNode(String sortText) {
-        this.uuid = CommonUtils.generateUUID();
+    public DesignGraphNode(String uuid, String sortText) {
+        this.uuid = uuid;
         this.sortText = sortText;
     }
 
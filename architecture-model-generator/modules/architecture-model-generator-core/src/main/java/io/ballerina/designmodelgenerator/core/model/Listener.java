@@ -37,9 +37,9 @@ public final class Listener extends DesignGraphNode {
     private final List<KeyValue> args;
     private final String icon;
 
-    public Listener(String symbol, String sortText, Location location, String type, String icon,
+    public Listener(String uuid, String symbol, String sortText, Location location, String type, String icon,
                     Kind kind, List<KeyValue> args) {
-        super(sortText);
+        super(uuid, sortText);
         this.symbol = symbol;
         this.location = location;
         this.kind = kind;
@@ -49,9 +49,9 @@ public final class Listener extends DesignGraphNode {
         this.args = args;
     }
 
-    public Listener(String symbol, String sortText, Location location, String type, String icon, Kind kind,
-                    List<KeyValue> args, boolean enableFlow) {
-        super(enableFlow, sortText);
+    public Listener(String uuid, String symbol, String sortText, Location location, String type, String icon,
+                    Kind kind, List<KeyValue> args, boolean enableFlow) {
+        super(uuid, enableFlow, sortText);
         this.symbol = symbol;
         this.location = location;
         this.kind = kind;
@@ -40,9 +40,10 @@ public class Service extends DesignGraphNode {
     private String type;
     private String icon;
 
-    public Service(String name, String absolutePath, Location location, String sortText, List<String> connections,
-                   List<Function> functions, List<Function> remoteFunctions, List<ResourceFunction> resourceFunctions) {
-        super(true, sortText);
+    public Service(String uuid, String name, String absolutePath, Location location, String sortText,
+                   List<String> connections, List<Function> functions, List<Function> remoteFunctions,
+                   List<ResourceFunction> resourceFunctions) {
+        super(uuid, true, sortText);
         this.displayName = name;
         this.absolutePath = absolutePath;
         this.location = location;
@@ -20,6 +20,7 @@ package io.ballerina.architecturemodelgenerator.core;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
 import io.ballerina.projects.Project;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -27,6 +28,7 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Set;
 
 /**
  * Test service component generation.
@@ -65,4 +67,23 @@ public class ServiceGeneratorTests {
             Assert.assertEquals(generatedService, expectedService);
         });
     }
+
+    @Test(description = "parallel model generation for multi module projects")
+    public void testParallelModelGeneration() {
+        // The sample does not depend on the standard library, so that it can be compiled offline
+        Path projectPath = RES_DIR.resolve(BALLERINA).resolve(Path.of("multi_module_sample"));
+
+        Project project = TestUtils.loadBuildProject(projectPath, false);
+        ArchitectureModel sequentialModel = new ArchitectureModelBuilder()
+                .constructComponentModel(project.currentPackage());
+        ArchitectureModel parallelModel = new ArchitectureModelBuilder(4)
+                .constructComponentModel(project.currentPackage());
+
+        Assert.assertTrue(sequentialModel.getDiagnostics().isEmpty());
+        Assert.assertEquals(sequentialModel.getServices().keySet(), Set.of("gateway", "inventory", "orders"));
+        Assert.assertEquals(sequentialModel.getEntities().size(), 3);
+        Assert.assertNotNull(sequentialModel.getFunctionEntryPoint());
+        Assert.assertEquals(JsonParser.parseString(gson.toJson(parallelModel)),
+                JsonParser.parseString(gson.toJson(sequentialModel)));
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.designmodelgenerator.core;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Tests the collection of the values reachable through the function call graph.
+ *
+ * @since 2.0.0
+ */
+public class FunctionCallGraphTest {
+
+    @Test(description = "values of a function calling itself")
+    public void testSelfRecursion() {
+        FunctionCallGraph callGraph = new FunctionCallGraph();
+        callGraph.addCall("main", "retry");
+        callGraph.addCall("retry", "retry");
+        Map<String, Set<String>> reachableValues = callGraph.collectReachableValues(values(Map.of(
+                "main", List.of("db"),
+                "retry", List.of("http"))));
+
+        Assert.assertEquals(reachableValues.get("retry"), Set.of("http"));
+        Assert.assertEquals(reachableValues.get("main"), Set.of("db", "http"));
+    }
+
+    @Test(description = "values of functions calling each other")
+    public void testMutualRecursion() {
+        FunctionCallGraph callGraph = new FunctionCallGraph();
+        callGraph.addCall("main", "isEven");
+        callGraph.addCall("isEven", "isOdd");
+        callGraph.addCall("isOdd", "isEven");
+        callGraph.addCall("isOdd", "log");
+        Map<String, Set<String>> reachableValues = callGraph.collectReachableValues(values(Map.of(
+                "isEven", List.of("even"),
+                "isOdd", List.of("odd"),
+                "log", List.of("logger"))));
+
+        // The functions of a cycle share the same values
+        Assert.assertEquals(reachableValues.get("isEven"), Set.of("even", "odd", "logger"));
+        Assert.assertSame(reachableValues.get("isOdd"), reachableValues.get("isEven"));
+        Assert.assertEquals(reachableValues.get("main"), Set.of("even", "odd", "logger"));
+        Assert.assertEquals(reachableValues.get("log"), Set.of("logger"));
+    }
+
+    @Test(description = "values of a function calling a function without a model")
+    public void testCalleeWithoutModel() {
+        FunctionCallGraph callGraph = new FunctionCallGraph();
+        callGraph.addFunction("idle");
+        callGraph.addCall("main", "external");
+        callGraph.addCall("main", "helper");
+        Map<String, Set<String>> reachableValues = callGraph.collectReachableValues(values(Map.of(
+                "main", List.of("db"),
+                "helper", List.of("http"))));
+
+        Assert.assertEquals(reachableValues.get("main"), Set.of("db", "http"));
+        Assert.assertEquals(reachableValues.get("external"), Set.of());
+        Assert.assertEquals(reachableValues.get("idle"), Set.of());
+    }
+
+    @Test(description = "values of a long chain of calls")
+    public void testLongChain() {
+        int length = 100_000;
+        FunctionCallGraph callGraph = new FunctionCallGraph();
+        for (int i = 0; i < length - 1; i++) {
+            callGraph.addCall("f" + i, "f" + (i + 1));
+        }
+        Map<String, Set<String>> reachableValues = callGraph.collectReachableValues(
+                function -> function.equals("f" + (length - 1)) ? List.of("db") : List.of());
+
+        // The search is iterative, so the chain does not overflow the stack
+        Assert.assertEquals(reachableValues.size(), length);
+        Assert.assertEquals(reachableValues.get("f0"), Set.of("db"));
+        Assert.assertEquals(reachableValues.get("f" + (length / 2)), Set.of("db"));
+    }
+
+    private static Function<String, Collection<String>> values(Map<String, List<String>> values) {
+        return function -> values.getOrDefault(function, List.of());
+    }
+}
@@ -0,0 +1,27 @@
+import multi_module_sample.net;
+import multi_module_sample.orders;
+
+@display {
+    label: "order-service",
+    id: "orders"
+}
+final net:Client orderClient = new ("orders");
+
+@display {
+    label: "gateway-service",
+    id: "gateway"
+}
+service /gateway on new net:Listener() {
+    resource function get orders/[string id]() returns orders:Order {
+        return orders:getOrder(id);
+    }
+
+    remote function notify(string message) returns string {
+        return orderClient->send(message);
+    }
+}
+
+public function main() {
+    string _ = orderClient->/items/["main"];
+    orders:Order _ = orders:getOrder("main");
+}
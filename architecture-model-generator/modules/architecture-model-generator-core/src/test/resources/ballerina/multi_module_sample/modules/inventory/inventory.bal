@@ -0,0 +1,39 @@
+import multi_module_sample.net;
+
+public type Item record {
+    readonly string id;
+    string name;
+    int quantity;
+};
+
+@display {
+    label: "warehouse-service",
+    id: "warehouse"
+}
+final net:Client warehouseClient = new ("warehouse");
+
+@display {
+    label: "inventory-service",
+    id: "inventory"
+}
+service /inventory on new net:Listener() {
+    resource function get items/[string id]() returns Item {
+        return getItem(id);
+    }
+
+    remote function restock(string id) returns string {
+        return warehouseClient->send(id);
+    }
+}
+
+public function getItem(string id) returns Item {
+    string name = warehouseClient->/items/[id];
+    return {id, name, quantity: countItems(id, 0)};
+}
+
+function countItems(string id, int count) returns int {
+    if count > 10 {
+        return count;
+    }
+    return countItems(id, count + 1);
+}
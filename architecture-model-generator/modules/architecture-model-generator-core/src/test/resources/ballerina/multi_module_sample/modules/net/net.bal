@@ -0,0 +1,32 @@
+public class Listener {
+    public function attach(service object {} svc, string[]|string? name = ()) returns error? {
+    }
+
+    public function detach(service object {} svc) returns error? {
+    }
+
+    public function 'start() returns error? {
+    }
+
+    public function gracefulStop() returns error? {
+    }
+
+    public function immediateStop() returns error? {
+    }
+}
+
+public client class Client {
+    private final string url;
+
+    public function init(string url) {
+        self.url = url;
+    }
+
+    remote function send(string message) returns string {
+        return self.url + message;
+    }
+
+    resource function get items/[string id]() returns string {
+        return self.url + id;
+    }
+}
@@ -0,0 +1,45 @@
+import multi_module_sample.inventory;
+import multi_module_sample.net;
+
+public type Order record {
+    readonly string id;
+    inventory:Item[] items;
+    Customer customer;
+};
+
+public type Customer record {
+    readonly string id;
+    string name;
+};
+
+@display {
+    label: "inventory-service",
+    id: "inventory"
+}
+final net:Client inventoryClient = new ("inventory");
+
+@display {
+    label: "payment-service",
+    id: "payment"
+}
+final net:Client paymentClient = new ("payment");
+
+@display {
+    label: "order-service",
+    id: "orders"
+}
+service /orders on new net:Listener() {
+    resource function get [string id]() returns Order {
+        return getOrder(id);
+    }
+
+    resource function post [string id]/pay() returns string {
+        _ = getOrder(id);
+        return paymentClient->send(id);
+    }
+}
+
+public function getOrder(string id) returns Order {
+    string item = inventoryClient->/items/[id];
+    return {id, items: [inventory:getItem(item)], customer: {id, name: item}};
+}
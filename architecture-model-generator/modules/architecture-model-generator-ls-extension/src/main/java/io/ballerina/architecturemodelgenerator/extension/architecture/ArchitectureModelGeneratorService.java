@@ -27,6 +27,8 @@ import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureMode
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessage;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticUtils;
 import io.ballerina.architecturemodelgenerator.extension.Utils;
+import io.ballerina.modelgenerator.commons.scheduling.RequestPriority;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
@@ -55,6 +57,7 @@ import java.util.concurrent.CompletableFuture;
 public class ArchitectureModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
@@ -70,7 +73,7 @@ public class ArchitectureModelGeneratorService implements ExtendedLanguageServer
     public CompletableFuture<ArchitectureModelResponse> getProjectComponentModels
             (ArchitectureModelRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.BACKGROUND, () -> {
             ArchitectureModelResponse response = new ArchitectureModelResponse();
             Map<String, JsonObject> componentModelMap = new HashMap<>();
             for (String documentUri : request.getDocumentUris()) {
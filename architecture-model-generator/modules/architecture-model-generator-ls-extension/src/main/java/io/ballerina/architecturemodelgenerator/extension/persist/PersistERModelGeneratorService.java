@@ -29,6 +29,8 @@ import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessag
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticUtils;
 import io.ballerina.architecturemodelgenerator.core.generators.entity.EntityModelGenerator;
 import io.ballerina.architecturemodelgenerator.core.model.entity.Entity;
+import io.ballerina.modelgenerator.commons.scheduling.RequestPriority;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
@@ -60,6 +62,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class PersistERModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
@@ -73,7 +76,7 @@ public class PersistERModelGeneratorService implements ExtendedLanguageServerSer
 
     @JsonRequest
     public CompletableFuture<PersistERModelResponse> getPersistERModels(PersistERModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             PersistERModelResponse response = new PersistERModelResponse();
 
             Path path = Path.of(request.getDocumentUri());
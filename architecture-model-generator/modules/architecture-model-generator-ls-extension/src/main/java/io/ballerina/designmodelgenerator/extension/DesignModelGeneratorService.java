@@ -18,10 +18,14 @@
 
 package io.ballerina.designmodelgenerator.extension;
 
+import com.google.gson.Gson;
 import io.ballerina.designmodelgenerator.core.DesignModelGenerator;
 import io.ballerina.designmodelgenerator.core.model.DesignModel;
 import io.ballerina.designmodelgenerator.extension.request.GetDesignModelRequest;
 import io.ballerina.designmodelgenerator.extension.response.GetDesignModelResponse;
+import io.ballerina.modelgenerator.commons.metrics.RequestMetrics;
+import io.ballerina.modelgenerator.commons.metrics.RequestTimer;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -37,7 +41,10 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("designModelService")
 public class DesignModelGeneratorService implements ExtendedLanguageServerService {
 
+    private static final Gson GSON = new Gson();
     private WorkspaceManager workspaceManager;
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
+    private final DesignModelSnapshots snapshots = new DesignModelSnapshots();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
@@ -51,16 +58,25 @@ public class DesignModelGeneratorService implements ExtendedLanguageServerServic
 
     @JsonRequest
     public CompletableFuture<GetDesignModelResponse> getDesignModel(GetDesignModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        String coalescingKey = "designModelService/getDesignModel:" + request.projectPath();
+        return scheduler.submitLatest(coalescingKey, () -> {
             GetDesignModelResponse response = new GetDesignModelResponse();
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("designModelService/getDesignModel");
             try {
                 Path projectPath = Path.of(request.projectPath());
                 Project project = this.workspaceManager.loadProject(projectPath);
+                timer.lap("loadProject");
                 DesignModelGenerator designModelGenerator = new DesignModelGenerator(project.currentPackage());
                 DesignModel designModel = designModelGenerator.generate();
-                response.setDesignModel(designModel);
+                timer.lap("generateModel");
+                snapshots.update(request.projectPath(), request.version(), designModel, response);
+                timer.lap("computeDelta");
+                timer.recordPayloadSize(() -> GSON.toJson(response).length());
             } catch (Throwable e) {
+                timer.fail();
                 response.setError(e);
+            } finally {
+                timer.close();
             }
             return response;
         });
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.designmodelgenerator.extension;
+
+import com.google.gson.Gson;
+import io.ballerina.designmodelgenerator.core.model.DesignGraphNode;
+import io.ballerina.designmodelgenerator.core.model.DesignModel;
+import io.ballerina.designmodelgenerator.extension.response.DesignModelDelta;
+import io.ballerina.designmodelgenerator.extension.response.GetDesignModelResponse;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the design model last sent to the client for each project, so that a response only carries the changes since
+ * the version held by the client.
+ *
+ * <p>
+ * A snapshot records the JSON of each node of the design model against its identifier, which is derived from the
+ * content of the node and is therefore stable across generations. A node is reported as changed if its JSON differs
+ * from the snapshot. The versions are unique across the projects, so a client holding the version of an evicted
+ * snapshot is sent the complete design model rather than a delta against another model.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class DesignModelSnapshots {
+
+    private static final int MAX_PROJECTS = 16;
+    private static final Gson GSON = new Gson();
+
+    private final Map<String, Snapshot> snapshots;
+    private int nextVersion;
+
+    DesignModelSnapshots() {
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+                return size() > MAX_PROJECTS;
+            }
+        };
+        this.nextVersion = 1;
+    }
+
+    /**
+     * Records the design model as the latest model of the project, and populates the response with the changes since
+     * the version held by the client. The complete design model is sent if the client does not hold the version of the
+     * previous snapshot.
+     *
+     * @param projectPath   the path of the project
+     * @param clientVersion the version of the design model held by the client, or null if it holds none
+     * @param designModel   the generated design model
+     * @param response      the response to populate
+     */
+    void update(String projectPath, Integer clientVersion, DesignModel designModel,
+                GetDesignModelResponse response) {
+        Map<String, String> automation = serialize(designModel.automation() == null ? List.of() :
+                List.of(designModel.automation()));
+        Map<String, String> connections = serialize(designModel.connections());
+        Map<String, String> listeners = serialize(designModel.listeners());
+        Map<String, String> services = serialize(designModel.services());
+
+        Snapshot previous;
+        Snapshot current;
+        synchronized (this) {
+            previous = snapshots.get(projectPath);
+            int version = previous != null && previous.hasNodes(automation, connections, listeners, services) ?
+                    previous.version() : nextVersion++;
+            current = new Snapshot(version, automation, connections, listeners, services);
+            snapshots.put(projectPath, current);
+        }
+
+        response.setVersion(current.version());
+        if (previous == null || clientVersion == null || clientVersion != previous.version()) {
+            response.setDesignModel(designModel);
+            return;
+        }
+        response.setDelta(new DesignModelDelta(previous.version(),
+                getChanges(designModel.automation() == null ? List.of() : List.of(designModel.automation()),
+                        previous.automation(), current.automation()),
+                getChanges(designModel.connections(), previous.connections(), current.connections()),
+                getChanges(designModel.listeners(), previous.listeners(), current.listeners()),
+                getChanges(designModel.services(), previous.services(), current.services())));
+    }
+
+    private static Map<String, String> serialize(List<? extends DesignGraphNode> nodes) {
+        Map<String, String> serializedNodes = new LinkedHashMap<>();
+        for (DesignGraphNode node : nodes) {
+            serializedNodes.putIfAbsent(node.getUuid(), GSON.toJson(node));
+        }
+        return serializedNodes;
+    }
+
+    private static <T extends DesignGraphNode> DesignModelDelta.NodeChanges<T> getChanges(
+            List<T> nodes, Map<String, String> previous, Map<String, String> current) {
+        List<T> added = new ArrayList<>();
+        List<T> changed = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        for (T node : nodes) {
+            String uuid = node.getUuid();
+            if (!visited.add(uuid)) {
+                continue;
+            }
+            String previousNode = previous.get(uuid);
+            if (previousNode == null) {
+                added.add(node);
+            } else if (!previousNode.equals(current.get(uuid))) {
+                changed.add(node);
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String uuid : previous.keySet()) {
+            if (!current.containsKey(uuid)) {
+                removed.add(uuid);
+            }
+        }
+        return new DesignModelDelta.NodeChanges<>(added, changed, removed);
+    }
+
+    private record Snapshot(int version, Map<String, String> automation, Map<String, String> connections,
+                            Map<String, String> listeners, Map<String, String> services) {
+
+        boolean hasNodes(Map<String, String> automation, Map<String, String> connections,
+                         Map<String, String> listeners, Map<String, String> services) {
+            return this.automation.equals(automation) && this.connections.equals(connections) &&
+                    this.listeners.equals(listeners) && this.services.equals(services);
+        }
+    }
+}
@@ -22,8 +22,14 @@ package io.ballerina.designmodelgenerator.extension.request;
  * Represents the request for the design model getDesignModel API.
  *
  * @param projectPath project path
+ * @param version     version of the design model last received by the client, which requests only the changes since
+ *                    that version, or null to request the complete design model
  *
  * @since 2.0.0
  */
-public record GetDesignModelRequest(String projectPath) {
+public record GetDesignModelRequest(String projectPath, Integer version) {
+
+    public GetDesignModelRequest(String projectPath) {
+        this(projectPath, null);
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.designmodelgenerator.extension.response;
+
+import io.ballerina.designmodelgenerator.core.model.Automation;
+import io.ballerina.designmodelgenerator.core.model.Connection;
+import io.ballerina.designmodelgenerator.core.model.Listener;
+import io.ballerina.designmodelgenerator.core.model.Service;
+
+import java.util.List;
+
+/**
+ * Represents the changes of a design model since a version previously sent to the client. The functions of a service
+ * do not have identifiers of their own, hence a change to a function is reported as a change to its service.
+ *
+ * @param baseVersion the version of the design model the changes apply to
+ * @param automation  the changes of the automation
+ * @param connections the changes of the connections
+ * @param listeners   the changes of the listeners
+ * @param services    the changes of the services
+ * @since 2.0.0
+ */
+public record DesignModelDelta(int baseVersion, NodeChanges<Automation> automation,
+                               NodeChanges<Connection> connections, NodeChanges<Listener> listeners,
+                               NodeChanges<Service> services) {
+
+    /**
+     * Represents the changes of the nodes of a kind, where the removed nodes are referred to by their identifiers.
+     *
+     * @param added   the nodes that were added
+     * @param changed the nodes that were changed
+     * @param removed the identifiers of the nodes that were removed
+     * @param <T>     the type of the nodes
+     * @since 2.0.0
+     */
+    public record NodeChanges<T>(List<T> added, List<T> changed, List<String> removed) {
+    }
+}
@@ -21,12 +21,15 @@ package io.ballerina.designmodelgenerator.extension.response;
 import io.ballerina.designmodelgenerator.core.model.DesignModel;
 
 /**
- * Represents the response for the design model getDesignModel API.
+ * Represents the response for the design model getDesignModel API. The response carries either the complete design
+ * model or the delta since the version requested by the client, along with the version of the design model.
  *
  * @since 2.0.0
  */
 public class GetDesignModelResponse extends AbstractResponse {
     private DesignModel designModel;
+    private DesignModelDelta delta;
+    private Integer version;
 
     public DesignModel getDesignModel() {
         return designModel;
@@ -35,4 +38,20 @@ public class GetDesignModelResponse extends AbstractResponse {
     public void setDesignModel(DesignModel designModel) {
         this.designModel = designModel;
     }
+
+    public DesignModelDelta getDelta() {
+        return delta;
+    }
+
+    public void setDelta(DesignModelDelta delta) {
+        this.delta = delta;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
 }
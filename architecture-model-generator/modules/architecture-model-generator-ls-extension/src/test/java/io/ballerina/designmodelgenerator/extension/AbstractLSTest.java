@@ -27,8 +27,13 @@ import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import org.ballerinalang.langserver.BallerinaLanguageServer;
 import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -141,6 +146,24 @@ abstract class AbstractLSTest {
         return response;
     }
 
+    protected void notifyDidOpen(Path sourcePath) throws IOException {
+        TextDocumentItem textDocumentItem = new TextDocumentItem(sourcePath.toAbsolutePath().toUri().toString(),
+                "ballerina", 1, Files.readString(sourcePath));
+        serviceEndpoint.notify("textDocument/didOpen", new DidOpenTextDocumentParams(textDocumentItem));
+    }
+
+    protected void notifyDidChange(Path sourcePath, int version, String text) {
+        VersionedTextDocumentIdentifier identifier =
+                new VersionedTextDocumentIdentifier(sourcePath.toAbsolutePath().toUri().toString(), version);
+        serviceEndpoint.notify("textDocument/didChange", new DidChangeTextDocumentParams(identifier,
+                List.of(new TextDocumentContentChangeEvent(text))));
+    }
+
+    protected void notifyDidClose(Path sourcePath) {
+        serviceEndpoint.notify("textDocument/didClose", new DidCloseTextDocumentParams(
+                new TextDocumentIdentifier(sourcePath.toAbsolutePath().toUri().toString())));
+    }
+
     protected JsonObject getResponse(Object request, String api) {
         CompletableFuture<?> result = serviceEndpoint.request(getServiceName() + "/" + api, request);
         String response = TestUtil.getResponseString(result);
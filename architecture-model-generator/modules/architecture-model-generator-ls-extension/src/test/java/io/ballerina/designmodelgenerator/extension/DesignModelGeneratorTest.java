@@ -23,8 +23,10 @@ import io.ballerina.designmodelgenerator.core.model.Automation;
 import io.ballerina.designmodelgenerator.core.model.Connection;
 import io.ballerina.designmodelgenerator.core.model.DesignModel;
 import io.ballerina.designmodelgenerator.core.model.Listener;
+import io.ballerina.designmodelgenerator.core.model.ResourceFunction;
 import io.ballerina.designmodelgenerator.core.model.Service;
 import io.ballerina.designmodelgenerator.extension.request.GetDesignModelRequest;
+import io.ballerina.designmodelgenerator.extension.response.DesignModelDelta;
 import io.ballerina.designmodelgenerator.extension.response.GetDesignModelResponse;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -59,6 +61,106 @@ public class DesignModelGeneratorTest extends AbstractLSTest {
         }
     }
 
+    @Test
+    public void testDelta() {
+        String sourceFile = sourceDir.resolve("project_1").toAbsolutePath().toString();
+        GetDesignModelResponse fullResponse = gson.fromJson(getResponse(new GetDesignModelRequest(sourceFile),
+                getApiName()), GetDesignModelResponse.class);
+        Assert.assertNotNull(fullResponse.getDesignModel());
+        Assert.assertNull(fullResponse.getDelta());
+
+        Integer version = fullResponse.getVersion();
+        GetDesignModelResponse deltaResponse = gson.fromJson(getResponse(new GetDesignModelRequest(sourceFile,
+                version), getApiName()), GetDesignModelResponse.class);
+        Assert.assertNull(deltaResponse.getDesignModel());
+        Assert.assertEquals(deltaResponse.getVersion(), version);
+        DesignModelDelta delta = deltaResponse.getDelta();
+        Assert.assertEquals(delta.baseVersion(), version.intValue());
+        for (DesignModelDelta.NodeChanges<?> changes : List.of(delta.automation(), delta.connections(),
+                delta.listeners(), delta.services())) {
+            Assert.assertTrue(changes.added().isEmpty());
+            Assert.assertTrue(changes.changed().isEmpty());
+            Assert.assertTrue(changes.removed().isEmpty());
+        }
+
+        GetDesignModelResponse staleResponse = gson.fromJson(getResponse(new GetDesignModelRequest(sourceFile,
+                version + 1), getApiName()), GetDesignModelResponse.class);
+        Assert.assertNotNull(staleResponse.getDesignModel());
+        Assert.assertNull(staleResponse.getDelta());
+    }
+
+    @Test
+    public void testDeltaAfterEdit() throws IOException {
+        Path projectPath = sourceDir.resolve("project_delta");
+        Path ordersFile = projectPath.resolve("orders.bal");
+        Path paymentsFile = projectPath.resolve("payments.bal");
+        GetDesignModelRequest request = new GetDesignModelRequest(projectPath.toAbsolutePath().toString());
+        notifyDidOpen(ordersFile);
+        notifyDidOpen(paymentsFile);
+        try {
+            GetDesignModelResponse fullResponse =
+                    gson.fromJson(getResponse(request, getApiName()), GetDesignModelResponse.class);
+            Integer version = fullResponse.getVersion();
+            Service ordersService = getService(fullResponse.getDesignModel(), "/orders");
+            Service paymentsService = getService(fullResponse.getDesignModel(), "/payments");
+            Assert.assertEquals(paymentsService.getAttachedListeners().size(), 1);
+            String paymentsListener = paymentsService.getAttachedListeners().get(0);
+
+            // Rename the resource of the orders service in place, and replace the payments service and its anonymous
+            // listener with a shipments service on a named listener
+            notifyDidChange(ordersFile, 2, Files.readString(ordersFile).replace("get orders()", "get items()"));
+            notifyDidChange(paymentsFile, 2, String.join(System.lineSeparator(),
+                    "import ballerina/http;",
+                    "",
+                    "listener http:Listener shipmentsListener = new (9093);",
+                    "",
+                    "service /shipments on shipmentsListener {",
+                    "    resource function get shipments() returns string {",
+                    "        return \"shipments\";",
+                    "    }",
+                    "}",
+                    ""));
+            GetDesignModelResponse deltaResponse = gson.fromJson(getResponse(new GetDesignModelRequest(
+                    request.projectPath(), version), getApiName()), GetDesignModelResponse.class);
+            Assert.assertNull(deltaResponse.getDesignModel());
+            Assert.assertNotEquals(deltaResponse.getVersion(), version);
+            DesignModelDelta delta = deltaResponse.getDelta();
+            Assert.assertEquals(delta.baseVersion(), version.intValue());
+
+            Assert.assertTrue(delta.automation().added().isEmpty());
+            Assert.assertTrue(delta.automation().changed().isEmpty());
+            Assert.assertTrue(delta.automation().removed().isEmpty());
+            Assert.assertTrue(delta.connections().added().isEmpty());
+            Assert.assertTrue(delta.connections().changed().isEmpty());
+            Assert.assertTrue(delta.connections().removed().isEmpty());
+
+            DesignModelDelta.NodeChanges<Service> services = delta.services();
+            Assert.assertEquals(services.added().stream().map(service -> service.getAbsolutePath().strip()).toList(),
+                    List.of("/shipments"));
+            Assert.assertEquals(services.changed().stream().map(Service::getUuid).toList(),
+                    List.of(ordersService.getUuid()));
+            Assert.assertEquals(services.changed().get(0).getResourceFunctions().stream()
+                    .map(ResourceFunction::path).toList(), List.of("items"));
+            Assert.assertEquals(services.removed(), List.of(paymentsService.getUuid()));
+
+            DesignModelDelta.NodeChanges<Listener> listeners = delta.listeners();
+            Assert.assertEquals(listeners.added().stream().map(Listener::getSymbol).toList(),
+                    List.of("shipmentsListener"));
+            Assert.assertTrue(listeners.changed().isEmpty());
+            Assert.assertEquals(listeners.removed(), List.of(paymentsListener));
+        } finally {
+            notifyDidClose(ordersFile);
+            notifyDidClose(paymentsFile);
+        }
+    }
+
+    private static Service getService(DesignModel designModel, String absolutePath) {
+        return designModel.services().stream()
+                .filter(service -> service.getAbsolutePath().strip().equals(absolutePath))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Service not found: " + absolutePath));
+    }
+
     private boolean assertDesignModel(DesignModel actual, DesignModel expected) {
         return assertAutomation(actual.automation(), expected.automation()) &&
                 assertConnections(actual.connections(), expected.connections()) &&
@@ -0,0 +1,9 @@
+import ballerina/http;
+
+final http:Client stockClient = check new ("http://localhost:9090");
+
+service /orders on new http:Listener(9091) {
+    resource function get orders() returns json|error {
+        return stockClient->/stock;
+    }
+}
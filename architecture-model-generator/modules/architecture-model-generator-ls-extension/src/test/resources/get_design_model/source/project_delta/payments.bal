@@ -0,0 +1,7 @@
+import ballerina/http;
+
+service /payments on new http:Listener(9092) {
+    resource function get payments() returns string {
+        return "payments";
+    }
+}
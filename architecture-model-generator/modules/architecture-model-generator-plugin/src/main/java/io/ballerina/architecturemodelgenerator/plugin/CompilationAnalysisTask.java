@@ -53,7 +53,8 @@ public class CompilationAnalysisTask implements AnalysisTask<CompilationAnalysis
         BuildOptions buildOptions = project.buildOptions();
         if (buildOptions.exportComponentModel()) {
             Path outPath = project.targetDir();
-            ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder();
+            ArchitectureModelBuilder architectureModelBuilder =
+                    new ArchitectureModelBuilder(ArchitectureModelBuilder.getDefaultParallelism());
             ArchitectureModel projectModel = architectureModelBuilder
                     .constructComponentModel(compilationAnalysisContext.currentPackage(),
                             compilationAnalysisContext.compilation());
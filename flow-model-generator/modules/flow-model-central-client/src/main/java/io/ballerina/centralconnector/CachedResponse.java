@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.google.gson.JsonElement;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Represents a response cached by the {@link ResponseCache}, along with the validators used to revalidate it once it
+ * expires.
+ *
+ * @param body         the parsed body of the response
+ * @param etag         the value of the {@code ETag} header, or null if the server did not send one
+ * @param lastModified the value of the {@code Last-Modified} header, or null if the server did not send one
+ * @param fetchedAt    the time at which the response was fetched or last revalidated, in epoch milliseconds
+ * @since 2.0.0
+ */
+record CachedResponse(JsonElement body, String etag, String lastModified, long fetchedAt) {
+
+    boolean isFresh(Duration ttl, Clock clock) {
+        return clock.millis() - fetchedAt < ttl.toMillis();
+    }
+
+    CachedResponse revalidated(Clock clock) {
+        return new CachedResponse(body, etag, lastModified, clock.millis());
+    }
+}
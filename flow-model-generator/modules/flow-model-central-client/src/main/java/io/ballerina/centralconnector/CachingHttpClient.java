@@ -0,0 +1,235 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import io.ballerina.projects.Settings;
+import io.ballerina.projects.internal.model.Proxy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * An HTTP client for Ballerina Central that caches the responses in a {@link ResponseCache}. The connections are pooled
+ * and kept alive by the underlying {@link HttpClient}, and the response bodies are parsed as they are streamed, without
+ * being buffered into a string.
+ *
+ * <p>
+ * A cached response is served without contacting the server until its time-to-live expires. It is then revalidated
+ * with the {@code ETag} and {@code Last-Modified} validators sent by the server, so that an unchanged response costs a
+ * {@code 304 Not Modified} round trip instead of a download. If the server cannot be reached, the expired response is
+ * served rather than failing the request.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+final class CachingHttpClient {
+
+    private static final Logger LOGGER = Logger.getLogger(CachingHttpClient.class.getName());
+    private static final Duration DEFAULT_TTL = Duration.ofHours(6);
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final HttpClient httpClient;
+    private final ResponseCache cache;
+    private final Duration ttl;
+    private final Clock clock;
+
+    CachingHttpClient(HttpClient httpClient, ResponseCache cache, Duration ttl, Clock clock) {
+        this.httpClient = httpClient;
+        this.cache = cache;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a client that honors the proxy and the connection timeout of the Ballerina settings, and caches the
+     * responses in the Ballerina user home.
+     *
+     * @param settings the Ballerina settings
+     * @return the caching HTTP client
+     */
+    static CachingHttpClient create(Settings settings) {
+        int connectTimeout = settings.getCentral().getConnectTimeout();
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout > 0 ? Duration.ofSeconds(connectTimeout) : DEFAULT_CONNECT_TIMEOUT);
+
+        Proxy proxy = settings.getProxy();
+        if (proxy.host() != null && !proxy.host().isEmpty()) {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(proxy.host(), proxy.port())));
+            if (proxy.username() != null && !proxy.username().isEmpty()) {
+                builder.authenticator(new ProxyAuthenticator(proxy.username(), proxy.password()));
+            }
+        } else {
+            Optional.ofNullable(ProxySelector.getDefault()).ifPresent(builder::proxy);
+        }
+        return new CachingHttpClient(builder.build(), ResponseCache.createDefault(), DEFAULT_TTL, Clock.systemUTC());
+    }
+
+    /**
+     * Sends a GET request, unless a fresh response is cached.
+     *
+     * @param uri the URI of the resource
+     * @return the parsed body of the response
+     */
+    JsonElement get(URI uri) {
+        String key = "GET " + uri;
+        return fetch(key, HttpRequest.newBuilder(uri).GET(), body -> true);
+    }
+
+    /**
+     * Sends a POST request with a JSON body, unless a fresh response is cached. Only the idempotent queries, such as
+     * those of the GraphQL API, must be sent through this method. A response that reports GraphQL errors is returned
+     * without being cached, as the errors may be transient.
+     *
+     * @param uri  the URI of the resource
+     * @param body the JSON body of the request, which is part of the cache key
+     * @return the parsed body of the response
+     */
+    JsonElement post(URI uri, String body) {
+        String key = "POST " + uri + "\n" + body;
+        return fetch(key, HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8)),
+                CachingHttpClient::hasNoGraphQlErrors);
+    }
+
+    /**
+     * Returns the cached result of a request made through another client, such as the Ballerina Central client, or
+     * loads and caches it. As no validators are available, the result is loaded again once its time-to-live expires.
+     *
+     * @param key    the key of the request
+     * @param loader the loader of the result
+     * @return the result of the request
+     */
+    JsonElement getOrLoad(String key, Supplier<JsonElement> loader) {
+        Optional<CachedResponse> cachedResponse = cache.get(key);
+        if (cachedResponse.isPresent() && cachedResponse.get().isFresh(ttl, clock)) {
+            return cachedResponse.get().body();
+        }
+        try {
+            JsonElement body = loader.get();
+            cache.put(key, new CachedResponse(body, null, null, clock.millis()));
+            return body;
+        } catch (RuntimeException e) {
+            return serveStale(key, cachedResponse, e);
+        }
+    }
+
+    private JsonElement fetch(String key, HttpRequest.Builder requestBuilder, Predicate<JsonElement> isCacheable) {
+        Optional<CachedResponse> cachedResponse = cache.get(key);
+        if (cachedResponse.isPresent()) {
+            CachedResponse response = cachedResponse.get();
+            if (response.isFresh(ttl, clock)) {
+                return response.body();
+            }
+            if (response.etag() != null) {
+                requestBuilder.header("If-None-Match", response.etag());
+            }
+            if (response.lastModified() != null) {
+                requestBuilder.header("If-Modified-Since", response.lastModified());
+            }
+        }
+
+        HttpRequest request = requestBuilder.timeout(REQUEST_TIMEOUT).build();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                int statusCode = response.statusCode();
+                if (statusCode == HTTP_NOT_MODIFIED && cachedResponse.isPresent()) {
+                    CachedResponse revalidatedResponse = cachedResponse.get().revalidated(clock);
+                    cache.put(key, revalidatedResponse);
+                    return revalidatedResponse.body();
+                }
+                if (statusCode != HTTP_OK) {
+                    throw new IOException("Unexpected response status " + statusCode + " from " + request.uri());
+                }
+                JsonElement parsedBody;
+                try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+                    parsedBody = JsonParser.parseReader(reader);
+                }
+                if (isCacheable.test(parsedBody)) {
+                    cache.put(key, new CachedResponse(parsedBody, response.headers().firstValue("ETag").orElse(null),
+                            response.headers().firstValue("Last-Modified").orElse(null), clock.millis()));
+                }
+                return parsedBody;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return serveStale(key, cachedResponse, new RuntimeException(e));
+        } catch (IOException e) {
+            return serveStale(key, cachedResponse, new RuntimeException(e));
+        } catch (RuntimeException e) {
+            return serveStale(key, cachedResponse, e);
+        }
+    }
+
+    private static boolean hasNoGraphQlErrors(JsonElement body) {
+        return !body.isJsonObject() || !body.getAsJsonObject().has("errors");
+    }
+
+    private static JsonElement serveStale(String key, Optional<CachedResponse> cachedResponse, RuntimeException e) {
+        if (cachedResponse.isEmpty()) {
+            throw e;
+        }
+        LOGGER.warning("Serving the expired response of '" + key.lines().findFirst().orElse(key) +
+                "' as it could not be refreshed: " + e.getMessage());
+        return cachedResponse.get().body();
+    }
+
+    private static class ProxyAuthenticator extends Authenticator {
+
+        private final String username;
+        private final String password;
+
+        ProxyAuthenticator(String username, String password) {
+            this.username = username;
+            this.password = password;
+        }
+
+        @Override
+        protected PasswordAuthentication getPasswordAuthentication() {
+            if (getRequestorType() != RequestorType.PROXY) {
+                return null;
+            }
+            return new PasswordAuthentication(username, password == null ? new char[0] : password.toCharArray());
+        }
+    }
+}
@@ -36,8 +36,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.Type;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.HashMap;
@@ -46,7 +45,8 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
- * This class provides a client to interact with the GraphQL API of Ballerina Central.
+ * This class provides a client to interact with the GraphQL API of Ballerina Central. The queries are read-only, and
+ * their responses are cached by the given {@link CachingHttpClient}.
  *
  * @since 2.0.0
  */
@@ -54,6 +54,8 @@ class GraphQlClient {
 
     private final Map<String, String> queryMap;
     private final Gson gson;
+    private final CachingHttpClient httpClient;
+    private final URI graphqlApi;
 
     private static final String GRAPHQL_API = "https://api.central.ballerina.io/2.0/graphql";
     private static final String QUERY_DIRECTORY = "graphql_queries";
@@ -61,8 +63,14 @@ class GraphQlClient {
     private static final String GET_FUNCTION_QUERY = "GetFunction.graphql";
     private static final String GET_CONNECTION_QUERY = "GetConnector.graphql";
 
-    public GraphQlClient() {
+    GraphQlClient(CachingHttpClient httpClient) {
+        this(httpClient, GRAPHQL_API);
+    }
+
+    GraphQlClient(CachingHttpClient httpClient, String graphqlApi) {
         queryMap = new HashMap<>();
+        this.httpClient = httpClient;
+        this.graphqlApi = URI.create(graphqlApi);
 
         gson = new GsonBuilder()
                 .registerTypeAdapter(FunctionsResponse.Module.class, new FunctionsModuleDeserializer())
@@ -74,14 +82,14 @@ class GraphQlClient {
     public FunctionsResponse getFunctions(String org, String module, String version) {
         String queryTemplate = getQueryTemplate(GET_FUNCTIONS_QUERY);
         String queryBody = String.format(queryTemplate, org, module, version);
-        String response = query(queryBody);
+        JsonElement response = query(queryBody);
         return gson.fromJson(response, FunctionsResponse.class);
     }
 
     public FunctionResponse getFunction(String organization, String name, String version, String functionName) {
         String queryTemplate = getQueryTemplate(GET_FUNCTION_QUERY);
         String queryBody = String.format(queryTemplate, organization, name, version, functionName);
-        String response = query(queryBody);
+        JsonElement response = query(queryBody);
         return gson.fromJson(response, FunctionResponse.class);
     }
 
@@ -89,44 +97,13 @@ class GraphQlClient {
     public ConnectorApiResponse getConnector(String organization, String name, String version, String clientName) {
         String queryTemplate = getQueryTemplate(GET_CONNECTION_QUERY);
         String queryBody = String.format(queryTemplate, organization, name, version, clientName);
-        String response = query(queryBody);
+        JsonElement response = query(queryBody);
         return gson.fromJson(response, ConnectorApiResponse.class);
     }
 
-    private String query(String queryBody) {
+    private JsonElement query(String queryBody) {
         String query = String.format("{\"query\": \"%s\"}", queryBody);
-        HttpURLConnection conn = null;
-        try {
-            URL url = new URL(GRAPHQL_API);
-            conn = (HttpURLConnection) url.openConnection();
-
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Content-Type", "application/json");
-            conn.setDoOutput(true);
-
-            // Write the request body
-            try (var os = conn.getOutputStream()) {
-                byte[] input = query.getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
-            }
-
-            // Read the response
-            try (BufferedReader br = new BufferedReader(
-                    new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-                StringBuilder response = new StringBuilder();
-                String responseLine;
-                while ((responseLine = br.readLine()) != null) {
-                    response.append(responseLine.trim());
-                }
-                return response.toString();
-            }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        } finally {
-            if (conn != null) {
-                conn.disconnect();
-            }
-        }
+        return httpClient.post(graphqlApi, query);
     }
 
     private String getQueryTemplate(String queryName) {
@@ -24,12 +24,15 @@ import io.ballerina.centralconnector.response.FunctionResponse;
 import io.ballerina.centralconnector.response.FunctionsResponse;
 import io.ballerina.centralconnector.response.PackageResponse;
 import io.ballerina.centralconnector.response.SymbolResponse;
+import io.ballerina.projects.Settings;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.util.Map;
 
 /**
  * An implementation {@code CentralAPI} to interact with the Ballerina central to obtain information about the Ballerina
- * libraries. This class provides a facade for interacting with REST and GraphQL clients.
+ * libraries. This class provides a facade for interacting with REST and GraphQL clients, which share a pooled HTTP
+ * client and a response cache.
  *
  * @since 2.0.0
  */
@@ -48,8 +51,10 @@ public class RemoteCentral implements CentralAPI {
     }
 
     private RemoteCentral() {
-        this.restClient = new RestClient();
-        this.graphQlClient = new GraphQlClient();
+        Settings settings = RepoUtils.readSettings();
+        CachingHttpClient httpClient = CachingHttpClient.create(settings);
+        this.restClient = new RestClient(settings, httpClient);
+        this.graphQlClient = new GraphQlClient(httpClient);
     }
 
     @Override
@@ -0,0 +1,265 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Caches the responses of Ballerina Central in a bounded in-memory LRU map, backed by a directory on disk so that the
+ * responses survive restarts of the language server. Each response is stored in a file named after the SHA-256 digest
+ * of its key. Failing to read or write the disk cache is never fatal, as the response can always be fetched again.
+ *
+ * <p>
+ * The disk cache is pruned when the cache is created, and whenever a write takes it past its maximum number of
+ * responses. The responses that were not written within the maximum age are removed first, followed by the least
+ * recently written ones, until the disk cache is back to three quarters of its maximum size.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+final class ResponseCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ResponseCache.class.getName());
+    private static final String CACHE_DIR = "flow-model";
+    private static final String RESPONSE_CACHE_DIR = "central-cache";
+    private static final String FILE_EXTENSION = ".json";
+    private static final int DEFAULT_MAX_ENTRIES = 512;
+    private static final int DEFAULT_MAX_DISK_ENTRIES = 4096;
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofDays(30);
+    // The nulls are preserved so that a response read from the disk is identical to the one fetched
+    private static final Gson GSON = new GsonBuilder().serializeNulls().create();
+
+    private final Path directory;
+    private final Map<String, CachedResponse> entries;
+    private final int maxDiskEntries;
+    private final Duration maxAge;
+    private final AtomicInteger diskEntries;
+
+    /**
+     * Creates a response cache, pruning the disk cache if it exceeds its limits.
+     *
+     * @param directory      the directory of the disk cache, or null to only cache the responses in memory
+     * @param maxEntries     the maximum number of responses kept in memory
+     * @param maxDiskEntries the maximum number of responses kept on disk
+     * @param maxAge         the maximum time a response is kept on disk since it was last written
+     */
+    ResponseCache(Path directory, int maxEntries, int maxDiskEntries, Duration maxAge) {
+        this.directory = directory;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.maxDiskEntries = maxDiskEntries;
+        this.maxAge = maxAge;
+        this.diskEntries = new AtomicInteger();
+        prune();
+    }
+
+    /**
+     * Creates a response cache backed by a directory in the Ballerina user home, falling back to an in-memory cache if
+     * the directory cannot be created.
+     *
+     * @return the response cache
+     */
+    static ResponseCache createDefault() {
+        try {
+            Path directory = RepoUtils.createAndGetHomeReposPath().resolve(CACHE_DIR).resolve(RESPONSE_CACHE_DIR);
+            Files.createDirectories(directory);
+            return new ResponseCache(directory, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_DISK_ENTRIES, DEFAULT_MAX_AGE);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Failed to create the central response cache in the user home, caching in memory: " +
+                    e.getMessage());
+            return new ResponseCache(null, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_DISK_ENTRIES, DEFAULT_MAX_AGE);
+        }
+    }
+
+    Optional<CachedResponse> get(String key) {
+        synchronized (entries) {
+            CachedResponse response = entries.get(key);
+            if (response != null) {
+                return Optional.of(response);
+            }
+        }
+        Optional<CachedResponse> response = read(key);
+        response.ifPresent(value -> {
+            synchronized (entries) {
+                entries.putIfAbsent(key, value);
+            }
+        });
+        return response;
+    }
+
+    void put(String key, CachedResponse response) {
+        synchronized (entries) {
+            entries.put(key, response);
+        }
+        write(key, response);
+    }
+
+    private Optional<CachedResponse> read(String key) {
+        if (directory == null) {
+            return Optional.empty();
+        }
+        Path file = directory.resolve(fileName(key));
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonElement root = JsonParser.parseReader(reader);
+            if (!root.isJsonObject()) {
+                return Optional.empty();
+            }
+            // Guard against a collision of the digests, however unlikely
+            JsonObject entry = root.getAsJsonObject();
+            if (!key.equals(getString(entry, "key")) || !entry.has("body") || !entry.has("fetchedAt")) {
+                return Optional.empty();
+            }
+            return Optional.of(new CachedResponse(entry.get("body"), getString(entry, "etag"),
+                    getString(entry, "lastModified"), entry.get("fetchedAt").getAsLong()));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.fine("Ignoring the unreadable cached response " + file + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void write(String key, CachedResponse response) {
+        if (directory == null) {
+            return;
+        }
+        JsonObject entry = new JsonObject();
+        entry.addProperty("key", key);
+        entry.addProperty("etag", response.etag());
+        entry.addProperty("lastModified", response.lastModified());
+        entry.addProperty("fetchedAt", response.fetchedAt());
+        entry.add("body", response.body());
+
+        // Write into a temporary file and move it into place, so that a concurrent reader never observes a partially
+        // written response
+        Path file = directory.resolve(fileName(key));
+        boolean isNewEntry = !Files.exists(file);
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                GSON.toJson(entry, writer);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOGGER.fine("Failed to write the cached response " + file + ": " + e.getMessage());
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // The temporary file is removed on the next successful write of the same response
+                }
+            }
+        }
+        if (isNewEntry && diskEntries.incrementAndGet() > maxDiskEntries) {
+            prune();
+        }
+    }
+
+    /**
+     * Removes the responses on disk that are older than the maximum age, and then the least recently written ones until
+     * three quarters of the maximum number of responses remain, leaving room for the writes until the next pruning.
+     */
+    private synchronized void prune() {
+        if (directory == null) {
+            return;
+        }
+        List<DiskEntry> retainedEntries = new ArrayList<>();
+        long expiresBefore = System.currentTimeMillis() - maxAge.toMillis();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                // A temporary file left behind by a write that was interrupted is removed once it expires
+                FileTime lastModified = Files.getLastModifiedTime(file);
+                if (lastModified.toMillis() < expiresBefore) {
+                    Files.deleteIfExists(file);
+                } else if (file.getFileName().toString().endsWith(FILE_EXTENSION)) {
+                    retainedEntries.add(new DiskEntry(file, lastModified));
+                }
+            }
+
+            if (retainedEntries.size() > maxDiskEntries) {
+                int retainedSize = maxDiskEntries - maxDiskEntries / 4;
+                retainedEntries.sort(Comparator.comparing(DiskEntry::lastModified));
+                int evictedSize = retainedEntries.size() - retainedSize;
+                for (DiskEntry entry : retainedEntries.subList(0, evictedSize)) {
+                    Files.deleteIfExists(entry.file());
+                }
+                retainedEntries = retainedEntries.subList(evictedSize, retainedEntries.size());
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.fine("Failed to prune the central response cache " + directory + ": " + e.getMessage());
+        }
+        diskEntries.set(retainedEntries.size());
+    }
+
+    private static String getString(JsonObject entry, String name) {
+        JsonElement element = entry.get(name);
+        return element == null || element.isJsonNull() ? null : element.getAsString();
+    }
+
+    private record DiskEntry(Path file, FileTime lastModified) {
+    }
+
+    static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + FILE_EXTENSION;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -20,7 +20,6 @@ package io.ballerina.centralconnector;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import io.ballerina.centralconnector.response.ConnectorResponse;
 import io.ballerina.centralconnector.response.ConnectorsResponse;
 import io.ballerina.centralconnector.response.PackageResponse;
@@ -32,19 +31,18 @@ import org.ballerinalang.central.client.CentralAPIClient;
 import org.ballerinalang.central.client.exceptions.CentralClientException;
 import org.wso2.ballerinalang.util.RepoUtils;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.TreeMap;
 
 import static io.ballerina.projects.util.ProjectUtils.getAccessTokenOfCLI;
 import static io.ballerina.projects.util.ProjectUtils.initializeProxy;
 
 /**
- * This class provides methods to interact with the Ballerina Central REST API.
+ * This class provides methods to interact with the Ballerina Central REST API. The responses are cached by the given
+ * {@link CachingHttpClient}, including those obtained through the Ballerina Central client.
  *
  * @since 2.0.0
  */
@@ -56,12 +54,18 @@ class RestClient {
     private static final String CONNECTOR = "connector";
     private final Gson gson;
     private final CentralAPIClient centralClient;
+    private final CachingHttpClient httpClient;
+    private final String baseUrl;
 
-    public RestClient() {
+    RestClient(Settings settings, CachingHttpClient httpClient) {
+        this(settings, httpClient, BASE_URL);
+    }
+
+    RestClient(Settings settings, CachingHttpClient httpClient, String baseUrl) {
         gson = new Gson();
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
 
-        Settings settings;
-        settings = RepoUtils.readSettings();
         Central central = settings.getCentral();
         Proxy proxy = settings.getProxy();
         centralClient = new CentralAPIClient(RepoUtils.getRemoteRepoURL(), initializeProxy(proxy), proxy.username(),
@@ -70,40 +74,43 @@ class RestClient {
     }
 
     public ConnectorsResponse connectors(Map<String, String> queryMap) {
-        JsonElement connectorSearchResult;
-        try {
-            connectorSearchResult = centralClient.getConnectors(queryMap, "any", RepoUtils.getBallerinaVersion());
-        } catch (CentralClientException e) {
-            throw new RuntimeException(e);
-        }
+        String key = "connectors?" + getQueryMapString(new TreeMap<>(queryMap));
+        JsonElement connectorSearchResult = httpClient.getOrLoad(key, () -> {
+            try {
+                return centralClient.getConnectors(queryMap, "any", RepoUtils.getBallerinaVersion());
+            } catch (CentralClientException e) {
+                throw new RuntimeException(e);
+            }
+        });
         return gson.fromJson(connectorSearchResult.getAsString(), ConnectorsResponse.class);
     }
 
     public ConnectorResponse connector(String id) {
-        JsonObject connectorSearchResult;
-        try {
-            connectorSearchResult = centralClient.getConnector(id, "any", RepoUtils.getBallerinaVersion());
-        } catch (CentralClientException e) {
-            throw new RuntimeException(e);
-        }
+        JsonElement connectorSearchResult = httpClient.getOrLoad("connector/" + id, () -> {
+            try {
+                return centralClient.getConnector(id, "any", RepoUtils.getBallerinaVersion());
+            } catch (CentralClientException e) {
+                throw new RuntimeException(e);
+            }
+        });
         return gson.fromJson(connectorSearchResult, ConnectorResponse.class);
     }
 
     public ConnectorResponse connector(String org, String module, String version, String connector) {
-        String path = String.format("%s/connectors/%s/%s/%s/%s/%s", BASE_URL, org, module, version, module, connector);
-        String response = query(path);
+        String path = String.format("%s/connectors/%s/%s/%s/%s/%s", baseUrl, org, module, version, module, connector);
+        JsonElement response = query(path);
         return gson.fromJson(response, ConnectorResponse.class);
     }
 
     public PackageResponse searchPackages(Map<String, String> queryMap) {
         String queryMapString = getQueryMapString(queryMap);
-        String response = query(SEARCH_PACKAGES, queryMapString);
+        JsonElement response = query(SEARCH_PACKAGES, queryMapString);
         return gson.fromJson(response, PackageResponse.class);
     }
 
     public SymbolResponse searchSymbols(Map<String, String> queryMap) {
         String queryMapString = getQueryMapString(queryMap);
-        String response = query(SEARCH_SYMBOLS, queryMapString);
+        JsonElement response = query(SEARCH_SYMBOLS, queryMapString);
         return gson.fromJson(response, SymbolResponse.class);
     }
 
@@ -120,39 +127,12 @@ class RestClient {
         return queryParams.toString();
     }
 
-    private String query(String api) {
-        HttpURLConnection conn = null;
-        try {
-            URL url = new URL(api);
-            conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-
-            int responseCode = conn.getResponseCode();
-            if (responseCode == HttpURLConnection.HTTP_OK) { // success
-                try (BufferedReader in = new BufferedReader(
-                        new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-                    String inputLine;
-                    StringBuilder response = new StringBuilder();
-
-                    while ((inputLine = in.readLine()) != null) {
-                        response.append(inputLine);
-                    }
-                    return response.toString();
-                }
-            }
-            throw new RuntimeException("GET request not worked");
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        } finally {
-            if (conn != null) {
-                conn.disconnect();
-            }
-        }
-
+    private JsonElement query(String api) {
+        return httpClient.get(URI.create(api));
     }
 
-    private String query(String api, String queryMap) {
-        String fullUrl = String.format("%s/%s?%s", BASE_URL, api, queryMap);
+    private JsonElement query(String api, String queryMap) {
+        String fullUrl = String.format("%s/%s?%s", baseUrl, api, queryMap);
         return query(fullUrl);
     }
 }
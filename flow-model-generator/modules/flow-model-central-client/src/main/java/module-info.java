@@ -22,6 +22,8 @@ module io.ballerina.centralconnector {
     requires io.ballerina.central.client;
     requires com.google.gson;
     requires com.graphqljava;
+    requires java.net.http;
+    requires java.logging;
 
     exports io.ballerina.centralconnector;
     exports io.ballerina.centralconnector.response;
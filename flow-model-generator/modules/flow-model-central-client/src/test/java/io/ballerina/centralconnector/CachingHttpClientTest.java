@@ -0,0 +1,281 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.google.gson.JsonElement;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests the caching of the central responses against a local stub server.
+ *
+ * @since 2.0.0
+ */
+public class CachingHttpClientTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final String ETAG = "\"v1\"";
+    private static final int MAX_DISK_ENTRIES = 8;
+    private static final Duration MAX_AGE = Duration.ofDays(1);
+
+    private HttpServer server;
+    private Path cacheDir;
+    private MutableClock clock;
+    private List<String> requests;
+    private volatile int status;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        cacheDir = Files.createTempDirectory("central-cache");
+        clock = new MutableClock();
+        requests = new ArrayList<>();
+        status = 200;
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        server.stop(0);
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testFreshResponseIsServedFromMemory() {
+        CachingHttpClient client = createClient();
+        JsonElement first = client.get(uri("/connectors"));
+        JsonElement second = client.get(uri("/connectors"));
+
+        Assert.assertEquals(second, first);
+        Assert.assertEquals(requests, List.of("GET /connectors"));
+    }
+
+    @Test
+    public void testExpiredResponseIsRevalidated() {
+        CachingHttpClient client = createClient();
+        JsonElement first = client.get(uri("/connectors"));
+        clock.advance(TTL.plusSeconds(1));
+        JsonElement second = client.get(uri("/connectors"));
+
+        Assert.assertEquals(second, first);
+        Assert.assertEquals(requests, List.of("GET /connectors", "GET /connectors If-None-Match: " + ETAG));
+
+        // The revalidated response is fresh again
+        client.get(uri("/connectors"));
+        Assert.assertEquals(requests.size(), 2);
+    }
+
+    @Test
+    public void testResponseIsServedFromDisk() {
+        JsonElement first = createClient().get(uri("/connectors"));
+        JsonElement second = createClient().get(uri("/connectors"));
+
+        Assert.assertEquals(second, first);
+        Assert.assertEquals(requests, List.of("GET /connectors"));
+    }
+
+    @Test
+    public void testExpiredResponseIsServedWhenServerFails() {
+        CachingHttpClient client = createClient();
+        JsonElement first = client.get(uri("/connectors"));
+        clock.advance(TTL.plusSeconds(1));
+        status = 503;
+        JsonElement second = client.get(uri("/connectors"));
+
+        Assert.assertEquals(second, first);
+        Assert.assertEquals(requests.size(), 2);
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void testFailureWithoutCachedResponse() {
+        status = 503;
+        createClient().get(uri("/connectors"));
+    }
+
+    @Test
+    public void testPostResponsesAreCachedByBody() {
+        CachingHttpClient client = createClient();
+        JsonElement first = client.post(uri("/graphql"), "{\"query\": \"first\"}");
+        JsonElement second = client.post(uri("/graphql"), "{\"query\": \"second\"}");
+        JsonElement repeated = client.post(uri("/graphql"), "{\"query\": \"first\"}");
+
+        Assert.assertNotEquals(second, first);
+        Assert.assertEquals(repeated, first);
+        Assert.assertEquals(requests.size(), 2);
+    }
+
+    @Test
+    public void testGraphQlErrorsAreNotCached() {
+        CachingHttpClient client = createClient();
+        JsonElement first = client.post(uri("/errors"), "{\"query\": \"first\"}");
+        JsonElement second = client.post(uri("/errors"), "{\"query\": \"first\"}");
+
+        Assert.assertTrue(first.getAsJsonObject().has("errors"));
+        Assert.assertEquals(second, first);
+        Assert.assertEquals(requests.size(), 2);
+        Assert.assertEquals(cachedFiles().size(), 0);
+    }
+
+    @Test
+    public void testDiskCacheIsPrunedByCount() throws IOException {
+        CachingHttpClient client = createClient();
+        for (int i = 0; i < MAX_DISK_ENTRIES; i++) {
+            client.get(uri("/connectors/" + i));
+            // Age the responses in the order they are written, as the file times may be too coarse to order them
+            Files.setLastModifiedTime(cachedFile("/connectors/" + i),
+                    FileTime.from(Instant.now().minusSeconds(MAX_DISK_ENTRIES - i)));
+        }
+        Assert.assertEquals(cachedFiles().size(), MAX_DISK_ENTRIES);
+
+        // Exceeding the maximum evicts the least recently written responses, down to three quarters of the maximum
+        client.get(uri("/connectors/" + MAX_DISK_ENTRIES));
+        int evictedSize = MAX_DISK_ENTRIES + 1 - (MAX_DISK_ENTRIES - MAX_DISK_ENTRIES / 4);
+        List<Path> expectedFiles = new ArrayList<>();
+        for (int i = evictedSize; i <= MAX_DISK_ENTRIES; i++) {
+            expectedFiles.add(cachedFile("/connectors/" + i));
+        }
+        Assert.assertEquals(cachedFiles(), expectedFiles.stream().sorted().toList());
+    }
+
+    @Test
+    public void testDiskCacheIsPrunedByAge() throws IOException {
+        CachingHttpClient client = createClient();
+        client.get(uri("/connectors"));
+        client.get(uri("/connectors/expired"));
+        Files.setLastModifiedTime(cachedFile("/connectors/expired"),
+                FileTime.from(Instant.now().minus(MAX_AGE).minusSeconds(60)));
+
+        // The expired response is removed from the disk when the cache is created
+        CachingHttpClient restartedClient = createClient();
+        Assert.assertEquals(cachedFiles(), List.of(cachedFile("/connectors")));
+        restartedClient.get(uri("/connectors"));
+        restartedClient.get(uri("/connectors/expired"));
+        Assert.assertEquals(requests, List.of("GET /connectors", "GET /connectors/expired", "GET /connectors/expired"));
+    }
+
+    private CachingHttpClient createClient() {
+        ResponseCache cache = new ResponseCache(cacheDir, 16, MAX_DISK_ENTRIES, MAX_AGE);
+        return new CachingHttpClient(HttpClient.newHttpClient(), cache, TTL, clock);
+    }
+
+    private List<Path> cachedFiles() {
+        try (Stream<Path> paths = Files.list(cacheDir)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".json")).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path cachedFile(String path) {
+        return cacheDir.resolve(ResponseCache.fileName("GET " + uri(path)));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        String request = exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath();
+        synchronized (requests) {
+            requests.add(ifNoneMatch == null ? request : request + " If-None-Match: " + ifNoneMatch);
+        }
+
+        if (exchange.getRequestURI().getPath().equals("/errors")) {
+            byte[] response = "{\"data\": null, \"errors\": [{\"message\": \"failed\"}]}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+            return;
+        }
+        if (status != 200) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        if (ETAG.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] response = ("{\"path\": \"" + exchange.getRequestURI().getPath() + "\", \"request\": " +
+                (body.isEmpty() ? "null" : body) + "}").getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
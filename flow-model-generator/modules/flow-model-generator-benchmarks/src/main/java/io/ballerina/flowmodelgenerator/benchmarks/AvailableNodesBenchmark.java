@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import io.ballerina.flowmodelgenerator.core.AvailableNodesGenerator;
+import io.ballerina.tools.text.LinePosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the nodes available at a position of the diagram.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailableNodesBenchmark {
+
+    @Param({"available_nodes/function1", "available_nodes/match1", "available_nodes/connector1"})
+    public String source;
+
+    private BenchmarkSources.Source loadedSource;
+    private LinePosition position;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        loadedSource = BenchmarkSources.load(source);
+        position = new Gson().fromJson(loadedSource.config().get("position"), LinePosition.class);
+    }
+
+    @Benchmark
+    public JsonArray getAvailableNodes() {
+        AvailableNodesGenerator generator =
+                new AvailableNodesGenerator(loadedSource.semanticModel(), loadedSource.document());
+        return generator.getAvailableNodes(position);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * Compares the JMH results of a candidate, such as a build with a new compiler version, against a baseline. The
+ * comparison fails if the score of any benchmark present in both results regressed by more than the threshold.
+ *
+ * <p>
+ * Usage: {@code BenchmarkComparator <baseline.json> <candidate.json> [threshold]}, where the threshold is the
+ * tolerated relative regression, which defaults to 0.1.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class BenchmarkComparator {
+
+    private static final Logger LOGGER = Logger.getLogger(BenchmarkComparator.class.getName());
+    private static final Gson GSON = new Gson();
+    private static final double DEFAULT_THRESHOLD = 0.1;
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private BenchmarkComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args[0].isEmpty()) {
+            throw new IllegalArgumentException("Usage: BenchmarkComparator <baseline.json> <candidate.json> " +
+                    "[threshold]");
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        Map<String, Score> baseline = readScores(Path.of(args[0]));
+        Map<String, Score> candidate = readScores(Path.of(args[1]));
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Score> entry : candidate.entrySet()) {
+            Score baselineScore = baseline.get(entry.getKey());
+            if (baselineScore == null) {
+                LOGGER.info(String.format("%s: %.3f %s (no baseline)", entry.getKey(), entry.getValue().value(),
+                        entry.getValue().unit()));
+                continue;
+            }
+            double regression = entry.getValue().regressionFrom(baselineScore);
+            String summary = String.format("%s: %.3f -> %.3f %s (%+.1f%%)", entry.getKey(), baselineScore.value(),
+                    entry.getValue().value(), entry.getValue().unit(), regression * 100);
+            LOGGER.info(summary);
+            if (regression > threshold) {
+                regressions.add(summary);
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException(String.format("%d benchmark(s) regressed by more than %.1f%%:%n%s",
+                    regressions.size(), threshold * 100, String.join(System.lineSeparator(), regressions)));
+        }
+    }
+
+    private static Map<String, Score> readScores(Path resultsPath) throws IOException {
+        JsonArray results;
+        try (Reader reader = Files.newBufferedReader(resultsPath)) {
+            results = GSON.fromJson(reader, JsonArray.class);
+        }
+
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonElement element : results) {
+            JsonObject result = element.getAsJsonObject();
+            JsonObject primaryMetric = result.getAsJsonObject("primaryMetric");
+            scores.put(getKey(result), new Score(result.get("mode").getAsString(),
+                    primaryMetric.get("score").getAsDouble(), primaryMetric.get("scoreUnit").getAsString()));
+        }
+        return scores;
+    }
+
+    private static String getKey(JsonObject result) {
+        StringBuilder key = new StringBuilder(result.get("benchmark").getAsString());
+        if (result.has("params")) {
+            Map<String, String> params = new TreeMap<>();
+            result.getAsJsonObject("params").entrySet()
+                    .forEach(param -> params.put(param.getKey(), param.getValue().getAsString()));
+            params.forEach((name, value) -> key.append(':').append(name).append('=').append(value));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Represents the primary score of a benchmark.
+     *
+     * @param mode  the benchmark mode
+     * @param value the score
+     * @param unit  the unit of the score
+     * @since 2.0.0
+     */
+    private record Score(String mode, double value, String unit) {
+
+        /**
+         * Returns the relative regression from the given baseline, which is negative for an improvement.
+         */
+        double regressionFrom(Score baseline) {
+            double change = (value - baseline.value) / baseline.value;
+            return THROUGHPUT_MODE.equals(mode) ? -change : change;
+        }
+    }
+}
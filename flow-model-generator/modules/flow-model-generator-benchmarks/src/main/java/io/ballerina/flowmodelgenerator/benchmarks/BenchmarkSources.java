@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.LanguageServerContextImpl;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Resolves the sources used by the benchmarks. A source is given by one of the following specifications.
+ * <ul>
+ *     <li>{@code <resource dir>/<config name>}: a test configuration of the LS extension, such as
+ *     {@code diagram_generator/match8}, whose source file, and optionally its line range, are read from the
+ *     configuration.</li>
+ *     <li>{@code synthetic/<statements>}: a generated project, whose main function contains the given number of
+ *     statements.</li>
+ * </ul>
+ *
+ * <p>
+ * The test resources are located through the {@code flow.model.benchmark.resources} system property, which is set by
+ * the {@code jmh} task of the build.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class BenchmarkSources {
+
+    private static final String RESOURCES_PROPERTY = "flow.model.benchmark.resources";
+    private static final String SYNTHETIC_PREFIX = "synthetic/";
+    private static final Gson GSON = new Gson();
+
+    private BenchmarkSources() {
+    }
+
+    /**
+     * Loads the project of the given source into a new workspace manager, and compiles its module.
+     *
+     * @param spec the specification of the source
+     * @return the loaded source
+     * @throws Exception if the source cannot be read or loaded
+     */
+    public static Source load(String spec) throws Exception {
+        JsonObject config;
+        Path filePath;
+        LineRange lineRange;
+        if (spec.startsWith(SYNTHETIC_PREFIX)) {
+            int statements = Integer.parseInt(spec.substring(SYNTHETIC_PREFIX.length()));
+            SyntheticProject syntheticProject = SyntheticProject.generate(statements);
+            config = new JsonObject();
+            filePath = syntheticProject.filePath();
+            lineRange = syntheticProject.mainFunction();
+        } else {
+            config = readConfig(spec);
+            filePath = sourcePath(spec, config);
+            lineRange = config.has("start") && config.has("end")
+                    ? LineRange.from(filePath.getFileName().toString(),
+                    GSON.fromJson(config.get("start"), LinePosition.class),
+                    GSON.fromJson(config.get("end"), LinePosition.class))
+                    : null;
+        }
+
+        WorkspaceManager workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+        Project project = workspaceManager.loadProject(filePath);
+        Document document = workspaceManager.document(filePath)
+                .orElseThrow(() -> new IllegalStateException("Document not found: " + filePath));
+        SemanticModel semanticModel = workspaceManager.semanticModel(filePath)
+                .orElseThrow(() -> new IllegalStateException("Semantic model not found: " + filePath));
+        return new Source(workspaceManager, project, filePath, document, semanticModel, lineRange, config);
+    }
+
+    /**
+     * Reads the test configuration of the given specification.
+     *
+     * @param spec the specification of the source, in the form {@code <resource dir>/<config name>}
+     * @return the test configuration
+     * @throws IOException if the configuration cannot be read
+     */
+    public static JsonObject readConfig(String spec) throws IOException {
+        Path configPath = resourceDir(spec).resolve("config").resolve(configName(spec) + ".json");
+        try (Reader reader = Files.newBufferedReader(configPath)) {
+            return GSON.fromJson(reader, JsonObject.class);
+        }
+    }
+
+    private static Path sourcePath(String spec, JsonObject config) {
+        return resourceDir(spec).resolve("source").resolve(config.get("source").getAsString()).toAbsolutePath();
+    }
+
+    private static Path resourceDir(String spec) {
+        String resources = System.getProperty(RESOURCES_PROPERTY);
+        if (resources == null) {
+            throw new IllegalStateException("The system property '" + RESOURCES_PROPERTY + "' is not set");
+        }
+        int separator = spec.lastIndexOf('/');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid benchmark source: " + spec);
+        }
+        return Path.of(resources).resolve(spec.substring(0, separator));
+    }
+
+    private static String configName(String spec) {
+        return spec.substring(spec.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Represents a source loaded into a workspace manager.
+     *
+     * @param workspaceManager the workspace manager holding the project
+     * @param project          the project of the source
+     * @param filePath         the path of the source file
+     * @param document         the document of the source file
+     * @param semanticModel    the semantic model of the module of the source file
+     * @param lineRange        the line range of the canvas, or null if the source does not define one
+     * @param config           the test configuration, which is empty for a synthetic project
+     * @since 2.0.0
+     */
+    public record Source(WorkspaceManager workspaceManager, Project project, Path filePath, Document document,
+                         SemanticModel semanticModel, LineRange lineRange, JsonObject config) {
+
+        public LineRange canvas() {
+            if (lineRange == null) {
+                throw new IllegalStateException("The source does not define a canvas: " + filePath);
+            }
+            return lineRange;
+        }
+    }
+}
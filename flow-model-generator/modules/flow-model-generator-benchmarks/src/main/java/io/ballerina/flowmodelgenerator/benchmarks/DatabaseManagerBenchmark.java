@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import io.ballerina.flowmodelgenerator.core.db.DatabaseManager;
+import io.ballerina.flowmodelgenerator.core.db.model.FunctionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the queries of the central index.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatabaseManagerBenchmark {
+
+    private static final String CACHE_SIZE_PROPERTY = "-Dballerina.flowmodel.index.cache.size=0";
+
+    private DatabaseManager databaseManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        databaseManager = DatabaseManager.getInstance();
+    }
+
+    @Benchmark
+    public Optional<FunctionResult> getFunction() {
+        return databaseManager.getFunction("ballerina", "log", "printInfo", DatabaseManager.FunctionKind.FUNCTION);
+    }
+
+    /**
+     * Looks up a function with the lookup caches disabled, which measures the query itself.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = CACHE_SIZE_PROPERTY)
+    public Optional<FunctionResult> getFunctionUncached() {
+        return databaseManager.getFunction("ballerina", "log", "printInfo", DatabaseManager.FunctionKind.FUNCTION);
+    }
+
+    @Benchmark
+    public List<FunctionResult> searchFunctions(SearchQuery searchQuery) {
+        return databaseManager.searchFunctions(searchQuery.queryMap, DatabaseManager.FunctionKind.FUNCTION);
+    }
+
+    @Benchmark
+    public List<FunctionResult> searchConnectors(SearchQuery searchQuery) {
+        return databaseManager.searchFunctions(searchQuery.queryMap, DatabaseManager.FunctionKind.CONNECTOR);
+    }
+
+    /**
+     * Represents the search query, which is only a parameter of the search benchmarks. A query shorter than the
+     * minimum length of a search term falls back to the pattern search.
+     *
+     * @since 2.0.0
+     */
+    @State(Scope.Benchmark)
+    public static class SearchQuery {
+
+        @Param({"print", "http", "to json string", "xy"})
+        public String query;
+
+        private Map<String, String> queryMap;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            queryMap = Map.of("q", query, "limit", "20", "offset", "0");
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import com.google.gson.Gson;
+import io.ballerina.flowmodelgenerator.core.ModelGenerator;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the serialization of flow models with the Gson instance of the JSON-RPC transport.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"diagram_generator/currency_converter1", "diagram_generator/match8", "synthetic/1000"})
+    public String source;
+
+    private Gson gson;
+    private JsonPayload flowModel;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkSources.Source loadedSource = BenchmarkSources.load(source);
+        ModelGenerator modelGenerator = new ModelGenerator(loadedSource.project(), loadedSource.semanticModel(),
+                loadedSource.filePath());
+        flowModel = modelGenerator.getFlowModel(loadedSource.document(), loadedSource.canvas(), null);
+        gson = new MessageJsonHandler(Map.of()).getGson();
+    }
+
+    /**
+     * Writes the flow model directly to the output, as done by the transport.
+     */
+    @Benchmark
+    public String streamFlowModel() {
+        StringWriter writer = new StringWriter();
+        gson.toJson(flowModel, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Materializes the flow model as a JSON tree before writing it to the output.
+     */
+    @Benchmark
+    public String writeJsonTree() {
+        StringWriter writer = new StringWriter();
+        gson.toJson(flowModel.toJsonTree(), writer);
+        return writer.toString();
+    }
+}
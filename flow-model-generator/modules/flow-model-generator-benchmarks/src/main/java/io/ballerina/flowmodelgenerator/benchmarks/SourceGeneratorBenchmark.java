@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import io.ballerina.flowmodelgenerator.core.SourceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the source code of flow nodes.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SourceGeneratorBenchmark {
+
+    private static final int BATCH_SIZE = 20;
+
+    @Param({"to_source/if", "to_source/match8", "to_source/transaction", "to_source/function_call-log-printInfo",
+            "to_source/remote_action_call-http-get"})
+    public String source;
+
+    private BenchmarkSources.Source loadedSource;
+    private JsonElement diagramNode;
+    private JsonArray diagramNodes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        loadedSource = BenchmarkSources.load(source);
+        diagramNode = loadedSource.config().get("diagram");
+        diagramNodes = new JsonArray();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            diagramNodes.add(diagramNode);
+        }
+    }
+
+    @Benchmark
+    public JsonElement toSourceCode() {
+        SourceGenerator sourceGenerator = new SourceGenerator(loadedSource.workspaceManager(),
+                loadedSource.filePath());
+        return sourceGenerator.toSourceCode(diagramNode);
+    }
+
+    /**
+     * Generates the source of a batch of nodes, which is measured per batch rather than per node.
+     */
+    @Benchmark
+    public JsonElement toSourceCodeBatch() {
+        SourceGenerator sourceGenerator = new SourceGenerator(loadedSource.workspaceManager(),
+                loadedSource.filePath());
+        return sourceGenerator.toSourceCode(diagramNodes);
+    }
+}
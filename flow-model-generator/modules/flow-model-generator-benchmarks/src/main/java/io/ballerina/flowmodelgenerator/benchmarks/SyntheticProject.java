@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.benchmarks;
+
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a Ballerina package whose main function is scaled to a given number of statements. The statements cycle
+ * through the constructs that map to the different flow nodes, so that the cost of the analysis grows with the size of
+ * the function rather than with a single kind of node.
+ *
+ * @param filePath     the path of the generated source file
+ * @param mainFunction the line range of the main function
+ * @since 2.0.0
+ */
+record SyntheticProject(Path filePath, LineRange mainFunction) {
+
+    private static final String FILE_NAME = "main.bal";
+    private static final String BALLERINA_TOML = """
+            [package]
+            org = "benchmark"
+            name = "synthetic"
+            version = "0.1.0"
+            """;
+
+    private static final List<String> HEADER = List.of(
+            "import ballerina/log;",
+            "",
+            "type Item record {|",
+            "    string name;",
+            "    int quantity;",
+            "    decimal price;",
+            "|};",
+            "",
+            "int counter = 0;",
+            "",
+            "function computeTotal(Item[] items) returns decimal|error {",
+            "    decimal total = 0;",
+            "    foreach Item item in items {",
+            "        total += item.price * <decimal>item.quantity;",
+            "    }",
+            "    return total;",
+            "}",
+            "");
+
+    private static final List<String> STATEMENTS = List.of(
+            "    int value%d = %<d * 2;",
+            "    if sum > %dd {\n        log:printInfo(\"branch %<d\");\n    } else {\n        sum += 1d;\n    }",
+            "    foreach Item item in items {\n        sum += item.price * <decimal>item.quantity;\n    }",
+            "    items.push({name: \"item%d\", quantity: %<d, price: 1.5d});",
+            "    while sum < %dd {\n        sum += 1d;\n    }",
+            "    do {\n        sum += check computeTotal(items);\n    } on fail error e {\n" +
+                    "        log:printError(\"failed at %d\", e);\n    }",
+            "    lock {\n        counter += %d;\n    }");
+
+    /**
+     * Generates the package in a temporary directory.
+     *
+     * @param statements the number of statements of the main function
+     * @return the generated project
+     * @throws IOException if the package cannot be written
+     */
+    static SyntheticProject generate(int statements) throws IOException {
+        List<String> lines = new ArrayList<>(HEADER);
+        int startLine = lines.size();
+        lines.add("public function main() returns error? {");
+        lines.add("    Item[] items = [];");
+        lines.add("    decimal sum = 0;");
+        for (int i = 0; i < statements; i++) {
+            String statement = String.format(STATEMENTS.get(i % STATEMENTS.size()), i);
+            lines.addAll(List.of(statement.split("\n")));
+        }
+        lines.add("}");
+        int endLine = lines.size() - 1;
+
+        Path projectDir = Files.createTempDirectory("flow-model-benchmark-" + statements);
+        Files.writeString(projectDir.resolve("Ballerina.toml"), BALLERINA_TOML);
+        Path filePath = projectDir.resolve(FILE_NAME);
+        Files.write(filePath, lines);
+        return new SyntheticProject(filePath, LineRange.from(FILE_NAME, LinePosition.from(startLine, 0),
+                LinePosition.from(endLine, 1)));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.flowmodelgenerator.benchmarks.BenchmarkSources;
+import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.flowmodelgenerator.core.model.ModuleInfo;
+import io.ballerina.flowmodelgenerator.core.model.Property;
+import io.ballerina.projects.Document;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the flow model of a canvas. The benchmark is placed in the package of the core to
+ * analyze the canvas with the {@link CodeAnalyzer} directly, as the model generator caches the flow nodes of an
+ * unchanged canvas.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlowModelBenchmark {
+
+    @Param({"diagram_generator/currency_converter1", "diagram_generator/retry_transaction",
+            "diagram_generator/match8", "diagram_generator/comment13", "synthetic/100", "synthetic/1000"})
+    public String source;
+
+    private BenchmarkSources.Source loadedSource;
+    private NonTerminalNode canvasNode;
+    private ModuleInfo moduleInfo;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        loadedSource = BenchmarkSources.load(source);
+        Document document = loadedSource.document();
+        TextDocument textDocument = document.textDocument();
+        LineRange canvas = loadedSource.canvas();
+        int start = textDocument.textPositionFrom(canvas.startLine());
+        int end = textDocument.textPositionFrom(canvas.endLine());
+        ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+        canvasNode = modulePartNode.findNode(TextRange.from(start, end - start), true);
+        moduleInfo = ModuleInfo.from(document.module().descriptor());
+    }
+
+    /**
+     * Analyzes the canvas into flow nodes, which is the work done when the canvas has changed.
+     */
+    @Benchmark
+    public List<FlowNode> analyzeCanvas() {
+        CodeAnalyzer codeAnalyzer = new CodeAnalyzer(loadedSource.project(), loadedSource.semanticModel(),
+                Property.LOCAL_SCOPE, Map.of(), loadedSource.document().textDocument(), moduleInfo, true);
+        canvasNode.accept(codeAnalyzer);
+        return codeAnalyzer.getFlowNodes();
+    }
+
+    /**
+     * Generates the flow model of an unchanged canvas, including its serialization to a JSON tree.
+     */
+    @Benchmark
+    public Object generateFlowModel() {
+        ModelGenerator modelGenerator = new ModelGenerator(loadedSource.project(), loadedSource.semanticModel(),
+                loadedSource.filePath());
+        return modelGenerator.getFlowModel(loadedSource.document(), loadedSource.canvas(), null).toJsonTree();
+    }
+
+    /**
+     * Recompiles the module of the canvas after an edit, which precedes every flow model request of the editor.
+     */
+    @Benchmark
+    public SemanticModel compileModule() {
+        Document document = loadedSource.document();
+        Document editedDocument = document.modify().withContent(document.textDocument().toString()).apply();
+        return editedDocument.module().getCompilation().getSemanticModel();
+    }
+}
@@ -120,6 +120,7 @@ import io.ballerina.flowmodelgenerator.core.model.node.VariableBuilder;
 import io.ballerina.flowmodelgenerator.core.model.node.XmlPayloadBuilder;
 import io.ballerina.flowmodelgenerator.core.utils.CommonUtils;
 import io.ballerina.flowmodelgenerator.core.utils.ParamUtils;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
@@ -203,6 +204,7 @@ class CodeAnalyzer extends NodeVisitor {
     @Override
     public void visit(FunctionBodyBlockNode functionBodyBlockNode) {
         for (Node statementOrComment : functionBodyBlockNode.statementsWithComments()) {
+            RequestScheduler.checkCancelled();
             statementOrComment.accept(this);
         }
     }
@@ -1483,6 +1485,7 @@ class CodeAnalyzer extends NodeVisitor {
 
     private void analyzeBlock(BlockStatementNode blockStatement, Branch.Builder thenBranchBuilder) {
         for (Node statementOrComment : blockStatement.statementsWithComments()) {
+            RequestScheduler.checkCancelled();
             statementOrComment.accept(this);
             thenBranchBuilder.node(buildNode());
         }
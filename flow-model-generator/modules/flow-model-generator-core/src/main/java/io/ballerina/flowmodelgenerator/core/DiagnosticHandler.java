@@ -24,122 +24,219 @@ import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
-import org.ballerinalang.langserver.common.utils.PositionUtil;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Handles diagnostics for a given flow model.
  *
+ * <p>
+ * The diagnostics are indexed by their line ranges per file, so that the diagnostics related to a node can be looked
+ * up in logarithmic time regardless of the order in which the nodes are visited. A diagnostic is related to a node if
+ * either of their line ranges is within the other.
+ * </p>
+ *
  * @since 2.0.0
  */
 public class DiagnosticHandler {
 
-    private final Iterator<Diagnostic> iterator;
-    private Diagnostic currentDiagnostic;
-    private boolean hasNodeAnnotated;
+    private final Map<String, DiagnosticIndex> diagnosticIndices;
 
     public DiagnosticHandler(SemanticModel semanticModel) {
-        // TODO: Consider all the diagnostics once fixed: #256
-        iterator = semanticModel.diagnostics().parallelStream()
-                .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR).iterator();
-        hasNodeAnnotated = false;
-        if (iterator.hasNext()) {
-            currentDiagnostic = iterator.next();
+        Map<String, List<DiagnosticEntry>> fileDiagnostics = new HashMap<>();
+        for (Diagnostic diagnostic : semanticModel.diagnostics()) {
+            // TODO: Consider all the diagnostics once fixed: #256
+            if (diagnostic.diagnosticInfo().severity() != DiagnosticSeverity.ERROR) {
+                continue;
+            }
+            LineRange lineRange = diagnostic.location().lineRange();
+            fileDiagnostics.computeIfAbsent(lineRange.fileName(), k -> new ArrayList<>())
+                    .add(new DiagnosticEntry(diagnostic, encode(lineRange.startLine()),
+                            encode(lineRange.endLine())));
         }
+        diagnosticIndices = new HashMap<>();
+        fileDiagnostics.forEach((fileName, entries) -> diagnosticIndices.put(fileName, new DiagnosticIndex(entries)));
     }
 
     /**
-     * Handles the diagnostic for the given node line range. Adds the diagnostic via the builder if the line ranges map
-     * to the corresponding node line range.
+     * Handles the diagnostic for the given node line range. Adds the diagnostics via the builder if their line ranges
+     * map to the corresponding node line range.
+     *
+     * <p>
+     * A non-leaf node is annotated with the diagnostics enclosing it, and is only marked as erroneous for the
+     * diagnostics within it, as those are annotated on its leaf nodes. A leaf node is annotated with every enclosed and
+     * enclosing diagnostic, unless the diagnostic is already annotated on a leaf node or on the enclosing non-leaf
+     * node.
+     * </p>
      *
      * @param builder       the builder capable of adding diagnostics
      * @param nodeLineRange the line range of the node
      * @param isLeafNode    whether the node is a leaf node
      */
     public void handle(DiagnosticCapable builder, LineRange nodeLineRange, boolean isLeafNode) {
-        if (currentDiagnostic == null) {
+        DiagnosticIndex diagnosticIndex = diagnosticIndices.get(nodeLineRange.fileName());
+        if (diagnosticIndex == null) {
             return;
         }
-        LinePosition nodeStartLine = nodeLineRange.startLine();
-
-        while (currentDiagnostic != null) {
-
-            // Checks if the diagnostic has passed the node
-            LineRange diagnosticLineRange = currentDiagnostic.location().lineRange();
-            LinePosition diagnosticEndLine = diagnosticLineRange.endLine();
-            while (hasDiagnosticPassed(nodeStartLine, diagnosticEndLine, isLeafNode)) {
-                if (iterator.hasNext()) {
-                    currentDiagnostic = iterator.next();
-                    hasNodeAnnotated = false;
-                    diagnosticLineRange = currentDiagnostic.location().lineRange();
-                    diagnosticEndLine = diagnosticLineRange.endLine();
-                    continue;
-                }
-                currentDiagnostic = null;
-                return;
-            }
+        long start = encode(nodeLineRange.startLine());
+        long end = encode(nodeLineRange.endLine());
 
-            boolean isNodeWithinDiagnostic = PositionUtil.isWithinLineRange(nodeLineRange, diagnosticLineRange);
-            boolean isDiagnosticWithinNode = PositionUtil.isWithinLineRange(diagnosticLineRange, nodeLineRange);
-
-            // Both node and diagnostic are within the same range
-            if (isNodeWithinDiagnostic && isDiagnosticWithinNode) {
-                if (!isLeafNode) {
-                    hasNodeAnnotated = true;
-                }
-                addDiagnostic(builder);
-                next();
+        for (DiagnosticEntry entry : diagnosticIndex.find(start, end)) {
+            if (entry.consumed) {
                 continue;
             }
+            boolean isNodeWithinDiagnostic = entry.start <= start && end <= entry.end;
+            boolean isDiagnosticWithinNode = start <= entry.start && entry.end <= end;
 
-            // Node is within the diagnostic range
-            if (isNodeWithinDiagnostic) {
-                if (handleLeafNode(builder, isLeafNode)) {
-                    continue;
+            if (isLeafNode) {
+                if (isNodeWithinDiagnostic && isDiagnosticWithinNode || !entry.annotated) {
+                    addDiagnostic(builder, entry.diagnostic);
                 }
-                hasNodeAnnotated = true;
-                addDiagnostic(builder);
-                return;
+                entry.consumed = true;
+                continue;
             }
 
-            // Diagnostic is within the node range
-            if (isDiagnosticWithinNode) {
-                if (handleLeafNode(builder, isLeafNode)) {
-                    continue;
-                }
+            if (isNodeWithinDiagnostic) {
+                addDiagnostic(builder, entry.diagnostic);
+                entry.annotated = true;
+                entry.consumed = isDiagnosticWithinNode;
+            } else {
                 builder.diagnostics().hasDiagnostics();
             }
-            return;
         }
     }
 
-    private boolean handleLeafNode(DiagnosticCapable builder, boolean isLeafNode) {
-        if (isLeafNode) {
-            if (!hasNodeAnnotated) {
-                addDiagnostic(builder);
-            }
-            next();
-            return true;
-        }
-        return false;
+    private static void addDiagnostic(DiagnosticCapable builder, Diagnostic diagnostic) {
+        builder.diagnostics().diagnostic(diagnostic.diagnosticInfo().severity(), diagnostic.message());
     }
 
-    private void next() {
-        this.currentDiagnostic = iterator.hasNext() ? iterator.next() : null;
-        hasNodeAnnotated = false;
+    private static long encode(LinePosition linePosition) {
+        return ((long) linePosition.line() << 32) | linePosition.offset();
     }
 
-    private void addDiagnostic(DiagnosticCapable builder) {
-        builder.diagnostics()
-                .diagnostic(currentDiagnostic.diagnosticInfo().severity(), currentDiagnostic.message());
+    /**
+     * Represents an indexed diagnostic, along with whether it has been annotated on a non-leaf node, and whether it has
+     * been annotated on a leaf node.
+     */
+    private static final class DiagnosticEntry {
+
+        private final Diagnostic diagnostic;
+        private final long start;
+        private final long end;
+        private int order;
+        private boolean annotated;
+        private boolean consumed;
+
+        private DiagnosticEntry(Diagnostic diagnostic, long start, long end) {
+            this.diagnostic = diagnostic;
+            this.start = start;
+            this.end = end;
+        }
     }
 
-    private static boolean hasDiagnosticPassed(LinePosition nodeStartLine, LinePosition diagnosticEndLine,
-                                               boolean isLeafNode) {
-        return !isLeafNode && (nodeStartLine.line() > diagnosticEndLine.line() ||
-                (nodeStartLine.line() == diagnosticEndLine.line() &&
-                        nodeStartLine.offset() > diagnosticEndLine.offset()));
+    /**
+     * Interval index over the diagnostics of a file. The diagnostics are sorted by their start positions, and the
+     * sorted array is treated as an implicit balanced search tree in which each subtree records the maximum end
+     * position of its diagnostics. The enclosing diagnostics of a range are found by pruning the subtrees that end
+     * before the range, and the enclosed diagnostics by a binary search on the start positions.
+     */
+    private static final class DiagnosticIndex {
+
+        private final DiagnosticEntry[] entries;
+        private final long[] maxEnds;
+
+        private DiagnosticIndex(List<DiagnosticEntry> diagnosticEntries) {
+            // The sort is stable, hence the diagnostics starting at the same position retain the compiler order
+            diagnosticEntries.sort(Comparator.comparingLong(entry -> entry.start));
+            this.entries = diagnosticEntries.toArray(new DiagnosticEntry[0]);
+            for (int i = 0; i < entries.length; i++) {
+                entries[i].order = i;
+            }
+            this.maxEnds = new long[entries.length];
+            buildMaxEnds(0, entries.length);
+        }
+
+        private long buildMaxEnds(int low, int high) {
+            if (low >= high) {
+                return Long.MIN_VALUE;
+            }
+            int mid = (low + high) >>> 1;
+            long maxEnd = Math.max(entries[mid].end, Math.max(buildMaxEnds(low, mid), buildMaxEnds(mid + 1, high)));
+            maxEnds[mid] = maxEnd;
+            return maxEnd;
+        }
+
+        /**
+         * Finds the diagnostics enclosing or enclosed by the given range, in the order of their start positions.
+         */
+        private List<DiagnosticEntry> find(long start, long end) {
+            List<DiagnosticEntry> enclosing = new ArrayList<>();
+            findEnclosing(0, entries.length, start, end, enclosing);
+
+            List<DiagnosticEntry> enclosed = new ArrayList<>();
+            for (int i = lowerBound(start); i < entries.length && entries[i].start <= end; i++) {
+                DiagnosticEntry entry = entries[i];
+                if (entry.end <= end && !(entry.start == start && entry.end == end)) {
+                    enclosed.add(entry);
+                }
+            }
+
+            if (enclosed.isEmpty()) {
+                return enclosing;
+            }
+            if (enclosing.isEmpty()) {
+                return enclosed;
+            }
+            List<DiagnosticEntry> merged = new ArrayList<>(enclosing.size() + enclosed.size());
+            int i = 0;
+            int j = 0;
+            while (i < enclosing.size() || j < enclosed.size()) {
+                if (j == enclosed.size() ||
+                        i < enclosing.size() && enclosing.get(i).order < enclosed.get(j).order) {
+                    merged.add(enclosing.get(i++));
+                } else {
+                    merged.add(enclosed.get(j++));
+                }
+            }
+            return merged;
+        }
+
+        private void findEnclosing(int low, int high, long start, long end, List<DiagnosticEntry> result) {
+            if (low >= high) {
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            if (maxEnds[mid] < end) {
+                return;
+            }
+            findEnclosing(low, mid, start, end, result);
+            DiagnosticEntry entry = entries[mid];
+            if (entry.start > start) {
+                return;
+            }
+            if (entry.end >= end) {
+                result.add(entry);
+            }
+            findEnclosing(mid + 1, high, start, end, result);
+        }
+
+        private int lowerBound(long start) {
+            int low = 0;
+            int high = entries.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (entries[mid].start < start) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
     }
 
     /**
@@ -20,25 +20,22 @@ package io.ballerina.flowmodelgenerator.core;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
-import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
-import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.flowmodelgenerator.core.model.FlowNode;
 import io.ballerina.flowmodelgenerator.core.model.NodeKind;
 import io.ballerina.flowmodelgenerator.core.model.Property;
 import io.ballerina.flowmodelgenerator.core.model.SourceBuilder;
 import io.ballerina.flowmodelgenerator.core.utils.CommonUtils;
-import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleDescriptor;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
-import io.ballerina.tools.text.TextDocument;
-import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextEdit;
 import io.ballerina.tools.text.TextRange;
+import org.ballerinalang.langserver.common.utils.PositionUtil;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -64,33 +61,28 @@ public class ExpressionEditorContext {
     private final List<ImportDeclarationNode> imports;
 
     // State variables
-    private final Document document;
+    private final ScratchDocument scratchDocument;
     private int expressionOffset;
     private LineRange statementLineRange;
 
-    public ExpressionEditorContext(WorkspaceManager workspaceManager, Info info, Path filePath, Document document) {
+    public ExpressionEditorContext(WorkspaceManager workspaceManager, Info info, Path filePath,
+                                   ScratchDocument scratchDocument) {
         this.workspaceManager = workspaceManager;
         this.info = info;
         this.filePath = filePath;
         this.flowNode = gson.fromJson(info.node(), FlowNode.class);
-        this.document = document;
-        imports = getImportDeclarationNodes(document);
+        this.scratchDocument = scratchDocument;
+        imports = scratchDocument.baseImports();
     }
 
-    public ExpressionEditorContext(WorkspaceManager workspaceManager, Path filePath, Document document) {
+    public ExpressionEditorContext(WorkspaceManager workspaceManager, Path filePath,
+                                   ScratchDocument scratchDocument) {
         this.workspaceManager = workspaceManager;
         this.filePath = filePath;
-        this.document = document;
+        this.scratchDocument = scratchDocument;
         this.info = null;
         this.flowNode = null;
-        imports = getImportDeclarationNodes(document);
-    }
-
-    private static List<ImportDeclarationNode> getImportDeclarationNodes(Document document) {
-        SyntaxTree syntaxTree = document.syntaxTree();
-        return syntaxTree.rootNode().kind() == SyntaxKind.MODULE_PART
-                ? ((ModulePartNode) syntaxTree.rootNode()).imports().stream().toList()
-                : List.of();
+        imports = scratchDocument.baseImports();
     }
 
     public Optional<Property> getProperty() {
@@ -176,8 +168,8 @@ public class ExpressionEditorContext {
     }
 
     /**
-     * Generates a Ballerina statement based on the availability of the type, and applies it to the document. Based on
-     * the availability of the type, the statement will be in the format: `<type>? _ = <expr>;`.
+     * Generates a Ballerina statement based on the availability of the type, and writes it to the scratch document.
+     * Based on the availability of the type, the statement will be in the format: `<type>? _ = <expr>;`.
      *
      * @return the line range of the generated statement.
      */
@@ -210,15 +202,10 @@ public class ExpressionEditorContext {
             getImport().ifPresent(textEdits::add);
         }
 
-        // Get the text position of the start line
-        TextDocument textDocument = document.textDocument();
-        int textPosition = textDocument.textPositionFrom(info.startLine());
-
-        // Generate the statement and apply the text edits
+        // Generate the statement and write it along with the imports
         String statement = String.format("%s%s;%n", prefix, info.expression());
         this.expressionOffset = prefix.length();
-        textEdits.add(TextEdit.from(TextRange.from(textPosition, 0), statement));
-        applyTextEdits(textEdits);
+        scratchDocument.writeStatement(textEdits, info.startLine(), prefix, info.expression());
 
         // Return the line range of the generated statement
         LinePosition startLine = info.startLine();
@@ -239,29 +226,42 @@ public class ExpressionEditorContext {
     }
 
     /**
-     * Applies a list of text edits to the current document and updates the content.
+     * Applies the given text edits to the base content of the scratch document.
      *
      * @param textEdits the list of text edits to be applied
      */
     public void applyTextEdits(List<TextEdit> textEdits) {
-        TextDocument newTextDocument = document.textDocument()
-                .apply(TextDocumentChange.from(textEdits.toArray(new TextEdit[0])));
-        applyContent(newTextDocument);
+        scratchDocument.applyToBase(textEdits);
+    }
+
+    public Iterable<Diagnostic> syntaxDiagnostics() {
+        return scratchDocument.document().syntaxTree().diagnostics();
     }
 
     /**
-     * Applies the content of the given TextDocument to the current document.
+     * Returns the diagnostics of the generated statement. The semantic diagnostics of the module are narrowed down to
+     * the document of the statement before checking their positions, and the syntax diagnostics are only taken from
+     * the syntax tree of that document.
      *
-     * @param textDocument The TextDocument containing the new content
+     * @param semanticModel the semantic model of the module containing the statement
+     * @return the diagnostics within the generated statement
      */
-    public void applyContent(TextDocument textDocument) {
-        document.modify()
-                .withContent(String.join(System.lineSeparator(), textDocument.textLines()))
-                .apply();
-    }
-
-    public Iterable<Diagnostic> syntaxDiagnostics() {
-        return document.syntaxTree().diagnostics();
+    public List<Diagnostic> statementDiagnostics(SemanticModel semanticModel) {
+        String fileName = scratchDocument.document().name();
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        for (Diagnostic diagnostic : semanticModel.diagnostics()) {
+            LineRange lineRange = diagnostic.location().lineRange();
+            if (lineRange.fileName().equals(fileName) &&
+                    PositionUtil.isWithinLineRange(lineRange, statementLineRange)) {
+                diagnostics.add(diagnostic);
+            }
+        }
+        for (Diagnostic diagnostic : syntaxDiagnostics()) {
+            if (PositionUtil.isWithinLineRange(diagnostic.location().lineRange(), statementLineRange)) {
+                diagnostics.add(diagnostic);
+            }
+        }
+        return diagnostics;
     }
 
     /**
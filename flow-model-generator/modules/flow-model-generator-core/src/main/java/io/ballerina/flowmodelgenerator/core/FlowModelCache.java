@@ -0,0 +1,241 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.TomlDocument;
+import io.ballerina.tools.text.LineRange;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caches the flow nodes generated for each canvas, so that a diagram is only re-analysed when it could have changed.
+ *
+ * <p>
+ * The semantic information used by the flow nodes of a canvas can only change if the canvas itself or a declaration
+ * of the package changes. Hence, the cache tracks a declaration signature of the package, which consists of the
+ * positions and the source of every module-level declaration except for the bodies of the functions, along with the
+ * package manifests. The signature of a document is memoized against its syntax tree, which is retained by the
+ * project as long as the document is not edited, so only the edited documents are rescanned on each request.
+ * </p>
+ *
+ * <ul>
+ *     <li>The flow nodes of a canvas are reused as long as its source, its position, the data mappings and the package
+ *     signature are unchanged. Editing a function therefore only invalidates the canvas of that function.</li>
+ *     <li>The module connections visible to a canvas are reused as long as the package signature is unchanged, which
+ *     holds across most edits inside a function body.</li>
+ * </ul>
+ *
+ * @since 2.0.0
+ */
+class FlowModelCache {
+
+    private static final int MAX_CANVASES = 64;
+    private static final int MAX_DOCUMENTS = 256;
+
+    private final Map<String, CanvasEntry> canvases;
+    private final Map<String, ConnectionsEntry> connections;
+    private final Map<DocumentId, DocumentSignature> documentSignatures;
+
+    FlowModelCache() {
+        this.canvases = lruMap(MAX_CANVASES);
+        this.connections = lruMap(MAX_CANVASES);
+        this.documentSignatures = lruMap(MAX_DOCUMENTS);
+    }
+
+    /**
+     * Computes the declaration signature of the given package.
+     *
+     * @param currentPackage the package
+     * @return the signature, which is equal for packages with the same declarations
+     */
+    List<String> getPackageSignature(Package currentPackage) {
+        List<String> signature = new ArrayList<>();
+        currentPackage.ballerinaToml().ifPresent(toml -> signature.add(getTomlSignature(toml.tomlDocument())));
+        currentPackage.dependenciesToml().ifPresent(toml -> signature.add(getTomlSignature(toml.tomlDocument())));
+        for (Module module : currentPackage.modules()) {
+            for (DocumentId documentId : module.documentIds()) {
+                signature.add(getDocumentSignature(documentId, module.document(documentId).syntaxTree()));
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Returns the flow nodes of the given canvas, analysing it only if it could have changed since it was cached.
+     *
+     * @param filePath         the file containing the canvas
+     * @param canvasRange      the line range of the canvas
+     * @param canvasSource     the source of the canvas
+     * @param packageSignature the declaration signature of the package
+     * @param dataMappings     the data mapping functions referred to by the canvas
+     * @param analyzer         the analysis producing the flow nodes of the canvas
+     * @return the flow nodes of the canvas
+     */
+    List<FlowNode> getFlowNodes(Path filePath, LineRange canvasRange, String canvasSource,
+                                List<String> packageSignature, Map<String, LineRange> dataMappings,
+                                Supplier<List<FlowNode>> analyzer) {
+        String key = filePath + ":" + canvasRange;
+        CanvasEntry entry;
+        synchronized (canvases) {
+            entry = canvases.get(key);
+        }
+        if (entry != null && entry.canvasSource().equals(canvasSource) &&
+                entry.packageSignature().equals(packageSignature) && entry.dataMappings().equals(dataMappings)) {
+            return entry.flowNodes();
+        }
+
+        List<FlowNode> flowNodes = List.copyOf(analyzer.get());
+        synchronized (canvases) {
+            canvases.put(key, new CanvasEntry(canvasSource, packageSignature, Map.copyOf(dataMappings), flowNodes));
+        }
+        return flowNodes;
+    }
+
+    /**
+     * Returns the module connections visible to the canvas starting at the given range, computing them only if a
+     * declaration of the package has changed since they were cached.
+     *
+     * @param filePath         the file containing the canvas
+     * @param canvasRange      the line range of the canvas
+     * @param packageSignature the declaration signature of the package
+     * @param generator        the generator of the module connections
+     * @return the module connections
+     */
+    List<FlowNode> getModuleConnections(Path filePath, LineRange canvasRange, List<String> packageSignature,
+                                        Supplier<List<FlowNode>> generator) {
+        String key = filePath + ":" + canvasRange.startLine();
+        ConnectionsEntry entry;
+        synchronized (connections) {
+            entry = connections.get(key);
+        }
+        if (entry != null && entry.packageSignature().equals(packageSignature)) {
+            return entry.connections();
+        }
+
+        List<FlowNode> moduleConnections = List.copyOf(generator.get());
+        synchronized (connections) {
+            connections.put(key, new ConnectionsEntry(packageSignature, moduleConnections));
+        }
+        return moduleConnections;
+    }
+
+    private String getDocumentSignature(DocumentId documentId, SyntaxTree syntaxTree) {
+        synchronized (documentSignatures) {
+            DocumentSignature documentSignature = documentSignatures.get(documentId);
+            if (documentSignature != null && documentSignature.syntaxTree() == syntaxTree) {
+                return documentSignature.signature();
+            }
+        }
+
+        String source = syntaxTree.toSourceCode();
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        StringBuilder signature = new StringBuilder();
+        for (ImportDeclarationNode importNode : modulePartNode.imports()) {
+            appendDeclaration(signature, source, importNode);
+        }
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            appendDeclaration(signature, source, member);
+        }
+
+        String documentSignature = signature.toString();
+        synchronized (documentSignatures) {
+            documentSignatures.put(documentId, new DocumentSignature(syntaxTree, documentSignature));
+        }
+        return documentSignature;
+    }
+
+    private static void appendDeclaration(StringBuilder signature, String source, Node node) {
+        signature.append(node.lineRange()).append('\n');
+        switch (node.kind()) {
+            case FUNCTION_DEFINITION, OBJECT_METHOD_DEFINITION, RESOURCE_ACCESSOR_DEFINITION -> {
+                FunctionDefinitionNode functionNode = (FunctionDefinitionNode) node;
+                appendSource(signature, source, node.textRange().startOffset(),
+                        functionNode.functionBody().textRange().startOffset());
+            }
+            case SERVICE_DECLARATION -> {
+                ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) node;
+                appendSource(signature, source, node.textRange().startOffset(),
+                        serviceNode.openBraceToken().textRange().startOffset());
+                appendMembers(signature, source, serviceNode.members());
+            }
+            case CLASS_DEFINITION -> {
+                ClassDefinitionNode classNode = (ClassDefinitionNode) node;
+                appendSource(signature, source, node.textRange().startOffset(),
+                        classNode.openBrace().textRange().startOffset());
+                appendMembers(signature, source, classNode.members());
+            }
+            default -> appendSource(signature, source, node.textRange().startOffset(),
+                    node.textRange().endOffset());
+        }
+    }
+
+    private static void appendMembers(StringBuilder signature, String source, NodeList<Node> members) {
+        for (Node member : members) {
+            appendDeclaration(signature, source, member);
+        }
+    }
+
+    private static void appendSource(StringBuilder signature, String source, int start, int end) {
+        signature.append(source, start, end).append('\n');
+    }
+
+    private static String getTomlSignature(TomlDocument tomlDocument) {
+        return tomlDocument.textDocument().toString();
+    }
+
+    private static <K, V> Map<K, V> lruMap(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    private record CanvasEntry(String canvasSource, List<String> packageSignature,
+                               Map<String, LineRange> dataMappings, List<FlowNode> flowNodes) {
+
+    }
+
+    private record ConnectionsEntry(List<String> packageSignature, List<FlowNode> connections) {
+
+    }
+
+    private record DocumentSignature(SyntaxTree syntaxTree, String signature) {
+
+    }
+}
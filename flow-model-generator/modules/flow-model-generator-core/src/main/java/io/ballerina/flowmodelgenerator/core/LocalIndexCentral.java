@@ -41,19 +41,21 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
- * An implementation of the Central API using a local index.
+ * An implementation of the Central API using a local index. The bundled resources are loaded into an immutable
+ * catalogue exactly once, either on the first lookup or when {@link #warmUp()} is called, and the catalogue is then
+ * shared by all the concurrent requests without further synchronization.
  *
  * @since 2.0.0
  */
 public class LocalIndexCentral {
 
     private final Gson gson;
-    private Map<String, FlowNode> templateCache;
-    private Map<String, List<Item>> connectionMap;
+    private volatile Catalogue catalogue;
     private static final String NODE_TEMPLATES_JSON = "node_templates.json";
     private static final String CONNECTORS_JSON = "connectors.json";
     private static final String CONNECTIONS_JSON = "connections.json";
@@ -75,28 +77,27 @@ public class LocalIndexCentral {
                 .create();
     }
 
+    /**
+     * Loads the catalogue if it has not been loaded yet, so that the first request does not pay for it.
+     */
+    public void warmUp() {
+        catalogue();
+    }
+
     public FlowNode getNodeTemplate(Codedata codedata) {
-        if (templateCache == null) {
-            initializeTemplateCache();
-        }
-        return templateCache.get(codedata.toString());
+        return catalogue().templateStore().get(codedata.toString());
     }
 
     public List<Item> getConnectors() {
-        Category connectors = readJsonResource(CONNECTORS_JSON, Category.class);
-        return connectors.items();
+        return catalogue().connectors();
     }
 
     public List<Item> getFunctions() {
-        Category functions = readJsonResource(FUNCTIONS_JSON, Category.class);
-        return functions.items();
+        return catalogue().functions();
     }
 
     public List<Item> getConnectorActions(Codedata codedata) {
-        if (connectionMap == null) {
-            initializeConnectionMap();
-        }
-        return connectionMap.get(codedata.toString());
+        return catalogue().connectionMap().get(codedata.toString());
     }
 
     public List<AvailableNode> getConnectors(Map<String, String> queryMap) {
@@ -132,12 +133,30 @@ public class LocalIndexCentral {
         return availableNodes;
     }
 
-    private void initializeTemplateCache() {
-        templateCache = readJsonResource(NODE_TEMPLATES_JSON, new FlowNodeTypeToken().getType());
+    private Catalogue catalogue() {
+        Catalogue current = catalogue;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (catalogue == null) {
+                catalogue = loadCatalogue();
+            }
+            return catalogue;
+        }
+    }
+
+    private Catalogue loadCatalogue() {
+        Map<String, List<Item>> connections = readJsonResource(CONNECTIONS_JSON, new ConnectionTypeToken().getType());
+        Map<String, List<Item>> connectionMap = new HashMap<>();
+        connections.forEach((key, items) -> connectionMap.put(key, List.copyOf(items)));
+        return new Catalogue(NodeTemplateStore.load(gson, NODE_TEMPLATES_JSON), Map.copyOf(connectionMap),
+                readCategoryItems(CONNECTORS_JSON), readCategoryItems(FUNCTIONS_JSON));
     }
 
-    private void initializeConnectionMap() {
-        connectionMap = readJsonResource(CONNECTIONS_JSON, new ConnectionTypeToken().getType());
+    private List<Item> readCategoryItems(String resourcePath) {
+        Category category = readJsonResource(resourcePath, Category.class);
+        return List.copyOf(category.items());
     }
 
     private <T> T readJsonResource(String resourcePath, Type type) {
@@ -152,7 +171,16 @@ public class LocalIndexCentral {
         }
     }
 
-    private static class FlowNodeTypeToken extends TypeToken<Map<String, FlowNode>> {
+    /**
+     * An immutable snapshot of the local index resources.
+     *
+     * @param templateStore the node templates keyed by codedata
+     * @param connectionMap the actions of each connector keyed by codedata
+     * @param connectors    the available connectors
+     * @param functions     the available functions
+     */
+    private record Catalogue(NodeTemplateStore templateStore, Map<String, List<Item>> connectionMap,
+                             List<Item> connectors, List<Item> functions) {
 
     }
 
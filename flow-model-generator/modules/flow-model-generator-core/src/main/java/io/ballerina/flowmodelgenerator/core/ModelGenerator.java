@@ -18,9 +18,6 @@
 
 package io.ballerina.flowmodelgenerator.core;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ClassFieldSymbol;
 import io.ballerina.compiler.api.symbols.ClassSymbol;
@@ -38,14 +35,17 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.flowmodelgenerator.core.model.Diagram;
 import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
 import io.ballerina.flowmodelgenerator.core.model.ModuleInfo;
 import io.ballerina.flowmodelgenerator.core.model.Property;
 import io.ballerina.flowmodelgenerator.core.utils.CommonUtils;
+import io.ballerina.modelgenerator.commons.metrics.RequestMetrics;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextRange;
@@ -65,24 +65,24 @@ import java.util.function.Function;
  */
 public class ModelGenerator {
 
+    private static final FlowModelCache FLOW_MODEL_CACHE = new FlowModelCache();
+
     private final SemanticModel semanticModel;
     private final Path filePath;
-    private final Gson gson;
     private final Project project;
 
     public ModelGenerator(Project project, SemanticModel model, Path filePath) {
         this.semanticModel = model;
         this.filePath = filePath;
         this.project = project;
-        this.gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
     }
 
     /**
      * Generates a flow model for the given canvas node.
      *
-     * @return JSON representation of the flow model
+     * @return JSON payload of the flow model
      */
-    public JsonElement getFlowModel(Document document, LineRange lineRange, Document dataMappingDoc) {
+    public JsonPayload getFlowModel(Document document, LineRange lineRange, Document dataMappingDoc) {
         // Obtain the code block representing the canvas
         SyntaxTree syntaxTree = document.syntaxTree();
         ModulePartNode modulePartNode = syntaxTree.rootNode();
@@ -91,15 +91,22 @@ public class ModelGenerator {
         int end = textDocument.textPositionFrom(lineRange.endLine());
         NonTerminalNode canvasNode = modulePartNode.findNode(TextRange.from(start, end - start), true);
 
-        // Obtain the connections visible at the module-level
-        List<FlowNode> moduleConnections =
-                semanticModel.visibleSymbols(document, canvasNode.lineRange().startLine()).stream()
-                        .flatMap(symbol -> buildConnection(symbol).stream())
-                        .sorted(Comparator.comparing(
-                                node -> Optional.ofNullable(node.properties().get(Property.VARIABLE_KEY))
-                                        .map(property -> property.value().toString())
-                                        .orElse("")))
-                        .toList();
+        // Obtain the connections visible at the module-level, which only change with the package declarations
+        List<String> packageSignature = FLOW_MODEL_CACHE.getPackageSignature(project.currentPackage());
+        List<FlowNode> moduleConnections = FLOW_MODEL_CACHE.getModuleConnections(filePath, canvasNode.lineRange(),
+                packageSignature, () -> {
+                    long startTime = System.nanoTime();
+                    LinePosition startLine = canvasNode.lineRange().startLine();
+                    List<FlowNode> connections = semanticModel.visibleSymbols(document, startLine).stream()
+                            .flatMap(symbol -> buildConnection(symbol).stream())
+                            .sorted(Comparator.comparing(
+                                    node -> Optional.ofNullable(node.properties().get(Property.VARIABLE_KEY))
+                                            .map(property -> property.value().toString())
+                                            .orElse("")))
+                            .toList();
+                    RequestMetrics.recordPhase("moduleConnections", startTime);
+                    return connections;
+                });
 
         // Obtain the data mapping function names
         Map<String, LineRange> dataMappings = new HashMap<>();
@@ -115,17 +122,23 @@ public class ModelGenerator {
             }
         }
 
-        // Analyze the code block to find the flow nodes
-        CodeAnalyzer codeAnalyzer = new CodeAnalyzer(project, semanticModel, Property.LOCAL_SCOPE, dataMappings,
-                textDocument, ModuleInfo.from(document.module().descriptor()), true);
-        canvasNode.accept(codeAnalyzer);
+        // Analyze the code block to find the flow nodes, unless the canvas is unchanged since it was last analyzed
+        List<FlowNode> flowNodes = FLOW_MODEL_CACHE.getFlowNodes(filePath, canvasNode.lineRange(),
+                canvasNode.toSourceCode(), packageSignature, dataMappings, () -> {
+                    long startTime = System.nanoTime();
+                    CodeAnalyzer codeAnalyzer = new CodeAnalyzer(project, semanticModel, Property.LOCAL_SCOPE,
+                            dataMappings, textDocument, ModuleInfo.from(document.module().descriptor()), true);
+                    canvasNode.accept(codeAnalyzer);
+                    RequestMetrics.recordPhase("analyzeCanvas", startTime);
+                    return codeAnalyzer.getFlowNodes();
+                });
 
         // Generate the flow model
-        Diagram diagram = new Diagram(filePath.toString(), codeAnalyzer.getFlowNodes(), moduleConnections);
-        return gson.toJsonTree(diagram);
+        Diagram diagram = new Diagram(filePath.toString(), flowNodes, moduleConnections);
+        return JsonPayload.of(diagram);
     }
 
-    public JsonElement getModuleNodes() {
+    public JsonPayload getModuleNodes() {
         List<FlowNode> connectionsList = semanticModel.moduleSymbols().stream()
                 .flatMap(symbol -> buildConnection(symbol).stream())
                 .sorted(Comparator.comparing(
@@ -134,7 +147,7 @@ public class ModelGenerator {
                                 .orElse("")))
                 .toList();
         Diagram diagram = new Diagram(filePath.toString(), List.of(), connectionsList);
-        return gson.toJsonTree(diagram);
+        return JsonPayload.of(diagram);
     }
 
     /**
@@ -1,11 +1,10 @@
 package io.ballerina.flowmodelgenerator.core;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import io.ballerina.flowmodelgenerator.core.model.Codedata;
 import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
 import io.ballerina.flowmodelgenerator.core.model.NodeBuilder;
 import io.ballerina.tools.text.LinePosition;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -19,15 +18,15 @@ import java.nio.file.Path;
  */
 public class NodeTemplateGenerator {
 
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+    private static final Gson gson = new Gson();
 
-    public JsonElement getNodeTemplate(WorkspaceManager workspaceManager, Path filePath, LinePosition position,
+    public JsonPayload getNodeTemplate(WorkspaceManager workspaceManager, Path filePath, LinePosition position,
                                        JsonObject id) {
         Codedata codedata = gson.fromJson(id, Codedata.class);
         FlowNode flowNode = NodeBuilder.getNodeFromKind(codedata.node())
                 .setConstData()
                 .setTemplateData(new NodeBuilder.TemplateContext(workspaceManager, filePath, position, codedata))
                 .build();
-        return gson.toJsonTree(flowNode);
+        return JsonPayload.of(flowNode);
     }
 }
@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Offset-indexed store of the node templates. The raw template resource is scanned once to record the byte range of
+ * each template against its codedata key, without materializing any JSON tree. Individual templates are then parsed
+ * on demand and memoized, so looking up a template does not require deserializing every template in the resource.
+ *
+ * @since 2.0.0
+ */
+class NodeTemplateStore {
+
+    private final Gson gson;
+    private final byte[] content;
+    private final Map<String, int[]> offsets;
+    private final Map<String, FlowNode> templates;
+
+    private NodeTemplateStore(Gson gson, byte[] content, Map<String, int[]> offsets) {
+        this.gson = gson;
+        this.content = content;
+        this.offsets = offsets;
+        this.templates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Loads the given template resource and indexes the templates in it.
+     *
+     * @param gson         the Gson instance used to parse the templates
+     * @param resourcePath the path of the template resource, which is a JSON object of templates keyed by codedata
+     * @return the template store
+     */
+    static NodeTemplateStore load(Gson gson, String resourcePath) {
+        try (InputStream resourceStream = NodeTemplateStore.class.getClassLoader()
+                .getResourceAsStream(resourcePath)) {
+            if (resourceStream == null) {
+                throw new IllegalArgumentException("Resource not found: " + resourcePath);
+            }
+            byte[] content = resourceStream.readAllBytes();
+            return new NodeTemplateStore(gson, content, new OffsetScanner(gson, content).scan());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the template of the given key, parsing it on the first access.
+     *
+     * @param key the codedata key of the template
+     * @return the template, or {@code null} if there is no template for the key
+     */
+    FlowNode get(String key) {
+        int[] range = offsets.get(key);
+        if (range == null) {
+            return null;
+        }
+        return templates.computeIfAbsent(key, k -> gson.fromJson(
+                new String(content, range[0], range[1], StandardCharsets.UTF_8), FlowNode.class));
+    }
+
+    /**
+     * Scans the top-level members of a JSON object, recording the offset and the length of each value. Only the
+     * structure of the document is tracked, hence the values are skipped without being decoded.
+     */
+    private static class OffsetScanner {
+
+        private final Gson gson;
+        private final byte[] content;
+        private int pos;
+
+        OffsetScanner(Gson gson, byte[] content) {
+            this.gson = gson;
+            this.content = content;
+            this.pos = 0;
+        }
+
+        Map<String, int[]> scan() {
+            Map<String, int[]> offsets = new HashMap<>();
+            expect('{');
+            if (peek() == '}') {
+                return offsets;
+            }
+            while (true) {
+                String key = readKey();
+                expect(':');
+                skipWhitespace();
+                int start = pos;
+                skipValue();
+                offsets.put(key, new int[]{start, pos - start});
+
+                skipWhitespace();
+                byte next = content[pos++];
+                if (next == '}') {
+                    return offsets;
+                }
+                if (next != ',') {
+                    throw new JsonParseException("Expected ',' or '}' at offset " + (pos - 1));
+                }
+            }
+        }
+
+        private String readKey() {
+            skipWhitespace();
+            int start = pos;
+            boolean escaped = skipString();
+            if (escaped) {
+                return gson.fromJson(new String(content, start, pos - start, StandardCharsets.UTF_8), String.class);
+            }
+            return new String(content, start + 1, pos - start - 2, StandardCharsets.UTF_8);
+        }
+
+        private void skipValue() {
+            int depth = 0;
+            while (pos < content.length) {
+                byte b = content[pos];
+                if (b == '"') {
+                    skipString();
+                    if (depth == 0) {
+                        return;
+                    }
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    if (depth == 0) {
+                        return;
+                    }
+                    if (--depth == 0) {
+                        pos++;
+                        return;
+                    }
+                } else if (depth == 0 && (b == ',' || isWhitespace(b))) {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        /**
+         * Skips a string starting at the current position, and returns whether it contains escape sequences.
+         */
+        private boolean skipString() {
+            if (content[pos] != '"') {
+                throw new JsonParseException("Expected a string at offset " + pos);
+            }
+            boolean escaped = false;
+            pos++;
+            while (content[pos] != '"') {
+                if (content[pos] == '\\') {
+                    escaped = true;
+                    pos++;
+                }
+                pos++;
+            }
+            pos++;
+            return escaped;
+        }
+
+        private void expect(char c) {
+            skipWhitespace();
+            if (content[pos] != c) {
+                throw new JsonParseException("Expected '" + c + "' at offset " + pos);
+            }
+            pos++;
+        }
+
+        private byte peek() {
+            skipWhitespace();
+            return content[pos];
+        }
+
+        private void skipWhitespace() {
+            while (pos < content.length && isWhitespace(content[pos])) {
+                pos++;
+            }
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the shadow document of the expression editor for a source file. The scratch document holds the synthetic
+ * statement of the expression being edited on top of the base content of the file, and keeps it across the requests
+ * of the same expression. Hence, a keystroke only replaces the expression in the statement, instead of inserting the
+ * statement and restoring the original content for every request.
+ *
+ * <p>
+ * The scratch document owns the text of the document it has last written, which is retained by the workspace when
+ * other documents of the project are changed. The base content is re-synchronized whenever the text of the document
+ * is replaced by anything other than the scratch document. The scratch document is not thread-safe, and should only
+ * be accessed through the {@link ScratchDocumentManager}.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class ScratchDocument {
+
+    private Document document;
+    private TextDocument ownedTextDocument;
+    private TextDocument baseTextDocument;
+    private List<ImportDeclarationNode> baseImports;
+
+    // State of the synthetic statement
+    private String statementKey;
+    private LinePosition expressionStart;
+    private LinePosition expressionEnd;
+
+    ScratchDocument(Document document) {
+        rebase(document);
+    }
+
+    /**
+     * Synchronizes the scratch document with the current document of the workspace. If the text of the document has
+     * been replaced externally, the current content is taken as the new base.
+     *
+     * @param currentDocument the current document of the workspace
+     */
+    void sync(Document currentDocument) {
+        if (currentDocument == document) {
+            return;
+        }
+        // The document has been recreated by a change to another document of the project
+        if (currentDocument.textDocument() == ownedTextDocument) {
+            document = currentDocument;
+            return;
+        }
+        rebase(currentDocument);
+    }
+
+    /**
+     * Writes the synthetic statement of an expression to the document. If the statement of the previous request has
+     * the same position, type and imports, only the expression is replaced.
+     *
+     * @param importEdits the text edits of the imports required by the statement
+     * @param startLine   the line position of the statement in the base content
+     * @param prefix      the part of the statement preceding the expression
+     * @param expression  the expression
+     */
+    public void writeStatement(List<TextEdit> importEdits, LinePosition startLine, String prefix, String expression) {
+        String key = getStatementKey(importEdits, startLine, prefix);
+        if (key.equals(statementKey)) {
+            TextDocument textDocument = document.textDocument();
+            int start = textDocument.textPositionFrom(expressionStart);
+            int end = textDocument.textPositionFrom(expressionEnd);
+            TextDocument newTextDocument = apply(textDocument,
+                    List.of(TextEdit.from(TextRange.from(start, end - start), expression)));
+            write(newTextDocument);
+            expressionEnd = newTextDocument.linePositionFrom(start + expression.length());
+            return;
+        }
+
+        // Generate the statement on top of the base content
+        int textPosition = baseTextDocument.textPositionFrom(startLine);
+        int shift = 0;
+        for (TextEdit importEdit : importEdits) {
+            if (importEdit.range().startOffset() <= textPosition) {
+                shift += importEdit.text().length() - importEdit.range().length();
+            }
+        }
+        List<TextEdit> textEdits = new ArrayList<>(importEdits);
+        textEdits.add(TextEdit.from(TextRange.from(textPosition, 0),
+                String.format("%s%s;%n", prefix, expression)));
+        TextDocument newTextDocument = apply(baseTextDocument, textEdits);
+        write(newTextDocument);
+
+        int start = textPosition + shift + prefix.length();
+        expressionStart = newTextDocument.linePositionFrom(start);
+        expressionEnd = newTextDocument.linePositionFrom(start + expression.length());
+        statementKey = key;
+    }
+
+    /**
+     * Applies the given text edits to the base content of the document, removing the synthetic statement if exists.
+     *
+     * @param textEdits the text edits to apply
+     */
+    public void applyToBase(List<TextEdit> textEdits) {
+        baseTextDocument = apply(baseTextDocument, textEdits);
+        write(baseTextDocument);
+        baseImports = getImportDeclarationNodes(document.syntaxTree());
+        statementKey = null;
+    }
+
+    /**
+     * Restores the base content of the document, if the synthetic statement exists.
+     */
+    void restore() {
+        if (statementKey != null) {
+            write(baseTextDocument);
+            statementKey = null;
+        }
+    }
+
+    /**
+     * Returns the current document, which contains the synthetic statement of the last request.
+     *
+     * @return the current document
+     */
+    public Document document() {
+        return document;
+    }
+
+    /**
+     * Returns the import declarations of the base content, which excludes the imports added for the statement.
+     *
+     * @return the import declarations
+     */
+    public List<ImportDeclarationNode> baseImports() {
+        return baseImports;
+    }
+
+    private void rebase(Document newDocument) {
+        this.document = newDocument;
+        this.baseTextDocument = newDocument.textDocument();
+        this.ownedTextDocument = baseTextDocument;
+        this.baseImports = getImportDeclarationNodes(newDocument.syntaxTree());
+        this.statementKey = null;
+    }
+
+    private void write(TextDocument textDocument) {
+        document = document.modify().withContent(textDocument.toString()).apply();
+        ownedTextDocument = document.textDocument();
+    }
+
+    private static TextDocument apply(TextDocument textDocument, List<TextEdit> textEdits) {
+        return textDocument.apply(TextDocumentChange.from(textEdits.toArray(new TextEdit[0])));
+    }
+
+    private static String getStatementKey(List<TextEdit> importEdits, LinePosition startLine, String prefix) {
+        StringBuilder key = new StringBuilder().append(startLine).append(':').append(prefix);
+        for (TextEdit importEdit : importEdits) {
+            key.append(':').append(importEdit.range().startOffset()).append(importEdit.text());
+        }
+        return key.toString();
+    }
+
+    private static List<ImportDeclarationNode> getImportDeclarationNodes(SyntaxTree syntaxTree) {
+        return syntaxTree.rootNode().kind() == SyntaxKind.MODULE_PART
+                ? ((ModulePartNode) syntaxTree.rootNode()).imports().stream().toList()
+                : List.of();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.modelgenerator.commons.scheduling.RequestPriority;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
+import io.ballerina.projects.Document;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Manages the scratch documents of the expression editor sessions. A session starts with the first request of the
+ * expression editor for a file, and ends when the form of the expression editor is closed or when no request has been
+ * received for a while, either of which restores the base content of the document. Until then, the synthetic statement
+ * only lives in the workspace of the expression editor, whose documents are only accessed through this manager, so that
+ * it is never observed by the other services.
+ *
+ * <p>
+ * The requests of a file are serialized on its session, so that the concurrent requests of different forms do not
+ * overwrite the statements of each other. A request holds the session until the future returned by its action
+ * completes, such as a completion computed by the language server on the scratch document. The session is handed over
+ * to the next request without blocking a thread, so a slow request only delays the requests of the same file.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class ScratchDocumentManager {
+
+    private static final long IDLE_TIMEOUT_MILLIS = 1000;
+
+    private final Map<Path, Session> sessions;
+    private final RequestScheduler scheduler;
+    private final ScheduledExecutorService idleTimer;
+
+    public ScratchDocumentManager() {
+        this.sessions = new ConcurrentHashMap<>();
+        this.scheduler = RequestScheduler.getInstance();
+        this.idleTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "expression-editor-idle-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs the given action on the scratch document of the given file, once the previous requests of the file have
+     * completed. The session is held until the future returned by the action completes.
+     *
+     * @param workspaceManager the workspace manager of the expression editor
+     * @param filePath         the path of the file
+     * @param action           the action to run on the scratch document
+     * @param <T>              the type of the action result
+     * @return the future result of the action, which is empty if the document does not exist in the workspace
+     */
+    public <T> CompletableFuture<Optional<T>> apply(WorkspaceManager workspaceManager, Path filePath,
+                                                    Function<ScratchDocument, CompletableFuture<T>> action) {
+        Session session = sessions.computeIfAbsent(filePath, path -> new Session());
+        return acquire(session, workspaceManager, filePath, () -> {
+            synchronized (session) {
+                Optional<Document> document = workspaceManager.document(filePath);
+                if (document.isEmpty()) {
+                    session.scratchDocument = null;
+                    return CompletableFuture.completedFuture(Optional.empty());
+                }
+                if (session.scratchDocument == null) {
+                    session.scratchDocument = new ScratchDocument(document.get());
+                } else {
+                    session.scratchDocument.sync(document.get());
+                }
+                return action.apply(session.scratchDocument).thenApply(Optional::ofNullable);
+            }
+        });
+    }
+
+    /**
+     * Ends the session of the given file once its pending requests have completed, restoring the base content of the
+     * document.
+     *
+     * @param workspaceManager the workspace manager of the expression editor
+     * @param filePath         the path of the file
+     */
+    public void dispose(WorkspaceManager workspaceManager, Path filePath) {
+        Session session = sessions.get(filePath);
+        if (session == null) {
+            return;
+        }
+        acquire(session, workspaceManager, filePath, () -> {
+            synchronized (session) {
+                reset(session, workspaceManager, filePath);
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    private <T> CompletableFuture<T> acquire(Session session, WorkspaceManager workspaceManager, Path filePath,
+                                             Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<Void> lease = new CompletableFuture<>();
+        CompletableFuture<Void> previousLease;
+        synchronized (session) {
+            previousLease = session.lease;
+            session.lease = lease;
+            session.pendingRequests++;
+        }
+
+        // The task is handed over to the scheduler rather than run on the thread releasing the previous lease, which
+        // may belong to the language server
+        CompletableFuture<T> result = previousLease.isDone() ? run(task) : previousLease.thenCompose(
+                ignored -> scheduler.submit(RequestPriority.INTERACTIVE, () -> run(task))
+                        .thenCompose(Function.identity()));
+        result.whenComplete((value, error) -> release(session, workspaceManager, filePath, lease));
+        return result;
+    }
+
+    private void release(Session session, WorkspaceManager workspaceManager, Path filePath,
+                         CompletableFuture<Void> lease) {
+        boolean idle;
+        long releases;
+        synchronized (session) {
+            session.pendingRequests--;
+            releases = ++session.releases;
+            idle = session.pendingRequests == 0;
+        }
+        lease.complete(null);
+        if (idle) {
+            idleTimer.schedule(() -> resetIfIdle(session, workspaceManager, filePath, releases), IDLE_TIMEOUT_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void resetIfIdle(Session session, WorkspaceManager workspaceManager, Path filePath, long releases) {
+        synchronized (session) {
+            // The session has been used since it went idle
+            if (session.pendingRequests > 0 || session.releases != releases) {
+                return;
+            }
+            reset(session, workspaceManager, filePath);
+        }
+    }
+
+    private static void reset(Session session, WorkspaceManager workspaceManager, Path filePath) {
+        ScratchDocument scratchDocument = session.scratchDocument;
+        if (scratchDocument == null) {
+            return;
+        }
+        session.scratchDocument = null;
+        workspaceManager.document(filePath).ifPresent(document -> {
+            scratchDocument.sync(document);
+            scratchDocument.restore();
+        });
+    }
+
+    private static <T> CompletableFuture<T> run(Supplier<CompletableFuture<T>> task) {
+        try {
+            return task.get();
+        } catch (Throwable e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Represents the expression editor session of a file.
+     */
+    private static class Session {
+
+        private ScratchDocument scratchDocument;
+        private CompletableFuture<Void> lease = CompletableFuture.completedFuture(null);
+        private int pendingRequests;
+        private long releases;
+    }
+}
@@ -20,14 +20,22 @@ package io.ballerina.flowmodelgenerator.core;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import io.ballerina.flowmodelgenerator.core.model.FlowNode;
 import io.ballerina.flowmodelgenerator.core.model.NodeBuilder;
 import io.ballerina.flowmodelgenerator.core.model.SourceBuilder;
+import io.ballerina.flowmodelgenerator.core.model.WorkspaceSnapshot;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -38,6 +46,9 @@ import java.util.Map;
  */
 public class SourceGenerator {
 
+    private static final Comparator<Position> POSITION_ORDER =
+            Comparator.comparingInt(Position::getLine).thenComparingInt(Position::getCharacter);
+
     private final Gson gson;
     private final WorkspaceManager workspaceManager;
     private final Path filePath;
@@ -64,4 +75,63 @@ public class SourceGenerator {
                 NodeBuilder.getNodeFromKind(flowNode.codedata().node()).toSource(sourceBuilder);
         return gson.toJsonTree(textEdits);
     }
+
+    /**
+     * Converts several flow nodes to source code against a single snapshot of the workspace. The project, documents
+     * and semantic models are resolved once per file, and the text edits of all the nodes are merged per file.
+     *
+     * @param diagramNodes The flow model nodes to be converted, in the order they should appear in the source.
+     * @return The merged text edits of the flow model nodes.
+     */
+    public JsonElement toSourceCode(JsonArray diagramNodes) {
+        WorkspaceSnapshot workspaceSnapshot = new WorkspaceSnapshot(workspaceManager);
+        Map<Path, List<TextEdit>> textEdits = new LinkedHashMap<>();
+        for (JsonElement diagramNode : diagramNodes) {
+            FlowNode flowNode = gson.fromJson(diagramNode, FlowNode.class);
+            SourceBuilder sourceBuilder = new SourceBuilder(flowNode, workspaceSnapshot, filePath);
+            NodeBuilder.getNodeFromKind(flowNode.codedata().node()).toSource(sourceBuilder)
+                    .forEach((path, edits) -> textEdits.computeIfAbsent(path, k -> new ArrayList<>()).addAll(edits));
+        }
+
+        Map<Path, List<TextEdit>> mergedTextEdits = new LinkedHashMap<>();
+        textEdits.forEach((path, edits) -> mergedTextEdits.put(path, mergeTextEdits(edits)));
+        return gson.toJsonTree(mergedTextEdits);
+    }
+
+    /**
+     * Merges the text edits of a file into a list of non-overlapping edits sorted by their positions. Identical edits,
+     * such as the same import statement generated for several nodes, are only kept once, and the insertions at the
+     * same position are combined in the order they were generated.
+     *
+     * @param textEdits the text edits of a file
+     * @return the merged text edits
+     * @throws IllegalArgumentException if the edits of two nodes replace overlapping ranges
+     */
+    private static List<TextEdit> mergeTextEdits(List<TextEdit> textEdits) {
+        List<TextEdit> uniqueEdits = new ArrayList<>(new LinkedHashSet<>(textEdits));
+        uniqueEdits.sort(Comparator.comparing((TextEdit textEdit) -> textEdit.getRange().getStart(), POSITION_ORDER)
+                .thenComparing(textEdit -> textEdit.getRange().getEnd(), POSITION_ORDER));
+
+        List<TextEdit> mergedEdits = new ArrayList<>();
+        for (TextEdit textEdit : uniqueEdits) {
+            if (mergedEdits.isEmpty()) {
+                mergedEdits.add(textEdit);
+                continue;
+            }
+            TextEdit lastEdit = mergedEdits.get(mergedEdits.size() - 1);
+            Range lastRange = lastEdit.getRange();
+            Range range = textEdit.getRange();
+            if (lastRange.equals(range) && range.getStart().equals(range.getEnd())) {
+                // The insertions at the same position are applied in order, which is the same as concatenating them
+                mergedEdits.set(mergedEdits.size() - 1,
+                        new TextEdit(range, lastEdit.getNewText() + textEdit.getNewText()));
+                continue;
+            }
+            if (POSITION_ORDER.compare(range.getStart(), lastRange.getEnd()) < 0) {
+                throw new IllegalArgumentException("Overlapping text edits at line " + range.getStart().getLine());
+            }
+            mergedEdits.add(textEdit);
+        }
+        return mergedEdits;
+    }
 }
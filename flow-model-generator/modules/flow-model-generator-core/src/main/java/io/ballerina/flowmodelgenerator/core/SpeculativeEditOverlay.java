@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Applies speculative edits, such as the suggestions of the copilot, on top of a project without modifying it.
+ *
+ * <p>
+ * The project of the workspace is duplicated once per package snapshot, and the duplicate is kept as the base of
+ * every speculative edit against the same snapshot. Each edit is applied to the base document of the duplicate, so the
+ * modified package shares the unaffected module contexts with the base package and only the edited document is
+ * reparsed. The compilation state of those module contexts is therefore reused by the subsequent edits, instead of
+ * duplicating and recompiling the whole project for every suggestion. A new base is created as soon as the package of
+ * the workspace changes.
+ * </p>
+ *
+ * <p>
+ * The edits against a base are queued, since applying an edit changes the current package of the duplicate and the
+ * compiler is not thread-safe.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class SpeculativeEditOverlay {
+
+    private static final int MAX_SNAPSHOTS = 8;
+
+    private final Map<Path, BaseSnapshot> snapshots;
+
+    public SpeculativeEditOverlay() {
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, BaseSnapshot> eldest) {
+                return size() > MAX_SNAPSHOTS;
+            }
+        };
+    }
+
+    /**
+     * Applies the given text edit to the document of the given file, and runs the analysis on the result while the
+     * edit is in effect.
+     *
+     * @param project  the project of the workspace, which is not modified
+     * @param filePath the path of the document to edit
+     * @param textEdit the edit to apply
+     * @param analysis the analysis to run on the edited document
+     * @param <T>      the type of the analysis result
+     * @return the result of the analysis
+     */
+    public <T> T apply(Project project, Path filePath, TextEdit textEdit, Function<SpeculativeEdit, T> analysis) {
+        BaseSnapshot snapshot = getSnapshot(project);
+        synchronized (snapshot) {
+            DocumentId documentId = snapshot.project().documentId(filePath);
+            Module baseModule = snapshot.basePackage().module(documentId.moduleId());
+            Document baseDocument = baseModule.document(documentId);
+            TextDocument textDocument = baseDocument.textDocument()
+                    .apply(TextDocumentChange.from(new TextEdit[]{textEdit}));
+            Document document = baseDocument.modify()
+                    .withContent(String.join(System.lineSeparator(), textDocument.textLines()))
+                    .apply();
+            SemanticModel semanticModel = document.module().getCompilation().getSemanticModel();
+            return analysis.apply(new SpeculativeEdit(snapshot.project(), document, textDocument, semanticModel));
+        }
+    }
+
+    private BaseSnapshot getSnapshot(Project project) {
+        Path sourceRoot = project.sourceRoot();
+        Package currentPackage = project.currentPackage();
+        synchronized (snapshots) {
+            BaseSnapshot snapshot = snapshots.get(sourceRoot);
+            if (snapshot != null && snapshot.sourcePackage() == currentPackage) {
+                return snapshot;
+            }
+            Project duplicate = project.duplicate();
+            snapshot = new BaseSnapshot(currentPackage, duplicate, duplicate.currentPackage());
+            snapshots.put(sourceRoot, snapshot);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Represents a speculative edit, which is only valid within the analysis it is passed to.
+     *
+     * @param project       the duplicated project, whose current package contains the edit
+     * @param document      the edited document
+     * @param textDocument  the text of the edited document
+     * @param semanticModel the semantic model of the module of the edited document
+     * @since 2.0.0
+     */
+    public record SpeculativeEdit(Project project, Document document, TextDocument textDocument,
+                                  SemanticModel semanticModel) {
+
+        /**
+         * Returns the document of the given path in the edited package.
+         *
+         * @param filePath the path of the document
+         * @return the document, if the package contains it
+         */
+        public Optional<Document> document(Path filePath) {
+            try {
+                DocumentId documentId = project.documentId(filePath);
+                return Optional.of(project.currentPackage().module(documentId.moduleId()).document(documentId));
+            } catch (RuntimeException e) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private record BaseSnapshot(Package sourcePackage, Project project, Package basePackage) {
+
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import io.ballerina.modelgenerator.commons.metrics.RequestMetrics;
+import org.sqlite.SQLiteConfig;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * A bounded pool of long-lived, read-only connections to the central index database. A connection is confined to a
+ * single thread from the moment it is acquired until it is closed, which returns it to the pool. Each connection keeps
+ * its own cache of prepared statements, so the fixed queries issued by {@link DatabaseManager} are compiled once per
+ * connection instead of once per lookup.
+ *
+ * @since 2.0.0
+ */
+class ConnectionPool implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+    private static final int DEFAULT_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final long DEFAULT_ACQUIRE_TIMEOUT_MILLIS = 30_000;
+    static final int STATEMENT_CACHE_SIZE = 32;
+    private static final String MMAP_SIZE = String.valueOf(256L * 1024 * 1024);
+    // Phase of the request metrics that covers a lease of a connection, from the acquisition to the release
+    private static final String QUERY_PHASE = "centralIndexQuery";
+
+    private final String dbUrl;
+    private final int maxSize;
+    private final long acquireTimeoutMillis;
+    private final BlockingQueue<PooledConnection> idleConnections;
+    private final AtomicInteger openConnections;
+    private volatile boolean closed;
+
+    ConnectionPool(String dbUrl) {
+        this(dbUrl, DEFAULT_POOL_SIZE);
+    }
+
+    ConnectionPool(String dbUrl, int maxSize) {
+        this(dbUrl, maxSize, DEFAULT_ACQUIRE_TIMEOUT_MILLIS);
+    }
+
+    ConnectionPool(String dbUrl, int maxSize, long acquireTimeoutMillis) {
+        this.dbUrl = dbUrl;
+        this.maxSize = maxSize;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.idleConnections = new LinkedBlockingQueue<>(maxSize);
+        this.openConnections = new AtomicInteger();
+        this.closed = false;
+    }
+
+    /**
+     * Acquires a connection from the pool, opening a new one if the pool has not reached its capacity. The returned
+     * connection must be closed by the caller, preferably with a try-with-resources block, to hand it back.
+     *
+     * @return a connection that is exclusively owned by the calling thread
+     * @throws SQLException if the pool is closed, a connection cannot be opened, or none became available in time
+     */
+    PooledConnection acquire() throws SQLException {
+        long startTime = System.nanoTime();
+        PooledConnection pooledConnection = acquireConnection();
+        pooledConnection.leaseStartTime = startTime;
+        return pooledConnection;
+    }
+
+    private PooledConnection acquireConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool for the central index is closed");
+        }
+
+        PooledConnection pooledConnection = idleConnections.poll();
+        if (pooledConnection != null) {
+            return pooledConnection;
+        }
+
+        int current;
+        while ((current = openConnections.get()) < maxSize) {
+            if (openConnections.compareAndSet(current, current + 1)) {
+                try {
+                    return new PooledConnection(openConnection());
+                } catch (SQLException e) {
+                    openConnections.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+
+        try {
+            pooledConnection = idleConnections.poll(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a central index connection", e);
+        }
+        if (pooledConnection == null) {
+            throw new SQLException("Timed out waiting for a central index connection");
+        }
+        return pooledConnection;
+    }
+
+    private Connection openConnection() throws SQLException {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setReadOnly(true);
+        config.setSharedCache(true);
+        config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, MMAP_SIZE);
+        Connection connection = DriverManager.getConnection(dbUrl, config.toProperties());
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA query_only = true;");
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private void release(PooledConnection pooledConnection) {
+        if (closed || pooledConnection.isClosed() || !idleConnections.offer(pooledConnection)) {
+            pooledConnection.closeQuietly();
+            openConnections.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.poll()) != null) {
+            pooledConnection.closeQuietly();
+            openConnections.decrementAndGet();
+        }
+    }
+
+    /**
+     * A connection borrowed from the {@link ConnectionPool}. Closing it returns the underlying connection to the pool
+     * along with its prepared statement cache.
+     *
+     * @since 2.0.0
+     */
+    final class PooledConnection implements AutoCloseable {
+
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statementCache;
+        private long leaseStartTime;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.statementCache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() <= STATEMENT_CACHE_SIZE) {
+                        return false;
+                    }
+                    closeStatement(eldest.getValue());
+                    return true;
+                }
+            };
+        }
+
+        /**
+         * Returns a prepared statement for the given SQL, reusing the cached one of this connection if present. The
+         * statement is owned by the connection and must not be closed by the caller.
+         *
+         * @param sql the SQL query
+         * @return a prepared statement with its parameters cleared
+         * @throws SQLException if the statement cannot be prepared
+         */
+        PreparedStatement prepareStatement(String sql) throws SQLException {
+            PreparedStatement stmt = statementCache.get(sql);
+            if (stmt != null && !stmt.isClosed()) {
+                stmt.clearParameters();
+                return stmt;
+            }
+            stmt = connection.prepareStatement(sql);
+            statementCache.put(sql, stmt);
+            return stmt;
+        }
+
+        private boolean isClosed() {
+            try {
+                return connection.isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        }
+
+        private void closeQuietly() {
+            statementCache.values().forEach(PooledConnection::closeStatement);
+            statementCache.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.warning("Error closing the central index connection: " + e.getMessage());
+            }
+        }
+
+        private static void closeStatement(PreparedStatement stmt) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                LOGGER.warning("Error closing a cached statement: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() {
+            RequestMetrics.recordPhase(QUERY_PHASE, leaseStartTime);
+            release(this);
+        }
+    }
+}
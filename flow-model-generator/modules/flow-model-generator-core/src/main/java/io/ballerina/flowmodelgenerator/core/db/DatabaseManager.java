@@ -22,13 +22,9 @@ import io.ballerina.flowmodelgenerator.core.db.model.Function;
 import io.ballerina.flowmodelgenerator.core.db.model.FunctionResult;
 import io.ballerina.flowmodelgenerator.core.db.model.Parameter;
 import io.ballerina.flowmodelgenerator.core.db.model.ParameterResult;
+import io.ballerina.modelgenerator.commons.metrics.CacheStats;
+import io.ballerina.modelgenerator.commons.metrics.RequestMetrics;
 
-import java.io.IOException;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -48,7 +44,20 @@ public class DatabaseManager {
 
     private static final String INDEX_FILE_NAME = "central-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
-    private final String dbPath;
+    private static final String CACHE_SIZE_PROPERTY = "ballerina.flowmodel.index.cache.size";
+    private static final String CACHE_EXPIRY_PROPERTY = "ballerina.flowmodel.index.cache.expiryMillis";
+    private static final int DEFAULT_CACHE_SIZE = 4096;
+    private static final int MIN_SEARCH_TERM_LENGTH = 3;
+    // Rank full-text matches on the function name first, followed by the package name, keywords and description
+    private static final String SEARCH_RANK_ORDER = "ORDER BY bm25(FunctionSearch, 10.0, 1.0, 5.0, 2.0) ";
+
+    private final IndexStore indexStore;
+    private final ConnectionPool connectionPool;
+    private final LookupCache<SymbolKey, Optional<FunctionResult>> functionCache;
+    private final LookupCache<SymbolKey, Optional<FunctionResult>> actionCache;
+    private final LookupCache<Integer, Optional<FunctionResult>> functionByIdCache;
+    private final LookupCache<Integer, List<ParameterResult>> parameterCache;
+    private final boolean hasSearchIndex;
 
     private static class Holder {
 
@@ -60,31 +69,101 @@ public class DatabaseManager {
     }
 
     private DatabaseManager() {
+        this(loadIndexStore());
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+
+        for (LookupCache<?, ?> cache : List.of(functionCache, actionCache, functionByIdCache, parameterCache)) {
+            RequestMetrics.getInstance().registerCache("centralIndex." + cache.stats().name(), () -> {
+                LookupCache.Stats stats = cache.stats();
+                return new CacheStats(stats.hits(), stats.misses());
+            });
+        }
+    }
+
+    /**
+     * Creates a database manager over the given index, which is owned and closed by the manager.
+     *
+     * @param indexStore the store of the central index
+     */
+    DatabaseManager(IndexStore indexStore) {
+        this.indexStore = indexStore;
+        connectionPool = new ConnectionPool(indexStore.jdbcUrl());
+
+        int cacheSize = Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE);
+        long cacheExpiry = Long.getLong(CACHE_EXPIRY_PROPERTY, 0L);
+        functionCache = new LookupCache<>("function", cacheSize, cacheExpiry);
+        actionCache = new LookupCache<>("action", cacheSize, cacheExpiry);
+        functionByIdCache = new LookupCache<>("functionById", cacheSize, cacheExpiry);
+        parameterCache = new LookupCache<>("parameter", cacheSize, cacheExpiry);
+        hasSearchIndex = detectSearchIndex();
+    }
+
+    private static IndexStore loadIndexStore() {
         try {
             Class.forName("org.sqlite.JDBC");
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Failed to load SQLite JDBC driver", e);
         }
+        return IndexStore.load(INDEX_FILE_NAME);
+    }
 
-        Path tempDir;
-        try {
-            tempDir = Files.createTempDirectory("central-index");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create a temporary directory", e);
-        }
+    void close() {
+        connectionPool.close();
+        indexStore.close();
+    }
+
+    /**
+     * Returns the statistics of the in-memory lookup caches placed in front of the central index.
+     *
+     * @return the statistics of each lookup cache
+     */
+    public List<LookupCache.Stats> getCacheStats() {
+        return List.of(functionCache.stats(), actionCache.stats(), functionByIdCache.stats(),
+                parameterCache.stats());
+    }
 
-        URL dbUrl = getClass().getClassLoader().getResource(INDEX_FILE_NAME);
-        if (dbUrl == null) {
-            throw new RuntimeException("Database resource not found: " + INDEX_FILE_NAME);
+    /**
+     * Converts a user search query to an FTS5 query over the {@code FunctionSearch} table. Each whitespace separated
+     * term is quoted so that it is matched literally as a substring. Terms shorter than a trigram cannot be served by
+     * the index, so a query containing such a term is left to the {@code LIKE} search as a whole rather than being
+     * broadened by dropping the term.
+     *
+     * @param query the user search query
+     * @return the FTS5 query, or {@code null} if the search index cannot serve the query
+     */
+    private String toSearchQuery(String query) {
+        if (!hasSearchIndex || query == null) {
+            return null;
         }
-        Path tempFile = tempDir.resolve(INDEX_FILE_NAME);
-        try {
-            Files.copy(dbUrl.openStream(), tempFile);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
+        List<String> terms = new ArrayList<>();
+        for (String term : query.trim().split("\\s+")) {
+            if (term.length() < MIN_SEARCH_TERM_LENGTH) {
+                return null;
+            }
+            terms.add("\"" + term.replace("\"", "\"\"") + "\"");
+        }
+        return String.join(" ", terms);
+    }
+
+    private boolean detectSearchIndex() {
+        String sql = "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = 'FunctionSearch';";
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            LOGGER.warning("Failed to detect the function search index: " + e.getMessage());
+            return false;
         }
+    }
+
+    /**
+     * Identifies a symbol in the central index. The resource path is {@code null} for symbols other than resource
+     * functions.
+     */
+    private record SymbolKey(String org, String module, String symbol, String resourcePath, FunctionKind kind) {
 
-        dbPath = "jdbc:sqlite:" + tempFile.toString();
     }
 
     public enum FunctionKind {
@@ -112,28 +191,29 @@ public class DatabaseManager {
                 "LIMIT ? " +
                 "OFFSET ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, kind.name());
             stmt.setString(2, queryMap.get("limit"));
             stmt.setString(3, queryMap.get("offset"));
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionResult> functionResults = new ArrayList<>();
-            while (rs.next()) {
-                FunctionResult functionResult = new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getInt("return_error"));
-                functionResults.add(functionResult);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionResult> functionResults = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionResult functionResult = new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getInt("return_error"));
+                    functionResults.add(functionResult);
+                }
+                return functionResults;
             }
-            return functionResults;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -156,27 +236,28 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.kind = ? AND p.org = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, functionKind.name());
             stmt.setString(2, orgName);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionResult> functionResults = new ArrayList<>();
-            while (rs.next()) {
-                FunctionResult functionResult = new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getInt("return_error"));
-                functionResults.add(functionResult);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionResult> functionResults = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionResult functionResult = new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getInt("return_error"));
+                    functionResults.add(functionResult);
+                }
+                return functionResults;
             }
-            return functionResults;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -184,6 +265,62 @@ public class DatabaseManager {
     }
 
     public List<FunctionResult> searchFunctions(Map<String, String> queryMap, FunctionKind kind) {
+        String searchQuery = toSearchQuery(queryMap.get("q"));
+        if (searchQuery == null) {
+            return searchFunctionsByPattern(queryMap, kind);
+        }
+
+        String sql = "SELECT " +
+                "f.function_id, " +
+                "f.name AS function_name, " +
+                "f.description AS function_description, " +
+                "f.return_type, " +
+                "f.resource_path, " +
+                "f.kind, " +
+                "f.return_error, " +
+                "p.name AS package_name, " +
+                "p.org, " +
+                "p.version " +
+                "FROM FunctionSearch s " +
+                "JOIN Function f ON f.function_id = s.rowid " +
+                "JOIN Package p ON f.package_id = p.package_id " +
+                "WHERE FunctionSearch MATCH ? " +
+                "AND f.kind = ? " +
+                SEARCH_RANK_ORDER +
+                "LIMIT ? " +
+                "OFFSET ?;";
+
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
+            stmt.setString(1, searchQuery);
+            stmt.setString(2, kind.name());
+            stmt.setString(3, queryMap.get("limit"));
+            stmt.setString(4, queryMap.get("offset"));
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionResult> functionResults = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionResult functionResult = new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getInt("return_error"));
+                    functionResults.add(functionResult);
+                }
+                return functionResults;
+            }
+        } catch (SQLException e) {
+            LOGGER.severe("Error executing query: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    private List<FunctionResult> searchFunctionsByPattern(Map<String, String> queryMap, FunctionKind kind) {
         String sql = "SELECT " +
                 "f.function_id, " +
                 "f.name AS function_name, " +
@@ -206,30 +343,31 @@ public class DatabaseManager {
                 "OFFSET ?;";
         String wildcardKeyword = "%" + queryMap.get("q") + "%";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, kind.name());
             stmt.setString(2, wildcardKeyword);
             stmt.setString(3, wildcardKeyword);
             stmt.setString(4, queryMap.get("limit"));
             stmt.setString(5, queryMap.get("offset"));
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionResult> functionResults = new ArrayList<>();
-            while (rs.next()) {
-                FunctionResult functionResult = new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getInt("return_error"));
-                functionResults.add(functionResult);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionResult> functionResults = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionResult functionResult = new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getInt("return_error"));
+                    functionResults.add(functionResult);
+                }
+                return functionResults;
             }
-            return functionResults;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -237,6 +375,12 @@ public class DatabaseManager {
     }
 
     public Optional<FunctionResult> getFunction(String org, String module, String symbol, FunctionKind kind) {
+        Optional<FunctionResult> functionResult = functionCache.get(new SymbolKey(org, module, symbol, null, kind),
+                key -> queryFunction(key.org(), key.module(), key.symbol(), key.kind()));
+        return functionResult == null ? Optional.empty() : functionResult;
+    }
+
+    private Optional<FunctionResult> queryFunction(String org, String module, String symbol, FunctionKind kind) {
         String sql = "SELECT " +
                 "f.function_id, " +
                 "f.name AS function_name, " +
@@ -255,35 +399,44 @@ public class DatabaseManager {
                 "AND p.name = ? " +
                 "AND f.name = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, kind.name());
             stmt.setString(2, org);
             stmt.setString(3, module);
             stmt.setString(4, symbol);
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getInt("return_error")));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getInt("return_error")));
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
-            return Optional.empty();
+            return null;
         }
     }
 
     public Optional<FunctionResult> getAction(String org, String module, String symbol, String resourcePath,
                                               FunctionKind kind) {
+        SymbolKey symbolKey = new SymbolKey(org, module, symbol, resourcePath, kind);
+        Optional<FunctionResult> functionResult = actionCache.get(symbolKey,
+                key -> queryAction(key.org(), key.module(), key.symbol(), key.resourcePath(), key.kind()));
+        return functionResult == null ? Optional.empty() : functionResult;
+    }
+
+    private Optional<FunctionResult> queryAction(String org, String module, String symbol, String resourcePath,
+                                                 FunctionKind kind) {
         StringBuilder sql = new StringBuilder("SELECT ");
         sql.append("f.function_id, ");
         sql.append("f.name AS function_name, ");
@@ -307,8 +460,8 @@ public class DatabaseManager {
             sql.append("AND f.name = ?;");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             stmt.setString(1, org);
             stmt.setString(2, module);
             stmt.setString(3, kind.name());
@@ -316,28 +469,34 @@ public class DatabaseManager {
             if (resourcePath != null) {
                 stmt.setString(5, resourcePath);
             }
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getInt("return_error")));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getInt("return_error")));
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
-            return Optional.empty();
+            return null;
         }
     }
 
     public Optional<FunctionResult> getFunction(int functionId) {
+        Optional<FunctionResult> functionResult = functionByIdCache.get(functionId, this::queryFunction);
+        return functionResult == null ? Optional.empty() : functionResult;
+    }
+
+    private Optional<FunctionResult> queryFunction(int functionId) {
         String sql = "SELECT " +
                 "f.function_id, " +
                 "f.name AS function_name, " +
@@ -353,68 +512,45 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.function_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getInt("return_error")));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getInt("return_error")));
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
-            return Optional.empty();
+            return null;
         }
     }
 
     public List<ParameterResult> getFunctionParameters(int functionId) {
-        String sql = "SELECT " +
-                "p.parameter_id, " +
-                "p.name, " +
-                "p.type, " +
-                "p.kind, " +
-                "p.optional, " +
-                "p.default_value, " +
-                "p.description, " +
-                "p.import_statements " + // Added this line
-                "FROM Parameter p " +
-                "WHERE p.function_id = ?;";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            List<ParameterResult> parameterResults = new ArrayList<>();
-            while (rs.next()) {
-                ParameterResult parameterResult = new ParameterResult(
-                        rs.getInt("parameter_id"),
-                        rs.getString("name"),
-                        rs.getString("type"),
-                        Parameter.Kind.valueOf(rs.getString("kind")),
-                        rs.getString("default_value"),
-                        rs.getString("description"),
-                        rs.getInt("optional"),
-                        rs.getString("import_statements")
-                );
-                parameterResults.add(parameterResult);
-            }
-            return parameterResults;
-        } catch (SQLException e) {
-            Logger.getGlobal().severe("Error executing query: " + e.getMessage());
-            return List.of();
-        }
+        List<ParameterResult> parameterResults = parameterCache.get(functionId, this::queryFunctionParameters);
+        return parameterResults == null ? List.of() : parameterResults;
     }
 
     public LinkedHashMap<String, ParameterResult> getFunctionParametersAsMap(int functionId) {
+        LinkedHashMap<String, ParameterResult> parameterResults = new LinkedHashMap<>();
+        for (ParameterResult parameterResult : getFunctionParameters(functionId)) {
+            parameterResults.put(parameterResult.name(), parameterResult);
+        }
+        return parameterResults;
+    }
+
+    private List<ParameterResult> queryFunctionParameters(int functionId) {
         String sql = "SELECT " +
                 "p.parameter_id, " +
                 "p.name, " +
@@ -426,29 +562,29 @@ public class DatabaseManager {
                 "p.import_statements " + // Added this line
                 "FROM Parameter p " +
                 "WHERE p.function_id = ?;";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            LinkedHashMap<String, ParameterResult> parameterResults = new LinkedHashMap<>();
-            while (rs.next()) {
-                String paramName = rs.getString("name");
-                ParameterResult parameterResult = new ParameterResult(
-                        rs.getInt("parameter_id"),
-                        paramName,
-                        rs.getString("type"),
-                        Parameter.Kind.valueOf(rs.getString("kind")),
-                        rs.getString("default_value"),
-                        rs.getString("description"),
-                        rs.getInt("optional"),
-                        rs.getString("import_statements")
-                );
-                parameterResults.put(paramName, parameterResult);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<ParameterResult> parameterResults = new ArrayList<>();
+                while (rs.next()) {
+                    ParameterResult parameterResult = new ParameterResult(
+                            rs.getInt("parameter_id"),
+                            rs.getString("name"),
+                            rs.getString("type"),
+                            Parameter.Kind.valueOf(rs.getString("kind")),
+                            rs.getString("default_value"),
+                            rs.getString("description"),
+                            rs.getInt("optional"),
+                            rs.getString("import_statements")
+                    );
+                    parameterResults.add(parameterResult);
+                }
+                return List.copyOf(parameterResults);
             }
-            return parameterResults;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
-            return new LinkedHashMap<>();
+            return null;
         }
     }
 
@@ -465,26 +601,27 @@ public class DatabaseManager {
                 "JOIN FunctionConnector fc ON f.function_id = fc.function_id " +
                 "WHERE fc.connector_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, connectorId);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionResult> functionResults = new ArrayList<>();
-            while (rs.next()) {
-                FunctionResult functionResult = new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("description"),
-                        rs.getString("return_type"),
-                        null, // packageName is not selected in this query
-                        null, // org is not selected in this query
-                        null, // version is not selected in this query
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getInt("return_error"));
-                functionResults.add(functionResult);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionResult> functionResults = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionResult functionResult = new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("description"),
+                            rs.getString("return_type"),
+                            null, // packageName is not selected in this query
+                            null, // org is not selected in this query
+                            null, // version is not selected in this query
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getInt("return_error"));
+                    functionResults.add(functionResult);
+                }
+                return functionResults;
             }
-            return functionResults;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -508,9 +645,21 @@ public class DatabaseManager {
         sql.append("p.name AS package_name, ");
         sql.append("p.org, ");
         sql.append("p.version ");
-        sql.append("FROM Function f ");
+
+        boolean hasQuery = queryMap.containsKey("q");
+        String searchQuery = hasQuery ? toSearchQuery(queryMap.get("q")) : null;
+        if (searchQuery != null) {
+            sql.append("FROM FunctionSearch s ");
+            sql.append("JOIN Function f ON f.function_id = s.rowid ");
+        } else {
+            sql.append("FROM Function f ");
+        }
         sql.append("JOIN Package p ON f.package_id = p.package_id ");
-        sql.append("WHERE p.name IN (");
+        sql.append("WHERE ");
+        if (searchQuery != null) {
+            sql.append("FunctionSearch MATCH ? AND ");
+        }
+        sql.append("p.name IN (");
         for (int i = 0; i < packageNames.size(); i++) {
             sql.append("?");
             if (i < packageNames.size() - 1) {
@@ -519,17 +668,23 @@ public class DatabaseManager {
         }
         sql.append(") AND f.kind = ? ");
 
-        boolean hasQuery = queryMap.containsKey("q");
-        if (hasQuery) {
+        if (searchQuery != null) {
+            sql.append(SEARCH_RANK_ORDER);
+        } else if (hasQuery) {
             sql.append("AND (f.name LIKE ? OR p.name LIKE ?) ");
         }
 
         sql.append("LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (ConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             int paramIndex = 1;
 
+            // Set the full-text search parameter if the search index can serve the query
+            if (searchQuery != null) {
+                stmt.setString(paramIndex++, searchQuery);
+            }
+
             // Set package name parameters
             for (String packageName : packageNames) {
                 stmt.setString(paramIndex++, packageName);
@@ -538,8 +693,8 @@ public class DatabaseManager {
             // Set function kind parameter
             stmt.setString(paramIndex++, kind.name());
 
-            // Set wildcard parameters if search query exists
-            if (hasQuery) {
+            // Set wildcard parameters if the search query cannot be served by the search index
+            if (hasQuery && searchQuery == null) {
                 String wildcardKeyword = "%" + queryMap.get("q") + "%";
                 stmt.setString(paramIndex++, wildcardKeyword);
                 stmt.setString(paramIndex++, wildcardKeyword);
@@ -549,23 +704,24 @@ public class DatabaseManager {
             stmt.setInt(paramIndex++, queryMap.containsKey("limit") ? Integer.parseInt(queryMap.get("limit")) : 10);
             stmt.setInt(paramIndex, queryMap.containsKey("offset") ? Integer.parseInt(queryMap.get("offset")) : 0);
 
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionResult> functionResults = new ArrayList<>();
-            while (rs.next()) {
-                FunctionResult functionResult = new FunctionResult(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        Function.Kind.valueOf(rs.getString("kind")),
-                        rs.getInt("return_error"));
-                functionResults.add(functionResult);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionResult> functionResults = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionResult functionResult = new FunctionResult(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            Function.Kind.valueOf(rs.getString("kind")),
+                            rs.getInt("return_error"));
+                    functionResults.add(functionResult);
+                }
+                return functionResults;
             }
-            return functionResults;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Locates the central index database bundled with the language server. The bundled database is extracted once into
+ * a content-addressed directory under the Ballerina user home, keyed by its SHA-256 checksum, and reused across
+ * restarts after verifying the checksum. If the user home is not writable, the database is restored into a shared
+ * in-memory database instead, which is kept alive by an anchor connection until the store is closed.
+ *
+ * @since 2.0.0
+ */
+final class IndexStore implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexStore.class.getName());
+    private static final String CHECKSUM_FILE_SUFFIX = ".sha256";
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+    private static final String INDEX_DIR = "flow-model";
+
+    private final String jdbcUrl;
+    private final Connection anchorConnection;
+
+    private IndexStore(String jdbcUrl, Connection anchorConnection) {
+        this.jdbcUrl = jdbcUrl;
+        this.anchorConnection = anchorConnection;
+    }
+
+    /**
+     * Loads the given database resource, preferring the persistent copy in the Ballerina user home.
+     *
+     * @param indexFileName the name of the database resource in the classpath
+     * @return the index store
+     */
+    static IndexStore load(String indexFileName) {
+        URL dbUrl = IndexStore.class.getClassLoader().getResource(indexFileName);
+        if (dbUrl == null) {
+            throw new RuntimeException("Database resource not found: " + indexFileName);
+        }
+        return load(dbUrl, indexFileName, () -> RepoUtils.createAndGetHomeReposPath().resolve(INDEX_DIR));
+    }
+
+    /**
+     * Loads the given database, preferring a persistent copy in the given index directory.
+     *
+     * @param dbUrl         the URL of the bundled database
+     * @param indexFileName the name of the database file
+     * @param indexRoot     the directory holding the persistent copies, which may fail if it is not available
+     * @return the index store
+     */
+    static IndexStore load(URL dbUrl, String indexFileName, Supplier<Path> indexRoot) {
+        String checksum;
+        try {
+            checksum = getBundledChecksum(indexFileName, dbUrl);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read the database resource: " + indexFileName, e);
+        }
+
+        try {
+            Path indexFile = persist(dbUrl, indexRoot.get(), indexFileName, checksum);
+            return new IndexStore("jdbc:sqlite:" + indexFile, null);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Failed to persist the central index in the user home, loading it into memory: " +
+                    e.getMessage());
+        }
+
+        try {
+            return loadInMemory(dbUrl, checksum);
+        } catch (IOException | SQLException e) {
+            throw new RuntimeException("Failed to load the central index into memory", e);
+        }
+    }
+
+    String jdbcUrl() {
+        return jdbcUrl;
+    }
+
+    private static String getBundledChecksum(String indexFileName, URL dbUrl) throws IOException {
+        URL checksumUrl = IndexStore.class.getClassLoader().getResource(indexFileName + CHECKSUM_FILE_SUFFIX);
+        if (checksumUrl != null) {
+            try (InputStream inputStream = checksumUrl.openStream()) {
+                String checksum = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
+                if (!checksum.isEmpty()) {
+                    return checksum;
+                }
+            }
+        }
+        try (InputStream inputStream = dbUrl.openStream()) {
+            return checksum(inputStream);
+        }
+    }
+
+    private static Path persist(URL dbUrl, Path indexRoot, String indexFileName, String checksum)
+            throws IOException {
+        Path indexDir = indexRoot.resolve(checksum);
+        Path indexFile = indexDir.resolve(indexFileName);
+        if (Files.isRegularFile(indexFile) && isValid(indexFile, checksum)) {
+            return indexFile;
+        }
+
+        // Extract into a temporary file in the same directory and move it into place, so that concurrent language
+        // server instances never observe a partially written database.
+        Files.createDirectories(indexDir);
+        Path tempFile = Files.createTempFile(indexDir, indexFileName, ".tmp");
+        try {
+            try (InputStream inputStream = dbUrl.openStream()) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (!isValid(tempFile, checksum)) {
+                throw new IOException("Checksum mismatch in the extracted central index");
+            }
+            try {
+                Files.move(tempFile, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return indexFile;
+    }
+
+    private static IndexStore loadInMemory(URL dbUrl, String checksum) throws IOException, SQLException {
+        String jdbcUrl = "jdbc:sqlite:file:central-index-" + checksum + "?mode=memory&cache=shared";
+        Path tempFile = Files.createTempFile("central-index", ".sqlite");
+        try {
+            try (InputStream inputStream = dbUrl.openStream()) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Connection anchorConnection = DriverManager.getConnection(jdbcUrl);
+            try (Statement stmt = anchorConnection.createStatement()) {
+                stmt.executeUpdate("restore from " + toSqlLiteral(tempFile.toString()));
+            } catch (SQLException e) {
+                anchorConnection.close();
+                throw e;
+            }
+            return new IndexStore(jdbcUrl, anchorConnection);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Quotes the given value as an SQL string literal, so that paths containing spaces or quotes are not split.
+     *
+     * @param value the value to quote
+     * @return the SQL string literal
+     */
+    private static String toSqlLiteral(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+
+    private static boolean isValid(Path indexFile, String checksum) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(indexFile)) {
+            return checksum.equalsIgnoreCase(checksum(inputStream));
+        }
+    }
+
+    private static String checksum(InputStream inputStream) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Checksum algorithm not available: " + CHECKSUM_ALGORITHM, e);
+        }
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @Override
+    public void close() {
+        if (anchorConnection == null) {
+            return;
+        }
+        try {
+            anchorConnection.close();
+        } catch (SQLException e) {
+            LOGGER.warning("Error closing the in-memory central index: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded, thread-safe memoization cache for central index lookups. Entries are evicted in least-recently-used
+ * order once the cache exceeds its maximum size and, if an expiry is configured, when they have not been accessed
+ * within that duration. Since the central index is immutable at runtime, absent results are cached as well.
+ *
+ * @param <K> the type of the lookup key
+ * @param <V> the type of the cached value
+ * @since 2.0.0
+ */
+public final class LookupCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long expireAfterAccessNanos;
+    private final Map<K, Entry<V>> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Creates a lookup cache.
+     *
+     * @param name                    the name of the cache, used when reporting statistics
+     * @param maxSize                 the maximum number of entries to retain; zero disables caching
+     * @param expireAfterAccessMillis the duration after the last access at which an entry expires; zero or a negative
+     *                                value means that entries never expire
+     */
+    LookupCache(String name, int maxSize, long expireAfterAccessMillis) {
+        this.name = name;
+        this.maxSize = Math.max(0, maxSize);
+        this.expireAfterAccessNanos = expireAfterAccessMillis > 0 ? expireAfterAccessMillis * 1_000_000 : 0;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LookupCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the given key, computing and caching it with the loader on a miss. The loader is
+     * invoked without holding the cache lock, so concurrent misses on the same key may load the value more than once.
+     * A {@code null} value returned by the loader is not cached, which lets the loader signal a transient failure.
+     *
+     * @param key    the lookup key
+     * @param loader the function used to compute the value on a miss
+     * @return the cached or the newly computed value
+     */
+    public V get(K key, Function<K, V> loader) {
+        if (maxSize == 0) {
+            misses.increment();
+            return loader.apply(key);
+        }
+
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (!entry.isExpired(now, expireAfterAccessNanos)) {
+                    entry.lastAccess = now;
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        synchronized (entries) {
+            entries.putIfAbsent(key, new Entry<>(value, System.nanoTime()));
+        }
+        return value;
+    }
+
+    /**
+     * Removes all the entries from the cache. The hit and miss counters are retained.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the cache statistics
+     */
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(name, size, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private long lastAccess;
+
+        private Entry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+
+        private boolean isExpired(long now, long expireAfterAccessNanos) {
+            return expireAfterAccessNanos > 0 && now - lastAccess > expireAfterAccessNanos;
+        }
+    }
+
+    /**
+     * Represents a snapshot of the statistics of a lookup cache.
+     *
+     * @param name      the name of the cache
+     * @param size      the number of entries currently in the cache
+     * @param hits      the number of lookups served from the cache
+     * @param misses    the number of lookups that had to query the database
+     * @param evictions the number of entries evicted due to the size limit or expiry
+     * @since 2.0.0
+     */
+    public record Stats(String name, int size, long hits, long misses, long evictions) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
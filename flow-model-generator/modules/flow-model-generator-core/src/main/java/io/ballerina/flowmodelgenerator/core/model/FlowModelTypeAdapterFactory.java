@@ -0,0 +1,285 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.model;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.tools.text.LineRange;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming type adapters for the models of the flow diagram. The adapters write the records field by field in
+ * declaration order and skip {@code null} values, which produces the same JSON as the reflective adapters of Gson
+ * without reflecting on every record while serializing a diagram. Deserialization is delegated to the reflective
+ * adapters.
+ *
+ * @since 2.0.0
+ */
+public class FlowModelTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final TypeToken<List<FlowNode>> FLOW_NODE_LIST_TYPE = new TypeToken<>() { };
+    private static final TypeToken<List<Branch>> BRANCH_LIST_TYPE = new TypeToken<>() { };
+    private static final TypeToken<Map<String, Property>> PROPERTY_MAP_TYPE = new TypeToken<>() { };
+    private static final TypeToken<List<String>> STRING_LIST_TYPE = new TypeToken<>() { };
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if (rawType == Diagram.class) {
+            return (TypeAdapter<T>) new DiagramAdapter(gson,
+                    gson.getDelegateAdapter(this, TypeToken.get(Diagram.class)));
+        }
+        if (rawType == FlowNode.class) {
+            return (TypeAdapter<T>) new FlowNodeAdapter(gson,
+                    gson.getDelegateAdapter(this, TypeToken.get(FlowNode.class)));
+        }
+        if (rawType == Branch.class) {
+            return (TypeAdapter<T>) new BranchAdapter(gson,
+                    gson.getDelegateAdapter(this, TypeToken.get(Branch.class)));
+        }
+        if (rawType == Property.class) {
+            return (TypeAdapter<T>) new PropertyAdapter(gson,
+                    gson.getDelegateAdapter(this, TypeToken.get(Property.class)));
+        }
+        if (rawType == Codedata.class) {
+            return (TypeAdapter<T>) new CodedataAdapter(gson,
+                    gson.getDelegateAdapter(this, TypeToken.get(Codedata.class)));
+        }
+        if (rawType == Metadata.class) {
+            return (TypeAdapter<T>) new MetadataAdapter(gson,
+                    gson.getDelegateAdapter(this, TypeToken.get(Metadata.class)));
+        }
+        return null;
+    }
+
+    /**
+     * Base adapter that writes a record as a JSON object and reads it with the reflective delegate.
+     *
+     * @param <T> the type of the record
+     */
+    private abstract static class RecordAdapter<T> extends TypeAdapter<T> {
+
+        protected final Gson gson;
+        private final TypeAdapter<T> delegate;
+
+        RecordAdapter(Gson gson, TypeAdapter<T> delegate) {
+            this.gson = gson;
+            this.delegate = delegate;
+        }
+
+        protected abstract void writeFields(JsonWriter out, T value) throws IOException;
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeFields(out, value);
+            out.endObject();
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            return delegate.read(in);
+        }
+
+        protected static void writeString(JsonWriter out, String name, String value) throws IOException {
+            if (value != null) {
+                out.name(name).value(value);
+            }
+        }
+
+        protected static <V> void writeValue(JsonWriter out, String name, TypeAdapter<V> adapter, V value)
+                throws IOException {
+            if (value != null) {
+                out.name(name);
+                adapter.write(out, value);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        protected void writeObject(JsonWriter out, String name, Object value) throws IOException {
+            if (value != null) {
+                out.name(name);
+                ((TypeAdapter<Object>) gson.getAdapter(value.getClass())).write(out, value);
+            }
+        }
+    }
+
+    private static class DiagramAdapter extends RecordAdapter<Diagram> {
+
+        private final TypeAdapter<List<FlowNode>> flowNodesAdapter;
+
+        DiagramAdapter(Gson gson, TypeAdapter<Diagram> delegate) {
+            super(gson, delegate);
+            this.flowNodesAdapter = gson.getAdapter(FLOW_NODE_LIST_TYPE);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, Diagram diagram) throws IOException {
+            writeString(out, "fileName", diagram.fileName());
+            writeValue(out, "nodes", flowNodesAdapter, diagram.nodes());
+            writeValue(out, "connections", flowNodesAdapter, diagram.connections());
+        }
+    }
+
+    private static class FlowNodeAdapter extends RecordAdapter<FlowNode> {
+
+        private final TypeAdapter<Metadata> metadataAdapter;
+        private final TypeAdapter<Codedata> codedataAdapter;
+        private final TypeAdapter<List<Branch>> branchesAdapter;
+        private final TypeAdapter<Map<String, Property>> propertiesAdapter;
+        private final TypeAdapter<Diagnostics> diagnosticsAdapter;
+
+        FlowNodeAdapter(Gson gson, TypeAdapter<FlowNode> delegate) {
+            super(gson, delegate);
+            this.metadataAdapter = gson.getAdapter(Metadata.class);
+            this.codedataAdapter = gson.getAdapter(Codedata.class);
+            this.branchesAdapter = gson.getAdapter(BRANCH_LIST_TYPE);
+            this.propertiesAdapter = gson.getAdapter(PROPERTY_MAP_TYPE);
+            this.diagnosticsAdapter = gson.getAdapter(Diagnostics.class);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, FlowNode flowNode) throws IOException {
+            writeString(out, "id", flowNode.id());
+            writeValue(out, "metadata", metadataAdapter, flowNode.metadata());
+            writeValue(out, "codedata", codedataAdapter, flowNode.codedata());
+            out.name("returning").value(flowNode.returning());
+            writeValue(out, "branches", branchesAdapter, flowNode.branches());
+            writeValue(out, "properties", propertiesAdapter, flowNode.properties());
+            writeValue(out, "diagnostics", diagnosticsAdapter, flowNode.diagnostics());
+            out.name("flags").value(flowNode.flags());
+        }
+    }
+
+    private static class BranchAdapter extends RecordAdapter<Branch> {
+
+        private final TypeAdapter<Branch.BranchKind> kindAdapter;
+        private final TypeAdapter<Codedata> codedataAdapter;
+        private final TypeAdapter<Branch.Repeatable> repeatableAdapter;
+        private final TypeAdapter<Map<String, Property>> propertiesAdapter;
+        private final TypeAdapter<List<FlowNode>> childrenAdapter;
+
+        BranchAdapter(Gson gson, TypeAdapter<Branch> delegate) {
+            super(gson, delegate);
+            this.kindAdapter = gson.getAdapter(Branch.BranchKind.class);
+            this.codedataAdapter = gson.getAdapter(Codedata.class);
+            this.repeatableAdapter = gson.getAdapter(Branch.Repeatable.class);
+            this.propertiesAdapter = gson.getAdapter(PROPERTY_MAP_TYPE);
+            this.childrenAdapter = gson.getAdapter(FLOW_NODE_LIST_TYPE);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, Branch branch) throws IOException {
+            writeString(out, "label", branch.label());
+            writeValue(out, "kind", kindAdapter, branch.kind());
+            writeValue(out, "codedata", codedataAdapter, branch.codedata());
+            writeValue(out, "repeatable", repeatableAdapter, branch.repeatable());
+            writeValue(out, "properties", propertiesAdapter, branch.properties());
+            writeValue(out, "children", childrenAdapter, branch.children());
+        }
+    }
+
+    private static class PropertyAdapter extends RecordAdapter<Property> {
+
+        private final TypeAdapter<Metadata> metadataAdapter;
+        private final TypeAdapter<Diagnostics> diagnosticsAdapter;
+        private final TypeAdapter<PropertyCodedata> codedataAdapter;
+
+        PropertyAdapter(Gson gson, TypeAdapter<Property> delegate) {
+            super(gson, delegate);
+            this.metadataAdapter = gson.getAdapter(Metadata.class);
+            this.diagnosticsAdapter = gson.getAdapter(Diagnostics.class);
+            this.codedataAdapter = gson.getAdapter(PropertyCodedata.class);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, Property property) throws IOException {
+            writeValue(out, "metadata", metadataAdapter, property.metadata());
+            writeString(out, "valueType", property.valueType());
+            writeObject(out, "valueTypeConstraint", property.valueTypeConstraint());
+            writeObject(out, "value", property.value());
+            writeString(out, "placeholder", property.placeholder());
+            out.name("optional").value(property.optional());
+            out.name("editable").value(property.editable());
+            out.name("advanced").value(property.advanced());
+            writeValue(out, "diagnostics", diagnosticsAdapter, property.diagnostics());
+            writeValue(out, "codedata", codedataAdapter, property.codedata());
+        }
+    }
+
+    private static class CodedataAdapter extends RecordAdapter<Codedata> {
+
+        private final TypeAdapter<NodeKind> nodeKindAdapter;
+        private final TypeAdapter<LineRange> lineRangeAdapter;
+
+        CodedataAdapter(Gson gson, TypeAdapter<Codedata> delegate) {
+            super(gson, delegate);
+            this.nodeKindAdapter = gson.getAdapter(NodeKind.class);
+            this.lineRangeAdapter = gson.getAdapter(LineRange.class);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, Codedata codedata) throws IOException {
+            writeValue(out, "node", nodeKindAdapter, codedata.node());
+            writeString(out, "org", codedata.org());
+            writeString(out, "module", codedata.module());
+            writeString(out, "object", codedata.object());
+            writeString(out, "symbol", codedata.symbol());
+            writeString(out, "version", codedata.version());
+            writeValue(out, "lineRange", lineRangeAdapter, codedata.lineRange());
+            writeString(out, "sourceCode", codedata.sourceCode());
+            writeString(out, "parentSymbol", codedata.parentSymbol());
+            writeString(out, "resourcePath", codedata.resourcePath());
+            if (codedata.id() != null) {
+                out.name("id").value(codedata.id());
+            }
+        }
+    }
+
+    private static class MetadataAdapter extends RecordAdapter<Metadata> {
+
+        private final TypeAdapter<List<String>> keywordsAdapter;
+
+        MetadataAdapter(Gson gson, TypeAdapter<Metadata> delegate) {
+            super(gson, delegate);
+            this.keywordsAdapter = gson.getAdapter(STRING_LIST_TYPE);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, Metadata metadata) throws IOException {
+            writeString(out, "label", metadata.label());
+            writeString(out, "description", metadata.description());
+            writeValue(out, "keywords", keywordsAdapter, metadata.keywords());
+            writeString(out, "icon", metadata.icon());
+            writeString(out, "functionKind", metadata.functionKind());
+        }
+    }
+}
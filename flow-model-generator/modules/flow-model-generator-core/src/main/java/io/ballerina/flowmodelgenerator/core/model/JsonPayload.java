@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.modelgenerator.commons.metrics.RequestMetrics;
+import io.ballerina.modelgenerator.commons.metrics.RequestTimer;
+
+import java.io.IOException;
+
+/**
+ * A response payload that is serialized lazily. The wrapped model is written straight into the JSON writer of the
+ * transport with the {@link FlowModelTypeAdapterFactory}, instead of being materialized as a {@link JsonElement} tree
+ * that the transport has to walk again.
+ *
+ * <p>
+ * The payload is written by the transport once the request has completed, on a thread of its own. Hence, the timer of
+ * the request is captured when the payload is created, and the serialization time, along with the size of a sampled
+ * payload, is recorded against it.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@JsonAdapter(JsonPayload.Adapter.class)
+public final class JsonPayload {
+
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapterFactory(new FlowModelTypeAdapterFactory())
+            .create();
+
+    private final Object value;
+    private final RequestTimer timer;
+    private final boolean sampled;
+
+    private JsonPayload(Object value, RequestTimer timer) {
+        this.value = value;
+        this.timer = timer;
+        this.sampled = timer != null && timer.samplePayload();
+    }
+
+    /**
+     * Wraps the given model, which is serialized only when the payload is written.
+     *
+     * @param value the model to wrap
+     * @return the payload
+     */
+    public static JsonPayload of(Object value) {
+        return new JsonPayload(value, RequestMetrics.currentRequest().orElse(null));
+    }
+
+    /**
+     * Materializes the payload as a JSON tree, which is only required if the payload has to be inspected or modified.
+     *
+     * @return the JSON tree of the payload
+     */
+    public JsonElement toJsonTree() {
+        return value instanceof JsonElement jsonElement ? jsonElement : GSON.toJsonTree(value);
+    }
+
+    /**
+     * Type adapter that writes the wrapped model directly, and reads a payload as a JSON tree.
+     *
+     * @since 2.0.0
+     */
+    public static class Adapter extends TypeAdapter<JsonPayload> {
+
+        @Override
+        public void write(JsonWriter out, JsonPayload payload) throws IOException {
+            if (payload == null || payload.value == null) {
+                out.nullValue();
+                return;
+            }
+            long startTime = System.nanoTime();
+            if (payload.sampled) {
+                // The sampled payload is buffered so that its size is known without serializing it once more
+                String json = GSON.toJson(payload.value, payload.value.getClass());
+                out.jsonValue(json);
+                payload.timer.recordPayloadSize(json.length());
+            } else {
+                GSON.toJson(payload.value, payload.value.getClass(), out);
+            }
+
+            String phase = "serialize." + payload.value.getClass().getSimpleName();
+            if (payload.timer != null) {
+                payload.timer.recordPhase(phase, startTime);
+            } else {
+                RequestMetrics.recordPhase(phase, startTime);
+            }
+        }
+
+        @Override
+        public JsonPayload read(JsonReader in) throws IOException {
+            return new JsonPayload(JsonParser.parseReader(in), null);
+        }
+    }
+}
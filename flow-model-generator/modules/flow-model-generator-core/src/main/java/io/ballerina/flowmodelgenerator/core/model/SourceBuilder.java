@@ -45,6 +45,7 @@ import org.eclipse.lsp4j.TextEdit;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -58,14 +59,20 @@ public class SourceBuilder {
     private TokenBuilder tokenBuilder;
     public final FlowNode flowNode;
     public final WorkspaceManager workspaceManager;
+    public final WorkspaceSnapshot workspaceSnapshot;
     public final Path filePath;
     private final Map<Path, List<TextEdit>> textEditsMap;
 
     public SourceBuilder(FlowNode flowNode, WorkspaceManager workspaceManager, Path filePath) {
+        this(flowNode, new WorkspaceSnapshot(workspaceManager), filePath);
+    }
+
+    public SourceBuilder(FlowNode flowNode, WorkspaceSnapshot workspaceSnapshot, Path filePath) {
         this.tokenBuilder = new TokenBuilder(this);
         this.textEditsMap = new HashMap<>();
         this.flowNode = flowNode;
-        this.workspaceManager = workspaceManager;
+        this.workspaceManager = workspaceSnapshot.workspaceManager();
+        this.workspaceSnapshot = workspaceSnapshot;
         this.filePath = filePath;
     }
 
@@ -89,7 +96,7 @@ public class SourceBuilder {
     }
 
     public SourceBuilder textEdit(boolean isExpression, String fileName, boolean allowEdits) {
-        Path resolvedPath = workspaceManager.projectRoot(filePath).resolve(fileName);
+        Path resolvedPath = workspaceSnapshot.projectRoot(filePath).resolve(fileName);
         LineRange flowNodeLineRange = flowNode.codedata().lineRange();
         if (flowNodeLineRange != null && allowEdits) {
             LinePosition startLine = flowNodeLineRange.startLine();
@@ -102,11 +109,11 @@ public class SourceBuilder {
             }
         }
         try {
-            workspaceManager.loadProject(filePath);
+            workspaceSnapshot.loadProject(filePath);
         } catch (WorkspaceDocumentException | EventSyncException e) {
             throw new RuntimeException(e);
         }
-        Document document = workspaceManager.document(resolvedPath).orElseThrow();
+        Document document = workspaceSnapshot.document(resolvedPath).orElseThrow();
         SyntaxTree syntaxTree = document.syntaxTree();
         LineRange lineRange = syntaxTree.rootNode().lineRange();
 
@@ -119,7 +126,7 @@ public class SourceBuilder {
 
     // TODO: Need to reuse other textEdit methods
     public SourceBuilder textEdit(boolean isExpression, String fileName, LineRange lineRange, boolean allowEdits) {
-        Path resolvedPath = workspaceManager.projectRoot(filePath).resolve(fileName);
+        Path resolvedPath = workspaceSnapshot.projectRoot(filePath).resolve(fileName);
         LineRange flowNodeLineRange = flowNode.codedata().lineRange();
         if (flowNodeLineRange != null && allowEdits) {
             LinePosition startLine = flowNodeLineRange.startLine();
@@ -146,16 +153,16 @@ public class SourceBuilder {
             return this;
         }
         try {
-            this.workspaceManager.loadProject(filePath);
+            workspaceSnapshot.loadProject(filePath);
         } catch (WorkspaceDocumentException | EventSyncException e) {
             return this;
         }
         // TODO: Check how we can only use this logic once compared to the textEdit(fileName) method
-        Document document = workspaceManager.document(resolvedPath).orElseThrow();
+        Document document = workspaceSnapshot.document(resolvedPath).orElseThrow();
         SyntaxTree syntaxTree = document.syntaxTree();
         LineRange lineRange = syntaxTree.rootNode().lineRange();
 
-        Optional<Module> currentModule = this.workspaceManager.module(filePath);
+        Optional<Module> currentModule = workspaceSnapshot.module(filePath);
         if (currentModule.isPresent()) {
             ModuleDescriptor descriptor = currentModule.get().descriptor();
             if (descriptor.org().value().equals(org) && descriptor.name().toString().equals(module)) {
@@ -190,11 +197,11 @@ public class SourceBuilder {
 
     public Optional<Symbol> getTypeSymbol(String typeName) {
         try {
-            workspaceManager.loadProject(filePath);
+            workspaceSnapshot.loadProject(filePath);
         } catch (WorkspaceDocumentException | EventSyncException e) {
             throw new RuntimeException(e);
         }
-        SemanticModel semanticModel = workspaceManager.semanticModel(filePath).orElseThrow();
+        SemanticModel semanticModel = workspaceSnapshot.semanticModel(filePath).orElseThrow();
         return semanticModel.moduleSymbols().stream().filter(
                 symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION && symbol.getName().isPresent() &&
                         symbol.getName().get().equals(typeName)).findFirst();
@@ -223,7 +230,7 @@ public class SourceBuilder {
 
     public SourceBuilder children(List<FlowNode> flowNodes) {
         for (FlowNode node : flowNodes) {
-            SourceBuilder sourceBuilder = new SourceBuilder(node, workspaceManager, filePath);
+            SourceBuilder sourceBuilder = new SourceBuilder(node, workspaceSnapshot, filePath);
             Map<Path, List<TextEdit>> textEdits =
                     NodeBuilder.getNodeFromKind(node.codedata().node()).toSource(sourceBuilder);
             List<TextEdit> filePathTextEdits = textEdits.get(filePath);
@@ -430,12 +437,7 @@ public class SourceBuilder {
         String text = token().build(isExpression);
         tokenBuilder = new TokenBuilder(this);
 
-        List<TextEdit> textEdits = textEditsMap.get(filePath);
-        if (textEdits == null) {
-            textEdits = new ArrayList<>();
-        }
-        textEdits.add(0, new TextEdit(range, text));
-        textEditsMap.put(filePath, textEdits);
+        textEditsMap.computeIfAbsent(filePath, k -> new ArrayList<>()).add(new TextEdit(range, text));
 
         return this;
     }
@@ -444,18 +446,26 @@ public class SourceBuilder {
         String comment = token().buildComment();
         tokenBuilder = new TokenBuilder(this);
 
-        List<TextEdit> textEdits = textEditsMap.get(filePath);
-        if (textEdits == null) {
-            textEdits = new ArrayList<>();
-        }
-        textEdits.add(0, new TextEdit(CommonUtils.toRange(flowNode.codedata().lineRange()), comment));
-        textEditsMap.put(filePath, textEdits);
+        textEditsMap.computeIfAbsent(filePath, k -> new ArrayList<>())
+                .add(new TextEdit(CommonUtils.toRange(flowNode.codedata().lineRange()), comment));
 
         return this;
     }
 
+    /**
+     * Returns the text edits of the flow node. The edits are collected in the order they are generated, and are
+     * returned with the most recent edit first.
+     *
+     * @return the text edits per file
+     */
     public Map<Path, List<TextEdit>> build() {
-        return textEditsMap;
+        Map<Path, List<TextEdit>> textEdits = new HashMap<>();
+        textEditsMap.forEach((path, edits) -> {
+            List<TextEdit> reversedEdits = new ArrayList<>(edits);
+            Collections.reverse(reversedEdits);
+            textEdits.put(path, reversedEdits);
+        });
+        return textEdits;
     }
 
     public static class TokenBuilder extends FacetedBuilder<SourceBuilder> {
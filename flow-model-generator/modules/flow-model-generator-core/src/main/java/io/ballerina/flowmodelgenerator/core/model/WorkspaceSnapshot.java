@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.model;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Snapshot of the workspace used while generating the source of flow nodes. The project, documents, modules and
+ * semantic models are resolved through the workspace manager once per file, so that the source of several flow
+ * nodes, including their children, can be generated without reloading the project for every edit.
+ *
+ * <p>
+ * A snapshot is meant to be used within a single source generation request, and is not thread-safe.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class WorkspaceSnapshot {
+
+    private final WorkspaceManager workspaceManager;
+    private final Map<Path, Project> projects;
+    private final Map<Path, Path> projectRoots;
+    private final Map<Path, Optional<Document>> documents;
+    private final Map<Path, Optional<Module>> modules;
+    private final Map<Path, Optional<SemanticModel>> semanticModels;
+
+    public WorkspaceSnapshot(WorkspaceManager workspaceManager) {
+        this.workspaceManager = workspaceManager;
+        this.projects = new HashMap<>();
+        this.projectRoots = new HashMap<>();
+        this.documents = new HashMap<>();
+        this.modules = new HashMap<>();
+        this.semanticModels = new HashMap<>();
+    }
+
+    public WorkspaceManager workspaceManager() {
+        return workspaceManager;
+    }
+
+    public Project loadProject(Path filePath) throws WorkspaceDocumentException, EventSyncException {
+        Project project = projects.get(filePath);
+        if (project == null) {
+            project = workspaceManager.loadProject(filePath);
+            projects.put(filePath, project);
+        }
+        return project;
+    }
+
+    public Path projectRoot(Path filePath) {
+        return projectRoots.computeIfAbsent(filePath, workspaceManager::projectRoot);
+    }
+
+    public Optional<Document> document(Path filePath) {
+        return documents.computeIfAbsent(filePath, workspaceManager::document);
+    }
+
+    public Optional<Module> module(Path filePath) {
+        return modules.computeIfAbsent(filePath, workspaceManager::module);
+    }
+
+    public Optional<SemanticModel> semanticModel(Path filePath) {
+        return semanticModels.computeIfAbsent(filePath, workspaceManager::semanticModel);
+    }
+}
@@ -188,11 +188,11 @@ public class DataMapperBuilder extends NodeBuilder {
     private Optional<LineRange> getTransformFunctionLocation(SourceBuilder sourceBuilder, String functionNameString) {
         Project project;
         try {
-            project = sourceBuilder.workspaceManager.loadProject(sourceBuilder.filePath);
+            project = sourceBuilder.workspaceSnapshot.loadProject(sourceBuilder.filePath);
         } catch (WorkspaceDocumentException | EventSyncException e) {
             return Optional.empty();
         }
-        Optional<SemanticModel> semanticModel = sourceBuilder.workspaceManager.semanticModel(sourceBuilder.filePath);
+        Optional<SemanticModel> semanticModel = sourceBuilder.workspaceSnapshot.semanticModel(sourceBuilder.filePath);
         Optional<Location> location = semanticModel.flatMap(model -> model.moduleSymbols().parallelStream()
                 .filter(symbol -> symbol.kind() == SymbolKind.FUNCTION && symbol.nameEquals(functionNameString))
                 .findAny()
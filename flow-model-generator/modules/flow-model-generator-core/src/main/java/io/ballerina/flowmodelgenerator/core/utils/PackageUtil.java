@@ -89,6 +89,23 @@ public class PackageUtil {
     }
 
     public static Package getModulePackage(BuildProject buildProject, String org, String name, String version) {
+        return resolveBalaPath(buildProject, org, name, version)
+                .map(balaPath -> loadBalaPackage(ProjectEnvironmentBuilder.getDefaultBuilder(), balaPath))
+                .orElse(null);
+    }
+
+    /**
+     * Resolves the given package through the package resolver of the project, pulling it from the central if it is
+     * not available in the local repositories.
+     *
+     * @param buildProject the project used to resolve the package
+     * @param org          the organization of the package
+     * @param name         the name of the package
+     * @param version      the version of the package
+     * @return the path of the extracted bala, if the package could be resolved
+     */
+    public static Optional<Path> resolveBalaPath(BuildProject buildProject, String org, String name,
+                                                 String version) {
         ResolutionRequest resolutionRequest = ResolutionRequest.from(
                 PackageDescriptor.from(PackageOrg.from(org), PackageName.from(name), PackageVersion.from(version)));
 
@@ -96,15 +113,21 @@ public class PackageUtil {
                 buildProject.projectEnvironmentContext().getService(PackageResolver.class)
                         .resolvePackages(Collections.singletonList(resolutionRequest),
                                 ResolutionOptions.builder().setOffline(false).build());
-        Optional<ResolutionResponse> resolutionResponse = resolutionResponses.stream().findFirst();
-        if (resolutionResponse.isEmpty()) {
-            return null;
-        }
+        return resolutionResponses.stream().findFirst()
+                .map(resolutionResponse -> resolutionResponse.resolvedPackage().project().sourceRoot());
+    }
 
-        Path balaPath = resolutionResponse.get().resolvedPackage().project().sourceRoot();
-        ProjectEnvironmentBuilder defaultBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
-        defaultBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
-        BalaProject balaProject = BalaProject.loadProject(defaultBuilder, balaPath);
+    /**
+     * Loads the package of an extracted bala. Projects loaded with builders of the same environment share the
+     * environment's package cache, and hence the dependencies compiled for one another.
+     *
+     * @param environmentBuilder the builder of the project environment
+     * @param balaPath           the path of the extracted bala
+     * @return the package of the bala
+     */
+    public static Package loadBalaPackage(ProjectEnvironmentBuilder environmentBuilder, Path balaPath) {
+        environmentBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
+        BalaProject balaProject = BalaProject.loadProject(environmentBuilder, balaPath);
         return balaProject.currentPackage();
     }
 
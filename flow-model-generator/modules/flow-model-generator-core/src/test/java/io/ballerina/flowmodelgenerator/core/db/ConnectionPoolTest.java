@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import io.ballerina.flowmodelgenerator.core.db.ConnectionPool.PooledConnection;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tests for the leases and the statement caches of the connection pool of the central index.
+ *
+ * @since 2.0.0
+ */
+public class ConnectionPoolTest {
+
+    private static final String SELECT_NAME = "SELECT name FROM Item WHERE id = ?";
+
+    private Path dbFile;
+    private String dbUrl;
+
+    @BeforeMethod
+    public void setUp() throws IOException, SQLException {
+        dbFile = Files.createTempFile("connection-pool", ".sqlite");
+        dbUrl = "jdbc:sqlite:" + dbFile;
+        try (Connection connection = DriverManager.getConnection(dbUrl);
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE Item (id INTEGER PRIMARY KEY, name TEXT NOT NULL)");
+            stmt.executeUpdate("INSERT INTO Item (id, name) VALUES (1, 'http'), (2, 'log')");
+        }
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dbFile);
+    }
+
+    @Test
+    public void testQuery() throws SQLException {
+        try (ConnectionPool pool = new ConnectionPool(dbUrl, 2);
+             PooledConnection connection = pool.acquire()) {
+            Assert.assertEquals(queryName(connection, 2), "log");
+        }
+    }
+
+    @Test
+    public void testExhaustionAndTimeout() throws SQLException {
+        try (ConnectionPool pool = new ConnectionPool(dbUrl, 1, 100)) {
+            PooledConnection connection = pool.acquire();
+            SQLException exception = Assert.expectThrows(SQLException.class, pool::acquire);
+            Assert.assertTrue(exception.getMessage().contains("Timed out"), exception.getMessage());
+
+            // The released connection is handed to the next lease
+            connection.close();
+            try (PooledConnection nextConnection = pool.acquire()) {
+                Assert.assertSame(nextConnection, connection);
+                Assert.assertEquals(queryName(nextConnection, 1), "http");
+            }
+        }
+    }
+
+    @Test
+    public void testWaitForRelease() throws Exception {
+        try (ConnectionPool pool = new ConnectionPool(dbUrl, 1, 10_000)) {
+            PooledConnection connection = pool.acquire();
+            CompletableFuture<PooledConnection> waitingLease = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return pool.acquire();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Assert.expectThrows(TimeoutException.class, () -> waitingLease.get(200, TimeUnit.MILLISECONDS));
+
+            connection.close();
+            try (PooledConnection nextConnection = waitingLease.get(10, TimeUnit.SECONDS)) {
+                Assert.assertSame(nextConnection, connection);
+            }
+        }
+    }
+
+    @Test
+    public void testStatementCacheEviction() throws SQLException {
+        try (ConnectionPool pool = new ConnectionPool(dbUrl, 1);
+             PooledConnection connection = pool.acquire()) {
+            PreparedStatement statement = connection.prepareStatement(SELECT_NAME);
+            Assert.assertSame(connection.prepareStatement(SELECT_NAME), statement);
+
+            // Filling the cache evicts and closes the least recently used statement
+            for (int i = 0; i < ConnectionPool.STATEMENT_CACHE_SIZE; i++) {
+                connection.prepareStatement("SELECT " + i);
+            }
+            Assert.assertTrue(statement.isClosed());
+            PreparedStatement newStatement = connection.prepareStatement(SELECT_NAME);
+            Assert.assertNotSame(newStatement, statement);
+            Assert.assertEquals(queryName(connection, 1), "http");
+        }
+    }
+
+    @Test
+    public void testReadOnlyConnection() throws SQLException {
+        try (ConnectionPool pool = new ConnectionPool(dbUrl, 1);
+             PooledConnection connection = pool.acquire()) {
+            PreparedStatement statement = connection.prepareStatement("DELETE FROM Item");
+            Assert.expectThrows(SQLException.class, statement::executeUpdate);
+        }
+    }
+
+    @Test
+    public void testClosedPool() throws SQLException {
+        ConnectionPool pool = new ConnectionPool(dbUrl, 1);
+        pool.acquire().close();
+        pool.close();
+        Assert.expectThrows(SQLException.class, pool::acquire);
+    }
+
+    private static String queryName(PooledConnection connection, int id) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(SELECT_NAME);
+        statement.setInt(1, id);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getString("name") : null;
+        }
+    }
+}
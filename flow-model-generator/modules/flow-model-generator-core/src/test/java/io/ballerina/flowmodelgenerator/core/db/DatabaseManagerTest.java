@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import io.ballerina.flowmodelgenerator.core.db.DatabaseManager.FunctionKind;
+import io.ballerina.flowmodelgenerator.core.db.model.FunctionResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the full-text search of the functions in the central index.
+ *
+ * @since 2.0.0
+ */
+public class DatabaseManagerTest {
+
+    private static final String INDEX_FILE_NAME = "search-index.sqlite";
+
+    private Path tempDir;
+    private DatabaseManager databaseManager;
+
+    @BeforeClass
+    public void setUp() throws IOException, SQLException {
+        tempDir = Files.createTempDirectory("database-manager");
+        Path bundledFile = tempDir.resolve("bundled").resolve(INDEX_FILE_NAME);
+        Files.createDirectories(bundledFile.getParent());
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + bundledFile);
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE Package (package_id INTEGER PRIMARY KEY, name TEXT NOT NULL, " +
+                    "org TEXT NOT NULL, version TEXT, keywords TEXT)");
+            stmt.executeUpdate("CREATE TABLE Function (function_id INTEGER PRIMARY KEY, kind TEXT, " +
+                    "name TEXT NOT NULL, description TEXT, package_id INTEGER, return_type JSON, " +
+                    "resource_path TEXT NOT NULL, return_error INTEGER)");
+            stmt.executeUpdate("CREATE VIRTUAL TABLE FunctionSearch USING fts5(name, description, package_name, " +
+                    "keywords, tokenize = 'trigram')");
+
+            // The functions are added in the reverse order of their expected rank, so that the order of the
+            // results is not that of the rows
+            addPackage(stmt, 1, "io", "");
+            addPackage(stmt, 2, "mime", "");
+            addPackage(stmt, 3, "parser", "");
+            addPackage(stmt, 4, "data", "");
+            addFunction(stmt, 1, 1, "fileReadJson", "Reads a file and parses the content");
+            addFunction(stmt, 2, 2, "getContent", "Returns the content of the entity");
+            addFunction(stmt, 3, 3, "evaluate", "Evaluates an expression");
+            addFunction(stmt, 4, 4, "parseString", "Converts a string to a value");
+        }
+        databaseManager = new DatabaseManager(IndexStore.load(bundledFile.toUri().toURL(), INDEX_FILE_NAME,
+                () -> tempDir.resolve("home")));
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        databaseManager.close();
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Matches on the function name rank above the package name, which rank above the description")
+    public void testRanking() {
+        Assert.assertEquals(search("parse"), List.of("parseString", "evaluate", "fileReadJson"));
+    }
+
+    @Test(description = "Each term is matched as a substring of any of the indexed columns")
+    public void testMultipleTerms() {
+        Assert.assertEquals(search("read json"), List.of("fileReadJson"));
+        Assert.assertEquals(search("content entity"), List.of("getContent"));
+        Assert.assertEquals(search("\"content\""), List.of());
+    }
+
+    @Test(description = "Terms shorter than a trigram are searched with LIKE on the function and package names")
+    public void testShortTermFallback() {
+        Assert.assertEquals(search("io"), List.of("fileReadJson"));
+        Assert.assertEquals(search("me"), List.of("getContent"));
+        Assert.assertEquals(search("St"), List.of("parseString"));
+
+        // The query is searched as a whole instead of dropping the short term
+        Assert.assertEquals(search("parse io"), List.of());
+    }
+
+    @Test(description = "The search is restricted to the requested kind of functions")
+    public void testKind() {
+        Assert.assertEquals(databaseManager.searchFunctions(getQueryMap("parse"), FunctionKind.CONNECTOR),
+                List.of());
+    }
+
+    private List<String> search(String query) {
+        return databaseManager.searchFunctions(getQueryMap(query), FunctionKind.FUNCTION).stream()
+                .map(FunctionResult::name)
+                .toList();
+    }
+
+    private static Map<String, String> getQueryMap(String query) {
+        return Map.of("q", query, "limit", "10", "offset", "0");
+    }
+
+    private static void addPackage(Statement stmt, int packageId, String name, String keywords)
+            throws SQLException {
+        stmt.executeUpdate(String.format("INSERT INTO Package (package_id, name, org, version, keywords) " +
+                "VALUES (%d, '%s', 'ballerina', '1.0.0', '%s')", packageId, name, keywords));
+    }
+
+    private static void addFunction(Statement stmt, int functionId, int packageId, String name, String description)
+            throws SQLException {
+        stmt.executeUpdate(String.format("INSERT INTO Function (function_id, kind, name, description, package_id, " +
+                "return_type, resource_path, return_error) VALUES (%d, 'FUNCTION', '%s', '%s', %d, '()', '', 0)",
+                functionId, name, description, packageId));
+        stmt.executeUpdate(String.format("INSERT INTO FunctionSearch (rowid, name, description, package_name, " +
+                "keywords) SELECT %d, '%s', '%s', name, keywords FROM Package WHERE package_id = %d",
+                functionId, name, description, packageId));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the extraction of the central index into the user home, and the in-memory fallback.
+ *
+ * @since 2.0.0
+ */
+public class IndexStoreTest {
+
+    private static final String INDEX_FILE_NAME = "test-index.sqlite";
+    private static final String JDBC_PREFIX = "jdbc:sqlite:";
+
+    private Path tempDir;
+    private Path bundledFile;
+    private URL dbUrl;
+    private Path indexRoot;
+
+    @BeforeMethod
+    public void setUp() throws IOException, SQLException {
+        tempDir = Files.createTempDirectory("index-store");
+        bundledFile = tempDir.resolve("bundled").resolve(INDEX_FILE_NAME);
+        Files.createDirectories(bundledFile.getParent());
+        try (Connection connection = DriverManager.getConnection(JDBC_PREFIX + bundledFile);
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE Package (package_id INTEGER PRIMARY KEY, name TEXT NOT NULL)");
+            stmt.executeUpdate("INSERT INTO Package (package_id, name) VALUES (1, 'http')");
+        }
+        dbUrl = bundledFile.toUri().toURL();
+        indexRoot = tempDir.resolve("home").resolve("flow-model");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    public void testExtraction() throws SQLException {
+        try (IndexStore indexStore = IndexStore.load(dbUrl, INDEX_FILE_NAME, () -> indexRoot)) {
+            Path indexFile = getIndexFile(indexStore);
+            Assert.assertTrue(indexFile.startsWith(indexRoot), indexFile.toString());
+            Assert.assertEquals(queryPackageName(indexStore), "http");
+        }
+    }
+
+    @Test
+    public void testReuse() throws IOException {
+        Path indexFile;
+        try (IndexStore indexStore = IndexStore.load(dbUrl, INDEX_FILE_NAME, () -> indexRoot)) {
+            indexFile = getIndexFile(indexStore);
+        }
+        long lastModified = Files.getLastModifiedTime(indexFile).toMillis();
+        try (IndexStore indexStore = IndexStore.load(dbUrl, INDEX_FILE_NAME, () -> indexRoot)) {
+            Assert.assertEquals(getIndexFile(indexStore), indexFile);
+        }
+        Assert.assertEquals(Files.getLastModifiedTime(indexFile).toMillis(), lastModified);
+    }
+
+    @Test
+    public void testChecksumMismatch() throws IOException, SQLException {
+        Path indexFile;
+        try (IndexStore indexStore = IndexStore.load(dbUrl, INDEX_FILE_NAME, () -> indexRoot)) {
+            indexFile = getIndexFile(indexStore);
+        }
+
+        // A corrupted copy does not match the checksum, and is extracted again
+        Files.writeString(indexFile, "corrupted");
+        try (IndexStore indexStore = IndexStore.load(dbUrl, INDEX_FILE_NAME, () -> indexRoot)) {
+            Assert.assertEquals(getIndexFile(indexStore), indexFile);
+            Assert.assertEquals(Files.mismatch(indexFile, bundledFile), -1L);
+            Assert.assertEquals(queryPackageName(indexStore), "http");
+        }
+    }
+
+    @Test
+    public void testInMemoryFallback() throws IOException, SQLException {
+        // The index root cannot be created under a regular file
+        Path blockingFile = Files.createFile(tempDir.resolve("blocking"));
+        try (IndexStore indexStore = IndexStore.load(dbUrl, INDEX_FILE_NAME, () -> blockingFile.resolve("index"))) {
+            Assert.assertTrue(indexStore.jdbcUrl().contains("mode=memory"), indexStore.jdbcUrl());
+            Assert.assertEquals(queryPackageName(indexStore), "http");
+        }
+    }
+
+    @Test
+    public void testUnavailableUserHome() throws SQLException {
+        try (IndexStore indexStore = IndexStore.load(dbUrl, INDEX_FILE_NAME, () -> {
+            throw new IllegalStateException("The user home is not available");
+        })) {
+            Assert.assertTrue(indexStore.jdbcUrl().contains("mode=memory"), indexStore.jdbcUrl());
+            Assert.assertEquals(queryPackageName(indexStore), "http");
+        }
+    }
+
+    private static Path getIndexFile(IndexStore indexStore) {
+        Assert.assertTrue(indexStore.jdbcUrl().startsWith(JDBC_PREFIX), indexStore.jdbcUrl());
+        return Path.of(indexStore.jdbcUrl().substring(JDBC_PREFIX.length()));
+    }
+
+    private static String queryPackageName(IndexStore indexStore) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(indexStore.jdbcUrl());
+             Statement stmt = connection.createStatement();
+             ResultSet resultSet = stmt.executeQuery("SELECT name FROM Package WHERE package_id = 1")) {
+            return resultSet.next() ? resultSet.getString("name") : null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.db;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Tests for the eviction and the loading of the lookup cache.
+ *
+ * @since 2.0.0
+ */
+public class LookupCacheTest {
+
+    @Test
+    public void testLruEviction() {
+        LookupCache<String, String> cache = new LookupCache<>("test", 2, 0);
+        CountingLoader loader = new CountingLoader();
+        cache.get("a", loader);
+        cache.get("b", loader);
+
+        // Accessing the first entry makes the second one the least recently used
+        cache.get("a", loader);
+        cache.get("c", loader);
+        Assert.assertEquals(loader.loadedKeys, List.of("a", "b", "c"));
+
+        cache.get("a", loader);
+        cache.get("b", loader);
+        Assert.assertEquals(loader.loadedKeys, List.of("a", "b", "c", "b"));
+
+        LookupCache.Stats stats = cache.stats();
+        Assert.assertEquals(stats.size(), 2);
+        Assert.assertEquals(stats.hits(), 2);
+        Assert.assertEquals(stats.misses(), 4);
+        Assert.assertEquals(stats.evictions(), 2);
+    }
+
+    @Test
+    public void testExpiryEviction() throws InterruptedException {
+        LookupCache<String, String> cache = new LookupCache<>("test", 10, 50);
+        CountingLoader loader = new CountingLoader();
+        cache.get("a", loader);
+        cache.get("a", loader);
+        Assert.assertEquals(loader.loadedKeys, List.of("a"));
+
+        Thread.sleep(200);
+        cache.get("a", loader);
+        Assert.assertEquals(loader.loadedKeys, List.of("a", "a"));
+        Assert.assertEquals(cache.stats().evictions(), 1);
+    }
+
+    @Test
+    public void testNullIsNotCached() {
+        LookupCache<String, String> cache = new LookupCache<>("test", 10, 0);
+        List<String> loadedKeys = new ArrayList<>();
+
+        // A null value signals a transient failure, so the next lookup queries again
+        Assert.assertNull(cache.get("a", key -> {
+            loadedKeys.add(key);
+            return null;
+        }));
+        Assert.assertEquals(cache.get("a", key -> {
+            loadedKeys.add(key);
+            return "value";
+        }), "value");
+        Assert.assertEquals(cache.get("a", key -> {
+            loadedKeys.add(key);
+            return "other";
+        }), "value");
+        Assert.assertEquals(loadedKeys, List.of("a", "a"));
+        Assert.assertEquals(cache.stats().size(), 1);
+    }
+
+    @Test
+    public void testDisabledCache() {
+        LookupCache<String, String> cache = new LookupCache<>("test", 0, 0);
+        CountingLoader loader = new CountingLoader();
+        cache.get("a", loader);
+        cache.get("a", loader);
+        Assert.assertEquals(loader.loadedKeys, List.of("a", "a"));
+        Assert.assertEquals(cache.stats().size(), 0);
+    }
+
+    @Test
+    public void testClear() {
+        LookupCache<String, String> cache = new LookupCache<>("test", 10, 0);
+        CountingLoader loader = new CountingLoader();
+        cache.get("a", loader);
+        cache.clear();
+        cache.get("a", loader);
+        Assert.assertEquals(loader.loadedKeys, List.of("a", "a"));
+        Assert.assertEquals(cache.stats().misses(), 2);
+    }
+
+    private static class CountingLoader implements Function<String, String> {
+
+        private final List<String> loadedKeys = new ArrayList<>();
+
+        @Override
+        public String apply(String key) {
+            loadedKeys.add(key);
+            return key.toUpperCase();
+        }
+    }
+}
@@ -23,6 +23,8 @@ import io.ballerina.flowmodelgenerator.extension.request.ConfigVariablesGetReque
 import io.ballerina.flowmodelgenerator.extension.request.ConfigVariablesUpdateRequest;
 import io.ballerina.flowmodelgenerator.extension.response.ConfigVariablesResponse;
 import io.ballerina.flowmodelgenerator.extension.response.ConfigVariablesUpdateResponse;
+import io.ballerina.modelgenerator.commons.scheduling.RequestPriority;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.Document;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -46,6 +48,7 @@ import java.util.concurrent.CompletableFuture;
 public class ConfigEditorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
@@ -59,7 +62,7 @@ public class ConfigEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<ConfigVariablesResponse> getConfigVariables(ConfigVariablesGetRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             ConfigVariablesResponse response = new ConfigVariablesResponse();
             try {
                 Path projectFolder = Path.of(request.projectPath());
@@ -88,7 +91,7 @@ public class ConfigEditorService implements ExtendedLanguageServerService {
     @JsonRequest
     public CompletableFuture<ConfigVariablesUpdateResponse> updateConfigVariables(
             ConfigVariablesUpdateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             ConfigVariablesUpdateResponse response = new ConfigVariablesUpdateResponse();
             try {
                 Path configFile = Path.of(request.configFilePath());
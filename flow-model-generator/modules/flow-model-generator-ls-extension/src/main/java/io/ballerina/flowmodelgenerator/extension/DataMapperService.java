@@ -22,6 +22,8 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.flowmodelgenerator.core.DataMapManager;
 import io.ballerina.flowmodelgenerator.extension.request.DataMapperTypesRequest;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperTypesResponse;
+import io.ballerina.modelgenerator.commons.scheduling.RequestPriority;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -38,6 +40,7 @@ import java.util.concurrent.CompletableFuture;
 public class DataMapperService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
@@ -51,7 +54,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperTypesResponse> types(DataMapperTypesRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             DataMapperTypesResponse response = new DataMapperTypesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
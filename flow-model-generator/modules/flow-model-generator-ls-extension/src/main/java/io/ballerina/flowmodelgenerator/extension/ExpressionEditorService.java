@@ -21,6 +21,7 @@ package io.ballerina.flowmodelgenerator.extension;
 import com.google.gson.JsonArray;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.flowmodelgenerator.core.ExpressionEditorContext;
+import io.ballerina.flowmodelgenerator.core.ScratchDocumentManager;
 import io.ballerina.flowmodelgenerator.core.TypesGenerator;
 import io.ballerina.flowmodelgenerator.core.VisibleVariableTypesGenerator;
 import io.ballerina.flowmodelgenerator.core.model.Codedata;
@@ -28,21 +29,24 @@ import io.ballerina.flowmodelgenerator.core.utils.CommonUtils;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorCompletionRequest;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorDiagnosticsRequest;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorSignatureRequest;
+import io.ballerina.flowmodelgenerator.extension.request.FilePathRequest;
 import io.ballerina.flowmodelgenerator.extension.request.FunctionCallTemplateRequest;
 import io.ballerina.flowmodelgenerator.extension.request.VisibleVariableTypeRequest;
 import io.ballerina.flowmodelgenerator.extension.response.ExpressionEditorDiagnosticsResponse;
 import io.ballerina.flowmodelgenerator.extension.response.ExpressionEditorTypeResponse;
 import io.ballerina.flowmodelgenerator.extension.response.FunctionCallTemplateResponse;
 import io.ballerina.flowmodelgenerator.extension.response.VisibleVariableTypesResponse;
+import io.ballerina.modelgenerator.commons.metrics.RequestMetrics;
+import io.ballerina.modelgenerator.commons.metrics.RequestTimer;
+import io.ballerina.modelgenerator.commons.scheduling.RequestPriority;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
-import io.ballerina.tools.text.LineRange;
-import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextEdit;
 import org.ballerinalang.annotation.JavaSPIService;
-import org.ballerinalang.langserver.common.utils.PositionUtil;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionList;
@@ -53,6 +57,7 @@ import org.eclipse.lsp4j.SignatureHelp;
 import org.eclipse.lsp4j.SignatureHelpParams;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
@@ -60,16 +65,25 @@ import org.eclipse.lsp4j.services.LanguageServer;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @JavaSPIService("org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService")
 @JsonSegment("expressionEditor")
 public class ExpressionEditorService implements ExtendedLanguageServerService {
 
+    private static final long DIAGNOSTICS_DEBOUNCE_DELAY = 25;
+
     private WorkspaceManagerProxy workspaceManagerProxy;
     private LanguageServer langServer;
+    private final ScratchDocumentManager scratchDocumentManager = new ScratchDocumentManager();
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
+    private final RequestDebouncer diagnosticsDebouncer =
+            new RequestDebouncer(DIAGNOSTICS_DEBOUNCE_DELAY, TimeUnit.MILLISECONDS);
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManagerProxy workspaceManagerProxy,
@@ -85,13 +99,16 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<VisibleVariableTypesResponse> visibleVariableTypes(VisibleVariableTypeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             VisibleVariableTypesResponse response = new VisibleVariableTypesResponse();
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("expressionEditor/visibleVariableTypes");
             try {
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManagerProxy.get().loadProject(filePath);
+                timer.lap("loadProject");
                 Optional<SemanticModel> semanticModel = this.workspaceManagerProxy.get().semanticModel(filePath);
                 Optional<Document> document = this.workspaceManagerProxy.get().document(filePath);
+                timer.lap("semanticModel");
                 if (semanticModel.isEmpty() || document.isEmpty()) {
                     return response;
                 }
@@ -100,8 +117,12 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
                         semanticModel.get(), document.get(), request.position());
                 JsonArray visibleVariableTypes = visibleVariableTypesGenerator.getVisibleVariableTypes();
                 response.setCategories(visibleVariableTypes);
+                timer.lap("generateTypes");
             } catch (Throwable e) {
+                timer.fail();
                 response.setError(e);
+            } finally {
+                timer.close();
             }
             return response;
         });
@@ -109,18 +130,25 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<ExpressionEditorTypeResponse> types(VisibleVariableTypeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             ExpressionEditorTypeResponse response = new ExpressionEditorTypeResponse();
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("expressionEditor/types");
             try {
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManagerProxy.get().loadProject(filePath);
+                timer.lap("loadProject");
                 SemanticModel semanticModel = this.workspaceManagerProxy.get().semanticModel(filePath).orElseGet(
                         () -> project.currentPackage().getDefaultModule().getCompilation().getSemanticModel());
+                timer.lap("semanticModel");
 
                 TypesGenerator typesGenerator = new TypesGenerator(semanticModel);
                 response.setTypes(typesGenerator.getTypes());
+                timer.lap("generateTypes");
             } catch (Throwable e) {
+                timer.fail();
                 response.setError(e);
+            } finally {
+                timer.close();
             }
             return response;
         });
@@ -128,22 +156,17 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<SignatureHelp> signatureHelp(ExpressionEditorSignatureRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Load the original project
-                Path filePath = Path.of(request.filePath());
-                String fileUri = CommonUtils.getExprUri(request.filePath());
-
-                // Get the document
-                Optional<Document> document = workspaceManagerProxy.get(fileUri).document(filePath);
-                if (document.isEmpty()) {
-                    return new SignatureHelp();
-                }
-                TextDocument oldTextDocument = document.get().textDocument();
-
+        String coalescingKey = coalescingKey("expressionEditor/signatureHelp", request.filePath(), request.context());
+        return submitOnScratchDocument("expressionEditor/signatureHelp", coalescingKey, () -> {
+            // Load the original project
+            Path filePath = Path.of(request.filePath());
+            String fileUri = CommonUtils.getExprUri(request.filePath());
+
+            WorkspaceManager workspaceManager = workspaceManagerProxy.get(fileUri);
+            return scratchDocumentManager.apply(workspaceManager, filePath, scratchDocument -> {
                 // Generate signature help using context
-                ExpressionEditorContext context = new ExpressionEditorContext(workspaceManagerProxy.get(fileUri),
-                        request.context(), filePath, document.get());
+                ExpressionEditorContext context = new ExpressionEditorContext(workspaceManager,
+                        request.context(), filePath, scratchDocument);
                 context.generateStatement();
 
                 // Generate the signature help params
@@ -152,40 +175,26 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
                 SignatureHelpParams params =
                         new SignatureHelpParams(identifier, position, request.signatureHelpContext());
 
-                // Get signature help from language server
-                CompletableFuture<SignatureHelp> completableFuture =
-                        langServer.getTextDocumentService().signatureHelp(params);
-                SignatureHelp signatureHelp = completableFuture.join();
-
-                // Restore original content
-                context.applyContent(oldTextDocument);
-
-                return signatureHelp;
-            } catch (Throwable e) {
-                return new SignatureHelp();
-            }
-        });
+                // Get signature help from language server, holding the session until it is computed
+                return langServer.getTextDocumentService().signatureHelp(params);
+            });
+        }, SignatureHelp::new);
     }
 
     @JsonRequest
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(
             ExpressionEditorCompletionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Load the original project
-                Path filePath = Path.of(request.filePath());
-                String fileUri = CommonUtils.getExprUri(request.filePath());
-
-                // Get the document
-                Optional<Document> document = workspaceManagerProxy.get(fileUri).document(filePath);
-                if (document.isEmpty()) {
-                    return Either.forLeft(List.of());
-                }
-                TextDocument oldTextDocument = document.get().textDocument();
-
+        String coalescingKey = coalescingKey("expressionEditor/completion", request.filePath(), request.context());
+        return submitOnScratchDocument("expressionEditor/completion", coalescingKey, () -> {
+            // Load the original project
+            Path filePath = Path.of(request.filePath());
+            String fileUri = CommonUtils.getExprUri(request.filePath());
+
+            WorkspaceManager workspaceManager = workspaceManagerProxy.get(fileUri);
+            return scratchDocumentManager.apply(workspaceManager, filePath, scratchDocument -> {
                 // Generate completions using context
-                ExpressionEditorContext context = new ExpressionEditorContext(workspaceManagerProxy.get(fileUri),
-                        request.context(), filePath, document.get());
+                ExpressionEditorContext context = new ExpressionEditorContext(workspaceManager,
+                        request.context(), filePath, scratchDocument);
                 context.generateStatement();
 
                 // Generate the completion params
@@ -193,105 +202,223 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
                 TextDocumentIdentifier identifier = new TextDocumentIdentifier(fileUri);
                 CompletionParams params = new CompletionParams(identifier, position, request.completionContext());
 
-                // Get completions from language server
-                CompletableFuture<Either<List<CompletionItem>, CompletionList>> completableFuture =
-                        langServer.getTextDocumentService().completion(params);
-                Either<List<CompletionItem>, CompletionList> completions = completableFuture.join();
-
-                // Restore original content
-                context.applyContent(oldTextDocument);
-
-                return completions;
-            } catch (Throwable e) {
-                return Either.forLeft(List.of());
-            }
-        });
+                // Get completions from language server, holding the session until they are computed
+                return langServer.getTextDocumentService().completion(params);
+            });
+        }, () -> Either.forLeft(List.of()));
     }
 
     @JsonRequest
     public CompletableFuture<FunctionCallTemplateResponse> functionCallTemplate(FunctionCallTemplateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return submitTimed("expressionEditor/functionCallTemplate", timer -> {
             FunctionCallTemplateResponse response = new FunctionCallTemplateResponse();
             try {
                 Codedata codedata = request.codedata();
-                String template;
                 switch (request.kind()) {
                     case CURRENT:
-                        template = codedata.symbol();
-                        break;
+                        response.setTemplate(codedata.symbol() + "(${1})");
+                        return CompletableFuture.completedFuture(response);
                     case IMPORTED:
-                        template = codedata.module() + ":" + codedata.symbol();
-                        break;
+                        response.setTemplate(codedata.module() + ":" + codedata.symbol() + "(${1})");
+                        return CompletableFuture.completedFuture(response);
                     case AVAILABLE:
                         String fileUri = CommonUtils.getExprUri(request.filePath());
-                        Optional<Document> document =
-                                workspaceManagerProxy.get(fileUri).document(Path.of(request.filePath()));
-
-                        if (document.isPresent()) {
+                        WorkspaceManager workspaceManager = workspaceManagerProxy.get(fileUri);
+                        Path filePath = Path.of(request.filePath());
+                        return scratchDocumentManager.apply(workspaceManager, filePath, scratchDocument -> {
                             String importStatement = codedata.getImportSignature();
-                            Document doc = document.get();
-                            ExpressionEditorContext expressionEditorContext = new ExpressionEditorContext(
-                                    workspaceManagerProxy.get(fileUri), Path.of(request.filePath()), doc);
+                            ExpressionEditorContext expressionEditorContext =
+                                    new ExpressionEditorContext(workspaceManager, filePath, scratchDocument);
                             Optional<TextEdit> importTextEdit = expressionEditorContext.getImport(importStatement);
                             importTextEdit.ifPresent(
                                     textEdit -> expressionEditorContext.applyTextEdits(List.of(textEdit)));
-                        }
-                        template = codedata.module() + ":" + codedata.symbol();
-                        break;
+                            return CompletableFuture.completedFuture(null);
+                        }).handle((ignored, error) -> {
+                            if (error != null) {
+                                timer.fail();
+                                response.setError(error);
+                            } else {
+                                response.setTemplate(codedata.module() + ":" + codedata.symbol() + "(${1})");
+                            }
+                            return response;
+                        });
                     default:
+                        timer.fail();
                         response.setError(new IllegalArgumentException("Invalid kind: " + request.kind() +
                                 ". Expected kinds are: CURRENT, IMPORTED, AVAILABLE."));
-                        return response;
+                        return CompletableFuture.completedFuture(response);
                 }
-                response.setTemplate(template + "(${1})");
             } catch (Exception e) {
+                timer.fail();
                 response.setError(e);
+                return CompletableFuture.completedFuture(response);
             }
-            return response;
         });
     }
 
+    @JsonNotification
+    public void endSession(FilePathRequest request) {
+        String fileUri = CommonUtils.getExprUri(request.filePath());
+        scratchDocumentManager.dispose(workspaceManagerProxy.get(fileUri), Path.of(request.filePath()));
+    }
+
     @JsonRequest
     public CompletableFuture<ExpressionEditorDiagnosticsResponse> diagnostics(
             ExpressionEditorDiagnosticsRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        String coalescingKey = coalescingKey("expressionEditor/diagnostics", request.filePath(), request.context());
+        return diagnosticsDebouncer.submit(coalescingKey, isSuperseded ->
+                timeRequest("expressionEditor/diagnostics", timer -> {
             ExpressionEditorDiagnosticsResponse response = new ExpressionEditorDiagnosticsResponse();
             try {
                 // Load the original project
                 Path filePath = Path.of(request.filePath());
                 String fileUri = CommonUtils.getExprUri(request.filePath());
 
-                // Get the document
-                Optional<Document> document = workspaceManagerProxy.get(fileUri).document(filePath);
-                if (document.isEmpty()) {
-                    return response;
-                }
-                TextDocument oldTextDocument = document.get().textDocument();
-
-                // Generate the diagnostics
-                ExpressionEditorContext context = new ExpressionEditorContext(workspaceManagerProxy.get(fileUri),
-                        request.context(), filePath, document.get());
-                LineRange lineRange = context.generateStatement();
-
-                // TODO: Use the module once the issue is resolved: #446
-                Optional<SemanticModel> semanticModel = workspaceManagerProxy.get(fileUri).semanticModel(filePath);
-                if (semanticModel.isEmpty()) {
+                WorkspaceManager workspaceManager = workspaceManagerProxy.get(fileUri);
+                return scratchDocumentManager.apply(workspaceManager, filePath, scratchDocument -> {
+                    // Generate the diagnostics
+                    ExpressionEditorContext context =
+                            new ExpressionEditorContext(workspaceManager, request.context(), filePath, scratchDocument);
+                    context.generateStatement();
+
+                    // Skip the compilation if a newer expression has been received in the meantime
+                    if (isSuperseded.getAsBoolean()) {
+                        throw new CancellationException("The request has been superseded");
+                    }
+
+                    // TODO: Use the module once the issue is resolved: #446
+                    Optional<SemanticModel> semanticModel = workspaceManager.semanticModel(filePath);
+                    if (semanticModel.isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    List<Diagnostic> diagnostics = context.statementDiagnostics(semanticModel.get()).stream()
+                            .map(CommonUtils::transformBallerinaDiagnostic)
+                            .toList();
+                    response.setDiagnostics(diagnostics);
+                    return CompletableFuture.completedFuture(null);
+                }).handle((ignored, error) -> {
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof CancellationException) {
+                        // A superseded request is answered without diagnostics, as its expression is already stale
+                        return response;
+                    }
+                    if (cause != null) {
+                        timer.fail();
+                        response.setError(cause);
+                    }
                     return response;
-                }
-                List<Diagnostic> diagnostics = Stream.concat(semanticModel.get().diagnostics().stream(),
-                                StreamSupport.stream(context.syntaxDiagnostics().spliterator(), false))
-                        .filter(diagnostic -> PositionUtil.isWithinLineRange(diagnostic.location().lineRange(),
-                                lineRange))
-                        .map(CommonUtils::transformBallerinaDiagnostic)
-                        .toList();
-
-                context.applyContent(oldTextDocument);
-                response.setDiagnostics(diagnostics);
+                });
             } catch (Throwable e) {
+                timer.fail();
                 response.setError(e);
+                return CompletableFuture.completedFuture(response);
             }
-            return response;
+        })).thenCompose(Function.identity()).exceptionally(error -> {
+            if (unwrap(error) instanceof CancellationException) {
+                return new ExpressionEditorDiagnosticsResponse();
+            }
+            throw error instanceof CompletionException completionException ? completionException
+                    : new CompletionException(error);
         });
     }
 
+    /**
+     * Submits a request that runs on the scratch document of a file, and is answered once the future returned by the
+     * scratch document completes. The fallback answers a request that fails, while a cancelled request stays
+     * cancelled.
+     *
+     * @param api           the name of the API, under which the request is timed
+     * @param coalescingKey the key of the request, which supersedes the pending request with the same key
+     * @param task          the task of the request
+     * @param fallback      the supplier of the result of a failed request
+     * @param <T>           the type of the result
+     * @return the future result of the request
+     */
+    private <T> CompletableFuture<T> submitOnScratchDocument(String api, String coalescingKey,
+                                                             Supplier<CompletableFuture<Optional<T>>> task,
+                                                             Supplier<T> fallback) {
+        CompletableFuture<CompletableFuture<Optional<T>>> scheduledRequest =
+                scheduler.submitLatest(coalescingKey, () -> timeRequest(api, timer -> task.get()));
+        CompletableFuture<T> response = scheduledRequest.thenCompose(Function.identity())
+                .handle((result, error) -> {
+                    if (error == null) {
+                        return result.orElseGet(fallback);
+                    }
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof CancellationException cancellationException) {
+                        throw cancellationException;
+                    }
+                    return fallback.get();
+                });
+        // Propagate the cancellation by the client to the scheduled request, which is skipped if not started yet
+        response.whenComplete((result, error) -> {
+            if (response.isCancelled()) {
+                scheduledRequest.cancel(false);
+            }
+        });
+        return response;
+    }
+
+    /**
+     * Submits an interactive request that is answered once the future returned by the task completes.
+     *
+     * @param api  the name of the API, under which the request is timed
+     * @param task the task of the request, which accepts the timer of the request
+     * @param <T>  the type of the result
+     * @return the future result of the request
+     */
+    private <T> CompletableFuture<T> submitTimed(String api, Function<RequestTimer, CompletableFuture<T>> task) {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> timeRequest(api, task))
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Times a request that may complete on another thread. The timer is bound to the current thread only until the
+     * task returns, and is closed once the future returned by the task completes. A cancelled request is not counted
+     * as a failure.
+     *
+     * @param api  the name of the API
+     * @param task the task of the request, which accepts the timer of the request
+     * @param <T>  the type of the result
+     * @return the future returned by the task
+     */
+    private static <T> CompletableFuture<T> timeRequest(String api, Function<RequestTimer, CompletableFuture<T>> task) {
+        RequestTimer timer = RequestMetrics.getInstance().startRequest(api);
+        try {
+            CompletableFuture<T> result = task.apply(timer);
+            result.whenComplete((ignored, error) -> {
+                if (error != null && !(unwrap(error) instanceof CancellationException)) {
+                    timer.fail();
+                }
+                timer.close();
+            });
+            return result;
+        } catch (Throwable e) {
+            if (!(e instanceof CancellationException)) {
+                timer.fail();
+            }
+            timer.close();
+            throw e;
+        } finally {
+            timer.detach();
+        }
+    }
+
+    /**
+     * Returns the key under which a request on an expression is coalesced. The expression is identified by the node,
+     * the branch and the property that contains it, so that a request only supersedes the pending request on the same
+     * expression.
+     *
+     * @param api      the name of the API
+     * @param filePath the path of the file that contains the expression
+     * @param context  the context of the expression editor
+     * @return the coalescing key of the request
+     */
+    private static String coalescingKey(String api, String filePath, ExpressionEditorContext.Info context) {
+        return api + ":" + filePath + ":" + context.startLine() + ":" + context.branch() + ":" + context.property();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
 }
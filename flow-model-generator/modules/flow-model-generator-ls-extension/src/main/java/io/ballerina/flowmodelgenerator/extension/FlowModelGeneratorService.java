@@ -29,17 +29,21 @@ import io.ballerina.flowmodelgenerator.core.DeleteNodeHandler;
 import io.ballerina.flowmodelgenerator.core.EnclosedNodeFinder;
 import io.ballerina.flowmodelgenerator.core.ErrorHandlerGenerator;
 import io.ballerina.flowmodelgenerator.core.FunctionGenerator;
+import io.ballerina.flowmodelgenerator.core.LocalIndexCentral;
 import io.ballerina.flowmodelgenerator.core.ModelGenerator;
 import io.ballerina.flowmodelgenerator.core.NodeTemplateGenerator;
 import io.ballerina.flowmodelgenerator.core.OpenApiServiceGenerator;
 import io.ballerina.flowmodelgenerator.core.SourceGenerator;
+import io.ballerina.flowmodelgenerator.core.SpeculativeEditOverlay;
 import io.ballerina.flowmodelgenerator.core.SuggestedComponentService;
 import io.ballerina.flowmodelgenerator.core.SuggestedModelGenerator;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
 import io.ballerina.flowmodelgenerator.extension.request.ComponentDeleteRequest;
 import io.ballerina.flowmodelgenerator.extension.request.CopilotContextRequest;
 import io.ballerina.flowmodelgenerator.extension.request.EnclosedFuncDefRequest;
 import io.ballerina.flowmodelgenerator.extension.request.FilePathRequest;
 import io.ballerina.flowmodelgenerator.extension.request.FlowModelAvailableNodesRequest;
+import io.ballerina.flowmodelgenerator.extension.request.FlowModelBatchSourceGeneratorRequest;
 import io.ballerina.flowmodelgenerator.extension.request.FlowModelGeneratorRequest;
 import io.ballerina.flowmodelgenerator.extension.request.FlowModelGetConnectorsRequest;
 import io.ballerina.flowmodelgenerator.extension.request.FlowModelGetFunctionsRequest;
@@ -59,14 +63,16 @@ import io.ballerina.flowmodelgenerator.extension.response.FlowModelNodeTemplateR
 import io.ballerina.flowmodelgenerator.extension.response.FlowModelSourceGeneratorResponse;
 import io.ballerina.flowmodelgenerator.extension.response.FlowNodeDeleteResponse;
 import io.ballerina.flowmodelgenerator.extension.response.OpenApiServiceGenerationResponse;
+import io.ballerina.modelgenerator.commons.metrics.RequestMetrics;
+import io.ballerina.modelgenerator.commons.metrics.RequestTimer;
+import io.ballerina.modelgenerator.commons.scheduling.RequestPriority;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.Document;
-import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
 import io.ballerina.tools.text.TextDocument;
-import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextEdit;
 import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.annotation.JavaSPIService;
@@ -78,7 +84,6 @@ import org.eclipse.lsp4j.services.LanguageServer;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -92,10 +97,14 @@ import java.util.concurrent.CompletableFuture;
 public class FlowModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final SpeculativeEditOverlay speculativeEditOverlay = new SpeculativeEditOverlay();
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
         this.workspaceManager = workspaceManager;
+        // Load the local index in the background, so that the first designer request does not have to wait for it
+        scheduler.executor(RequestPriority.BACKGROUND).execute(LocalIndexCentral.getInstance()::warmUp);
     }
 
     @Override
@@ -106,15 +115,21 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelGeneratorResponse> getFlowModel(FlowModelGeneratorRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        // A newer request for the same canvas replaces the pending one, while other canvases are left untouched
+        String coalescingKey = "flowDesignService/getFlowModel:" + request.filePath() + ":" + request.startLine() +
+                "-" + request.endLine();
+        return scheduler.submitLatest(coalescingKey, () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("flowDesignService/getFlowModel");
             try {
                 Path filePath = Path.of(request.filePath());
 
                 // Obtain the semantic model and the document
                 Project project = this.workspaceManager.loadProject(filePath);
+                timer.lap("loadProject");
                 Optional<SemanticModel> semanticModel = this.workspaceManager.semanticModel(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
+                timer.lap("semanticModel");
                 if (semanticModel.isEmpty() || document.isEmpty()) {
                     return response;
                 }
@@ -129,10 +144,15 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
                 // Generate the flow design model
                 ModelGenerator modelGenerator = new ModelGenerator(project, semanticModel.get(), filePath);
-                response.setFlowDesignModel(
-                        modelGenerator.getFlowModel(document.get(), request.lineRange(), dataMappingsDoc.orElse(null)));
+                JsonPayload flowModel =
+                        modelGenerator.getFlowModel(document.get(), request.lineRange(), dataMappingsDoc.orElse(null));
+                timer.lap("generateModel");
+                response.setFlowDesignModel(flowModel);
             } catch (Throwable e) {
+                timer.fail();
                 response.setError(e);
+            } finally {
+                timer.close();
             }
             return response;
         });
@@ -142,7 +162,8 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<FlowModelGeneratorResponse> getSuggestedFlowModel(
             FlowModelSuggestedGenerationRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        // Each suggestion is a distinct request, and hence, it is never superseded by another one
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -154,70 +175,40 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 if (semanticModel.isEmpty() || document.isEmpty()) {
                     return response;
                 }
-                // TODO: Check how we can delegate this to the model generator
                 Path projectPath = this.workspaceManager.projectRoot(filePath);
-                Optional<Document> dataMappingsDoc;
-                try {
-                    dataMappingsDoc = this.workspaceManager.document(projectPath.resolve("data_mappings.bal"));
-                } catch (Throwable e) {
-                    dataMappingsDoc = Optional.empty();
-                }
-
-                // Generate the flow design model
-                ModelGenerator modelGenerator = new ModelGenerator(project, semanticModel.get(), filePath);
-                JsonElement oldFlowModel =
-                        modelGenerator.getFlowModel(document.get(), request.lineRange(), dataMappingsDoc.orElse(null));
-
-                // Create a temporary directory for the in-memory cache
-                Project newProject = project.duplicate();
-                DocumentId documentId = newProject.documentId(filePath);
-                Module newModule = newProject.currentPackage().module(documentId.moduleId());
-                SemanticModel newSemanticModel =
-                        newProject.currentPackage().getCompilation().getSemanticModel(newModule.moduleId());
-                Document newDocument = newModule.document(documentId);
-                if (newSemanticModel == null || newDocument == null) {
-                    return response;
-                }
-                Optional<Document> newDataMappingsDoc;
-                try {
-                    DocumentId dataMappingDocId = newProject.documentId(projectPath.resolve("data_mappings.bal"));
-                    Module dataMappingModule = newProject.currentPackage().module(dataMappingDocId.moduleId());
-                    newDataMappingsDoc = Optional.of(dataMappingModule.document(dataMappingDocId));
-                } catch (Throwable e) {
-                    newDataMappingsDoc = Optional.empty();
-                }
 
-                TextDocument textDocument = newDocument.textDocument();
+                // Apply the suggestion on top of the current snapshot of the project
+                TextDocument textDocument = document.get().textDocument();
                 int textPosition = textDocument.textPositionFrom(request.position());
-
-                TextEdit textEdit = TextEdit.from(TextRange.from(textPosition, 0), request.text());
-                TextDocument newTextDocument =
-                        textDocument.apply(TextDocumentChange.from(List.of(textEdit).toArray(new TextEdit[0])));
-                Document newDoc = newDocument.modify()
-                        .withContent(String.join(System.lineSeparator(), newTextDocument.textLines()))
-                        .apply();
-
                 int end = textDocument.textPositionFrom(request.endLine());
-                LineRange endLineRange = LineRange.from(request.lineRange().fileName(), request.lineRange().startLine(),
-                        newTextDocument.linePositionFrom(end + request.text().length()));
-
-                ModelGenerator suggestedModelGenerator =
-                        new ModelGenerator(newProject, newDoc.module().getCompilation().getSemanticModel(), filePath);
-                JsonElement newFlowModel = suggestedModelGenerator.getFlowModel(newDoc,
-                        endLineRange, newDataMappingsDoc.orElse(null));
-
-                LinePosition endPosition = newTextDocument.linePositionFrom(textPosition + request.text().length());
-                LineRange newLineRange =
-                        LineRange.from(getRelativePath(projectPath, filePath), request.position(), endPosition);
-
-                JsonArray newNodes = newFlowModel.getAsJsonObject().getAsJsonArray("nodes");
-                SuggestedModelGenerator suggestedNodesGenerator =
-                        new SuggestedModelGenerator(newDoc, newLineRange, newSemanticModel);
-                suggestedNodesGenerator.markSuggestedNodes(newNodes, 1);
-                if (!suggestedNodesGenerator.hasSuggestedNodes()) {
-                    newFlowModel.getAsJsonObject().add("nodes", new JsonArray());
-                }
-                response.setFlowDesignModel(newFlowModel);
+                TextEdit textEdit = TextEdit.from(TextRange.from(textPosition, 0), request.text());
+                JsonElement newFlowModel = speculativeEditOverlay.apply(project, filePath, textEdit, edit -> {
+                    TextDocument newTextDocument = edit.textDocument();
+                    LineRange endLineRange = LineRange.from(request.lineRange().fileName(),
+                            request.lineRange().startLine(),
+                            newTextDocument.linePositionFrom(end + request.text().length()));
+
+                    ModelGenerator suggestedModelGenerator =
+                            new ModelGenerator(edit.project(), edit.semanticModel(), filePath);
+                    JsonElement flowModel = suggestedModelGenerator.getFlowModel(edit.document(), endLineRange,
+                            edit.document(projectPath.resolve("data_mappings.bal")).orElse(null)).toJsonTree();
+
+                    LinePosition endPosition =
+                            newTextDocument.linePositionFrom(textPosition + request.text().length());
+                    LineRange newLineRange =
+                            LineRange.from(getRelativePath(projectPath, filePath), request.position(), endPosition);
+
+                    // The existing errors are taken from the workspace, which is not affected by the suggestion
+                    JsonArray newNodes = flowModel.getAsJsonObject().getAsJsonArray("nodes");
+                    SuggestedModelGenerator suggestedNodesGenerator =
+                            new SuggestedModelGenerator(edit.document(), newLineRange, semanticModel.get());
+                    suggestedNodesGenerator.markSuggestedNodes(newNodes, 1);
+                    if (!suggestedNodesGenerator.hasSuggestedNodes()) {
+                        flowModel.getAsJsonObject().add("nodes", new JsonArray());
+                    }
+                    return flowModel;
+                });
+                response.setFlowDesignModel(JsonPayload.of(newFlowModel));
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -227,7 +218,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<JsonObject> getSuggestedComponents(SuggestedComponentRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.BACKGROUND, () -> {
             JsonObject response = new JsonObject();
             try {
                 String fileContent = request.content();
@@ -247,13 +238,37 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelSourceGeneratorResponse> getSourceCode(FlowModelSourceGeneratorRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             FlowModelSourceGeneratorResponse response = new FlowModelSourceGeneratorResponse();
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("flowDesignService/getSourceCode");
             try {
                 SourceGenerator sourceGenerator = new SourceGenerator(workspaceManager, Path.of(request.filePath()));
                 response.setTextEdits(sourceGenerator.toSourceCode(request.flowNode()));
             } catch (Throwable e) {
+                timer.fail();
+                response.setError(e);
+            } finally {
+                timer.close();
+            }
+            return response;
+        });
+    }
+
+    @JsonRequest
+    public CompletableFuture<FlowModelSourceGeneratorResponse> getSourceCodeBatch(
+            FlowModelBatchSourceGeneratorRequest request) {
+
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
+            FlowModelSourceGeneratorResponse response = new FlowModelSourceGeneratorResponse();
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("flowDesignService/getSourceCodeBatch");
+            try {
+                SourceGenerator sourceGenerator = new SourceGenerator(workspaceManager, Path.of(request.filePath()));
+                response.setTextEdits(sourceGenerator.toSourceCode(request.flowNodes()));
+            } catch (Throwable e) {
+                timer.fail();
                 response.setError(e);
+            } finally {
+                timer.close();
             }
             return response;
         });
@@ -263,13 +278,16 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<FlowModelAvailableNodesResponse> getAvailableNodes(
             FlowModelAvailableNodesRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             FlowModelAvailableNodesResponse response = new FlowModelAvailableNodesResponse();
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("flowDesignService/getAvailableNodes");
             try {
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManager.loadProject(filePath);
+                timer.lap("loadProject");
                 Optional<SemanticModel> semanticModel = this.workspaceManager.semanticModel(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
+                timer.lap("semanticModel");
                 if (semanticModel.isEmpty() || document.isEmpty()) {
                     return response;
                 }
@@ -278,8 +296,12 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                         new AvailableNodesGenerator(semanticModel.get(), document.get());
                 response.setCategories(
                         availableNodesGenerator.getAvailableNodes(request.position()));
+                timer.lap("generateNodes");
             } catch (Throwable e) {
+                timer.fail();
                 response.setError(e);
+            } finally {
+                timer.close();
             }
             return response;
         });
@@ -288,12 +310,12 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelNodeTemplateResponse> getNodeTemplate(FlowModelNodeTemplateRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             FlowModelNodeTemplateResponse response = new FlowModelNodeTemplateResponse();
             try {
                 NodeTemplateGenerator generator = new NodeTemplateGenerator();
                 Path filePath = Path.of(request.filePath());
-                JsonElement nodeTemplate =
+                JsonPayload nodeTemplate =
                         generator.getNodeTemplate(workspaceManager, filePath, request.position(), request.id());
                 response.setFlowNode(nodeTemplate);
             } catch (Throwable e) {
@@ -306,7 +328,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelGeneratorResponse> getModuleNodes(FilePathRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -328,7 +350,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<FlowModelGetConnectorsResponse> getConnectors(FlowModelGetConnectorsRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             FlowModelGetConnectorsResponse response = new FlowModelGetConnectorsResponse();
             try {
                 ConnectorGenerator connectorGenerator = new ConnectorGenerator();
@@ -342,7 +364,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<FlowModelAvailableNodesResponse> getFunctions(FlowModelGetFunctionsRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             FlowModelAvailableNodesResponse response = new FlowModelAvailableNodesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -363,7 +385,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<CopilotContextResponse> getCopilotContext(CopilotContextRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.BACKGROUND, () -> {
             CopilotContextResponse response = new CopilotContextResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -384,7 +406,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     // TODO: Need to remove this API and usages must be migrated to `deleteComponent(ComponentDeleteRequest request)`
     public CompletableFuture<FlowNodeDeleteResponse> deleteFlowNode(FlowNodeDeleteRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             FlowNodeDeleteResponse response = new FlowNodeDeleteResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -407,7 +429,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<ComponentDeleteResponse> deleteComponent(ComponentDeleteRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             ComponentDeleteResponse response = new ComponentDeleteResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -433,7 +455,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<OpenApiServiceGenerationResponse> generateServiceFromOpenApiContract(
             OpenAPIServiceGenerationRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.BACKGROUND, () -> {
             OpenApiServiceGenerationResponse response = new OpenApiServiceGenerationResponse();
             try {
                 Path openApiContractPath = Path.of(request.openApiContractPath());
@@ -452,7 +474,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelSourceGeneratorResponse> addErrorHandler(FilePathRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             FlowModelSourceGeneratorResponse response = new FlowModelSourceGeneratorResponse();
             try {
                 ErrorHandlerGenerator errorHandlerGenerator =
@@ -468,7 +490,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<EnclosedFuncDefResponse> getEnclosedFunctionDef(EnclosedFuncDefRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             EnclosedFuncDefResponse response = new EnclosedFuncDefResponse();
             try {
                 Path path = Path.of(request.filePath());
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.modelgenerator.commons.scheduling.RequestPriority;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Debounces the requests that are sent on every keystroke. Each request is assigned the next version of its key when
+ * it is received, and is started only after a delay. A request is superseded as soon as a request with a newer version
+ * is received for the same key, in which case it is cancelled without doing the work, or stops at the next checkpoint
+ * if it has already started. Hence, the client never mistakes the answer of a superseded request for a result.
+ *
+ * <p>
+ * Once the delay elapses, the request is handed over to the interactive executor of the {@link RequestScheduler}, so
+ * that a full queue fails the request rather than leaving it unanswered.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class RequestDebouncer {
+
+    private final Executor delayer;
+    private final RequestScheduler scheduler;
+    private final Map<String, AtomicLong> versions;
+
+    RequestDebouncer(long delay, TimeUnit unit) {
+        // The hand-over to the scheduler is run directly on the delaying thread, as it cannot block or be rejected
+        this.delayer = CompletableFuture.delayedExecutor(delay, unit, Runnable::run);
+        this.scheduler = RequestScheduler.getInstance();
+        this.versions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Schedules the given task, which is cancelled if a newer request with the same key is received before it starts.
+     *
+     * @param key  the key of the request, such as the API name with the expression being edited
+     * @param task the task, which accepts a check on whether the request has been superseded
+     * @param <T>  the type of the result
+     * @return the future result of the request, which is cancelled if the request is superseded
+     */
+    <T> CompletableFuture<T> submit(String key, Function<BooleanSupplier, T> task) {
+        AtomicLong latestVersion = versions.computeIfAbsent(key, k -> new AtomicLong());
+        long version = latestVersion.incrementAndGet();
+        BooleanSupplier isSuperseded = () -> latestVersion.get() != version;
+
+        CompletableFuture<T> response = new CompletableFuture<>();
+        delayer.execute(() -> {
+            if (response.isDone()) {
+                return;
+            }
+            if (isSuperseded.getAsBoolean()) {
+                response.completeExceptionally(new CancellationException("The request has been superseded"));
+                return;
+            }
+            CompletableFuture<T> scheduledRequest =
+                    scheduler.submit(RequestPriority.INTERACTIVE, () -> task.apply(isSuperseded));
+            scheduledRequest.whenComplete((result, error) -> {
+                if (error != null) {
+                    response.completeExceptionally(error);
+                } else {
+                    response.complete(result);
+                }
+            });
+            // Propagate the cancellation by the client to the scheduled request, which is skipped if not started yet
+            response.whenComplete((result, error) -> {
+                if (response.isCancelled()) {
+                    scheduledRequest.cancel(false);
+                }
+            });
+        });
+        return response;
+    }
+}
@@ -28,6 +28,8 @@ import io.ballerina.flowmodelgenerator.extension.request.TypeUpdateRequest;
 import io.ballerina.flowmodelgenerator.extension.response.TypeListResponse;
 import io.ballerina.flowmodelgenerator.extension.response.TypeResponse;
 import io.ballerina.flowmodelgenerator.extension.response.TypeUpdateResponse;
+import io.ballerina.modelgenerator.commons.scheduling.RequestPriority;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.Document;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -44,6 +46,7 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("typesManager")
 public class TypesManagerService implements ExtendedLanguageServerService {
     private WorkspaceManager workspaceManager;
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
@@ -57,7 +60,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<TypeListResponse> getTypes(FilePathRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             TypeListResponse response = new TypeListResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -78,7 +81,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<TypeResponse> getType(GetTypeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             TypeResponse response = new TypeResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -99,7 +102,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<TypeUpdateResponse> updateType(TypeUpdateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
             TypeUpdateResponse response = new TypeUpdateResponse();
             try {
                 Path filePath = Path.of(request.typesFilePath());
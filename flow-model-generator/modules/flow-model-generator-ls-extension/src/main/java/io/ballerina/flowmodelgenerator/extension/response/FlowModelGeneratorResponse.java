@@ -18,7 +18,7 @@
 
 package io.ballerina.flowmodelgenerator.extension.response;
 
-import com.google.gson.JsonElement;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
 
 /**
  * Represents the response for the flow model getSourceCode API.
@@ -27,13 +27,13 @@ import com.google.gson.JsonElement;
  */
 public class FlowModelGeneratorResponse extends AbstractFlowModelResponse {
 
-    private JsonElement flowModel;
+    private JsonPayload flowModel;
 
-    public void setFlowDesignModel(JsonElement flowDesignModel) {
+    public void setFlowDesignModel(JsonPayload flowDesignModel) {
         this.flowModel = flowDesignModel;
     }
 
-    public JsonElement flowDesignModel() {
+    public JsonPayload flowDesignModel() {
         return flowModel;
     }
 }
@@ -28,4 +28,5 @@ module io.ballerina.LSExtensions.FlowService {
     requires io.ballerina.language.server.core;
     requires io.ballerina.parser;
     requires io.ballerina.tools.api;
+    requires io.ballerina.model.generator.commons;
 }
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.reflect.TypeToken;
+import io.ballerina.flowmodelgenerator.extension.request.FlowModelBatchSourceGeneratorRequest;
+import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.TextEdit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tests for generating the source of several flow nodes in a single request.
+ *
+ * @since 2.0.0
+ */
+public class BatchSourceGeneratorTest extends AbstractLSTest {
+
+    private static final Type textEditListType = new TypeToken<Map<String, List<TextEdit>>>() {
+    }.getType();
+
+    @Override
+    @Test(dataProvider = "data-provider")
+    public void test(Path config) throws IOException {
+        Path configJsonPath = configDir.resolve(config);
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+
+        FlowModelBatchSourceGeneratorRequest request =
+                new FlowModelBatchSourceGeneratorRequest(
+                        sourceDir.resolve(testConfig.source()).toAbsolutePath().toString(), testConfig.diagrams());
+        CompletableFuture<?> result = serviceEndpoint.request(getServiceName() + "/" + getApiName(), request);
+        JsonObject response = JsonParser.parseString(TestUtil.getResponseString(result)).getAsJsonObject()
+                .getAsJsonObject("result");
+
+        // The nodes which cannot be merged are expected to fail the whole batch
+        JsonPrimitive errorMsg = response.getAsJsonPrimitive("errorMsg");
+        if (testConfig.error() != null) {
+            Assert.assertNotNull(errorMsg, String.format("Expected an error for the test: '%s' (%s)",
+                    testConfig.description(), configJsonPath));
+            Assert.assertTrue(errorMsg.getAsString().contains(testConfig.error()),
+                    String.format("Unexpected error '%s' for the test: '%s' (%s)", errorMsg.getAsString(),
+                            testConfig.description(), configJsonPath));
+            return;
+        }
+        if (errorMsg != null) {
+            Assert.fail("Error occurred: " + errorMsg.getAsString());
+        }
+
+        Map<String, List<TextEdit>> actualTextEdits =
+                gson.fromJson(response.getAsJsonObject("textEdits"), textEditListType);
+
+        boolean assertFailure = false;
+
+        if (actualTextEdits.size() != testConfig.output().size()) {
+            log.info("The number of text edits does not match the expected output.");
+            assertFailure = true;
+        }
+
+        Map<String, List<TextEdit>> newMap = new HashMap<>();
+        for (Map.Entry<String, List<TextEdit>> entry : actualTextEdits.entrySet()) {
+            Path fullPath = Paths.get(entry.getKey());
+            String relativePath = sourceDir.relativize(fullPath).toString();
+
+            List<TextEdit> textEdits = testConfig.output().get(relativePath.replace("\\", "/"));
+            if (textEdits == null) {
+                log.info("No text edits found for the file: " + relativePath);
+                assertFailure = true;
+            } else if (!assertArray("text edits", entry.getValue(), textEdits)) {
+                assertFailure = true;
+            }
+
+            newMap.put(relativePath, entry.getValue());
+        }
+
+        if (assertFailure) {
+            TestConfig updatedConfig = new TestConfig(testConfig.source(), testConfig.description(),
+                    testConfig.diagrams(), newMap, null);
+//            updateConfig(configJsonPath, updatedConfig);
+            Assert.fail(String.format("Failed test: '%s' (%s)", testConfig.description(), configJsonPath));
+        }
+    }
+
+    @Override
+    protected String getResourceDir() {
+        return "to_source_batch";
+    }
+
+    @Override
+    protected Class<? extends AbstractLSTest> clazz() {
+        return BatchSourceGeneratorTest.class;
+    }
+
+    @Override
+    protected String getApiName() {
+        return "getSourceCodeBatch";
+    }
+
+    /**
+     * Represents the test configuration for the batch source generator test.
+     *
+     * @param source      The source file name
+     * @param description The description of the test
+     * @param diagrams    The diagram nodes to generate the source code, in the order they should appear in the source
+     * @param output      The expected merged text edits
+     * @param error       The expected error message, if the nodes cannot be merged
+     */
+    private record TestConfig(String source, String description, JsonArray diagrams,
+                              Map<String, List<TextEdit>> output, String error) {
+
+        public String description() {
+            return description == null ? "" : description;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.flowmodelgenerator.core.DiagnosticHandler;
+import io.ballerina.flowmodelgenerator.core.model.Diagnostics;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticFactory;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Tests the mapping of the diagnostics to the nodes of a flow model by the {@link DiagnosticHandler}.
+ *
+ * @since 2.0.0
+ */
+public class DiagnosticHandlerTest {
+
+    private static final String FILE_NAME = "main.bal";
+    private static final String OTHER_FILE_NAME = "types.bal";
+
+    @Test(description = "Tests annotating the properties of a node in an order other than the source order")
+    public void testNodesVisitedOutOfOrder() {
+        // int i = "12";
+        Diagnostic nameDiagnostic = diagnostic("redeclared symbol", FILE_NAME, 2, 8, 2, 9);
+        Diagnostic expressionDiagnostic = diagnostic("incompatible types", FILE_NAME, 2, 12, 2, 16);
+        DiagnosticHandler handler = handler(nameDiagnostic, expressionDiagnostic);
+
+        // The expression is visited before the name, and the statement before the preceding statement
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 2, 4, 2, 17), false), flagged());
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 2, 12, 2, 16), true), annotated(expressionDiagnostic));
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 2, 8, 2, 9), true), annotated(nameDiagnostic));
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 2, 4, 2, 7), true), none());
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 1, 4, 1, 14), false), none());
+    }
+
+    @Test(description = "Tests annotating the nodes of a canvas which follows other erroneous code")
+    public void testSubRangeGeneration() {
+        Diagnostic precedingDiagnostic = diagnostic("incompatible types", FILE_NAME, 2, 12, 2, 16);
+        Diagnostic canvasDiagnostic = diagnostic("undefined symbol", FILE_NAME, 6, 12, 6, 13);
+        Diagnostic followingDiagnostic = diagnostic("missing semicolon", FILE_NAME, 10, 4, 10, 9);
+        DiagnosticHandler handler = handler(precedingDiagnostic, canvasDiagnostic, followingDiagnostic);
+
+        // Only the function spanning from the line 5 to 7 is visited
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 5, 0, 7, 1), false), flagged());
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 6, 4, 6, 14), false), flagged());
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 6, 12, 6, 13), true), annotated(canvasDiagnostic));
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 6, 8, 6, 9), true), none());
+    }
+
+    @Test(description = "Tests annotating a diagnostic enclosing a node and its properties")
+    public void testEnclosingDiagnostic() {
+        Diagnostic enclosingDiagnostic = diagnostic("unreachable code", FILE_NAME, 3, 4, 6, 5);
+        DiagnosticHandler handler = handler(enclosingDiagnostic);
+
+        // The diagnostic is annotated on each enclosed node, and hence not repeated on their properties
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 4, 8, 4, 20), false), annotated(enclosingDiagnostic));
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 5, 8, 5, 20), false), annotated(enclosingDiagnostic));
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 5, 16, 5, 19), true), none());
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 4, 8, 4, 20), false), none());
+    }
+
+    @Test(description = "Tests ignoring the diagnostics of the other files in the module")
+    public void testDiagnosticsOfOtherFiles() {
+        Diagnostic otherDiagnostic = diagnostic("unknown type", OTHER_FILE_NAME, 2, 4, 2, 7);
+        DiagnosticHandler handler = handler(otherDiagnostic);
+
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 2, 0, 2, 20), false), none());
+        Assert.assertEquals(handle(handler, range(FILE_NAME, 2, 4, 2, 7), true), none());
+        Assert.assertEquals(handle(handler, range(OTHER_FILE_NAME, 2, 4, 2, 7), true), annotated(otherDiagnostic));
+    }
+
+    @Test(description = "Tests the indexed lookup against a linear scan of the diagnostics on random visits")
+    public void testAgainstLinearScan() {
+        Random random = new Random(42);
+        for (int iteration = 0; iteration < 500; iteration++) {
+            List<Diagnostic> diagnostics = new ArrayList<>();
+            int diagnosticCount = random.nextInt(12);
+            for (int i = 0; i < diagnosticCount; i++) {
+                LineRange lineRange = randomRange(random);
+                diagnostics.add(diagnostic("error " + i, lineRange.fileName(), lineRange.startLine().line(),
+                        lineRange.startLine().offset(), lineRange.endLine().line(), lineRange.endLine().offset()));
+            }
+            DiagnosticHandler handler = handler(diagnostics.toArray(new Diagnostic[0]));
+            LinearDiagnosticHandler expectedHandler = new LinearDiagnosticHandler(diagnostics);
+
+            int visitCount = random.nextInt(20);
+            for (int i = 0; i < visitCount; i++) {
+                LineRange nodeLineRange = randomRange(random);
+                boolean isLeafNode = random.nextBoolean();
+                Assert.assertEquals(handle(handler, nodeLineRange, isLeafNode),
+                        expectedHandler.handle(nodeLineRange, isLeafNode),
+                        String.format("Mismatch at the visit %d of the iteration %d for the range %s",
+                                i, iteration, nodeLineRange));
+            }
+        }
+    }
+
+    private static LineRange randomRange(Random random) {
+        // A narrow space of positions is used so that the ranges frequently coincide and nest
+        String fileName = random.nextInt(4) == 0 ? OTHER_FILE_NAME : FILE_NAME;
+        int startLine = random.nextInt(5);
+        int startOffset = random.nextInt(3);
+        int endLine = startLine + random.nextInt(3);
+        int endOffset = endLine == startLine ? startOffset + random.nextInt(3) : random.nextInt(3);
+        return range(fileName, startLine, startOffset, endLine, endOffset);
+    }
+
+    private static Diagnostics handle(DiagnosticHandler handler, LineRange lineRange, boolean isLeafNode) {
+        TestBuilder builder = new TestBuilder();
+        handler.handle(builder, lineRange, isLeafNode);
+        return builder.diagnostics().build();
+    }
+
+    private static Diagnostics none() {
+        return new Diagnostics(false, null);
+    }
+
+    private static Diagnostics flagged() {
+        return new Diagnostics(true, null);
+    }
+
+    private static Diagnostics annotated(Diagnostic... diagnostics) {
+        List<Diagnostics.Info> infos = new ArrayList<>();
+        for (Diagnostic diagnostic : diagnostics) {
+            infos.add(new Diagnostics.Info(diagnostic.diagnosticInfo().severity(), diagnostic.message()));
+        }
+        return new Diagnostics(true, infos);
+    }
+
+    private static DiagnosticHandler handler(Diagnostic... diagnostics) {
+        List<Diagnostic> diagnosticList = List.of(diagnostics);
+        SemanticModel semanticModel = (SemanticModel) Proxy.newProxyInstance(SemanticModel.class.getClassLoader(),
+                new Class<?>[]{SemanticModel.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("diagnostics") && method.getParameterCount() == 0) {
+                        return diagnosticList;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new DiagnosticHandler(semanticModel);
+    }
+
+    private static Diagnostic diagnostic(String message, String fileName, int startLine, int startOffset,
+                                         int endLine, int endOffset) {
+        LineRange lineRange = range(fileName, startLine, startOffset, endLine, endOffset);
+        Location location = new Location() {
+            @Override
+            public LineRange lineRange() {
+                return lineRange;
+            }
+
+            @Override
+            public TextRange textRange() {
+                return TextRange.from(0, 0);
+            }
+        };
+        return DiagnosticFactory.createDiagnostic(new DiagnosticInfo("TEST", message, DiagnosticSeverity.ERROR),
+                location);
+    }
+
+    private static LineRange range(String fileName, int startLine, int startOffset, int endLine, int endOffset) {
+        return LineRange.from(fileName, LinePosition.from(startLine, startOffset),
+                LinePosition.from(endLine, endOffset));
+    }
+
+    private static class TestBuilder implements DiagnosticHandler.DiagnosticCapable {
+
+        private final Diagnostics.Builder<Void> diagnosticsBuilder = new Diagnostics.Builder<>(null) { };
+
+        @Override
+        public Diagnostics.Builder<?> diagnostics() {
+            return diagnosticsBuilder;
+        }
+    }
+
+    /**
+     * Reference implementation of the annotation rules of the {@link DiagnosticHandler}, which scans every
+     * diagnostic of the file on each visit.
+     */
+    private static class LinearDiagnosticHandler {
+
+        private final List<Diagnostic> diagnostics;
+        private final Set<Diagnostic> annotated;
+        private final Set<Diagnostic> consumed;
+
+        LinearDiagnosticHandler(List<Diagnostic> diagnostics) {
+            this.diagnostics = new ArrayList<>(diagnostics);
+            this.diagnostics.sort(Comparator.comparing(diagnostic -> diagnostic.location().lineRange().startLine(),
+                    Comparator.comparingInt(LinePosition::line).thenComparingInt(LinePosition::offset)));
+            this.annotated = Collections.newSetFromMap(new IdentityHashMap<>());
+            this.consumed = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+
+        Diagnostics handle(LineRange nodeLineRange, boolean isLeafNode) {
+            TestBuilder builder = new TestBuilder();
+            for (Diagnostic diagnostic : diagnostics) {
+                LineRange diagnosticLineRange = diagnostic.location().lineRange();
+                if (!diagnosticLineRange.fileName().equals(nodeLineRange.fileName()) ||
+                        consumed.contains(diagnostic)) {
+                    continue;
+                }
+                boolean isNodeWithinDiagnostic = isWithin(nodeLineRange, diagnosticLineRange);
+                boolean isDiagnosticWithinNode = isWithin(diagnosticLineRange, nodeLineRange);
+                if (!isNodeWithinDiagnostic && !isDiagnosticWithinNode) {
+                    continue;
+                }
+
+                if (isLeafNode) {
+                    if (isNodeWithinDiagnostic && isDiagnosticWithinNode || !annotated.contains(diagnostic)) {
+                        builder.diagnostics().diagnostic(diagnostic.diagnosticInfo().severity(),
+                                diagnostic.message());
+                    }
+                    consumed.add(diagnostic);
+                } else if (isNodeWithinDiagnostic) {
+                    builder.diagnostics().diagnostic(diagnostic.diagnosticInfo().severity(), diagnostic.message());
+                    annotated.add(diagnostic);
+                    if (isDiagnosticWithinNode) {
+                        consumed.add(diagnostic);
+                    }
+                } else {
+                    builder.diagnostics().hasDiagnostics();
+                }
+            }
+            return builder.diagnostics().build();
+        }
+
+        private static boolean isWithin(LineRange inner, LineRange outer) {
+            return compare(outer.startLine(), inner.startLine()) <= 0 &&
+                    compare(inner.endLine(), outer.endLine()) <= 0;
+        }
+
+        private static int compare(LinePosition first, LinePosition second) {
+            return first.line() != second.line() ? Integer.compare(first.line(), second.line()) :
+                    Integer.compare(first.offset(), second.offset());
+        }
+    }
+}
@@ -19,9 +19,11 @@
 package io.ballerina.flowmodelgenerator.extension;
 
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import io.ballerina.flowmodelgenerator.core.ExpressionEditorContext;
 import io.ballerina.flowmodelgenerator.extension.request.ExpressionEditorDiagnosticsRequest;
+import org.ballerinalang.langserver.util.TestUtil;
 import org.eclipse.lsp4j.Diagnostic;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -30,6 +32,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Tests for the expression editor diagnostics service.
@@ -61,6 +64,67 @@ public class ExpressionEditorDiagnosticsTest extends AbstractLSTest {
         }
     }
 
+    @Test
+    public void testSupersededRequest() throws IOException {
+        TestConfig testConfig = getTestConfig("function_call1.json");
+        String sourcePath = getSourcePath(testConfig.filePath());
+
+        // Only the latest of two requests on the same expression is compiled, while the other is answered empty
+        notifyDidOpen(sourcePath);
+        ExpressionEditorDiagnosticsRequest request =
+                new ExpressionEditorDiagnosticsRequest(sourcePath, testConfig.context());
+        CompletableFuture<?> supersededResult = serviceEndpoint.request(getEndpoint(), request);
+        CompletableFuture<?> latestResult = serviceEndpoint.request(getEndpoint(), request);
+        List<Diagnostic> supersededDiagnostics = getDiagnostics(supersededResult);
+        List<Diagnostic> latestDiagnostics = getDiagnostics(latestResult);
+        notifyDidClose(sourcePath);
+
+        Assert.assertTrue(supersededDiagnostics.isEmpty(), "The superseded request should not have diagnostics");
+        Assert.assertTrue(assertArray("diagnostics", latestDiagnostics, testConfig.diagnostics()),
+                "The latest request should have the diagnostics of the expression");
+    }
+
+    @Test
+    public void testRequestsOnDifferentProperties() throws IOException {
+        TestConfig testConfig = getTestConfig("function_call1.json");
+        String sourcePath = getSourcePath(testConfig.filePath());
+
+        // Requests on different properties of the same node do not supersede each other
+        notifyDidOpen(sourcePath);
+        ExpressionEditorContext.Info context = testConfig.context();
+        ExpressionEditorContext.Info errorContext = new ExpressionEditorContext.Info(context.expression(),
+                context.startLine(), context.offset(), context.node(), context.branch(), "'error");
+        CompletableFuture<?> msgResult = serviceEndpoint.request(getEndpoint(),
+                new ExpressionEditorDiagnosticsRequest(sourcePath, context));
+        CompletableFuture<?> errorResult = serviceEndpoint.request(getEndpoint(),
+                new ExpressionEditorDiagnosticsRequest(sourcePath, errorContext));
+        List<Diagnostic> msgDiagnostics = getDiagnostics(msgResult);
+        List<Diagnostic> errorDiagnostics = getDiagnostics(errorResult);
+        notifyDidClose(sourcePath);
+
+        Assert.assertTrue(assertArray("diagnostics", msgDiagnostics, testConfig.diagnostics()),
+                "The request on the msg property should have the diagnostics of the expression");
+        Assert.assertFalse(errorDiagnostics.isEmpty(), "The request on the error property should have diagnostics");
+    }
+
+    private TestConfig getTestConfig(String configName) throws IOException {
+        return gson.fromJson(Files.newBufferedReader(configDir.resolve(configName)), TestConfig.class);
+    }
+
+    private String getEndpoint() {
+        return getServiceName() + "/" + getApiName();
+    }
+
+    private List<Diagnostic> getDiagnostics(CompletableFuture<?> result) {
+        JsonObject response = JsonParser.parseString(TestUtil.getResponseString(result)).getAsJsonObject()
+                .getAsJsonObject("result");
+        if (!response.has("diagnostics")) {
+            return List.of();
+        }
+        return gson.fromJson(response.get("diagnostics").getAsJsonArray(),
+                new TypeToken<List<Diagnostic>>() { }.getType());
+    }
+
     @Override
     protected String getResourceDir() {
         return "diagnostics";
@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.flowmodelgenerator.core.ModelGenerator;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.LanguageServerContextImpl;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Tests the reuse of the cached flow models across the edits of a project. The flow model of a canvas after an edit
+ * must be equal to the flow model generated from scratch for the edited project, which is loaded from another
+ * directory so that it does not share the cached entries.
+ *
+ * @since 2.0.0
+ */
+public class FlowModelCacheTest {
+
+    private static final Path PROJECT_DIR =
+            Paths.get("src/test/resources/flow_model_cache/source/cache_project").toAbsolutePath();
+    private static final String MAIN_FILE = "main.bal";
+    private static final LineRange CANVAS =
+            LineRange.from(MAIN_FILE, LinePosition.from(2, 0), LinePosition.from(7, 1));
+    private static final int CONCURRENT_REQUESTS = 32;
+    private static final int THREADS = 8;
+
+    private final List<Path> tempDirs = new ArrayList<>();
+    private WorkspaceManager workspaceManager;
+    private int version;
+
+    @BeforeMethod
+    public void setUp() {
+        workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+        version = 1;
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        for (Path tempDir : tempDirs) {
+            try (Stream<Path> paths = Files.walk(tempDir)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+        tempDirs.clear();
+    }
+
+    @DataProvider(name = "edits")
+    public Object[][] getEdits() {
+        return new Object[][]{
+                {"signature of a called function", "utils.bal", "add(int a, int b) returns int {\n    return a + b;",
+                        "add(int x, int b) returns int {\n    return x + b;", true},
+                {"import of the canvas file", MAIN_FILE, "import ballerina/log;",
+                        "import ballerina/log as logger;", true},
+                {"package manifest", "Ballerina.toml", "org = \"test\"", "org = \"wso2\"", true},
+                {"data mapping function", "data_mappings.bal", "function transform",
+                        "\nfunction transform", true},
+                {"body of another function", "utils.bal", "return value * 2;", "return value * 3;", false}
+        };
+    }
+
+    @Test(dataProvider = "edits")
+    public void testEdit(String description, String editedFile, String target, String replacement,
+                         boolean changesModel) throws Exception {
+        Path projectDir = copyProject();
+        Path editedPath = projectDir.resolve(editedFile);
+        String editedSource = Files.readString(editedPath).replace(target, replacement);
+        Assert.assertTrue(editedSource.contains(replacement), "The edit does not apply: " + description);
+
+        // Generate the flow model to populate the cache, and then edit the project
+        openDocument(projectDir.resolve(MAIN_FILE));
+        openDocument(editedPath);
+        JsonElement before = getFlowModel(projectDir);
+        changeDocument(editedPath, editedSource);
+        JsonElement after = getFlowModel(projectDir);
+
+        // Generate the flow model of the edited project from scratch
+        Path coldProjectDir = copyProject();
+        Files.writeString(coldProjectDir.resolve(editedFile), editedSource);
+        openDocument(coldProjectDir.resolve(MAIN_FILE));
+        JsonElement cold = getFlowModel(coldProjectDir);
+
+        Assert.assertEquals(after, cold, "The cached flow model is stale after editing the " + description);
+        if (changesModel) {
+            Assert.assertNotEquals(after, before, "Editing the " + description + " should change the flow model");
+        } else {
+            Assert.assertEquals(after, before, "Editing the " + description + " should not change the flow model");
+        }
+    }
+
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        Path projectDir = copyProject();
+        Path filePath = projectDir.resolve(MAIN_FILE);
+        openDocument(filePath);
+        Project project = workspaceManager.loadProject(filePath);
+        SemanticModel semanticModel = workspaceManager.semanticModel(filePath).orElseThrow();
+        Document document = workspaceManager.document(filePath).orElseThrow();
+        Document dataMappingsDoc = workspaceManager.document(projectDir.resolve("data_mappings.bal")).orElse(null);
+        ModelGenerator modelGenerator = new ModelGenerator(project, semanticModel, filePath);
+        JsonElement expected = toJson(modelGenerator.getFlowModel(document, CANVAS, dataMappingsDoc));
+
+        // Concurrent requests of the same snapshot serialize the same cached flow nodes
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<JsonElement>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                results.add(executor.submit(
+                        () -> toJson(modelGenerator.getFlowModel(document, CANVAS, dataMappingsDoc))));
+            }
+            for (Future<JsonElement> result : results) {
+                Assert.assertEquals(result.get(1, TimeUnit.MINUTES), expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private JsonElement getFlowModel(Path projectDir) {
+        Path filePath = projectDir.resolve(MAIN_FILE);
+        Project project = workspaceManager.loadProject(filePath);
+        SemanticModel semanticModel = workspaceManager.semanticModel(filePath).orElseThrow();
+        Document document = workspaceManager.document(filePath).orElseThrow();
+        Document dataMappingsDoc = workspaceManager.document(projectDir.resolve("data_mappings.bal")).orElse(null);
+        return toJson(new ModelGenerator(project, semanticModel, filePath)
+                .getFlowModel(document, CANVAS, dataMappingsDoc));
+    }
+
+    private static JsonElement toJson(JsonPayload payload) {
+        // Compare only the file name since the projects are in different directories
+        JsonObject flowModel = payload.toJsonTree().getAsJsonObject();
+        flowModel.addProperty("fileName", MAIN_FILE);
+        return flowModel;
+    }
+
+    private Path copyProject() throws IOException {
+        Path projectDir = Files.createTempDirectory("flow-model-cache");
+        tempDirs.add(projectDir);
+        try (Stream<Path> files = Files.list(PROJECT_DIR)) {
+            for (Path file : files.toList()) {
+                Files.copy(file, projectDir.resolve(file.getFileName()));
+            }
+        }
+        return projectDir;
+    }
+
+    private void openDocument(Path filePath) throws IOException, WorkspaceDocumentException {
+        TextDocumentItem textDocumentItem = new TextDocumentItem(filePath.toUri().toString(), "ballerina", version++,
+                Files.readString(filePath));
+        workspaceManager.didOpen(filePath, new DidOpenTextDocumentParams(textDocumentItem));
+    }
+
+    private void changeDocument(Path filePath, String content) throws WorkspaceDocumentException {
+        VersionedTextDocumentIdentifier identifier =
+                new VersionedTextDocumentIdentifier(filePath.toUri().toString(), version++);
+        workspaceManager.didChange(filePath, new DidChangeTextDocumentParams(identifier,
+                List.of(new TextDocumentContentChangeEvent(content))));
+    }
+}
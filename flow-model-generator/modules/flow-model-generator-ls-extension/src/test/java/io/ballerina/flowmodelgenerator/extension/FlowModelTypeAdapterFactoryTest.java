@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.flowmodelgenerator.core.model.Diagram;
+import io.ballerina.flowmodelgenerator.core.model.FlowModelTypeAdapterFactory;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+/**
+ * Tests that the streaming adapters of the flow model produce the same JSON as the reflective adapters of Gson, for
+ * the diagrams of every test config of the flow model generator.
+ *
+ * @since 2.0.0
+ */
+public class FlowModelTypeAdapterFactoryTest {
+
+    private static final Path CONFIG_DIR =
+            Paths.get("src/test/resources/diagram_generator/config").toAbsolutePath();
+
+    private final Gson reflectiveGson = new Gson();
+    private final Gson streamingGson = new GsonBuilder()
+            .registerTypeAdapterFactory(new FlowModelTypeAdapterFactory())
+            .create();
+
+    @Test(dataProvider = "data-provider")
+    public void test(Path configPath) throws IOException {
+        JsonObject config;
+        try (Reader reader = Files.newBufferedReader(configPath)) {
+            config = reflectiveGson.fromJson(reader, JsonObject.class);
+        }
+        Diagram diagram = reflectiveGson.fromJson(config.get("diagram"), Diagram.class);
+
+        JsonElement expected = reflectiveGson.toJsonTree(diagram);
+        JsonElement actual = streamingGson.toJsonTree(diagram);
+        Assert.assertEquals(actual, expected, String.format("Serialization mismatch for '%s'", configPath));
+
+        // The streaming adapters are also used when writing to a JSON writer
+        Assert.assertEquals(reflectiveGson.fromJson(streamingGson.toJson(diagram), JsonElement.class), expected);
+    }
+
+    @DataProvider(name = "data-provider")
+    protected Object[] getConfigsList() throws IOException {
+        try (Stream<Path> stream = Files.list(CONFIG_DIR)) {
+            return stream
+                    .filter(path -> path.getFileName().toString().endsWith(".json"))
+                    .sorted()
+                    .toArray(Path[]::new);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.flowmodelgenerator.core.ScratchDocument;
+import io.ballerina.flowmodelgenerator.core.ScratchDocumentManager;
+import io.ballerina.tools.text.LinePosition;
+import org.ballerinalang.langserver.LanguageServerContextImpl;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Tests for the sessions of the scratch documents of the expression editor.
+ *
+ * @since 2.0.0
+ */
+public class ScratchDocumentManagerTest {
+
+    // The source uses CRLF line endings to verify that the base content is restored verbatim
+    private static final String SOURCE = String.join("\r\n",
+            "import ballerina/io;",
+            "",
+            "public function main() {",
+            "    int x = 1;",
+            "    io:println(x);",
+            "}",
+            "");
+    private static final LinePosition FIRST_STATEMENT = LinePosition.from(3, 4);
+    private static final LinePosition SECOND_STATEMENT = LinePosition.from(4, 4);
+    private static final String PREFIX = "var _ = ";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private Path sourceDir;
+    private Path filePath;
+    private WorkspaceManager workspaceManager;
+    private ScratchDocumentManager scratchDocumentManager;
+
+    @BeforeMethod
+    public void setUp() throws IOException, WorkspaceDocumentException {
+        sourceDir = Files.createTempDirectory("scratch-document");
+        filePath = sourceDir.resolve("main.bal");
+        Files.writeString(filePath, SOURCE);
+
+        workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+        TextDocumentItem textDocumentItem = new TextDocumentItem(filePath.toUri().toString(), "ballerina", 1, SOURCE);
+        workspaceManager.didOpen(filePath, new DidOpenTextDocumentParams(textDocumentItem));
+        scratchDocumentManager = new ScratchDocumentManager();
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(sourceDir);
+    }
+
+    @Test
+    public void testSessionReuseAcrossKeystrokes() throws Exception {
+        ScratchDocument first = apply(scratchDocument -> {
+            scratchDocument.writeStatement(List.of(), FIRST_STATEMENT, PREFIX, "x");
+            return scratchDocument;
+        });
+        ScratchDocument second = apply(scratchDocument -> {
+            scratchDocument.writeStatement(List.of(), FIRST_STATEMENT, PREFIX, "x + 1");
+            return scratchDocument;
+        });
+
+        // The second keystroke only replaces the expression of the statement written by the first one
+        Assert.assertSame(second, first);
+        String content = workspaceContent();
+        Assert.assertTrue(content.contains(PREFIX + "x + 1;"), content);
+        Assert.assertEquals(content.indexOf(PREFIX), content.lastIndexOf(PREFIX), content);
+    }
+
+    @Test
+    public void testRebaseAfterDidChange() throws Exception {
+        apply(scratchDocument -> {
+            scratchDocument.writeStatement(List.of(), FIRST_STATEMENT, PREFIX, "x");
+            return scratchDocument;
+        });
+
+        // Replace the text of the document as the client does, which becomes the new base of the scratch document
+        String newSource = SOURCE.replace("int x = 1;", "int x = 2;");
+        changeDocument(newSource);
+        String baseContent = apply(scratchDocument -> scratchDocument.document().textDocument().toString());
+        Assert.assertEquals(baseContent, newSource);
+
+        String content = apply(scratchDocument -> {
+            scratchDocument.writeStatement(List.of(), FIRST_STATEMENT, PREFIX, "x");
+            return scratchDocument.document().textDocument().toString();
+        });
+        Assert.assertTrue(content.contains("int x = 2;"), content);
+        Assert.assertEquals(content.indexOf(PREFIX), content.lastIndexOf(PREFIX), content);
+    }
+
+    @Test
+    public void testIdleRestore() throws Exception {
+        apply(scratchDocument -> {
+            scratchDocument.writeStatement(List.of(), FIRST_STATEMENT, PREFIX, "x");
+            return scratchDocument;
+        });
+        Assert.assertNotEquals(workspaceContent(), SOURCE);
+
+        // The base content is restored verbatim once the session has been idle for a while
+        waitUntil(() -> workspaceContent().equals(SOURCE));
+    }
+
+    @Test
+    public void testEndSessionDisposal() throws Exception {
+        ScratchDocument first = apply(scratchDocument -> {
+            scratchDocument.writeStatement(List.of(), FIRST_STATEMENT, PREFIX, "x");
+            return scratchDocument;
+        });
+        scratchDocumentManager.dispose(workspaceManager, filePath);
+
+        // The request following the end of the session starts a new session on the restored content
+        ScratchDocument second = apply(Function.identity());
+        Assert.assertNotSame(second, first);
+        Assert.assertEquals(workspaceContent(), SOURCE);
+    }
+
+    @Test
+    public void testConcurrentFormsOnSameFile() throws Exception {
+        CompletableFuture<Void> firstGate = new CompletableFuture<>();
+        CompletableFuture<Optional<String>> firstResult =
+                scratchDocumentManager.apply(workspaceManager, filePath, scratchDocument -> {
+                    scratchDocument.writeStatement(List.of(), FIRST_STATEMENT, PREFIX, "x");
+                    String content = scratchDocument.document().textDocument().toString();
+                    return firstGate.thenApply(ignored -> content);
+                });
+        CompletableFuture<Optional<String>> secondResult =
+                scratchDocumentManager.apply(workspaceManager, filePath, scratchDocument -> {
+                    scratchDocument.writeStatement(List.of(), SECOND_STATEMENT, PREFIX, "x * 2");
+                    return CompletableFuture.completedFuture(scratchDocument.document().textDocument().toString());
+                });
+
+        // The second form waits for the first one to release the session
+        Thread.sleep(200);
+        Assert.assertFalse(secondResult.isDone());
+        firstGate.complete(null);
+
+        String firstContent = firstResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).orElseThrow();
+        String secondContent = secondResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).orElseThrow();
+        Assert.assertTrue(firstContent.contains(PREFIX + "x;"), firstContent);
+        Assert.assertFalse(firstContent.contains(PREFIX + "x * 2;"), firstContent);
+        Assert.assertTrue(secondContent.contains(PREFIX + "x * 2;"), secondContent);
+        Assert.assertFalse(secondContent.contains(PREFIX + "x;"), secondContent);
+    }
+
+    private <T> T apply(Function<ScratchDocument, T> action) throws Exception {
+        return scratchDocumentManager.apply(workspaceManager, filePath,
+                        scratchDocument -> CompletableFuture.completedFuture(action.apply(scratchDocument)))
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .orElseThrow();
+    }
+
+    private void changeDocument(String content) throws WorkspaceDocumentException {
+        VersionedTextDocumentIdentifier identifier =
+                new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 2);
+        workspaceManager.didChange(filePath, new DidChangeTextDocumentParams(identifier,
+                List.of(new TextDocumentContentChangeEvent(content))));
+    }
+
+    private String workspaceContent() {
+        return workspaceManager.document(filePath).orElseThrow().textDocument().toString();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assert.fail("The condition was not met within " + TIMEOUT_SECONDS + " seconds");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
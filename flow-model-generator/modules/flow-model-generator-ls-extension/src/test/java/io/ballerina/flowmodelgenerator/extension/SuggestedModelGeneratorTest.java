@@ -20,8 +20,13 @@ package io.ballerina.flowmodelgenerator.extension;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import io.ballerina.flowmodelgenerator.extension.request.FlowModelGeneratorRequest;
 import io.ballerina.flowmodelgenerator.extension.request.FlowModelSuggestedGenerationRequest;
 import io.ballerina.tools.text.LinePosition;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -65,6 +70,55 @@ public class SuggestedModelGeneratorTest extends AbstractLSTest {
         }
     }
 
+    @Test(description = "Multiple suggestions on the same file must not modify the document of the workspace")
+    public void testSuggestionsOnSameFile() throws IOException {
+        TestConfig firstConfig = gson.fromJson(Files.newBufferedReader(configDir.resolve("if1.json")),
+                TestConfig.class);
+        TestConfig secondConfig = gson.fromJson(Files.newBufferedReader(configDir.resolve("if2.json")),
+                TestConfig.class);
+        Path sourcePath = sourceDir.resolve(firstConfig.source()).toAbsolutePath();
+        String sourceContent = Files.readString(sourcePath);
+        String fileUri = sourcePath.toUri().toString();
+
+        sendNotification("textDocument/didOpen",
+                new DidOpenTextDocumentParams(new TextDocumentItem(fileUri, "ballerina", 1, sourceContent)));
+        try {
+            FlowModelGeneratorRequest flowModelRequest =
+                    new FlowModelGeneratorRequest(sourcePath.toString(), firstConfig.start(), firstConfig.end());
+            JsonObject initialFlowModel = getResponse(flowModelRequest, "flowDesignService/getFlowModel");
+
+            // Each suggestion is applied to the unmodified document, regardless of the suggestions before it
+            for (TestConfig testConfig : new TestConfig[]{firstConfig, secondConfig, firstConfig}) {
+                JsonObject suggestedFlowModel = getSuggestedFlowModel(testConfig);
+                if (!suggestedFlowModel.equals(testConfig.diagram())) {
+                    compareJsonElements(suggestedFlowModel, testConfig.diagram());
+                    Assert.fail(String.format("Failed suggestion: '%s'", testConfig.description()));
+                }
+            }
+
+            Assert.assertEquals(getResponse(flowModelRequest, "flowDesignService/getFlowModel"), initialFlowModel,
+                    "The flow model of the workspace document changed after the suggestions");
+            Assert.assertEquals(Files.readString(sourcePath), sourceContent);
+        } finally {
+            sendNotification("textDocument/didClose",
+                    new DidCloseTextDocumentParams(new TextDocumentIdentifier(fileUri)));
+        }
+    }
+
+    private JsonObject getSuggestedFlowModel(TestConfig testConfig) {
+        FlowModelSuggestedGenerationRequest request = new FlowModelSuggestedGenerationRequest(
+                sourceDir.resolve(testConfig.source()).toAbsolutePath().toString(), testConfig.start(),
+                testConfig.end(), testConfig.text(), testConfig.position());
+        JsonObject jsonModel = getResponse(request, getServiceName() + "/" + getApiName())
+                .getAsJsonObject("flowModel");
+
+        // Assert only the file name since the absolute path may vary depending on the machine
+        JsonObject flowModel = jsonModel.deepCopy();
+        flowModel.addProperty("fileName",
+                Path.of(jsonModel.getAsJsonPrimitive("fileName").getAsString()).getFileName().toString());
+        return flowModel;
+    }
+
     @Override
     protected String getResourceDir() {
         return "suggested_flow_model";
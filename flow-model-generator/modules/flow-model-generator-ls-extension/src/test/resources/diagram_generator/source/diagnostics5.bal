@@ -0,0 +1,8 @@
+public function main() {
+    int i = 1;
+    int i = "12";
+}
+
+function fn() {
+    int j = "1";
+}
@@ -0,0 +1,3 @@
+function transform(Input input) returns Output => {
+    label: input.name
+};
@@ -0,0 +1,8 @@
+import ballerina/log;
+
+public function main() {
+    Input input = {name: "Alice", age: 30};
+    Output output = transform(input);
+    int sum = add(input.age, 1);
+    log:printInfo(output.label, sum = sum);
+}
@@ -0,0 +1,8 @@
+type Input record {|
+    string name;
+    int age;
+|};
+
+type Output record {|
+    string label;
+|};
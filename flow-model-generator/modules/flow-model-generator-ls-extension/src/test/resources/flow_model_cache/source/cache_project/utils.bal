@@ -0,0 +1,7 @@
+function add(int a, int b) returns int {
+    return a + b;
+}
+
+function scale(int value) returns int {
+    return value * 2;
+}
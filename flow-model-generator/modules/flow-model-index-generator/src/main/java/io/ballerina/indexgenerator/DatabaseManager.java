@@ -23,11 +23,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 class DatabaseManager {
@@ -45,24 +45,8 @@ class DatabaseManager {
         return "jdbc:sqlite:" + destinationPath;
     }
 
-    private static int insertEntry(String sql, Object[] params) {
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (int i = 0; i < params.length; i++) {
-                stmt.setObject(i + 1, params[i]);
-            }
-            stmt.executeUpdate();
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    return generatedKeys.getInt(1);
-                } else {
-                    throw new SQLException("Creating package failed, no ID obtained.");
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.severe("Error executing query: " + e.getMessage());
-            return -1;
-        }
+    static Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(dbPath);
     }
 
     public static void createDatabase() {
@@ -77,6 +61,44 @@ class DatabaseManager {
         }
     }
 
+    /**
+     * Returns the index keys of the packages in the existing index, keyed by {@code org/name}. An empty map is
+     * returned if there is no index or it was generated before index keys were recorded, in which case the index has
+     * to be rebuilt from scratch.
+     *
+     * @return the index key of each indexed package
+     */
+    public static Map<String, String> getIndexedPackages() {
+        Map<String, String> indexedPackages = new HashMap<>();
+        try (Connection conn = DriverManager.getConnection(dbPath);
+             Statement stmt = conn.createStatement()) {
+            if (!hasIndexKey(stmt)) {
+                return indexedPackages;
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT org, name, index_key FROM Package;")) {
+                while (rs.next()) {
+                    indexedPackages.put(rs.getString("org") + "/" + rs.getString("name"),
+                            rs.getString("index_key"));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.warning("Error reading the existing index: " + e.getMessage());
+            indexedPackages.clear();
+        }
+        return indexedPackages;
+    }
+
+    private static boolean hasIndexKey(Statement stmt) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA table_info(Package);")) {
+            while (rs.next()) {
+                if ("index_key".equals(rs.getString("name"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private static void executeQuery(String sql) {
         try (Connection conn = DriverManager.getConnection(dbPath);
              Statement stmt = conn.createStatement()) { // Use Statement instead
@@ -86,36 +108,4 @@ class DatabaseManager {
             LOGGER.severe("Error executing query: " + e.getMessage());
         }
     }
-
-    public static int insertPackage(String org, String name, String version, List<String> keywords) {
-        String sql = "INSERT INTO Package (org, name, version, keywords) VALUES (?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{org, name, version, keywords == null ? "" : String.join(",", keywords)});
-    }
-
-    public static int insertFunction(int packageId, String name, String description, String returnType, String kind,
-                                     String resourcePath, int returnError) {
-        String sql = "INSERT INTO Function (package_id, name, description, " +
-                "return_type, kind, resource_path, return_error) VALUES (?, ?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{packageId, name, description,
-                returnType, kind, resourcePath, returnError});
-    }
-
-    public static void insertFunctionParameter(int functionId, String paramName, String paramDescription,
-                                               String paramType, String defaultValue,
-                                               IndexGenerator.FunctionParameterKind parameterKind,
-                                               int optional, String importStatements) {
-
-        String sql =
-                "INSERT INTO Parameter (function_id, name, description, type, default_value, kind, optional, " +
-                        "import_statements) " +
-                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-        insertEntry(sql,
-                new Object[]{functionId, paramName, paramDescription, paramType, defaultValue,
-                        parameterKind.name(), optional, importStatements});
-    }
-
-    public static void mapConnectorAction(int actionId, int connectorId) {
-        String sql = "INSERT INTO FunctionConnector (function_id, connector_id) VALUES (?, ?)";
-        insertEntry(sql, new Object[]{actionId, connectorId});
-    }
 }
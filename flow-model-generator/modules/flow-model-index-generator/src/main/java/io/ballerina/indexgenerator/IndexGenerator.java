@@ -54,6 +54,10 @@ import io.ballerina.flowmodelgenerator.core.utils.CommonUtils;
 import io.ballerina.flowmodelgenerator.core.utils.DefaultValueGeneratorUtil;
 import io.ballerina.flowmodelgenerator.core.utils.PackageUtil;
 import io.ballerina.flowmodelgenerator.core.utils.ParamUtils;
+import io.ballerina.indexgenerator.IndexRecords.FunctionRecord;
+import io.ballerina.indexgenerator.IndexRecords.PackageRecord;
+import io.ballerina.indexgenerator.IndexRecords.PackageRemoval;
+import io.ballerina.indexgenerator.IndexRecords.ParameterRecord;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
@@ -67,21 +71,26 @@ import org.ballerinalang.langserver.common.utils.CommonUtil;
 
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 /**
- * Index generator to cache functions and connectors.
+ * Index generator to cache functions and connectors. When invoked with {@code --incremental}, only the packages whose
+ * index key differs from the existing index are analysed, and the packages that are no longer listed are removed.
  *
  * @since 2.0.0
  */
@@ -90,54 +99,137 @@ class IndexGenerator {
     private static final java.lang.reflect.Type typeToken =
             new TypeToken<Map<String, List<PackageListGenerator.PackageMetadataInfo>>>() { }.getType();
     private static final Logger LOGGER = Logger.getLogger(IndexGenerator.class.getName());
+    private static final String INCREMENTAL_FLAG = "--incremental";
+
+    // Bump this whenever the extracted content changes, so that an incremental run refreshes every package
+    private static final String INDEX_FORMAT_VERSION = "1";
 
     public static void main(String[] args) {
-        DatabaseManager.createDatabase();
+        Map<String, String> indexedPackages = Arrays.asList(args).contains(INCREMENTAL_FLAG) ?
+                DatabaseManager.getIndexedPackages() : Map.of();
+        if (indexedPackages.isEmpty()) {
+            DatabaseManager.createDatabase();
+        }
         BuildProject buildProject = PackageUtil.getSampleProject();
 
-        Gson gson = new Gson();
         URL resource = IndexGenerator.class.getClassLoader().getResource(PackageListGenerator.PACKAGE_JSON_FILE);
-        try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8)) {
-            Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap = gson.fromJson(reader,
-                    typeToken);
+        try (IndexWriter indexWriter = new IndexWriter();
+             PackageEnvironment packageEnvironment = new PackageEnvironment(buildProject);
+             FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8)) {
+            Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap = readPackages(reader);
+
+            // Only analyse the packages that are new or whose index key has changed
+            IndexPlan indexPlan = planIndex(packagesMap, indexedPackages);
+            LOGGER.info("Indexing " + indexPlan.changedCount() + " new or changed packages, " +
+                    indexPlan.unchangedCount() + " unchanged");
+
             ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
-            forkJoinPool.submit(() -> packagesMap.forEach((key, value) -> value.parallelStream().forEach(
-                    packageMetadataInfo -> resolvePackage(buildProject, key, packageMetadataInfo)))).join();
+            forkJoinPool.submit(() -> indexPlan.changedPackages().forEach((key, value) -> value.parallelStream()
+                    .forEach(packageMetadataInfo -> resolvePackage(packageEnvironment, key, packageMetadataInfo)
+                            .ifPresent(indexWriter::submit)))).join();
+
+            // Remove the packages that are no longer listed
+            indexPlan.removals().forEach(indexWriter::submit);
         } catch (IOException e) {
             LOGGER.severe("Error reading packages JSON file: " + e.getMessage());
+        } catch (SQLException e) {
+            LOGGER.severe("Error opening the database: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the packages to index, keyed by their organization.
+     *
+     * @param reader the reader of the packages JSON file
+     * @return the packages of each organization
+     */
+    static Map<String, List<PackageListGenerator.PackageMetadataInfo>> readPackages(Reader reader) {
+        return new Gson().fromJson(reader, typeToken);
+    }
+
+    /**
+     * Compares the listed packages against the existing index, to find the packages to analyse and the packages to
+     * remove. A package is analysed if it is not indexed yet, or if its index key has changed, such as when a new
+     * version is listed.
+     *
+     * @param packagesMap     the listed packages, keyed by their organization
+     * @param indexedPackages the index keys of the indexed packages, keyed by {@code org/name}
+     * @return the plan of the run
+     */
+    static IndexPlan planIndex(Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap,
+                               Map<String, String> indexedPackages) {
+        Set<String> listedPackages = new HashSet<>();
+        Map<String, List<PackageListGenerator.PackageMetadataInfo>> changedPackages = new HashMap<>();
+        int changedCount = 0;
+        for (Map.Entry<String, List<PackageListGenerator.PackageMetadataInfo>> entry : packagesMap.entrySet()) {
+            String org = entry.getKey();
+            for (PackageListGenerator.PackageMetadataInfo metadataInfo : entry.getValue()) {
+                String packageKey = org + "/" + metadataInfo.name();
+                listedPackages.add(packageKey);
+                if (!getIndexKey(org, metadataInfo).equals(indexedPackages.get(packageKey))) {
+                    changedPackages.computeIfAbsent(org, k -> new ArrayList<>()).add(metadataInfo);
+                    changedCount++;
+                }
+            }
+        }
+
+        List<PackageRemoval> removals = new ArrayList<>();
+        for (String packageKey : indexedPackages.keySet()) {
+            if (!listedPackages.contains(packageKey)) {
+                int separator = packageKey.indexOf('/');
+                removals.add(new PackageRemoval(packageKey.substring(0, separator),
+                        packageKey.substring(separator + 1)));
+            }
         }
+        return new IndexPlan(changedPackages, removals, changedCount, listedPackages.size() - changedCount);
+    }
+
+    /**
+     * Returns the key identifying the indexed content of a package. The content itself is not hashed, as that requires
+     * resolving and analysing the package, which is what an incremental run avoids. Instead, since a published package
+     * version is immutable in Ballerina Central, the coordinates of the package along with the index format version
+     * identify the content.
+     *
+     * @param org          the organization of the package
+     * @param metadataInfo the metadata of the package
+     * @return the index key, in the form {@code <format version>:<org>/<name>:<version>}
+     */
+    static String getIndexKey(String org, PackageListGenerator.PackageMetadataInfo metadataInfo) {
+        return INDEX_FORMAT_VERSION + ":" + org + "/" + metadataInfo.name() + ":" + metadataInfo.version();
     }
 
-    private static void resolvePackage(BuildProject buildProject, String org,
-                                       PackageListGenerator.PackageMetadataInfo packageMetadataInfo) {
+    private static Optional<PackageRecord> resolvePackage(PackageEnvironment packageEnvironment, String org,
+                                                          PackageListGenerator.PackageMetadataInfo metadataInfo) {
         Package resolvedPackage;
         try {
-            resolvedPackage = Objects.requireNonNull(PackageUtil.getModulePackage(buildProject, org,
-                    packageMetadataInfo.name(), packageMetadataInfo.version()));
+            resolvedPackage = packageEnvironment.loadPackage(org, metadataInfo.name(), metadataInfo.version())
+                    .orElseThrow();
         } catch (Throwable e) {
-            LOGGER.severe("Error resolving package: " + packageMetadataInfo.name() + e.getMessage());
-            return;
+            LOGGER.severe("Error resolving package: " + metadataInfo.name() + e.getMessage());
+            return Optional.empty();
         }
         PackageDescriptor descriptor = resolvedPackage.descriptor();
 
         LOGGER.info("Processing package: " + descriptor.name().value());
-        int packageId = DatabaseManager.insertPackage(descriptor.org().value(), descriptor.name().value(),
-                descriptor.version().value().toString(), resolvedPackage.manifest().keywords());
-        if (packageId == -1) {
-            LOGGER.severe("Error inserting package to database: " + descriptor.name().value());
-            return;
-        }
-
         SemanticModel semanticModel;
         try {
-            semanticModel = resolvedPackage.getCompilation()
-                    .getSemanticModel(resolvedPackage.getDefaultModule().moduleId());
+            semanticModel = packageEnvironment.compile(resolvedPackage);
         } catch (Exception e) {
             LOGGER.severe("Error reading semantic model: " + e.getMessage());
-            return;
+            return Optional.empty();
         }
 
+        List<FunctionRecord> functions = packageEnvironment.extract(
+                () -> extractFunctions(semanticModel, descriptor, resolvedPackage));
+        return Optional.of(new PackageRecord(descriptor.org().value(), descriptor.name().value(),
+                descriptor.version().value().toString(), getIndexKey(org, metadataInfo),
+                resolvedPackage.manifest().keywords(), functions));
+    }
+
+    private static List<FunctionRecord> extractFunctions(SemanticModel semanticModel, PackageDescriptor descriptor,
+                                                         Package resolvedPackage) {
         TypeSymbol errorTypeSymbol = semanticModel.types().ERROR;
+        List<FunctionRecord> functions = new ArrayList<>();
 
         for (Symbol symbol : semanticModel.moduleSymbols()) {
             if (symbol.kind() == SymbolKind.FUNCTION) {
@@ -146,8 +238,9 @@ class IndexGenerator {
                     continue;
                 }
 
-                processFunctionSymbol(functionSymbol, functionSymbol, packageId, FunctionType.FUNCTION,
-                        descriptor.name().value(), errorTypeSymbol, resolvedPackage);
+                processFunctionSymbol(functionSymbol, functionSymbol, FunctionType.FUNCTION,
+                        descriptor.name().value(), errorTypeSymbol, resolvedPackage, List.of())
+                        .ifPresent(functions::add);
                 continue;
             }
             if (symbol.kind() == SymbolKind.CLASS) {
@@ -163,14 +256,9 @@ class IndexGenerator {
                 if (!classSymbol.nameEquals("Client")) {
                     continue;
                 }
-                int connectorId = processFunctionSymbol(initMethodSymbol.get(), classSymbol, packageId,
-                        FunctionType.CONNECTOR,
-                        descriptor.name().value(), errorTypeSymbol, resolvedPackage);
-                if (connectorId == -1) {
-                    continue;
-                }
 
                 // Process the actions of the client
+                List<FunctionRecord> actions = new ArrayList<>();
                 Map<String, MethodSymbol> methods = classSymbol.methods();
                 for (Map.Entry<String, MethodSymbol> entry : methods.entrySet()) {
                     MethodSymbol methodSymbol = entry.getValue();
@@ -186,24 +274,28 @@ class IndexGenerator {
                     } else {
                         continue;
                     }
-                    int functionId = processFunctionSymbol(methodSymbol, methodSymbol, packageId, functionType,
-                            descriptor.name().value(), errorTypeSymbol, resolvedPackage);
-                    if (functionId == -1) {
-                        continue;
-                    }
-                    DatabaseManager.mapConnectorAction(functionId, connectorId);
+                    processFunctionSymbol(methodSymbol, methodSymbol, functionType, descriptor.name().value(),
+                            errorTypeSymbol, resolvedPackage, List.of())
+                            .ifPresent(actions::add);
                 }
+                processFunctionSymbol(initMethodSymbol.get(), classSymbol, FunctionType.CONNECTOR,
+                        descriptor.name().value(), errorTypeSymbol, resolvedPackage, actions)
+                        .ifPresent(functions::add);
             }
         }
+        return functions;
     }
 
     private static boolean hasAllQualifiers(List<Qualifier> actualQualifiers, List<Qualifier> expectedQualifiers) {
         return !new HashSet<>(actualQualifiers).containsAll(expectedQualifiers);
     }
 
-    private static int processFunctionSymbol(FunctionSymbol functionSymbol, Documentable documentable, int packageId,
-                                             FunctionType functionType, String packageName,
-                                             TypeSymbol errorTypeSymbol, Package resolvedPackage) {
+    private static Optional<FunctionRecord> processFunctionSymbol(FunctionSymbol functionSymbol,
+                                                                  Documentable documentable,
+                                                                  FunctionType functionType, String packageName,
+                                                                  TypeSymbol errorTypeSymbol,
+                                                                  Package resolvedPackage,
+                                                                  List<FunctionRecord> actions) {
         String pathBuilder = "";
         if (functionType == FunctionType.RESOURCE) {
             pathBuilder = ParamUtils.buildResourcePathTemplate(functionSymbol);
@@ -212,7 +304,7 @@ class IndexGenerator {
         // Capture the name of the function
         Optional<String> name = functionSymbol.getName();
         if (name.isEmpty()) {
-            return packageId;
+            return Optional.empty();
         }
 
         // Obtain the description of the function
@@ -250,21 +342,20 @@ class IndexGenerator {
         int returnError = functionTypeSymbol.returnTypeDescriptor()
                 .map(returnTypeDesc -> CommonUtils.subTypeOf(returnTypeDesc, errorTypeSymbol) ? 1 : 0).orElse(0);
 
-        int functionId = DatabaseManager.insertFunction(packageId, name.get(), description, returnType,
-                functionType.name(), pathBuilder, returnError);
-
         // Handle the parameters of the function
+        List<ParameterRecord> parameters = new ArrayList<>();
         ParamForTypeInfer finalParamForTypeInfer = paramForTypeInfer;
         ModuleInfo defaultModuleInfo = ModuleInfo.from(resolvedPackage.getDefaultModule().descriptor());
         functionTypeSymbol.params()
                 .ifPresent(paramList -> paramList.forEach(paramSymbol -> processParameterSymbol(paramSymbol,
-                        documentationMap, functionId, resolvedPackage,
+                        documentationMap, parameters, resolvedPackage,
                         finalParamForTypeInfer, defaultModuleInfo)));
         functionTypeSymbol.restParam()
-                .ifPresent(paramSymbol -> processParameterSymbol(paramSymbol, documentationMap, functionId,
+                .ifPresent(paramSymbol -> processParameterSymbol(paramSymbol, documentationMap, parameters,
                         resolvedPackage, null,
                         defaultModuleInfo));
-        return functionId;
+        return Optional.of(new FunctionRecord(name.get(), description, returnType, functionType, pathBuilder,
+                returnError, parameters, actions));
     }
 
     private static Map<String, TypeSymbol> allMembers(TypeSymbol typeSymbol) {
@@ -286,7 +377,7 @@ class IndexGenerator {
     }
 
     private static void processParameterSymbol(ParameterSymbol paramSymbol, Map<String, String> documentationMap,
-                                               int functionId, Package resolvedPackage,
+                                               List<ParameterRecord> parameters, Package resolvedPackage,
                                                ParamForTypeInfer paramForTypeInfer,
                                                ModuleInfo defaultModuleInfo) {
         String paramName = paramSymbol.getName().orElse("");
@@ -304,8 +395,8 @@ class IndexGenerator {
                     null, false);
         } else if (parameterKind == FunctionParameterKind.INCLUDED_RECORD) {
             paramType = getTypeSignature(typeSymbol, null, false);
-            addIncludedRecordParamsToDb((RecordTypeSymbol) CommonUtils.getRawType(typeSymbol),
-                    functionId, resolvedPackage, defaultModuleInfo);
+            addIncludedRecordParams((RecordTypeSymbol) CommonUtils.getRawType(typeSymbol),
+                    parameters, resolvedPackage, defaultModuleInfo);
             defaultValue = DefaultValueGeneratorUtil.getDefaultValueForType(typeSymbol);
         } else if (parameterKind == FunctionParameterKind.REQUIRED) {
             paramType = getTypeSignature(typeSymbol, null, false);
@@ -316,9 +407,8 @@ class IndexGenerator {
                 if (paramForTypeInfer.paramName().equals(paramName)) {
                     defaultValue = paramForTypeInfer.type();
                     paramType = paramForTypeInfer.type();
-                    DatabaseManager.insertFunctionParameter(functionId, paramName, paramDescription,
-                            paramType, defaultValue, FunctionParameterKind.PARAM_FOR_TYPE_INFER, optional,
-                            importStatements);
+                    parameters.add(new ParameterRecord(paramName, paramDescription, paramType, defaultValue,
+                            FunctionParameterKind.PARAM_FOR_TYPE_INFER, optional, importStatements));
                     return;
                 }
             }
@@ -331,15 +421,15 @@ class IndexGenerator {
             }
             paramType = getTypeSignature(typeSymbol, null, false);
         }
-        DatabaseManager.insertFunctionParameter(functionId, paramName, paramDescription, paramType, defaultValue,
-                parameterKind, optional, importStatements);
+        parameters.add(new ParameterRecord(paramName, paramDescription, paramType, defaultValue, parameterKind,
+                optional, importStatements));
     }
 
-    protected static void addIncludedRecordParamsToDb(RecordTypeSymbol recordTypeSymbol, int functionId,
-                                                      Package resolvedPackage,
-                                                      ModuleInfo defaultModuleInfo) {
+    protected static void addIncludedRecordParams(RecordTypeSymbol recordTypeSymbol, List<ParameterRecord> parameters,
+                                                  Package resolvedPackage,
+                                                  ModuleInfo defaultModuleInfo) {
         recordTypeSymbol.typeInclusions().forEach(includedType -> {
-            addIncludedRecordParamsToDb(((RecordTypeSymbol) CommonUtils.getRawType(includedType)), functionId,
+            addIncludedRecordParams(((RecordTypeSymbol) CommonUtils.getRawType(includedType)), parameters,
                     resolvedPackage, defaultModuleInfo);
         });
         for (Map.Entry<String, RecordFieldSymbol> entry : recordTypeSymbol.fieldDescriptors().entrySet()) {
@@ -369,17 +459,16 @@ class IndexGenerator {
             if (recordFieldSymbol.isOptional() || recordFieldSymbol.hasDefaultValue()) {
                 optional = 1;
             }
-            DatabaseManager.insertFunctionParameter(functionId, paramName, paramDescription, paramType, defaultValue,
+            parameters.add(new ParameterRecord(paramName, paramDescription, paramType, defaultValue,
                     FunctionParameterKind.INCLUDED_FIELD, optional,
-                    CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse(null));
+                    CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse(null)));
         }
         recordTypeSymbol.restTypeDescriptor().ifPresent(typeSymbol -> {
             String paramType = getTypeSignature(typeSymbol, null, false);
             String defaultValue = DefaultValueGeneratorUtil.getDefaultValueForType(typeSymbol);
-            DatabaseManager.insertFunctionParameter(functionId, "Additional Values",
-                    "Capture key value pairs", paramType, defaultValue,
-                    FunctionParameterKind.INCLUDED_RECORD_REST, 1,
-                    CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse(null));
+            parameters.add(new ParameterRecord("Additional Values", "Capture key value pairs", paramType,
+                    defaultValue, FunctionParameterKind.INCLUDED_RECORD_REST, 1,
+                    CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse(null)));
         });
     }
 
@@ -525,4 +614,16 @@ class IndexGenerator {
 
     private record ParamForTypeInfer(String paramName, String defaultValue, String type) {
     }
+
+    /**
+     * Represents the work of an incremental run of the index generator.
+     *
+     * @param changedPackages the packages to analyse, keyed by their organization
+     * @param removals        the indexed packages that are no longer listed
+     * @param changedCount    the number of packages to analyse
+     * @param unchangedCount  the number of listed packages whose index is up to date
+     */
+    record IndexPlan(Map<String, List<PackageListGenerator.PackageMetadataInfo>> changedPackages,
+                     List<PackageRemoval> removals, int changedCount, int unchangedCount) {
+    }
 }
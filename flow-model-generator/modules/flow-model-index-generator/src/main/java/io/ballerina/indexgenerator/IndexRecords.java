@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import java.util.List;
+
+/**
+ * Immutable records produced by the package analysis workers and consumed by the {@link IndexWriter}. The database
+ * identifiers are assigned by the writer, so the records only describe the content of a package.
+ *
+ * @since 2.0.0
+ */
+final class IndexRecords {
+
+    private IndexRecords() {
+    }
+
+    /**
+     * Represents a change to the index that is applied by the {@link IndexWriter}.
+     */
+    sealed interface IndexEntry permits PackageRecord, PackageRemoval {
+
+        String org();
+
+        String name();
+    }
+
+    /**
+     * Represents an analysed package along with its public functions and connectors. Writing a package replaces any
+     * previously indexed version of it.
+     *
+     * @param org       the organization of the package
+     * @param name      the name of the package
+     * @param version   the version of the package
+     * @param indexKey  the key identifying the indexed content of the package
+     * @param keywords  the keywords of the package
+     * @param functions the functions and connectors of the package
+     */
+    record PackageRecord(String org, String name, String version, String indexKey, List<String> keywords,
+                         List<FunctionRecord> functions) implements IndexEntry {
+
+        PackageRecord {
+            keywords = keywords == null ? List.of() : List.copyOf(keywords);
+            functions = List.copyOf(functions);
+        }
+    }
+
+    /**
+     * Represents a package that is no longer listed and whose indexed rows should be removed.
+     *
+     * @param org  the organization of the package
+     * @param name the name of the package
+     */
+    record PackageRemoval(String org, String name) implements IndexEntry {
+
+    }
+
+    /**
+     * Represents a function, a connector or a connector action.
+     *
+     * @param name         the name of the function
+     * @param description  the description of the function
+     * @param returnType   the return type signature of the function
+     * @param kind         the kind of the function
+     * @param resourcePath the resource path template, which is empty for non-resource functions
+     * @param returnError  {@code 1} if the function returns an error, {@code 0} otherwise
+     * @param parameters   the parameters of the function
+     * @param actions      the actions of the connector, which is empty for other kinds of functions
+     */
+    record FunctionRecord(String name, String description, String returnType, IndexGenerator.FunctionType kind,
+                          String resourcePath, int returnError, List<ParameterRecord> parameters,
+                          List<FunctionRecord> actions) {
+
+        FunctionRecord {
+            parameters = List.copyOf(parameters);
+            actions = List.copyOf(actions);
+        }
+    }
+
+    /**
+     * Represents a parameter of a function.
+     *
+     * @param name             the name of the parameter
+     * @param description      the description of the parameter
+     * @param type             the type signature of the parameter
+     * @param defaultValue     the default value of the parameter
+     * @param kind             the kind of the parameter
+     * @param optional         {@code 1} if the parameter is optional, {@code 0} otherwise
+     * @param importStatements the import statements required by the parameter type
+     */
+    record ParameterRecord(String name, String description, String type, String defaultValue,
+                           IndexGenerator.FunctionParameterKind kind, int optional, String importStatements) {
+
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import io.ballerina.indexgenerator.IndexRecords.FunctionRecord;
+import io.ballerina.indexgenerator.IndexRecords.IndexEntry;
+import io.ballerina.indexgenerator.IndexRecords.PackageRecord;
+import io.ballerina.indexgenerator.IndexRecords.PackageRemoval;
+import io.ballerina.indexgenerator.IndexRecords.ParameterRecord;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Single writer of the central index. The package analysis workers submit immutable {@link IndexEntry}s into a
+ * bounded queue, and a dedicated writer thread drains it with batched prepared statements inside large transactions.
+ * This avoids contending for the SQLite write lock from the parallel workers. The database is written with WAL
+ * journaling and without syncing, and is analyzed and vacuumed once all the packages are written.
+ *
+ * @since 2.0.0
+ */
+class IndexWriter implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexWriter.class.getName());
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int PACKAGES_PER_TRANSACTION = 100;
+    private static final long SUBMIT_POLL_MILLIS = 500;
+    private static final PackageRecord END_OF_INDEX = new PackageRecord("", "", "", "", List.of(), List.of());
+
+    private static final String INSERT_PACKAGE_SQL =
+            "INSERT INTO Package (package_id, org, name, version, index_key, keywords) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_FUNCTION_SQL =
+            "INSERT INTO Function (function_id, package_id, name, description, return_type, kind, resource_path, " +
+                    "return_error) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PARAMETER_SQL =
+            "INSERT INTO Parameter (function_id, name, description, type, default_value, kind, optional, " +
+                    "import_statements) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CONNECTOR_ACTION_SQL =
+            "INSERT INTO FunctionConnector (function_id, connector_id) VALUES (?, ?)";
+    private static final String PACKAGE_FUNCTIONS_SQL =
+            "SELECT f.function_id FROM Function f JOIN Package p ON f.package_id = p.package_id " +
+                    "WHERE p.org = ? AND p.name = ?";
+    private static final String DELETE_PARAMETERS_SQL =
+            "DELETE FROM Parameter WHERE function_id IN (" + PACKAGE_FUNCTIONS_SQL + ")";
+    private static final String DELETE_CONNECTOR_ACTIONS_SQL =
+            "DELETE FROM FunctionConnector WHERE connector_id IN (" + PACKAGE_FUNCTIONS_SQL + ")";
+    private static final String DELETE_FUNCTIONS_SQL =
+            "DELETE FROM Function WHERE package_id IN (SELECT package_id FROM Package WHERE org = ? AND name = ?)";
+    private static final String DELETE_PACKAGES_SQL = "DELETE FROM Package WHERE org = ? AND name = ?";
+
+    private final BlockingQueue<IndexEntry> queue;
+    private final Connection connection;
+    private final PreparedStatement packageStmt;
+    private final PreparedStatement functionStmt;
+    private final PreparedStatement parameterStmt;
+    private final PreparedStatement connectorActionStmt;
+    private final List<PreparedStatement> deleteStmts;
+    private final Thread writerThread;
+    private int nextPackageId;
+    private int nextFunctionId;
+    private int writtenPackages;
+    private int removedPackages;
+
+    IndexWriter() throws SQLException {
+        this(DatabaseManager.getConnection());
+    }
+
+    /**
+     * Creates a writer of the index behind the given connection, which is owned and closed by the writer.
+     *
+     * @param connection the connection to the index database
+     * @throws SQLException if the database cannot be prepared for writing
+     */
+    IndexWriter(Connection connection) throws SQLException {
+        this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        this.connection = connection;
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA journal_mode = WAL;");
+            stmt.execute("PRAGMA synchronous = OFF;");
+        }
+        this.nextPackageId = queryMaxId("SELECT COALESCE(MAX(package_id), 0) FROM Package;") + 1;
+        this.nextFunctionId = queryMaxId("SELECT COALESCE(MAX(function_id), 0) FROM Function;") + 1;
+        this.connection.setAutoCommit(false);
+        this.packageStmt = connection.prepareStatement(INSERT_PACKAGE_SQL);
+        this.functionStmt = connection.prepareStatement(INSERT_FUNCTION_SQL);
+        this.parameterStmt = connection.prepareStatement(INSERT_PARAMETER_SQL);
+        this.connectorActionStmt = connection.prepareStatement(INSERT_CONNECTOR_ACTION_SQL);
+        // The dependent rows must be deleted before the functions and the package they refer to
+        this.deleteStmts = List.of(connection.prepareStatement(DELETE_PARAMETERS_SQL),
+                connection.prepareStatement(DELETE_CONNECTOR_ACTIONS_SQL),
+                connection.prepareStatement(DELETE_FUNCTIONS_SQL),
+                connection.prepareStatement(DELETE_PACKAGES_SQL));
+        this.writtenPackages = 0;
+        this.removedPackages = 0;
+        this.writerThread = new Thread(this::drain, "index-writer");
+        this.writerThread.start();
+    }
+
+    /**
+     * Submits a change to be written, blocking while the queue is full.
+     *
+     * @param indexEntry the package to write or remove
+     * @throws IllegalStateException if the writer thread has stopped, as the change would never be written
+     */
+    void submit(IndexEntry indexEntry) {
+        try {
+            do {
+                if (!writerThread.isAlive()) {
+                    throw new IllegalStateException("Index writer has stopped, cannot write package: " +
+                            indexEntry.name());
+                }
+            } while (!queue.offer(indexEntry, SUBMIT_POLL_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.severe("Interrupted while submitting package: " + indexEntry.name());
+        }
+    }
+
+    private void drain() {
+        int pendingPackages = 0;
+        while (true) {
+            IndexEntry indexEntry;
+            try {
+                indexEntry = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.severe("Index writer interrupted before all the packages were written");
+                break;
+            }
+            if (indexEntry == END_OF_INDEX) {
+                break;
+            }
+
+            try {
+                if (indexEntry instanceof PackageRecord packageRecord) {
+                    write(packageRecord);
+                } else if (indexEntry instanceof PackageRemoval packageRemoval) {
+                    remove(packageRemoval);
+                }
+            } catch (RuntimeException e) {
+                // A malformed entry must not stop the writer, as the workers would block on the full queue
+                LOGGER.severe("Unexpected error writing package " + indexEntry.name() + ": " + e);
+            }
+            pendingPackages++;
+            if (pendingPackages >= PACKAGES_PER_TRANSACTION) {
+                commit();
+                pendingPackages = 0;
+            }
+        }
+        commit();
+    }
+
+    private void write(PackageRecord packageRecord) {
+        Savepoint savepoint = null;
+        try {
+            savepoint = connection.setSavepoint();
+            deletePackage(packageRecord.org(), packageRecord.name());
+
+            int packageId = nextPackageId++;
+            packageStmt.setInt(1, packageId);
+            packageStmt.setString(2, packageRecord.org());
+            packageStmt.setString(3, packageRecord.name());
+            packageStmt.setString(4, packageRecord.version());
+            packageStmt.setString(5, packageRecord.indexKey());
+            packageStmt.setString(6, String.join(",", packageRecord.keywords()));
+            packageStmt.executeUpdate();
+
+            for (FunctionRecord functionRecord : packageRecord.functions()) {
+                int functionId = addFunction(packageId, functionRecord);
+                for (FunctionRecord actionRecord : functionRecord.actions()) {
+                    int actionId = addFunction(packageId, actionRecord);
+                    connectorActionStmt.setInt(1, actionId);
+                    connectorActionStmt.setInt(2, functionId);
+                    connectorActionStmt.addBatch();
+                }
+            }
+
+            // The functions must be written before the dependent rows due to the foreign key constraints
+            functionStmt.executeBatch();
+            parameterStmt.executeBatch();
+            connectorActionStmt.executeBatch();
+            connection.releaseSavepoint(savepoint);
+            writtenPackages++;
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.severe("Error writing package " + packageRecord.name() + " to the database: " + e.getMessage());
+            rollback(savepoint);
+        }
+    }
+
+    private void remove(PackageRemoval packageRemoval) {
+        Savepoint savepoint = null;
+        try {
+            savepoint = connection.setSavepoint();
+            deletePackage(packageRemoval.org(), packageRemoval.name());
+            connection.releaseSavepoint(savepoint);
+            removedPackages++;
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.severe("Error removing package " + packageRemoval.name() + " from the database: " +
+                    e.getMessage());
+            rollback(savepoint);
+        }
+    }
+
+    private void deletePackage(String org, String name) throws SQLException {
+        for (PreparedStatement deleteStmt : deleteStmts) {
+            int paramCount = deleteStmt.getParameterMetaData().getParameterCount();
+            for (int i = 1; i < paramCount; i += 2) {
+                deleteStmt.setString(i, org);
+                deleteStmt.setString(i + 1, name);
+            }
+            deleteStmt.executeUpdate();
+        }
+    }
+
+    private int addFunction(int packageId, FunctionRecord functionRecord) throws SQLException {
+        int functionId = nextFunctionId++;
+        functionStmt.setInt(1, functionId);
+        functionStmt.setInt(2, packageId);
+        functionStmt.setString(3, functionRecord.name());
+        functionStmt.setString(4, functionRecord.description());
+        functionStmt.setString(5, functionRecord.returnType());
+        functionStmt.setString(6, functionRecord.kind().name());
+        functionStmt.setString(7, functionRecord.resourcePath());
+        functionStmt.setInt(8, functionRecord.returnError());
+        functionStmt.addBatch();
+
+        for (ParameterRecord parameterRecord : functionRecord.parameters()) {
+            parameterStmt.setInt(1, functionId);
+            parameterStmt.setString(2, parameterRecord.name());
+            parameterStmt.setString(3, parameterRecord.description());
+            parameterStmt.setString(4, parameterRecord.type());
+            parameterStmt.setString(5, parameterRecord.defaultValue());
+            parameterStmt.setString(6, parameterRecord.kind().name());
+            parameterStmt.setInt(7, parameterRecord.optional());
+            parameterStmt.setString(8, parameterRecord.importStatements());
+            parameterStmt.addBatch();
+        }
+        return functionId;
+    }
+
+    private void rollback(Savepoint savepoint) {
+        // Each batch is cleared on its own, so that a failure to clear one does not leave the rows of the failed
+        // package in the others to be executed with the next package
+        for (PreparedStatement stmt : List.of(functionStmt, parameterStmt, connectorActionStmt)) {
+            try {
+                stmt.clearBatch();
+            } catch (SQLException e) {
+                LOGGER.severe("Error clearing the batch of the partially written package: " + e.getMessage());
+            }
+        }
+        if (savepoint == null) {
+            return;
+        }
+        try {
+            connection.rollback(savepoint);
+        } catch (SQLException e) {
+            LOGGER.severe("Error rolling back the partially written package: " + e.getMessage());
+        }
+    }
+
+    private void commit() {
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            LOGGER.severe("Error committing the index transaction: " + e.getMessage());
+        }
+    }
+
+    private int queryMaxId(String sql) throws SQLException {
+        try (Statement stmt = connection.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Waits for all the submitted packages to be written, then optimizes and closes the database. The journal mode is
+     * restored so that the generated index is a single self-contained file.
+     */
+    @Override
+    public void close() {
+        try {
+            submit(END_OF_INDEX);
+        } catch (IllegalStateException e) {
+            LOGGER.severe(e.getMessage());
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.severe("Interrupted while waiting for the index writer");
+        }
+
+        try {
+            packageStmt.close();
+            functionStmt.close();
+            parameterStmt.close();
+            connectorActionStmt.close();
+            for (PreparedStatement deleteStmt : deleteStmts) {
+                deleteStmt.close();
+            }
+            connection.setAutoCommit(true);
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("PRAGMA journal_mode = DELETE;");
+                stmt.execute("ANALYZE;");
+                stmt.execute("VACUUM;");
+            }
+            LOGGER.info("Index updated with " + writtenPackages + " written and " + removedPackages +
+                    " removed packages");
+        } catch (SQLException e) {
+            LOGGER.severe("Error optimizing the database: " + e.getMessage());
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.severe("Error closing the database connection: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.flowmodelgenerator.core.utils.PackageUtil;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Shared package environment of the index generator workers.
+ *
+ * <p>
+ * Each worker thread loads the packages it analyses into its own compilation environment. The projects of an
+ * environment share its package cache, so a common dependency such as {@code ballerina/http} is compiled once per
+ * worker instead of once per dependent package. The compiler is not thread-safe, hence an environment is never shared
+ * between threads, and it is replaced after a fixed number of packages to bound the memory held by its cache.
+ * </p>
+ *
+ * <p>
+ * The bala paths resolved from the central are persisted across runs, so that a subsequent run does not have to go
+ * through the package resolver for the packages that are already extracted in the local repository. The time spent on
+ * resolution, compilation and extraction is accumulated and reported when the environment is closed.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class PackageEnvironment implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(PackageEnvironment.class.getName());
+    private static final java.lang.reflect.Type RESOLUTIONS_TYPE = new TypeToken<Map<String, String>>() { }.getType();
+    private static final Path RESOLUTIONS_FILE =
+            Path.of("flow-model-generator/modules/flow-model-index-generator/build/bala-resolutions.json");
+    static final int PACKAGES_PER_ENVIRONMENT = 50;
+
+    private final BuildProject buildProject;
+    private final Supplier<Environment> environmentFactory;
+    private final Map<String, String> balaPaths;
+    private final ThreadLocal<WorkerEnvironment> workerEnvironments;
+    private final Map<Phase, LongAdder> phaseTimes;
+
+    PackageEnvironment(BuildProject buildProject) {
+        this(buildProject, EnvironmentBuilder::buildDefault);
+    }
+
+    PackageEnvironment(BuildProject buildProject, Supplier<Environment> environmentFactory) {
+        this.buildProject = buildProject;
+        this.environmentFactory = environmentFactory;
+        this.balaPaths = new ConcurrentHashMap<>(readResolutions());
+        this.workerEnvironments = ThreadLocal.withInitial(() -> new WorkerEnvironment(environmentFactory.get()));
+        this.phaseTimes = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phaseTimes.put(phase, new LongAdder());
+        }
+    }
+
+    /**
+     * Resolves and loads the given package into the environment of the calling thread.
+     *
+     * @param org     the organization of the package
+     * @param name    the name of the package
+     * @param version the version of the package
+     * @return the loaded package, if it could be resolved
+     */
+    Optional<Package> loadPackage(String org, String name, String version) {
+        Optional<Path> balaPath = time(Phase.RESOLUTION, () -> resolveBalaPath(org, name, version));
+        if (balaPath.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getBuilder(nextEnvironment());
+        return Optional.of(time(Phase.RESOLUTION,
+                () -> PackageUtil.loadBalaPackage(environmentBuilder, balaPath.get())));
+    }
+
+    /**
+     * Returns the compilation environment of the calling thread to load the next package into. The environment is
+     * replaced once it has loaded {@value #PACKAGES_PER_ENVIRONMENT} packages.
+     *
+     * @return the compilation environment of the calling thread
+     */
+    Environment nextEnvironment() {
+        WorkerEnvironment workerEnvironment = workerEnvironments.get();
+        if (workerEnvironment.packageCount >= PACKAGES_PER_ENVIRONMENT) {
+            workerEnvironment = new WorkerEnvironment(environmentFactory.get());
+            workerEnvironments.set(workerEnvironment);
+        }
+        workerEnvironment.packageCount++;
+        return workerEnvironment.environment;
+    }
+
+    /**
+     * Compiles the given package and returns the semantic model of its default module.
+     *
+     * @param resolvedPackage the package to compile
+     * @return the semantic model of the default module
+     */
+    SemanticModel compile(Package resolvedPackage) {
+        return time(Phase.COMPILATION, () -> resolvedPackage.getCompilation()
+                .getSemanticModel(resolvedPackage.getDefaultModule().moduleId()));
+    }
+
+    /**
+     * Runs the given extraction of the index content, recording the time spent on it.
+     *
+     * @param extraction the extraction to run
+     * @param <T>        the type of the extracted content
+     * @return the extracted content
+     */
+    <T> T extract(Supplier<T> extraction) {
+        return time(Phase.EXTRACTION, extraction);
+    }
+
+    private Optional<Path> resolveBalaPath(String org, String name, String version) {
+        String packageKey = org + "/" + name + ":" + version;
+        String cachedPath = balaPaths.get(packageKey);
+        if (cachedPath != null && Files.isDirectory(Path.of(cachedPath))) {
+            return Optional.of(Path.of(cachedPath));
+        }
+
+        Optional<Path> balaPath = PackageUtil.resolveBalaPath(buildProject, org, name, version);
+        balaPath.ifPresent(path -> balaPaths.put(packageKey, path.toString()));
+        return balaPath;
+    }
+
+    private <T> T time(Phase phase, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            phaseTimes.get(phase).add(System.nanoTime() - start);
+        }
+    }
+
+    private static Map<String, String> readResolutions() {
+        if (!Files.isRegularFile(RESOLUTIONS_FILE)) {
+            return Map.of();
+        }
+        try (Reader reader = Files.newBufferedReader(RESOLUTIONS_FILE, StandardCharsets.UTF_8)) {
+            Map<String, String> resolutions = new Gson().fromJson(reader, RESOLUTIONS_TYPE);
+            return resolutions == null ? Map.of() : resolutions;
+        } catch (IOException | JsonSyntaxException e) {
+            LOGGER.warning("Error reading the persisted bala resolutions: " + e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void writeResolutions() {
+        try {
+            Files.createDirectories(RESOLUTIONS_FILE.getParent());
+            try (Writer writer = Files.newBufferedWriter(RESOLUTIONS_FILE, StandardCharsets.UTF_8)) {
+                new Gson().toJson(balaPaths, RESOLUTIONS_TYPE, writer);
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Error persisting the bala resolutions: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        writeResolutions();
+        StringBuilder report = new StringBuilder("Time spent on");
+        phaseTimes.forEach((phase, nanos) -> report.append(' ').append(phase.label).append(": ")
+                .append(TimeUnit.NANOSECONDS.toMillis(nanos.sum())).append("ms"));
+        LOGGER.info(report.toString());
+    }
+
+    /**
+     * Represents the phases of indexing a package. The times are accumulated across the workers, so they add up to
+     * more than the elapsed time of the generator.
+     */
+    private enum Phase {
+        RESOLUTION("resolution"),
+        COMPILATION("compilation"),
+        EXTRACTION("extraction");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * The compilation environment confined to a worker thread.
+     */
+    private static final class WorkerEnvironment {
+
+        private final Environment environment;
+        private int packageCount;
+
+        private WorkerEnvironment(Environment environment) {
+            this.environment = environment;
+            this.packageCount = 0;
+        }
+    }
+}
@@ -1,4 +1,5 @@
 -- Drop tables if they already exist to prevent conflicts
+DROP TABLE IF EXISTS FunctionSearch;
 DROP TABLE IF EXISTS FunctionConnector;
 DROP TABLE IF EXISTS Parameter;
 DROP TABLE IF EXISTS Function;
@@ -11,6 +12,7 @@ CREATE TABLE Package (
     name TEXT NOT NULL,
     org TEXT NOT NULL,
     version TEXT,
+    index_key TEXT,
     keywords TEXT
 );
 
@@ -50,3 +52,34 @@ CREATE TABLE Parameter (
     function_id INTEGER,
     FOREIGN KEY (function_id) REFERENCES Function(function_id) ON DELETE CASCADE
 );
+
+-- Create indexes for the lookups performed by the flow model generator
+CREATE INDEX idx_function_kind_package ON Function(kind, package_id);
+CREATE INDEX idx_function_name ON Function(name);
+CREATE INDEX idx_package_org_name ON Package(org, name);
+CREATE INDEX idx_parameter_function ON Parameter(function_id);
+CREATE INDEX idx_function_connector_connector ON FunctionConnector(connector_id);
+
+-- Create the full-text search index over functions, keyed by the function ID. The trigram tokenizer preserves the
+-- substring semantics of the earlier LIKE based search while avoiding full table scans.
+CREATE VIRTUAL TABLE FunctionSearch USING fts5(
+    name,
+    description,
+    package_name,
+    keywords,
+    tokenize = 'trigram'
+);
+
+-- Keep the full-text search index in sync with the Function table
+CREATE TRIGGER function_search_insert AFTER INSERT ON Function
+BEGIN
+    INSERT INTO FunctionSearch (rowid, name, description, package_name, keywords)
+    SELECT new.function_id, new.name, new.description, p.name, p.keywords
+    FROM Package p
+    WHERE p.package_id = new.package_id;
+END;
+
+CREATE TRIGGER function_search_delete AFTER DELETE ON Function
+BEGIN
+    DELETE FROM FunctionSearch WHERE rowid = old.function_id;
+END;
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import io.ballerina.indexgenerator.IndexGenerator.IndexPlan;
+import io.ballerina.indexgenerator.IndexRecords.PackageRemoval;
+import io.ballerina.indexgenerator.PackageListGenerator.PackageMetadataInfo;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the planning of an incremental run of the index generator.
+ *
+ * @since 2.0.0
+ */
+public class IndexGeneratorTest {
+
+    private static final Path PACKAGES_JSON = Paths.get("src/test/resources/incremental/packages.json");
+
+    private Map<String, List<PackageMetadataInfo>> packagesMap;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        try (Reader reader = Files.newBufferedReader(PACKAGES_JSON)) {
+            packagesMap = IndexGenerator.readPackages(reader);
+        }
+    }
+
+    @Test
+    public void testFullIndex() {
+        IndexPlan indexPlan = IndexGenerator.planIndex(packagesMap, Map.of());
+
+        Assert.assertEquals(indexPlan.changedPackages(), packagesMap);
+        Assert.assertEquals(indexPlan.changedCount(), 4);
+        Assert.assertEquals(indexPlan.unchangedCount(), 0);
+        Assert.assertTrue(indexPlan.removals().isEmpty());
+    }
+
+    @Test
+    public void testUnchangedPackages() {
+        IndexPlan indexPlan = IndexGenerator.planIndex(packagesMap, getIndexedPackages(packagesMap));
+
+        Assert.assertTrue(indexPlan.changedPackages().isEmpty());
+        Assert.assertEquals(indexPlan.changedCount(), 0);
+        Assert.assertEquals(indexPlan.unchangedCount(), 4);
+        Assert.assertTrue(indexPlan.removals().isEmpty());
+    }
+
+    @Test
+    public void testNewChangedAndRemovedPackages() {
+        Map<String, String> indexedPackages = getIndexedPackages(Map.of(
+                "ballerina", List.of(new PackageMetadataInfo("http", "2.12.2"),
+                        new PackageMetadataInfo("log", "2.9.0"),
+                        new PackageMetadataInfo("time", "2.5.0"),
+                        new PackageMetadataInfo("io", "1.6.1"))));
+        IndexPlan indexPlan = IndexGenerator.planIndex(packagesMap, indexedPackages);
+
+        // A new version of log and the new redis package are analysed, while io is no longer listed
+        Assert.assertEquals(indexPlan.changedPackages(), Map.of(
+                "ballerina", List.of(new PackageMetadataInfo("log", "2.10.0")),
+                "ballerinax", List.of(new PackageMetadataInfo("redis", "3.0.2"))));
+        Assert.assertEquals(indexPlan.changedCount(), 2);
+        Assert.assertEquals(indexPlan.unchangedCount(), 2);
+        Assert.assertEquals(indexPlan.removals(), List.of(new PackageRemoval("ballerina", "io")));
+    }
+
+    @Test
+    public void testIndexKey() {
+        PackageMetadataInfo log = new PackageMetadataInfo("log", "2.10.0");
+        Assert.assertEquals(IndexGenerator.getIndexKey("ballerina", log),
+                IndexGenerator.getIndexKey("ballerina", new PackageMetadataInfo("log", "2.10.0")));
+        Assert.assertNotEquals(IndexGenerator.getIndexKey("ballerina", log),
+                IndexGenerator.getIndexKey("ballerina", new PackageMetadataInfo("log", "2.9.0")));
+        Assert.assertNotEquals(IndexGenerator.getIndexKey("ballerina", log),
+                IndexGenerator.getIndexKey("ballerinax", log));
+    }
+
+    private static Map<String, String> getIndexedPackages(Map<String, List<PackageMetadataInfo>> packages) {
+        Map<String, String> indexedPackages = new HashMap<>();
+        packages.forEach((org, packageList) -> packageList.forEach(metadataInfo -> indexedPackages.put(
+                org + "/" + metadataInfo.name(), IndexGenerator.getIndexKey(org, metadataInfo))));
+        return indexedPackages;
+    }
+}
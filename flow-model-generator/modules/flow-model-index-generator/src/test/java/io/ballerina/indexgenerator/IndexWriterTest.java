@@ -0,0 +1,237 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.indexgenerator;
+
+import io.ballerina.indexgenerator.IndexGenerator.FunctionParameterKind;
+import io.ballerina.indexgenerator.IndexGenerator.FunctionType;
+import io.ballerina.indexgenerator.IndexRecords.FunctionRecord;
+import io.ballerina.indexgenerator.IndexRecords.PackageRecord;
+import io.ballerina.indexgenerator.IndexRecords.PackageRemoval;
+import io.ballerina.indexgenerator.IndexRecords.ParameterRecord;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Tests for writing the central index through the {@link IndexWriter}.
+ *
+ * @since 2.0.0
+ */
+public class IndexWriterTest {
+
+    private static final Path CENTRAL_INDEX_SQL = Paths.get("src/main/resources/central-index.sql");
+
+    private Path tempDir;
+    private String dbUrl;
+
+    @BeforeMethod
+    public void setUp() throws IOException, SQLException {
+        tempDir = Files.createTempDirectory("index-writer");
+        dbUrl = "jdbc:sqlite:" + tempDir.resolve("central-index.sqlite");
+        try (Connection connection = DriverManager.getConnection(dbUrl);
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate(Files.readString(CENTRAL_INDEX_SQL));
+        }
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    public void testWritePackages() throws SQLException {
+        try (IndexWriter indexWriter = new IndexWriter(DriverManager.getConnection(dbUrl))) {
+            indexWriter.submit(getPackage("http", 2));
+            indexWriter.submit(getConnectorPackage("redis"));
+        }
+
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM Package"), 2);
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM Function"), 4);
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM Parameter"), 3);
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM FunctionConnector"), 1);
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM FunctionSearch WHERE FunctionSearch MATCH 'client'"), 1);
+        Assert.assertEquals(queryString("SELECT index_key FROM Package WHERE name = 'http'"), "key:http");
+        Assert.assertEquals(queryString("SELECT journal_mode FROM pragma_journal_mode"), "delete");
+    }
+
+    @Test
+    public void testFailingPackageIsRolledBack() throws SQLException {
+        // The package row is written before the functions, and a function without a resource path violates the
+        // schema, so the package is only left out if it is rolled back to its savepoint
+        FunctionRecord invalidFunction = new FunctionRecord("invalid", "", "()", FunctionType.FUNCTION, null, 0,
+                List.of(getParameter("value")), List.of());
+        PackageRecord failingPackage = new PackageRecord("ballerina", "broken", "1.0.0", "key:broken", List.of(),
+                List.of(getFunction("valid"), invalidFunction));
+
+        try (IndexWriter indexWriter = new IndexWriter(DriverManager.getConnection(dbUrl))) {
+            indexWriter.submit(getPackage("http", 2));
+            indexWriter.submit(failingPackage);
+            indexWriter.submit(getPackage("log", 3));
+        }
+
+        Assert.assertEquals(queryStrings("SELECT name FROM Package ORDER BY name"), List.of("http", "log"));
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM Function"), 5);
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM Parameter"), 5);
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM Function WHERE name IN ('valid', 'invalid')"), 0);
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM FunctionSearch"), 5);
+    }
+
+    @Test
+    public void testMalformedPackageDoesNotStopWriter() throws SQLException {
+        // A function without a kind fails outside of SQLite, which must not stop the writer either
+        FunctionRecord malformedFunction = new FunctionRecord("malformed", "", "()", null, "", 0, List.of(),
+                List.of());
+        try (IndexWriter indexWriter = new IndexWriter(DriverManager.getConnection(dbUrl))) {
+            indexWriter.submit(new PackageRecord("ballerina", "malformed", "1.0.0", "key:malformed", List.of(),
+                    List.of(malformedFunction)));
+            indexWriter.submit(getPackage("log", 1));
+        }
+
+        Assert.assertEquals(queryStrings("SELECT name FROM Package"), List.of("log"));
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM Function"), 1);
+    }
+
+    @Test
+    public void testReplaceAndRemovePackages() throws SQLException {
+        try (IndexWriter indexWriter = new IndexWriter(DriverManager.getConnection(dbUrl))) {
+            indexWriter.submit(getPackage("http", 2));
+            indexWriter.submit(getConnectorPackage("redis"));
+        }
+        try (IndexWriter indexWriter = new IndexWriter(DriverManager.getConnection(dbUrl))) {
+            indexWriter.submit(getPackage("http", 1));
+            indexWriter.submit(new PackageRemoval("ballerinax", "redis"));
+        }
+
+        Assert.assertEquals(queryStrings("SELECT name FROM Package"), List.of("http"));
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM Function"), 1);
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM Parameter"), 1);
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM FunctionConnector"), 0);
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM FunctionSearch"), 1);
+    }
+
+    @Test
+    public void testConcurrentSubmissions() throws Exception {
+        // More packages than the queue holds and than a transaction commits, submitted by several workers
+        int workerCount = 4;
+        int packagesPerWorker = 60;
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount);
+        try (IndexWriter indexWriter = new IndexWriter(DriverManager.getConnection(dbUrl))) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < workerCount; i++) {
+                int worker = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < packagesPerWorker; j++) {
+                        indexWriter.submit(getPackage("pkg_" + worker + "_" + j, 1));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int packageCount = workerCount * packagesPerWorker;
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM Package"), packageCount);
+        Assert.assertEquals(queryCount("SELECT COUNT(DISTINCT package_id) FROM Function"), packageCount);
+        Assert.assertEquals(queryCount("SELECT COUNT(*) FROM Parameter"), packageCount);
+    }
+
+    @Test
+    public void testSubmitAfterWriterStopped() throws SQLException {
+        IndexWriter indexWriter = new IndexWriter(DriverManager.getConnection(dbUrl));
+        indexWriter.submit(getPackage("http", 1));
+        indexWriter.close();
+
+        Assert.assertThrows(IllegalStateException.class, () -> indexWriter.submit(getPackage("log", 1)));
+        Assert.assertEquals(queryStrings("SELECT name FROM Package"), List.of("http"));
+    }
+
+    private static PackageRecord getPackage(String name, int functionCount) {
+        List<FunctionRecord> functions = new ArrayList<>();
+        for (int i = 0; i < functionCount; i++) {
+            functions.add(getFunction(name + "Function" + i));
+        }
+        return new PackageRecord("ballerina", name, "1.0.0", "key:" + name, List.of("keyword"), functions);
+    }
+
+    private static PackageRecord getConnectorPackage(String name) {
+        FunctionRecord action = new FunctionRecord("get", "Gets a value", "string|error", FunctionType.REMOTE, "",
+                1, List.of(getParameter("key")), List.of());
+        FunctionRecord connector = new FunctionRecord("Client", "The redis client", "()", FunctionType.CONNECTOR,
+                "", 0, List.of(), List.of(action));
+        return new PackageRecord("ballerinax", name, "3.0.0", "key:" + name, List.of(), List.of(connector));
+    }
+
+    private static FunctionRecord getFunction(String name) {
+        return new FunctionRecord(name, "", "()", FunctionType.FUNCTION, "", 0, List.of(getParameter("value")),
+                List.of());
+    }
+
+    private static ParameterRecord getParameter(String name) {
+        return new ParameterRecord(name, "", "string", "\"\"", FunctionParameterKind.REQUIRED, 0, "");
+    }
+
+    private int queryCount(String sql) throws SQLException {
+        return Integer.parseInt(queryString(sql));
+    }
+
+    private String queryString(String sql) throws SQLException {
+        List<String> values = queryStrings(sql);
+        Assert.assertEquals(values.size(), 1, "Expected a single row for: " + sql);
+        return values.get(0);
+    }
+
+    private List<String> queryStrings(String sql) throws SQLException {
+        List<String> values = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(dbUrl);
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                values.add(rs.getString(1));
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.indexgenerator;
+
+import io.ballerina.projects.environment.Environment;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Tests for the sharing and recycling of the compilation environments of the index generator workers.
+ *
+ * @since 2.0.0
+ */
+public class PackageEnvironmentTest {
+
+    @Test
+    public void testEnvironmentRecycling() {
+        List<Environment> createdEnvironments = new ArrayList<>();
+        PackageEnvironment packageEnvironment = new PackageEnvironment(null, () -> {
+            Environment environment = new TestEnvironment();
+            createdEnvironments.add(environment);
+            return environment;
+        });
+
+        int packageCount = 2 * PackageEnvironment.PACKAGES_PER_ENVIRONMENT + 1;
+        List<Environment> environments = new ArrayList<>();
+        for (int i = 0; i < packageCount; i++) {
+            environments.add(packageEnvironment.nextEnvironment());
+        }
+
+        Assert.assertEquals(createdEnvironments.size(), 3);
+        for (int i = 0; i < packageCount; i++) {
+            Assert.assertSame(environments.get(i),
+                    createdEnvironments.get(i / PackageEnvironment.PACKAGES_PER_ENVIRONMENT),
+                    "Unexpected environment for package " + i);
+        }
+    }
+
+    @Test
+    public void testEnvironmentPerThread() throws ExecutionException, InterruptedException {
+        PackageEnvironment packageEnvironment = new PackageEnvironment(null, TestEnvironment::new);
+
+        Environment environment = packageEnvironment.nextEnvironment();
+        Environment otherEnvironment = CompletableFuture.supplyAsync(packageEnvironment::nextEnvironment).get();
+
+        Assert.assertNotSame(otherEnvironment, environment);
+        Assert.assertSame(packageEnvironment.nextEnvironment(), environment);
+    }
+
+    /**
+     * Represents a compilation environment that is only compared by identity.
+     */
+    private static class TestEnvironment extends Environment {
+
+        @Override
+        public <T> T getService(Class<T> clazz) {
+            return null;
+        }
+    }
+}
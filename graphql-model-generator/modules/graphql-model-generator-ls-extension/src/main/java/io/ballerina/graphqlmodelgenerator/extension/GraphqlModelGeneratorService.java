@@ -25,6 +25,9 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.graphqlmodelgenerator.core.ModelGenerator;
 import io.ballerina.graphqlmodelgenerator.core.exception.GraphqlModelGenerationException;
 import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
+import io.ballerina.modelgenerator.commons.metrics.RequestMetrics;
+import io.ballerina.modelgenerator.commons.metrics.RequestTimer;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
@@ -52,6 +55,7 @@ import static io.ballerina.graphqlmodelgenerator.core.Constants.UNEXPECTED_ERROR
 public class GraphqlModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
@@ -66,28 +70,40 @@ public class GraphqlModelGeneratorService implements ExtendedLanguageServerServi
     @JsonRequest
     public CompletableFuture<GraphqlDesignServiceResponse> getGraphqlModel(GraphqlDesignServiceRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        String coalescingKey = "graphqlDesignService/getGraphqlModel:" + request.getFilePath() + ":" +
+                request.getLineRange().startLine() + "-" + request.getLineRange().endLine();
+        return scheduler.submitLatest(coalescingKey, () -> {
             GraphqlDesignServiceResponse response = new GraphqlDesignServiceResponse();
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("graphqlDesignService/getGraphqlModel");
             try {
                 Path filePath = Path.of(request.getFilePath());
                 Project project = getCurrentProject(filePath);
+                timer.lap("loadProject");
                 if (this.workspaceManager.semanticModel(filePath).isEmpty()) {
                     throw new GraphqlModelGenerationException(EMPTY_SEMANTIC_MODEL_MSG);
                 }
                 SemanticModel semanticModel = this.workspaceManager.semanticModel(filePath).get();
+                timer.lap("semanticModel");
 
                 ModelGenerator modelGenerator = new ModelGenerator();
                 GraphqlModel generatedModel = modelGenerator.getGraphqlModel(project, request.getLineRange(),
                         semanticModel);
+                timer.lap("generateModel");
                 Gson gson = new GsonBuilder().serializeNulls().create();
                 JsonElement graphqlModelJson = gson.toJsonTree(generatedModel);
+                timer.lap("serialize");
+                timer.recordPayloadSize(() -> graphqlModelJson.toString().length());
                 response.setGraphqlDesignModel(graphqlModelJson);
             } catch (WorkspaceDocumentException | EventSyncException | GraphqlModelGenerationException e) {
+                timer.fail();
                 response.setIncompleteModel(true);
                 response.setErrorMsg(e.getMessage());
             } catch (Exception e) {
+                timer.fail();
                 response.setIncompleteModel(true);
                 response.setErrorMsg(String.format(UNEXPECTED_ERROR_MSG, e.getMessage()));
+            } finally {
+                timer.close();
             }
             return response;
         });
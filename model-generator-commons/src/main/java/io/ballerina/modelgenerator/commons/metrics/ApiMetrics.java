@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.modelgenerator.commons.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the metrics of a single API.
+ *
+ * @since 2.0.0
+ */
+class ApiMetrics {
+
+    private static final double NANOS_TO_MILLIS = 1e-6;
+
+    private final int payloadSampleRate;
+    private final LongAdder requests;
+    private final LongAdder errors;
+    private final Histogram latency;
+    private final Histogram payloadSize;
+    private final Map<String, Histogram> phases;
+    private final AtomicLong payloadSampleCounter;
+
+    ApiMetrics(int payloadSampleRate) {
+        this.payloadSampleRate = payloadSampleRate;
+        this.requests = new LongAdder();
+        this.errors = new LongAdder();
+        this.latency = new Histogram();
+        this.payloadSize = new Histogram();
+        this.phases = new ConcurrentHashMap<>();
+        this.payloadSampleCounter = new AtomicLong();
+    }
+
+    void recordPhase(String phase, long nanos) {
+        phases.computeIfAbsent(phase, key -> new Histogram()).record(nanos);
+    }
+
+    boolean shouldSamplePayload() {
+        return payloadSampleRate > 0 && payloadSampleCounter.getAndIncrement() % payloadSampleRate == 0;
+    }
+
+    void recordPayloadSize(long size) {
+        payloadSize.record(size);
+    }
+
+    void complete(long nanos, boolean failed) {
+        requests.increment();
+        if (failed) {
+            errors.increment();
+        }
+        latency.record(nanos);
+    }
+
+    MetricsSnapshot.RequestSnapshot snapshot() {
+        Map<String, MetricsSnapshot.Distribution> phaseSnapshots = new TreeMap<>();
+        phases.forEach((phase, histogram) -> phaseSnapshots.put(phase, histogram.snapshot(NANOS_TO_MILLIS)));
+        return new MetricsSnapshot.RequestSnapshot(requests.sum(), errors.sum(), latency.snapshot(NANOS_TO_MILLIS),
+                phaseSnapshots, payloadSize.snapshot(1));
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.modelgenerator.commons.metrics;
+
+/**
+ * Represents the cumulative hit and miss counts of a cache registered with the {@link RequestMetrics}.
+ *
+ * @param hits   the number of lookups served from the cache
+ * @param misses the number of lookups that had to be computed
+ * @since 2.0.0
+ */
+public record CacheStats(long hits, long misses) {
+
+}
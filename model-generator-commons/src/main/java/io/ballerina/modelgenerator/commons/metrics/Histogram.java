@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values with a fixed memory footprint. Each power of two is split into eight
+ * linear buckets, so recording a value only increments a counter, and the percentiles are accurate to within 12.5%.
+ *
+ * @since 2.0.0
+ */
+class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final LongAdder sum;
+    private final AtomicLong max;
+
+    Histogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.sum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    void record(long value) {
+        long nonNegativeValue = Math.max(0, value);
+        counts.incrementAndGet(bucketIndex(nonNegativeValue));
+        sum.add(nonNegativeValue);
+        max.accumulateAndGet(nonNegativeValue, Math::max);
+    }
+
+    /**
+     * Returns a snapshot of the histogram, with the values multiplied by the given scale.
+     *
+     * @param scale the scale of the values, such as the number of milliseconds in a nanosecond
+     * @return the snapshot of the histogram
+     */
+    MetricsSnapshot.Distribution snapshot(double scale) {
+        long[] snapshotCounts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshotCounts[i] = counts.get(i);
+            count += snapshotCounts[i];
+        }
+        long maxValue = max.get();
+        if (count == 0) {
+            return new MetricsSnapshot.Distribution(0, 0, 0, 0, 0, 0);
+        }
+        return new MetricsSnapshot.Distribution(count, sum.sum() * scale / count,
+                percentile(snapshotCounts, count, 0.50, maxValue) * scale,
+                percentile(snapshotCounts, count, 0.90, maxValue) * scale,
+                percentile(snapshotCounts, count, 0.99, maxValue) * scale,
+                maxValue * scale);
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        sum.reset();
+        max.set(0);
+    }
+
+    static long percentile(long[] counts, long count, double percentile, long maxValue) {
+        long rank = (long) Math.ceil(count * percentile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        if (shift >= Long.SIZE - SUB_BUCKET_BITS - 1) {
+            return Long.MAX_VALUE;
+        }
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.modelgenerator.commons.metrics;
+
+import io.ballerina.modelgenerator.commons.scheduling.RequestPriority;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
+import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.services.LanguageServer;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents the extended language server service that exposes the metrics of the model generator services.
+ *
+ * @since 2.0.0
+ */
+@JavaSPIService("org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService")
+@JsonSegment("modelGeneratorMetrics")
+public class MetricsService implements ExtendedLanguageServerService {
+
+    @Override
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    }
+
+    @Override
+    public Class<?> getRemoteInterface() {
+        return null;
+    }
+
+    @JsonRequest
+    public CompletableFuture<MetricsSnapshot> getMetrics(MetricsRequest request) {
+        return RequestScheduler.getInstance().submit(RequestPriority.BACKGROUND, () -> {
+            RequestMetrics requestMetrics = RequestMetrics.getInstance();
+            MetricsSnapshot snapshot = requestMetrics.snapshot();
+            if (request != null && request.reset()) {
+                requestMetrics.reset();
+            }
+            return snapshot;
+        });
+    }
+}
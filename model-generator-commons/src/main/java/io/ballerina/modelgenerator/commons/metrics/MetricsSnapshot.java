@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.modelgenerator.commons.metrics;
+
+import java.util.Map;
+
+/**
+ * Represents a snapshot of the metrics of the model generator services.
+ *
+ * @param uptimeMillis the time since the metrics were started or last reset
+ * @param requests     the metrics of each API, keyed by the name of the API
+ * @param caches       the statistics of each registered cache, keyed by the name of the cache
+ * @since 2.0.0
+ */
+public record MetricsSnapshot(long uptimeMillis, Map<String, RequestSnapshot> requests,
+                              Map<String, CacheSnapshot> caches) {
+
+    /**
+     * Represents the metrics of an API.
+     *
+     * @param count             the number of completed requests
+     * @param errors            the number of failed requests
+     * @param latencyMillis     the distribution of the request latency
+     * @param phasesMillis      the distribution of the time spent in each phase of a request
+     * @param payloadSizeChars  the distribution of the sampled payload sizes
+     * @since 2.0.0
+     */
+    public record RequestSnapshot(long count, long errors, Distribution latencyMillis,
+                                  Map<String, Distribution> phasesMillis, Distribution payloadSizeChars) {
+
+    }
+
+    /**
+     * Represents the statistics of a cache.
+     *
+     * @param hits    the number of lookups served from the cache
+     * @param misses  the number of lookups that had to be computed
+     * @param hitRate the ratio of the hits to the lookups
+     * @since 2.0.0
+     */
+    public record CacheSnapshot(long hits, long misses, double hitRate) {
+
+    }
+
+    /**
+     * Represents the distribution of the values recorded in a histogram.
+     *
+     * @param count the number of recorded values
+     * @param mean  the mean of the values
+     * @param p50   the median of the values
+     * @param p90   the 90th percentile of the values
+     * @param p99   the 99th percentile of the values
+     * @param max   the maximum value
+     * @since 2.0.0
+     */
+    public record Distribution(long count, double mean, double p50, double p90, double p99, double max) {
+
+    }
+}
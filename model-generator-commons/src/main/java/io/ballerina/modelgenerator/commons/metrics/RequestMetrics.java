@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.modelgenerator.commons.metrics;
+
+import com.google.gson.Gson;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Collects the metrics of the requests served by the model generator services, which are shared by all the LS
+ * extensions loaded into the language server. For each API, the request count, the error count, the latency, the time
+ * spent in each phase and a sample of the payload sizes are recorded into histograms. The hit rates of the caches
+ * registered by the generators are reported alongside.
+ *
+ * <p>
+ * The metrics are queried through the {@link MetricsService}. A snapshot is also logged periodically if the
+ * {@code ballerina.modelgenerator.metrics.logInterval} system property is set to a positive number of seconds. One in
+ * {@code ballerina.modelgenerator.metrics.payloadSampleRate} requests, which defaults to 16, records its payload size.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class RequestMetrics {
+
+    private static final Logger LOGGER = Logger.getLogger(RequestMetrics.class.getName());
+    private static final String LOG_INTERVAL_PROPERTY = "ballerina.modelgenerator.metrics.logInterval";
+    private static final String PAYLOAD_SAMPLE_RATE_PROPERTY = "ballerina.modelgenerator.metrics.payloadSampleRate";
+    private static final int DEFAULT_PAYLOAD_SAMPLE_RATE = 16;
+    // API under which the phases recorded outside a request are reported, such as the background index loading
+    private static final String BACKGROUND_API = "background";
+    private static final ThreadLocal<RequestTimer> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private final int payloadSampleRate;
+    private final Map<String, ApiMetrics> apis;
+    private final Map<String, Supplier<CacheStats>> caches;
+    private volatile long startTime;
+
+    private static class Holder {
+
+        private static final RequestMetrics INSTANCE = new RequestMetrics();
+    }
+
+    public static RequestMetrics getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private RequestMetrics() {
+        this.payloadSampleRate = Integer.getInteger(PAYLOAD_SAMPLE_RATE_PROPERTY, DEFAULT_PAYLOAD_SAMPLE_RATE);
+        this.apis = new ConcurrentHashMap<>();
+        this.caches = new ConcurrentHashMap<>();
+        this.startTime = System.nanoTime();
+
+        long logInterval = Long.getLong(LOG_INTERVAL_PROPERTY, 0L);
+        if (logInterval > 0) {
+            Gson gson = new Gson();
+            ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "model-generator-metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleAtFixedRate(() -> LOGGER.info("Model generator metrics: " + gson.toJson(snapshot())),
+                    logInterval, logInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Starts timing a request of the given API on the current thread. The returned timer must be closed once the
+     * request completes, preferably with a try-with-resources block.
+     *
+     * @param api the name of the API, in the form {@code <service>/<method>}
+     * @return the timer of the request
+     */
+    public RequestTimer startRequest(String api) {
+        ApiMetrics apiMetrics = apis.computeIfAbsent(api, key -> new ApiMetrics(payloadSampleRate));
+        RequestTimer timer = new RequestTimer(this, apiMetrics, CURRENT_REQUEST.get());
+        CURRENT_REQUEST.set(timer);
+        return timer;
+    }
+
+    /**
+     * Records the time since the given start time as a phase of the request running on the current thread. The phase
+     * may be nested within a lap of the request, such as the database lookups performed while analyzing the code.
+     *
+     * @param phase     the name of the phase
+     * @param startTime the start time of the phase, as returned by {@link System#nanoTime()}
+     */
+    public static void recordPhase(String phase, long startTime) {
+        RequestTimer timer = CURRENT_REQUEST.get();
+        if (timer != null) {
+            timer.recordPhase(phase, startTime);
+            return;
+        }
+        getInstance().apis.computeIfAbsent(BACKGROUND_API, key -> new ApiMetrics(0))
+                .recordPhase(phase, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Returns the timer of the request running on the current thread, which can be captured to record the phases that
+     * complete on another thread.
+     *
+     * @return the timer of the current request, or empty if no request is running on the current thread
+     */
+    public static Optional<RequestTimer> currentRequest() {
+        return Optional.ofNullable(CURRENT_REQUEST.get());
+    }
+
+    /**
+     * Registers a cache, whose statistics are reported with the metrics. A cache registered with an existing name
+     * replaces the previous one.
+     *
+     * @param name  the name of the cache
+     * @param stats the supplier of the cumulative statistics of the cache
+     */
+    public void registerCache(String name, Supplier<CacheStats> stats) {
+        caches.put(name, stats);
+    }
+
+    /**
+     * Returns a snapshot of the metrics.
+     *
+     * @return the snapshot of the metrics
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, MetricsSnapshot.RequestSnapshot> requests = new TreeMap<>();
+        apis.forEach((api, apiMetrics) -> requests.put(api, apiMetrics.snapshot()));
+        Map<String, MetricsSnapshot.CacheSnapshot> cacheSnapshots = new TreeMap<>();
+        caches.forEach((name, stats) -> {
+            CacheStats cacheStats = stats.get();
+            long lookups = cacheStats.hits() + cacheStats.misses();
+            cacheSnapshots.put(name, new MetricsSnapshot.CacheSnapshot(cacheStats.hits(), cacheStats.misses(),
+                    lookups == 0 ? 0 : (double) cacheStats.hits() / lookups));
+        });
+        return new MetricsSnapshot(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), requests,
+                cacheSnapshots);
+    }
+
+    /**
+     * Discards the recorded request metrics. The cache statistics are cumulative and are not affected.
+     */
+    public void reset() {
+        apis.clear();
+        startTime = System.nanoTime();
+    }
+
+    void endRequest(RequestTimer timer) {
+        if (CURRENT_REQUEST.get() != timer) {
+            return;
+        }
+        RequestTimer parent = timer.parent();
+        if (parent == null) {
+            CURRENT_REQUEST.remove();
+        } else {
+            CURRENT_REQUEST.set(parent);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.modelgenerator.commons.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Times the phases of a request. The timer is bound to the thread that started it until it is closed or detached, so
+ * that the phases recorded by the generators through {@link RequestMetrics#recordPhase(String, long)} are attributed
+ * to the request.
+ *
+ * <pre>
+ * try (RequestTimer timer = RequestMetrics.getInstance().startRequest("flowDesignService/getFlowModel")) {
+ *     Project project = workspaceManager.loadProject(filePath);
+ *     timer.lap("loadProject");
+ *     ...
+ * }
+ * </pre>
+ *
+ * @since 2.0.0
+ */
+public final class RequestTimer implements AutoCloseable {
+
+    private final RequestMetrics requestMetrics;
+    private final ApiMetrics apiMetrics;
+    private final RequestTimer parent;
+    private final long startTime;
+    private long lapStartTime;
+    private boolean failed;
+    private boolean closed;
+
+    RequestTimer(RequestMetrics requestMetrics, ApiMetrics apiMetrics, RequestTimer parent) {
+        this.requestMetrics = requestMetrics;
+        this.apiMetrics = apiMetrics;
+        this.parent = parent;
+        this.startTime = System.nanoTime();
+        this.lapStartTime = startTime;
+        this.failed = false;
+        this.closed = false;
+    }
+
+    /**
+     * Records the time since the start of the request, or since the previous lap, as the given phase.
+     *
+     * @param phase the name of the phase that has just completed
+     */
+    public void lap(String phase) {
+        long now = System.nanoTime();
+        apiMetrics.recordPhase(phase, now - lapStartTime);
+        lapStartTime = now;
+    }
+
+    /**
+     * Records the size of the payload of the response, if this request is sampled. The size is only computed for the
+     * sampled requests, since it may require serializing the payload.
+     *
+     * @param size the supplier of the payload size
+     */
+    public void recordPayloadSize(LongSupplier size) {
+        if (apiMetrics.shouldSamplePayload()) {
+            apiMetrics.recordPayloadSize(size.getAsLong());
+        }
+    }
+
+    /**
+     * Decides whether the size of a payload of this request is to be recorded. A payload that is serialized after the
+     * request completes should be sampled once, and its size recorded with {@link #recordPayloadSize(long)} while it
+     * is written.
+     *
+     * @return whether the payload is sampled
+     */
+    public boolean samplePayload() {
+        return apiMetrics.shouldSamplePayload();
+    }
+
+    /**
+     * Records the size of a payload that has been sampled with {@link #samplePayload()}.
+     *
+     * @param size the size of the payload
+     */
+    public void recordPayloadSize(long size) {
+        apiMetrics.recordPayloadSize(size);
+    }
+
+    /**
+     * Records the time since the given start time as a phase of this request. Unlike
+     * {@link RequestMetrics#recordPhase(String, long)}, the phase may be recorded from any thread, even after the
+     * request is closed, such as the serialization of the response by the transport.
+     *
+     * @param phase     the name of the phase
+     * @param startTime the start time of the phase, as returned by {@link System#nanoTime()}
+     */
+    public void recordPhase(String phase, long startTime) {
+        apiMetrics.recordPhase(phase, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Marks the request as failed.
+     */
+    public void fail() {
+        failed = true;
+    }
+
+    /**
+     * Unbinds the timer from the current thread, for a request that continues asynchronously once the current thread
+     * returns. The timer can then be closed from the thread that completes the request.
+     */
+    public void detach() {
+        requestMetrics.endRequest(this);
+    }
+
+    RequestTimer parent() {
+        return parent;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        apiMetrics.complete(System.nanoTime() - startTime, failed);
+        requestMetrics.endRequest(this);
+    }
+}
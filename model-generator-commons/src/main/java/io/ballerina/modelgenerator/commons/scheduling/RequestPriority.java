@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons.scheduling;
+
+/**
+ * Represents the priority of a request, which decides the executor of the {@link RequestScheduler} that serves it.
+ *
+ * @since 2.0.0
+ */
+public enum RequestPriority {
+
+    /**
+     * A request the user is waiting on, such as rendering a diagram or completing an expression.
+     */
+    INTERACTIVE("interactive", Math.max(2, Runtime.getRuntime().availableProcessors() / 2)),
+
+    /**
+     * A request whose result is not immediately visible, such as warming up an index or generating a project-wide
+     * model.
+     */
+    BACKGROUND("background", Math.max(1, Runtime.getRuntime().availableProcessors() / 4));
+
+    private final String label;
+    private final int defaultThreads;
+
+    RequestPriority(String label, int defaultThreads) {
+        this.label = label;
+        this.defaultThreads = defaultThreads;
+    }
+
+    String label() {
+        return label;
+    }
+
+    int defaultThreads() {
+        return defaultThreads;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons.scheduling;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the requests of the model generator services, which are shared by all the LS extensions loaded into the
+ * language server. Each {@link RequestPriority} is served by a dedicated executor with a bounded number of named
+ * threads and a bounded queue, so that the requests neither compete with the JVM-wide common pool nor pile up without
+ * limit.
+ *
+ * <p>
+ * The future returned for a request is the one handed over to the JSON-RPC endpoint, which cancels it when the client
+ * sends a {@code $/cancelRequest}. A cancelled request is skipped if it has not started yet. Otherwise, the generators
+ * stop at their next call to {@link #checkCancelled()}. A request submitted through {@link #submitLatest} also cancels
+ * the pending request with the same key, so that only the latest model of a document is computed while the user is
+ * typing.
+ * </p>
+ *
+ * <p>
+ * The number of threads of an executor can be overridden with the
+ * {@code ballerina.modelgenerator.scheduler.<priority>Threads} system property, and the capacity of its queue with
+ * {@code ballerina.modelgenerator.scheduler.queueCapacity}.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class RequestScheduler {
+
+    private static final String PROPERTY_PREFIX = "ballerina.modelgenerator.scheduler.";
+    private static final int DEFAULT_QUEUE_CAPACITY = 256;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final ThreadLocal<CompletableFuture<?>> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private final Map<RequestPriority, ThreadPoolExecutor> executors;
+    private final Map<String, CompletableFuture<?>> latestRequests;
+
+    private static class Holder {
+
+        private static final RequestScheduler INSTANCE = new RequestScheduler();
+    }
+
+    public static RequestScheduler getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private RequestScheduler() {
+        int queueCapacity = Integer.getInteger(PROPERTY_PREFIX + "queueCapacity", DEFAULT_QUEUE_CAPACITY);
+        this.executors = new EnumMap<>(RequestPriority.class);
+        for (RequestPriority priority : RequestPriority.values()) {
+            executors.put(priority, createExecutor(priority, queueCapacity));
+        }
+        this.latestRequests = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Submits a request to the executor of the given priority.
+     *
+     * @param priority the priority of the request
+     * @param task     the task of the request
+     * @param <T>      the type of the result
+     * @return the future result of the request, which can be cancelled
+     */
+    public <T> CompletableFuture<T> submit(RequestPriority priority, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executors.get(priority).execute(() -> run(future, task));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Submits an interactive request that supersedes the pending request with the same key. The superseded request is
+     * cancelled, which answers the client with a cancellation error rather than a stale result. The key must identify
+     * what the request computes, such as the canvas of a document, so that only a request that replaces the pending
+     * one supersedes it.
+     *
+     * @param key  the key of the request, such as the API name followed by the path and the range of the canvas
+     * @param task the task of the request
+     * @param <T>  the type of the result
+     * @return the future result of the request, which can be cancelled
+     */
+    public <T> CompletableFuture<T> submitLatest(String key, Supplier<T> task) {
+        CompletableFuture<T> future = submit(RequestPriority.INTERACTIVE, task);
+        CompletableFuture<?> supersededRequest = latestRequests.put(key, future);
+        if (supersededRequest != null) {
+            supersededRequest.cancel(false);
+        }
+        future.whenComplete((result, error) -> latestRequests.remove(key, future));
+        return future;
+    }
+
+    /**
+     * Returns the executor of the given priority, for the work that is not answered as a request.
+     *
+     * @param priority the priority of the work
+     * @return the executor of the priority
+     */
+    public Executor executor(RequestPriority priority) {
+        return executors.get(priority);
+    }
+
+    /**
+     * Throws if the request running on the current thread has been cancelled. Long running generators call this
+     * between units of work to stop early, and the check is a no-op outside a scheduled request.
+     *
+     * @throws CancellationException if the current request has been cancelled
+     */
+    public static void checkCancelled() {
+        CompletableFuture<?> request = CURRENT_REQUEST.get();
+        if (request != null && request.isCancelled()) {
+            throw new CancellationException("The request has been cancelled");
+        }
+    }
+
+    private static <T> void run(CompletableFuture<T> future, Supplier<T> task) {
+        if (future.isDone()) {
+            return;
+        }
+        CURRENT_REQUEST.set(future);
+        try {
+            future.complete(task.get());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        } finally {
+            CURRENT_REQUEST.remove();
+        }
+    }
+
+    private static ThreadPoolExecutor createExecutor(RequestPriority priority, int queueCapacity) {
+        int threads = Integer.getInteger(PROPERTY_PREFIX + priority.label() + "Threads", priority.defaultThreads());
+        String namePrefix = "model-generator-" + priority.label() + "-";
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
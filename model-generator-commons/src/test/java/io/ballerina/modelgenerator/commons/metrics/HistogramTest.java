@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.modelgenerator.commons.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the bucketing and the percentiles of the {@link Histogram}.
+ *
+ * @since 2.0.0
+ */
+public class HistogramTest {
+
+    private static final int MAX_BUCKET = Histogram.bucketIndex(Long.MAX_VALUE);
+
+    @Test(dataProvider = "bucket-data-provider")
+    public void testBucket(long value, int expectedIndex, long expectedUpperBound) {
+        int index = Histogram.bucketIndex(value);
+        Assert.assertEquals(index, expectedIndex, "Unexpected bucket of " + value);
+        Assert.assertEquals(Histogram.upperBound(index), expectedUpperBound, "Unexpected upper bound of " + value);
+    }
+
+    @DataProvider(name = "bucket-data-provider")
+    private Object[][] getBucketData() {
+        return new Object[][]{
+                {0L, 0, 0L},
+                {1L, 1, 1L},
+                {7L, 7, 7L},
+                {8L, 8, 8L},
+                {15L, 15, 15L},
+                {16L, 16, 17L},
+                {17L, 16, 17L},
+                {18L, 17, 19L},
+                {1L << 10, 64, (1L << 10) + (1L << 7) - 1},
+                {(1L << 10) - 1, 63, (1L << 10) - 1},
+                {1L << 62, 480, (1L << 62) + (1L << 59) - 1},
+                {Long.MAX_VALUE, 487, Long.MAX_VALUE}
+        };
+    }
+
+    @Test
+    public void testBucketBoundaries() {
+        // The buckets are contiguous, so the value after the upper bound of a bucket is in the next bucket
+        for (int index = 0; index < MAX_BUCKET; index++) {
+            long upperBound = Histogram.upperBound(index);
+            Assert.assertEquals(Histogram.bucketIndex(upperBound), index, "Unexpected bucket of " + upperBound);
+            Assert.assertEquals(Histogram.bucketIndex(upperBound + 1), index + 1,
+                    "Unexpected bucket of " + (upperBound + 1));
+        }
+        Assert.assertEquals(Histogram.upperBound(MAX_BUCKET), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testRelativeError() {
+        for (int exponent = 0; exponent < Long.SIZE - 1; exponent++) {
+            long powerOfTwo = 1L << exponent;
+            for (long value : new long[]{powerOfTwo - 1, powerOfTwo, powerOfTwo + 1}) {
+                long upperBound = Histogram.upperBound(Histogram.bucketIndex(value));
+                Assert.assertTrue(upperBound >= value, "Upper bound below " + value);
+                Assert.assertTrue(upperBound - value <= value / 8, "Upper bound of " + value + " exceeds 12.5%");
+            }
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        // The percentiles are the upper bounds of the buckets of 50 (48-51) and 90 (88-95), while that of 99 (96-103)
+        // is capped at the maximum
+        MetricsSnapshot.Distribution distribution = histogram.snapshot(1.0);
+        Assert.assertEquals(distribution.count(), 100);
+        Assert.assertEquals(distribution.mean(), 50.5);
+        Assert.assertEquals(distribution.p50(), 51.0);
+        Assert.assertEquals(distribution.p90(), 95.0);
+        Assert.assertEquals(distribution.p99(), 100.0);
+        Assert.assertEquals(distribution.max(), 100.0);
+    }
+
+    @Test
+    public void testPercentileOfSingleValue() {
+        long[] counts = new long[MAX_BUCKET + 1];
+        counts[Histogram.bucketIndex(1000)] = 1;
+
+        Assert.assertEquals(Histogram.percentile(counts, 1, 0.50, 1000), 1000);
+        Assert.assertEquals(Histogram.percentile(counts, 1, 0.99, 1000), 1000);
+        Assert.assertEquals(Histogram.percentile(counts, 1, 0.99, Long.MAX_VALUE), 1023);
+    }
+
+    @Test
+    public void testScaleAndReset() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        histogram.record(2_000_000);
+
+        MetricsSnapshot.Distribution distribution = histogram.snapshot(1.0e-6);
+        Assert.assertEquals(distribution.count(), 2);
+        Assert.assertEquals(distribution.p50(), 0.0);
+        Assert.assertEquals(distribution.max(), 2.0);
+
+        histogram.reset();
+        Assert.assertEquals(histogram.snapshot(1.0).count(), 0);
+        Assert.assertEquals(histogram.snapshot(1.0).max(), 0.0);
+    }
+}
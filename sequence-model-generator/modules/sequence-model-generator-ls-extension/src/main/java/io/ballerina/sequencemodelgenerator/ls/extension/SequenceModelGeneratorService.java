@@ -22,6 +22,9 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.modelgenerator.commons.metrics.RequestMetrics;
+import io.ballerina.modelgenerator.commons.metrics.RequestTimer;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.Project;
 import io.ballerina.sequencemodelgenerator.core.ModelGenerator;
 import io.ballerina.sequencemodelgenerator.core.model.Diagram;
@@ -48,6 +51,7 @@ import java.util.concurrent.CompletableFuture;
 public class SequenceModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
@@ -62,20 +66,32 @@ public class SequenceModelGeneratorService implements ExtendedLanguageServerServ
     @JsonRequest
     public CompletableFuture<SequenceDiagramServiceResponse> getSequenceDiagramModel(
             SequenceDiagramServiceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        String coalescingKey = "sequenceModelGeneratorService/getSequenceDiagramModel:" + request.getFilePath() + ":" +
+                request.getLineRange().startLine() + "-" + request.getLineRange().endLine();
+        return scheduler.submitLatest(coalescingKey, () -> {
             SequenceDiagramServiceResponse response = new SequenceDiagramServiceResponse();
             Path filePath = Path.of(request.getFilePath());
+            RequestTimer timer =
+                    RequestMetrics.getInstance().startRequest("sequenceModelGeneratorService/getSequenceDiagramModel");
             try {
                 Project project = getCurrentProject(filePath);
+                timer.lap("loadProject");
                 SemanticModel semanticModel = this.workspaceManager.semanticModel(filePath).orElseThrow();
+                timer.lap("semanticModel");
                 Diagram sequenceModel =
                         ModelGenerator.getSequenceDiagramModel(project, request.getLineRange(), semanticModel);
+                timer.lap("generateModel");
                 Gson gson = new GsonBuilder().create();
                 JsonElement sequenceModelJson = gson.toJsonTree(sequenceModel);
+                timer.lap("serialize");
+                timer.recordPayloadSize(() -> sequenceModelJson.toString().length());
                 response.setSequenceDiagram(sequenceModelJson);
 
             } catch (WorkspaceDocumentException | EventSyncException e) {
+                timer.fail();
                 throw new RuntimeException(e);
+            } finally {
+                timer.close();
             }
             return response;
         });
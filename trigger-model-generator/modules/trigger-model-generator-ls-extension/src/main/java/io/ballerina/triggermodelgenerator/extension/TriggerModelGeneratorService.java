@@ -34,6 +34,10 @@ import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.modelgenerator.commons.metrics.RequestMetrics;
+import io.ballerina.modelgenerator.commons.metrics.RequestTimer;
+import io.ballerina.modelgenerator.commons.scheduling.RequestPriority;
+import io.ballerina.modelgenerator.commons.scheduling.RequestScheduler;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.text.LineRange;
@@ -95,6 +99,7 @@ public class TriggerModelGeneratorService implements ExtendedLanguageServerServi
 
     private WorkspaceManager workspaceManager;
     private final Map<String, TriggerProperty> triggerProperties;
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
     private static Type propertyMapType = new TypeToken<Map<String, TriggerProperty>>() { }.getType();
 
     public TriggerModelGeneratorService() {
@@ -123,38 +128,57 @@ public class TriggerModelGeneratorService implements ExtendedLanguageServerServi
 
     @JsonRequest
     public CompletableFuture<TriggerListResponse> getTriggerModels(TriggerListRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
-            List<TriggerBasicInfo> triggerBasicInfoList = triggerProperties.values().stream()
-                    .filter(triggerProperty -> filterTriggers(triggerProperty, request))
-                    .map(trigger -> getTriggerBasicInfoByName(trigger.name()))
-                    .flatMap(Optional::stream)
-                    .toList();
-            return new TriggerListResponse(triggerBasicInfoList);
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("triggerDesignService/getTriggerModels");
+            try {
+                List<TriggerBasicInfo> triggerBasicInfoList = triggerProperties.values().stream()
+                        .filter(triggerProperty -> filterTriggers(triggerProperty, request))
+                        .map(trigger -> getTriggerBasicInfoByName(trigger.name()))
+                        .flatMap(Optional::stream)
+                        .toList();
+                return new TriggerListResponse(triggerBasicInfoList);
+            } catch (Throwable e) {
+                timer.fail();
+                throw e;
+            } finally {
+                timer.close();
+            }
         });
     }
 
     @JsonRequest
     public CompletableFuture<TriggerResponse> getTriggerModel(TriggerRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
-            if (expectsTriggerByName(request)) {
-                return new TriggerResponse(getTriggerByName(request.packageName()).orElse(null));
-            }
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("triggerDesignService/getTriggerModel");
+            try {
+                if (expectsTriggerByName(request)) {
+                    return new TriggerResponse(getTriggerByName(request.packageName()).orElse(null));
+                }
 
-            TriggerProperty triggerProperty = triggerProperties.get(request.id());
-            if (triggerProperty == null) {
-                return new TriggerResponse();
+                TriggerProperty triggerProperty = triggerProperties.get(request.id());
+                if (triggerProperty == null) {
+                    return new TriggerResponse();
+                }
+                return new TriggerResponse(getTriggerByName(triggerProperty.name()).orElse(null));
+            } catch (Throwable e) {
+                timer.fail();
+                throw e;
+            } finally {
+                timer.close();
             }
-            return new TriggerResponse(getTriggerByName(triggerProperty.name()).orElse(null));
         });
     }
 
     @JsonRequest
     public CompletableFuture<TriggerModelGenResponse> getTriggerModelFromCode(TriggerModelGenRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
+            RequestTimer timer =
+                    RequestMetrics.getInstance().startRequest("triggerDesignService/getTriggerModelFromCode");
             try {
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
+                timer.lap("loadProject");
                 if (document.isEmpty()) {
                     return new TriggerModelGenResponse();
                 }
@@ -180,19 +204,24 @@ public class TriggerModelGeneratorService implements ExtendedLanguageServerServi
                 updateTriggerModel(trigger.get(), serviceNode);
                 return new TriggerModelGenResponse(trigger.get());
             } catch (Throwable e) {
+                timer.fail();
                 return new TriggerModelGenResponse(e);
+            } finally {
+                timer.close();
             }
         });
     }
 
     @JsonRequest
     public CompletableFuture<TriggerCommonResponse> getSourceCode(TriggerSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("triggerDesignService/getSourceCode");
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
+                timer.lap("loadProject");
                 if (document.isEmpty()) {
                     return new TriggerCommonResponse();
                 }
@@ -217,19 +246,24 @@ public class TriggerModelGeneratorService implements ExtendedLanguageServerServi
                 edits.add(serviceEdit);
                 return new TriggerCommonResponse(Map.of(request.filePath(), edits));
             } catch (Throwable e) {
+                timer.fail();
                 return new TriggerCommonResponse(e);
+            } finally {
+                timer.close();
             }
         });
     }
 
     @JsonRequest
     public CompletableFuture<TriggerCommonResponse> addTriggerFunction(TriggerFunctionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("triggerDesignService/addTriggerFunction");
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
+                timer.lap("loadProject");
                 if (document.isEmpty()) {
                     return new TriggerCommonResponse();
                 }
@@ -255,19 +289,25 @@ public class TriggerModelGeneratorService implements ExtendedLanguageServerServi
                 edits.add(functionEdit);
                 return new TriggerCommonResponse(Map.of(request.filePath(), edits));
             } catch (Throwable e) {
+                timer.fail();
                 return new TriggerCommonResponse(e);
+            } finally {
+                timer.close();
             }
         });
     }
 
     @JsonRequest
     public CompletableFuture<TriggerCommonResponse> updateTriggerFunction(TriggerFunctionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
+            RequestTimer timer =
+                    RequestMetrics.getInstance().startRequest("triggerDesignService/updateTriggerFunction");
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
+                timer.lap("loadProject");
                 if (document.isEmpty()) {
                     return new TriggerCommonResponse();
                 }
@@ -287,20 +327,25 @@ public class TriggerModelGeneratorService implements ExtendedLanguageServerServi
                 edits.add(functionEdit);
                 return new TriggerCommonResponse(Map.of(request.filePath(), edits));
             } catch (Throwable e) {
+                timer.fail();
                 return new TriggerCommonResponse(e);
+            } finally {
+                timer.close();
             }
         });
     }
 
     @JsonRequest
     public CompletableFuture<TriggerCommonResponse> updateTrigger(TriggerModifierRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return scheduler.submit(RequestPriority.INTERACTIVE, () -> {
+            RequestTimer timer = RequestMetrics.getInstance().startRequest("triggerDesignService/updateTrigger");
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Trigger trigger = request.trigger();
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
                 Optional<Document> document = this.workspaceManager.document(filePath);
+                timer.lap("loadProject");
                 if (document.isEmpty()) {
                     return new TriggerCommonResponse();
                 }
@@ -341,7 +386,10 @@ public class TriggerModelGeneratorService implements ExtendedLanguageServerServi
                 edits.add(listenerEdit);
                 return new TriggerCommonResponse(Map.of(request.filePath(), edits));
             } catch (Throwable e) {
+                timer.fail();
                 return new TriggerCommonResponse(e);
+            } finally {
+                timer.close();
             }
         });
     }
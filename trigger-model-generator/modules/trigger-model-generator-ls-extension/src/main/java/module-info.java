@@ -27,4 +27,5 @@ module io.ballerina.LSExtensions.TriggerService {
     requires io.ballerina.language.server.core;
     requires io.ballerina.parser;
     requires io.ballerina.tools.api;
+    requires io.ballerina.model.generator.commons;
 }